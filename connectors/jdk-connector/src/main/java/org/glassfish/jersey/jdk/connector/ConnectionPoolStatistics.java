@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the state of the connection pool of a client using {@link JdkConnectorProvider}.
+ * <p/>
+ * The values are aggregated over all the destinations. Because the pool is updated concurrently, the values of
+ * a single snapshot do not have to be mutually consistent.
+ *
+ * @see JdkConnectorProvider#getConnectionPoolStatistics(javax.ws.rs.core.Configurable)
+ */
+public interface ConnectionPoolStatistics {
+
+    /**
+     * Get the number of open connections that are not processing any request.
+     *
+     * @return number of idle connections.
+     */
+    int getIdleConnections();
+
+    /**
+     * Get the number of connections that are processing requests or being established.
+     * <p/>
+     * Pipelined and HTTP/2 connections are always counted as busy.
+     *
+     * @return number of busy connections.
+     */
+    int getBusyConnections();
+
+    /**
+     * Get the number of requests waiting for a connection.
+     *
+     * @return number of pending requests.
+     */
+    int getPendingRequests();
+
+    /**
+     * Get the number of connections that have been successfully established.
+     *
+     * @return number of established connections.
+     */
+    long getEstablishedConnections();
+
+    /**
+     * Get the number of connection attempts that have failed or timed out.
+     *
+     * @return number of failed connection attempts.
+     */
+    long getFailedConnections();
+
+    /**
+     * Get the average time it took to establish a connection (including the TLS handshake).
+     *
+     * @param unit time unit of the returned value.
+     * @return average connect time or {@code 0} if no connection has been established yet.
+     */
+    long getAverageConnectTime(TimeUnit unit);
+
+    /**
+     * Get the longest time it took to establish a connection (including the TLS handshake).
+     *
+     * @param unit time unit of the returned value.
+     * @return maximal connect time or {@code 0} if no connection has been established yet.
+     */
+    long getMaxConnectTime(TimeUnit unit);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -96,6 +96,47 @@ public final class JdkConnectorProperties {
      */
     public static final String CONNECTION_IDLE_TIMEOUT = "jersey.config.client.JdkConnectorProvider.connectionIdleTimeout";
 
+    /**
+     * A maximal number of requests that can be sent over a single HTTP/1.1 connection before the response to the first
+     * one has been received (HTTP pipelining).
+     * <p/>
+     * Value is expected to be positive {@link Integer}. Only requests with idempotent methods ({@code GET}, {@code HEAD},
+     * {@code OPTIONS}, {@code TRACE}, {@code PUT}, {@code DELETE}) that do not use the chunked transfer encoding are
+     * pipelined, other requests are sent over a connection only when there are no other requests in progress on it.
+     * Idempotent requests that have not received a response when the server closes the connection are retried once.
+     * Value {@code 1} disables the pipelining. Pipelining is not used when a proxy is configured.
+     * <p/>
+     * The default value is {@value #DEFAULT_PIPELINING_DEPTH}
+     */
+    public static final String PIPELINING_DEPTH = "jersey.config.client.JdkConnectorProvider.pipeliningDepth";
+
+    /**
+     * If {@code true}, the connector will use HTTP/2 with multiplexing of the requests as streams over a single connection.
+     * <p/>
+     * For {@code http} URIs the connector expects that the server supports HTTP/2 over cleartext TCP (h2c with prior
+     * knowledge). For {@code https} URIs, HTTP/2 is negotiated using ALPN and the connector falls back to HTTP/1.1 when
+     * the server (or the JDK) does not support it. The number of the connections per destination is still limited
+     * by {@link #MAX_CONNECTIONS_PER_DESTINATION}, the number of concurrent requests per connection is limited by the
+     * server. HTTP/2 is not used when a proxy is configured.
+     * <p/>
+     * The default value is {@code false}.
+     */
+    public static final String HTTP2_ENABLED = "jersey.config.client.JdkConnectorProvider.http2Enabled";
+
+    /**
+     * A maximal amount of time in milliseconds ({@link Integer} value) a request waits for a connection when all the
+     * connections to its destination are busy and no more connections can be opened.
+     * <p/>
+     * The waiting requests are served in the order in which they have been submitted. A request that has not been
+     * assigned a connection in time fails with an {@link java.io.IOException}. Value {@code 0} means waiting indefinitely.
+     * <p/>
+     * The default value is {@value #DEFAULT_CONNECTION_POOL_WAIT_TIMEOUT}
+     *
+     * @see JdkConnectorProvider#getConnectionPoolStatistics(javax.ws.rs.core.Configurable)
+     */
+    public static final String CONNECTION_POOL_WAIT_TIMEOUT = "jersey.config.client.JdkConnectorProvider"
+            + ".connectionPoolWaitTimeout";
+
     /**
      * Default value for the {@link org.glassfish.jersey.client.ClientProperties#CHUNKED_ENCODING_SIZE} property.
      */
@@ -131,6 +172,16 @@ public final class JdkConnectorProperties {
      */
     public static final int DEFAULT_CONNECTION_CLOSE_WAIT = 30_000;
 
+    /**
+     * Default value for the {@link #PIPELINING_DEPTH} property.
+     */
+    public static final int DEFAULT_PIPELINING_DEPTH = 1;
+
+    /**
+     * Default value for the {@link #CONNECTION_POOL_WAIT_TIMEOUT} property.
+     */
+    public static final int DEFAULT_CONNECTION_POOL_WAIT_TIMEOUT = 0;
+
     public static <T> T getValue(final Map<String, ?> properties, final String key, final Class<T> type) {
         return PropertiesHelper.getValue(properties, key, type, null);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,11 +17,14 @@
 package org.glassfish.jersey.jdk.connector;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configurable;
 import javax.ws.rs.core.Configuration;
 
+import org.glassfish.jersey.client.Initializable;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
 import org.glassfish.jersey.jdk.connector.internal.JdkConnector;
+import org.glassfish.jersey.jdk.connector.internal.LocalizationMessages;
 
 /**
  * @author Petr Janouch
@@ -31,4 +34,39 @@ public class JdkConnectorProvider implements ConnectorProvider {
     public Connector getConnector(Client client, Configuration config) {
         return new JdkConnector(client, config);
     }
+
+    /**
+     * Retrieve a snapshot of the state of the connection pool from {@link org.glassfish.jersey.client.JerseyClient}
+     * or {@link org.glassfish.jersey.client.JerseyWebTarget} configured to use {@code JdkConnectorProvider}.
+     *
+     * @param component {@code JerseyClient} or {@code JerseyWebTarget} instance that is configured to use
+     *                  {@code JdkConnectorProvider}.
+     * @return connection pool statistics.
+     * @throws java.lang.IllegalArgumentException in case the {@code component} is neither {@code JerseyClient}
+     *                                            nor {@code JerseyWebTarget} instance or in case the component
+     *                                            is not configured to use a {@code JdkConnectorProvider}.
+     */
+    public static ConnectionPoolStatistics getConnectionPoolStatistics(final Configurable<?> component) {
+        return getConnector(component).getConnectionPoolStatistics();
+    }
+
+    private static JdkConnector getConnector(final Configurable<?> component) {
+        if (!(component instanceof Initializable)) {
+            throw new IllegalArgumentException(
+                    LocalizationMessages.INVALID_CONFIGURABLE_COMPONENT_TYPE(component.getClass().getName()));
+        }
+
+        final Initializable<?> initializable = (Initializable<?>) component;
+        Connector connector = initializable.getConfiguration().getConnector();
+        if (connector == null) {
+            initializable.preInitialize();
+            connector = initializable.getConfiguration().getConnector();
+        }
+
+        if (connector instanceof JdkConnector) {
+            return (JdkConnector) connector;
+        } else {
+            throw new IllegalArgumentException(LocalizationMessages.EXPECTED_CONNECTOR_PROVIDER_NOT_USED());
+        }
+    }
 }
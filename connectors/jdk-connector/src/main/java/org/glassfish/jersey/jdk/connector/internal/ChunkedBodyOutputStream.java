@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -42,6 +42,9 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
     private final CountDownLatch initialBlockingLatch = new CountDownLatch(1);
 
     private volatile Filter<ByteBuffer, ?, ?, ?> downstreamFilter;
+    // if false, the data are passed downstream without the chunked transfer encoding, the end of the body is signalled
+    // by an empty buffer
+    private volatile boolean encodeChunks = true;
     private volatile WriteListener writeListener = null;
     // an internal listener, so the connector can be notified when the stream has been closed (=body has been sent)
     private volatile Listener closeListener;
@@ -231,6 +234,18 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
     }
 
     synchronized void open(Filter<ByteBuffer, ?, ?, ?> downstreamFilter) {
+        open(downstreamFilter, true);
+    }
+
+    /**
+     * Open the stream for writing.
+     *
+     * @param downstreamFilter filter the body data will be written to.
+     * @param encodeChunks     if {@code false}, the data will be written to the filter as they are without the chunked
+     *                         transfer encoding and the end of the body will be indicated by writing an empty buffer.
+     */
+    synchronized void open(Filter<ByteBuffer, ?, ?, ?> downstreamFilter, boolean encodeChunks) {
+        this.encodeChunks = encodeChunks;
         this.downstreamFilter = downstreamFilter;
         initialBlockingLatch.countDown();
         ready = true;
@@ -301,6 +316,10 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
      * @return http body part.
      */
     protected ByteBuffer encodeToHttp(ByteBuffer byteBuffer) {
+        if (!encodeChunks) {
+            return byteBuffer;
+        }
+
         // we expect the size of the buffer to be either a multiple of chunkSize
         // or smaller than chunkSize in case of the last content-carrying chunk and closing chunk (the one sent by close())
         if (byteBuffer.remaining() < chunkSize) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
+
+/**
+ * Connect statistics shared by all the destination pools of a connector.
+ */
+class ConnectionPoolMetrics {
+
+    private final LongAdder establishedConnections = new LongAdder();
+    private final LongAdder failedConnections = new LongAdder();
+    private final LongAdder totalConnectTime = new LongAdder();
+    private final AtomicLong maxConnectTime = new AtomicLong();
+
+    /**
+     * Record a successfully established connection.
+     *
+     * @param connectTime time it took to establish the connection in nanoseconds.
+     */
+    void connected(long connectTime) {
+        establishedConnections.increment();
+        totalConnectTime.add(connectTime);
+        maxConnectTime.accumulateAndGet(connectTime, Math::max);
+    }
+
+    /**
+     * Record a failed connection attempt.
+     */
+    void connectFailed() {
+        failedConnections.increment();
+    }
+
+    /**
+     * Create a snapshot of the statistics.
+     *
+     * @param idleConnections number of idle connections.
+     * @param busyConnections number of busy connections.
+     * @param pendingRequests number of requests waiting for a connection.
+     * @return statistics snapshot.
+     */
+    ConnectionPoolStatistics snapshot(int idleConnections, int busyConnections, int pendingRequests) {
+        return new Snapshot(idleConnections, busyConnections, pendingRequests, establishedConnections.sum(),
+                failedConnections.sum(), totalConnectTime.sum(), maxConnectTime.get());
+    }
+
+    private static class Snapshot implements ConnectionPoolStatistics {
+
+        private final int idleConnections;
+        private final int busyConnections;
+        private final int pendingRequests;
+        private final long establishedConnections;
+        private final long failedConnections;
+        private final long totalConnectTime;
+        private final long maxConnectTime;
+
+        private Snapshot(int idleConnections, int busyConnections, int pendingRequests, long establishedConnections,
+                         long failedConnections, long totalConnectTime, long maxConnectTime) {
+            this.idleConnections = idleConnections;
+            this.busyConnections = busyConnections;
+            this.pendingRequests = pendingRequests;
+            this.establishedConnections = establishedConnections;
+            this.failedConnections = failedConnections;
+            this.totalConnectTime = totalConnectTime;
+            this.maxConnectTime = maxConnectTime;
+        }
+
+        @Override
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        @Override
+        public int getBusyConnections() {
+            return busyConnections;
+        }
+
+        @Override
+        public int getPendingRequests() {
+            return pendingRequests;
+        }
+
+        @Override
+        public long getEstablishedConnections() {
+            return establishedConnections;
+        }
+
+        @Override
+        public long getFailedConnections() {
+            return failedConnections;
+        }
+
+        @Override
+        public long getAverageConnectTime(TimeUnit unit) {
+            return establishedConnections == 0
+                    ? 0 : unit.convert(totalConnectTime / establishedConnections, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long getMaxConnectTime(TimeUnit unit) {
+            return unit.convert(maxConnectTime, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "ConnectionPoolStatistics{"
+                    + "idleConnections=" + idleConnections
+                    + ", busyConnections=" + busyConnections
+                    + ", pendingRequests=" + pendingRequests
+                    + ", establishedConnections=" + establishedConnections
+                    + ", failedConnections=" + failedConnections
+                    + ", averageConnectTime=" + getAverageConnectTime(TimeUnit.MICROSECONDS) + "us"
+                    + ", maxConnectTime=" + getMaxConnectTime(TimeUnit.MICROSECONDS) + "us"
+                    + '}';
+        }
+    }
+}
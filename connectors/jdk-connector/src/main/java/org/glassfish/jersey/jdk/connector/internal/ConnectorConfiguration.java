@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -54,6 +54,9 @@ class ConnectorConfiguration {
     private final CookiePolicy cookiePolicy;
     private final int maxConnectionsPerDestination;
     private final int connectionIdleTimeout;
+    private final int pipeliningDepth;
+    private final boolean http2Enabled;
+    private final int connectionPoolWaitTimeout;
     private final SSLContext sslContext;
     private final HostnameVerifier hostnameVerifier;
     private final int responseTimeout;
@@ -100,6 +103,16 @@ class ConnectorConfiguration {
                 .getValue(properties, JdkConnectorProperties.CONNECTION_IDLE_TIMEOUT,
                         JdkConnectorProperties.DEFAULT_CONNECTION_IDLE_TIMEOUT, Integer.class);
 
+        pipeliningDepth = JdkConnectorProperties.getValue(properties, JdkConnectorProperties.PIPELINING_DEPTH,
+                JdkConnectorProperties.DEFAULT_PIPELINING_DEPTH, Integer.class);
+
+        http2Enabled = JdkConnectorProperties.getValue(properties, JdkConnectorProperties.HTTP2_ENABLED, false,
+                Boolean.class);
+
+        connectionPoolWaitTimeout = JdkConnectorProperties.getValue(properties,
+                JdkConnectorProperties.CONNECTION_POOL_WAIT_TIMEOUT,
+                JdkConnectorProperties.DEFAULT_CONNECTION_POOL_WAIT_TIMEOUT, Integer.class);
+
         responseTimeout = ClientProperties.getValue(properties, ClientProperties.READ_TIMEOUT, 0, Integer.class);
 
         connectTimeout = ClientProperties.getValue(properties, ClientProperties.CONNECT_TIMEOUT, 0, Integer.class);
@@ -155,6 +168,18 @@ class ConnectorConfiguration {
         return connectionIdleTimeout;
     }
 
+    int getPipeliningDepth() {
+        return pipeliningDepth;
+    }
+
+    boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    int getConnectionPoolWaitTimeout() {
+        return connectionPoolWaitTimeout;
+    }
+
     SSLContext getSslContext() {
         return sslContext;
     }
@@ -199,6 +224,9 @@ class ConnectorConfiguration {
                 + ", cookiePolicy=" + cookiePolicy
                 + ", maxConnectionsPerDestination=" + maxConnectionsPerDestination
                 + ", connectionIdleTimeout=" + connectionIdleTimeout
+                + ", pipeliningDepth=" + pipeliningDepth
+                + ", http2Enabled=" + http2Enabled
+                + ", connectionPoolWaitTimeout=" + connectionPoolWaitTimeout
                 + ", sslContext=" + sslContext
                 + ", hostnameVerifier=" + hostnameVerifier
                 + ", responseTimeout=" + responseTimeout
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,12 +20,20 @@ import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
 
 /**
  * @author Petr Janouch
@@ -33,26 +41,44 @@ import java.util.concurrent.ScheduledExecutorService;
 class DestinationConnectionPool {
 
     private final ConnectorConfiguration configuration;
-    private final Queue<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    /* The idle connections and the pending requests are handed over without locking: a request is first added
+       to the pending queue and then an idle connection is looked up, a connection is first added to the idle queue
+       and then a pending request is looked up. Whichever comes second finds the other one. */
+    private final Deque<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
     private final Set<HttpConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
+    // FIFO, so that the requests waiting for a connection are served fairly
+    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedQueue<>();
     private final Map<HttpConnection, RequestRecord> requestsInProgress = new ConcurrentHashMap<>();
+    private final Map<HttpConnection, Long> connectStartTimes = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCounter = new AtomicInteger();
     private final CookieManager cookieManager;
     private final ScheduledExecutorService scheduler;
+    private final ConnectionPoolMetrics metrics;
     private final ConnectionStateListener connectionStateListener;
 
     private volatile ConnectionCloseListener connectionCloseListener;
+    // pool of pipelined or HTTP/2 connections, null if the requests are sent one by one over the pooled connections
+    private volatile MultiplexedConnectionPool multiplexedConnectionPool;
 
-    private int connectionCounter = 0;
-    private boolean closed = false;
+    private volatile boolean closed = false;
 
     DestinationConnectionPool(ConnectorConfiguration configuration,
                               CookieManager cookieManager,
-                              ScheduledExecutorService scheduler) {
+                              ScheduledExecutorService scheduler,
+                              ConnectionPoolMetrics metrics) {
         this.configuration = configuration;
         this.cookieManager = cookieManager;
         this.scheduler = scheduler;
+        this.metrics = metrics;
         this.connectionStateListener = new ConnectionStateListener();
+
+        if (!configuration.getProxyConfiguration().isConfigured()) {
+            if (configuration.isHttp2Enabled()) {
+                multiplexedConnectionPool = createMultiplexedConnectionPool(true);
+            } else if (configuration.getPipeliningDepth() > 1) {
+                multiplexedConnectionPool = createMultiplexedConnectionPool(false);
+            }
+        }
     }
 
     void setConnectionCloseListener(ConnectionCloseListener connectionCloseListener) {
@@ -60,85 +86,134 @@ class DestinationConnectionPool {
     }
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
-        pendingRequests.add(new RequestRecord(httpRequest, completionHandler));
+        MultiplexedConnectionPool multiplexedConnectionPool = this.multiplexedConnectionPool;
+        if (multiplexedConnectionPool != null) {
+            multiplexedConnectionPool.send(httpRequest, completionHandler);
+            return;
+        }
+
+        RequestRecord requestRecord = new RequestRecord(httpRequest, completionHandler);
+        pendingRequests.add(requestRecord);
+
+        int waitTimeout = configuration.getConnectionPoolWaitTimeout();
+        if (waitTimeout > 0) {
+            requestRecord.waitTimeout = scheduler.schedule(() -> {
+                // the request might have been taken by a connection in the meantime
+                if (pendingRequests.remove(requestRecord)) {
+                    requestRecord.completionHandler
+                            .failed(new IOException(LocalizationMessages.CONNECTION_POOL_WAIT_TIMEOUT(waitTimeout)));
+                }
+            }, waitTimeout, TimeUnit.MILLISECONDS);
+        }
+
         processPendingRequests();
     }
 
+    /**
+     * Send a pending request over a connection that has just become idle or park the connection in the idle queue.
+     */
     private void processPendingRequests(HttpConnection connection) {
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-        /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-           while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.poll();
-            if (pendingHead == null) {
-
-                idleConnections.add(connection);
+        while (connection != null) {
+            RequestRecord pendingHead = pollPendingRequest();
+            if (pendingHead != null) {
+                sendRequest(connection, pendingHead);
+                return;
+            }
 
-                // no pending requests
+            idleConnections.add(connection);
+            if (pendingRequests.isEmpty()) {
                 return;
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+            // a request has been added before the connection became visible as idle, serve it
+            connection = idleConnections.pollLast();
         }
-
-        // if there was a connection available just use it
-        requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-        connection.send(httpRequest);
     }
 
+    /**
+     * Send the pending requests over the idle connections or open a new connection if there is no idle one.
+     */
     private void processPendingRequests() {
-        HttpConnection connection;
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-            /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-            while we investigate if we can execute it. */
+        while (true) {
             RequestRecord pendingHead = pendingRequests.peek();
             if (pendingHead == null) {
                 // no pending requests
                 return;
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+            HttpConnection connection = idleConnections.pollLast();
+            if (connection == null) {
+                // keep the request in the pending queue, it will be served by the first connection that becomes idle
+                openConnection(pendingHead.request.getUri());
+                return;
+            }
 
-            connection = idleConnections.poll();
-            if (connection != null) {
-                pendingRequests.poll();
+            RequestRecord requestRecord = pollPendingRequest();
+            if (requestRecord == null) {
+                // another thread has taken the request, return the connection
+                processPendingRequests(connection);
+                return;
             }
+
+            sendRequest(connection, requestRecord);
         }
+    }
 
-        if (connection != null) {
-            // if there was a connection available just use it
-            requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-            connection.send(httpRequest);
-            return;
+    private RequestRecord pollPendingRequest() {
+        RequestRecord requestRecord = pendingRequests.poll();
+        if (requestRecord != null && requestRecord.waitTimeout != null) {
+            requestRecord.waitTimeout.cancel(false);
         }
+        return requestRecord;
+    }
 
-        // if there was not a connection available keep this requests in pending list and try to create a connection
-        synchronized (this) {
-            // synchronized because other thread might open/close connections, so we have to make sure we get the limits right.
+    private void sendRequest(HttpConnection connection, RequestRecord requestRecord) {
+        requestsInProgress.put(connection, requestRecord);
+        connection.send(requestRecord.request);
+    }
 
-            if (configuration.getMaxConnectionsPerDestination() == connectionCounter) {
+    private void openConnection(URI uri) {
+        int count;
+        do {
+            count = connectionCounter.get();
+            if (count >= configuration.getMaxConnectionsPerDestination()) {
                 // we are at the limit for this destination, just wait for a connection to become idle or close
                 return;
             }
+        } while (!connectionCounter.compareAndSet(count, count + 1));
 
-            // create a connection
-            connection = new HttpConnection(httpRequest.getUri(), cookieManager, configuration, scheduler,
-                    connectionStateListener);
-            connections.add(connection);
-            connectionCounter++;
+        HttpConnection connection = new HttpConnection(uri, cookieManager, configuration, scheduler, connectionStateListener);
+        connections.add(connection);
+        if (closed) {
+            // close() might have missed the connection
+            connection.close();
+            return;
         }
 
-        // we don't want to connect inside the synchronized block
+        connectStartTimes.put(connection, System.nanoTime());
         connection.connect();
     }
 
+    /**
+     * Get a snapshot of the numbers of the connections and requests of this destination.
+     *
+     * @param metrics connect statistics to be included in the snapshot.
+     * @return statistics snapshot.
+     */
+    ConnectionPoolStatistics getStatistics(ConnectionPoolMetrics metrics) {
+        int idle = idleConnections.size();
+        int busy = Math.max(0, connectionCounter.get() - idle);
+        int pending = pendingRequests.size();
+
+        MultiplexedConnectionPool multiplexedConnectionPool = this.multiplexedConnectionPool;
+        if (multiplexedConnectionPool != null) {
+            busy += multiplexedConnectionPool.getConnectionCount();
+            pending += multiplexedConnectionPool.getPendingRequestCount();
+        }
+
+        return metrics.snapshot(idle, busy, pending);
+    }
+
     synchronized void close() {
         if (closed) {
             return;
@@ -147,6 +222,46 @@ class DestinationConnectionPool {
         closed = true;
 
         connections.forEach(HttpConnection::close);
+
+        if (multiplexedConnectionPool != null) {
+            multiplexedConnectionPool.close();
+        }
+    }
+
+    private MultiplexedConnectionPool createMultiplexedConnectionPool(boolean http2) {
+        return new MultiplexedConnectionPool(configuration, cookieManager, scheduler, metrics, http2,
+                new MultiplexedConnectionPool.Owner() {
+
+                    @Override
+                    public void onLastConnectionClosed() {
+                        if (connectionCounter.get() == 0) {
+                            connectionCloseListener.onLastConnectionClosed();
+                        }
+                    }
+
+                    @Override
+                    public void onHttp2NotSupported(List<MultiplexedConnection.RequestRecord> pendingRequests) {
+                        fallBackToHttp1(pendingRequests);
+                    }
+                });
+    }
+
+    private void fallBackToHttp1(List<MultiplexedConnection.RequestRecord> pendingRequests) {
+        final boolean failed;
+        synchronized (this) {
+            failed = closed;
+            multiplexedConnectionPool = !closed && configuration.getPipeliningDepth() > 1
+                    ? createMultiplexedConnectionPool(false) : null;
+        }
+
+        if (failed) {
+            IOException error = new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_SENDING());
+            pendingRequests.forEach(requestRecord -> requestRecord.completionHandler.failed(error));
+            return;
+        }
+
+        // send the requests that have been waiting for the HTTP/2 connection over HTTP/1.1
+        pendingRequests.forEach(requestRecord -> send(requestRecord.request, requestRecord.completionHandler));
     }
 
     private RequestRecord getRequest(HttpConnection connection) {
@@ -172,31 +287,43 @@ class DestinationConnectionPool {
             return;
         }
 
-        RequestRecord pendingRequest;
-        synchronized (this) {
-            idleConnections.remove(connection);
-            connections.remove(connection);
-            connectionCounter--;
-
-            pendingRequest = pendingRequests.peek();
-            if (pendingRequest == null) {
-                if (connectionCounter == 0) {
-                    connectionCloseListener.onLastConnectionClosed();
-                }
-                return;
+        idleConnections.remove(connection);
+        if (connections.remove(connection)) {
+            connectionCounter.decrementAndGet();
+        }
+
+        if (pendingRequests.isEmpty()) {
+            MultiplexedConnectionPool multiplexedConnectionPool = this.multiplexedConnectionPool;
+            if (connectionCounter.get() == 0
+                    && (multiplexedConnectionPool == null || multiplexedConnectionPool.getConnectionCount() == 0)) {
+                connectionCloseListener.onLastConnectionClosed();
             }
+            return;
         }
 
         processPendingRequests();
     }
 
+    private void connectionEstablished(HttpConnection connection) {
+        Long startTime = connectStartTimes.remove(connection);
+        if (startTime != null) {
+            metrics.connected(System.nanoTime() - startTime);
+        }
+    }
+
+    private void connectionFailed(HttpConnection connection) {
+        if (connectStartTimes.remove(connection) != null) {
+            metrics.connectFailed();
+        }
+    }
+
     private void handleIllegalStateTransition(HttpConnection.State oldState, HttpConnection.State newState) {
         throw new IllegalStateException("Illegal state transition, old state: " + oldState + " new state: " + newState);
     }
 
     private void removeAllPendingWithError(Throwable t) {
         RequestRecord requestRecord = null;
-        while ((requestRecord = pendingRequests.poll()) != null) {
+        while ((requestRecord = pollPendingRequest()) != null) {
             requestRecord.completionHandler.failed(t);
         }
     }
@@ -209,8 +336,13 @@ class DestinationConnectionPool {
 
                 case IDLE: {
                     switch (oldState) {
-                        case RECEIVED:
                         case CONNECTING: {
+                            connectionEstablished(connection);
+                            processPendingRequests(connection);
+                            return;
+                        }
+
+                        case RECEIVED: {
                             processPendingRequests(connection);
                             return;
                         }
@@ -278,6 +410,7 @@ class DestinationConnectionPool {
                         }
 
                         case CONNECTING: {
+                            connectionFailed(connection);
                             removeAllPendingWithError(connection.getError());
                             return;
                         }
@@ -339,6 +472,7 @@ class DestinationConnectionPool {
                         }
 
                         case CONNECTING: {
+                            connectionFailed(connection);
                             removeAllPendingWithError(new IOException(LocalizationMessages.CONNECTION_CLOSED()));
                             return;
                         }
@@ -382,6 +516,7 @@ class DestinationConnectionPool {
                 case CONNECT_TIMEOUT: {
                     switch (oldState) {
                         case CONNECTING: {
+                            connectionFailed(connection);
                             removeAllPendingWithError(new IOException(LocalizationMessages.CONNECTION_TIMEOUT()));
                             return;
                         }
@@ -400,6 +535,7 @@ class DestinationConnectionPool {
         private final HttpRequest request;
         private final CompletionHandler<HttpResponse> completionHandler;
         private HttpResponse response;
+        private volatile Future<?> waitTimeout;
 
         RequestRecord(HttpRequest request, CompletionHandler<HttpResponse> completionHandler) {
             this.request = request;
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and primitive encoding and decoding operations of HPACK, the HTTP/2 header compression (RFC 7541).
+ */
+final class Hpack {
+
+    /**
+     * Size of the dynamic table an HTTP/2 endpoint can use before it receives the peer settings.
+     */
+    static final int DEFAULT_HEADER_TABLE_SIZE = 4096;
+
+    /**
+     * Overhead of a dynamic table entry added to the length of its name and value.
+     */
+    static final int ENTRY_OVERHEAD = 32;
+
+    /**
+     * The static table (RFC 7541, Appendix A), entry with index {@code i} is at position {@code i - 1}.
+     */
+    static final String[][] STATIC_TABLE = {
+            {":authority", ""},
+            {":method", "GET"},
+            {":method", "POST"},
+            {":path", "/"},
+            {":path", "/index.html"},
+            {":scheme", "http"},
+            {":scheme", "https"},
+            {":status", "200"},
+            {":status", "204"},
+            {":status", "206"},
+            {":status", "304"},
+            {":status", "400"},
+            {":status", "404"},
+            {":status", "500"},
+            {"accept-charset", ""},
+            {"accept-encoding", "gzip, deflate"},
+            {"accept-language", ""},
+            {"accept-ranges", ""},
+            {"accept", ""},
+            {"access-control-allow-origin", ""},
+            {"age", ""},
+            {"allow", ""},
+            {"authorization", ""},
+            {"cache-control", ""},
+            {"content-disposition", ""},
+            {"content-encoding", ""},
+            {"content-language", ""},
+            {"content-length", ""},
+            {"content-location", ""},
+            {"content-range", ""},
+            {"content-type", ""},
+            {"cookie", ""},
+            {"date", ""},
+            {"etag", ""},
+            {"expect", ""},
+            {"expires", ""},
+            {"from", ""},
+            {"host", ""},
+            {"if-match", ""},
+            {"if-modified-since", ""},
+            {"if-none-match", ""},
+            {"if-range", ""},
+            {"if-unmodified-since", ""},
+            {"last-modified", ""},
+            {"link", ""},
+            {"location", ""},
+            {"max-forwards", ""},
+            {"proxy-authenticate", ""},
+            {"proxy-authorization", ""},
+            {"range", ""},
+            {"referer", ""},
+            {"refresh", ""},
+            {"retry-after", ""},
+            {"server", ""},
+            {"set-cookie", ""},
+            {"strict-transport-security", ""},
+            {"transfer-encoding", ""},
+            {"user-agent", ""},
+            {"vary", ""},
+            {"via", ""},
+            {"www-authenticate", ""}
+    };
+
+    /**
+     * Huffman codes of the symbols (RFC 7541, Appendix B), symbol 256 is EOS.
+     */
+    private static final int[] HUFFMAN_CODES = {
+            0x1ff8, 0x7fffd8, 0xfffffe2, 0xfffffe3, 0xfffffe4, 0xfffffe5, 0xfffffe6, 0xfffffe7,
+            0xfffffe8, 0xffffea, 0x3ffffffc, 0xfffffe9, 0xfffffea, 0x3ffffffd, 0xfffffeb, 0xfffffec,
+            0xfffffed, 0xfffffee, 0xfffffef, 0xffffff0, 0xffffff1, 0xffffff2, 0x3ffffffe, 0xffffff3,
+            0xffffff4, 0xffffff5, 0xffffff6, 0xffffff7, 0xffffff8, 0xffffff9, 0xffffffa, 0xffffffb,
+            0x14, 0x3f8, 0x3f9, 0xffa, 0x1ff9, 0x15, 0xf8, 0x7fa,
+            0x3fa, 0x3fb, 0xf9, 0x7fb, 0xfa, 0x16, 0x17, 0x18,
+            0x0, 0x1, 0x2, 0x19, 0x1a, 0x1b, 0x1c, 0x1d,
+            0x1e, 0x1f, 0x5c, 0xfb, 0x7ffc, 0x20, 0xffb, 0x3fc,
+            0x1ffa, 0x21, 0x5d, 0x5e, 0x5f, 0x60, 0x61, 0x62,
+            0x63, 0x64, 0x65, 0x66, 0x67, 0x68, 0x69, 0x6a,
+            0x6b, 0x6c, 0x6d, 0x6e, 0x6f, 0x70, 0x71, 0x72,
+            0xfc, 0x73, 0xfd, 0x1ffb, 0x7fff0, 0x1ffc, 0x3ffc, 0x22,
+            0x7ffd, 0x3, 0x23, 0x4, 0x24, 0x5, 0x25, 0x26,
+            0x27, 0x6, 0x74, 0x75, 0x28, 0x29, 0x2a, 0x7,
+            0x2b, 0x76, 0x2c, 0x8, 0x9, 0x2d, 0x77, 0x78,
+            0x79, 0x7a, 0x7b, 0x7ffe, 0x7fc, 0x3ffd, 0x1ffd, 0xffffffc,
+            0xfffe6, 0x3fffd2, 0xfffe7, 0xfffe8, 0x3fffd3, 0x3fffd4, 0x3fffd5, 0x7fffd9,
+            0x3fffd6, 0x7fffda, 0x7fffdb, 0x7fffdc, 0x7fffdd, 0x7fffde, 0xffffeb, 0x7fffdf,
+            0xffffec, 0xffffed, 0x3fffd7, 0x7fffe0, 0xffffee, 0x7fffe1, 0x7fffe2, 0x7fffe3,
+            0x7fffe4, 0x1fffdc, 0x3fffd8, 0x7fffe5, 0x3fffd9, 0x7fffe6, 0x7fffe7, 0xffffef,
+            0x3fffda, 0x1fffdd, 0xfffe9, 0x3fffdb, 0x3fffdc, 0x7fffe8, 0x7fffe9, 0x1fffde,
+            0x7fffea, 0x3fffdd, 0x3fffde, 0xfffff0, 0x1fffdf, 0x3fffdf, 0x7fffeb, 0x7fffec,
+            0x1fffe0, 0x1fffe1, 0x3fffe0, 0x1fffe2, 0x7fffed, 0x3fffe1, 0x7fffee, 0x7fffef,
+            0xfffea, 0x3fffe2, 0x3fffe3, 0x3fffe4, 0x7ffff0, 0x3fffe5, 0x3fffe6, 0x7ffff1,
+            0x3ffffe0, 0x3ffffe1, 0xfffeb, 0x7fff1, 0x3fffe7, 0x7ffff2, 0x3fffe8, 0x1ffffec,
+            0x3ffffe2, 0x3ffffe3, 0x3ffffe4, 0x7ffffde, 0x7ffffdf, 0x3ffffe5, 0xfffff1, 0x1ffffed,
+            0x7fff2, 0x1fffe3, 0x3ffffe6, 0x7ffffe0, 0x7ffffe1, 0x3ffffe7, 0x7ffffe2, 0xfffff2,
+            0x1fffe4, 0x1fffe5, 0x3ffffe8, 0x3ffffe9, 0xffffffd, 0x7ffffe3, 0x7ffffe4, 0x7ffffe5,
+            0xfffec, 0xfffff3, 0xfffed, 0x1fffe6, 0x3fffe9, 0x1fffe7, 0x1fffe8, 0x7ffff3,
+            0x3fffea, 0x3fffeb, 0x1ffffee, 0x1ffffef, 0xfffff4, 0xfffff5, 0x3ffffea, 0x7ffff4,
+            0x3ffffeb, 0x7ffffe6, 0x3ffffec, 0x3ffffed, 0x7ffffe7, 0x7ffffe8, 0x7ffffe9, 0x7ffffea,
+            0x7ffffeb, 0xffffffe, 0x7ffffec, 0x7ffffed, 0x7ffffee, 0x7ffffef, 0x7fffff0, 0x3ffffee,
+            0x3fffffff
+    };
+
+    /**
+     * Lengths of the Huffman codes in bits.
+     */
+    private static final byte[] HUFFMAN_CODE_LENGTHS = {
+            13, 23, 28, 28, 28, 28, 28, 28, 28, 24, 30, 28, 28, 30, 28, 28, 28, 28, 28, 28, 28, 28, 30, 28,
+            28, 28, 28, 28, 28, 28, 28, 28, 6, 10, 10, 12, 13, 6, 8, 11, 10, 10, 8, 11, 8, 6, 6, 6,
+            5, 5, 5, 6, 6, 6, 6, 6, 6, 6, 7, 8, 15, 6, 12, 10, 13, 6, 7, 7, 7, 7, 7, 7,
+            7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 8, 7, 8, 13, 19, 13, 14, 6,
+            15, 5, 6, 5, 6, 5, 6, 6, 6, 5, 7, 7, 6, 6, 6, 5, 6, 7, 6, 5, 5, 6, 7, 7,
+            7, 7, 7, 15, 11, 14, 13, 28, 20, 22, 20, 20, 22, 22, 22, 23, 22, 23, 23, 23, 23, 23, 24, 23,
+            24, 24, 22, 23, 24, 23, 23, 23, 23, 21, 22, 23, 22, 23, 23, 24, 22, 21, 20, 22, 22, 23, 23, 21,
+            23, 22, 22, 24, 21, 22, 23, 23, 21, 21, 22, 21, 23, 22, 23, 23, 20, 22, 22, 22, 23, 22, 22, 23,
+            26, 26, 20, 19, 22, 23, 22, 25, 26, 26, 26, 27, 27, 26, 24, 25, 19, 21, 26, 27, 27, 26, 27, 24,
+            21, 21, 26, 26, 28, 27, 27, 27, 20, 24, 20, 21, 22, 21, 21, 23, 22, 22, 25, 25, 24, 24, 26, 23,
+            26, 27, 26, 26, 27, 27, 27, 27, 27, 28, 27, 27, 27, 27, 27, 26, 30
+    };
+
+    private static final int EOS = 256;
+
+    private static final HuffmanNode HUFFMAN_TREE = buildHuffmanTree();
+
+    /**
+     * Encode an integer with an N-bit prefix (RFC 7541, section 5.1).
+     *
+     * @param out        output.
+     * @param flags      bits of the first octet that are not part of the prefix.
+     * @param prefixBits number of bits of the prefix.
+     * @param value      value to be encoded.
+     */
+    static void encodeInteger(ByteArrayOutputStream out, int flags, int prefixBits, int value) {
+        int maxPrefix = (1 << prefixBits) - 1;
+        if (value < maxPrefix) {
+            out.write(flags | value);
+            return;
+        }
+
+        out.write(flags | maxPrefix);
+        int remaining = value - maxPrefix;
+        while (remaining >= 128) {
+            out.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Decode an integer with an N-bit prefix (RFC 7541, section 5.1).
+     *
+     * @param in         input positioned at the first octet of the integer.
+     * @param prefixBits number of bits of the prefix.
+     * @return decoded value.
+     * @throws ParseException if the input is truncated or the value does not fit into {@code int}.
+     */
+    static int decodeInteger(ByteBuffer in, int prefixBits) throws ParseException {
+        if (!in.hasRemaining()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        int maxPrefix = (1 << prefixBits) - 1;
+        int value = in.get() & maxPrefix;
+        if (value < maxPrefix) {
+            return value;
+        }
+
+        long result = value;
+        int shift = 0;
+        while (true) {
+            if (!in.hasRemaining() || shift > 28) {
+                throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+            }
+
+            int b = in.get() & 0xff;
+            result += (long) (b & 0x7f) << shift;
+            if (result > Integer.MAX_VALUE) {
+                throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+            }
+
+            if ((b & 0x80) == 0) {
+                return (int) result;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Encode a string literal without the Huffman encoding (RFC 7541, section 5.2).
+     *
+     * @param out   output.
+     * @param value string to be encoded.
+     */
+    static void encodeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        encodeInteger(out, 0, 7, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decode a string literal (RFC 7541, section 5.2).
+     *
+     * @param in input positioned at the first octet of the string literal.
+     * @return decoded string.
+     * @throws ParseException if the input is not a valid string literal.
+     */
+    static String decodeString(ByteBuffer in) throws ParseException {
+        if (!in.hasRemaining()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        boolean huffman = (in.get(in.position()) & 0x80) != 0;
+        int length = decodeInteger(in, 7);
+        if (length > in.remaining()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        if (huffman) {
+            return decodeHuffman(in, length);
+        }
+
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.ISO_8859_1);
+        ((Buffer) in).position(in.position() + length);
+        return value;
+    }
+
+    private static String decodeHuffman(ByteBuffer in, int length) throws ParseException {
+        StringBuilder result = new StringBuilder(length * 8 / 5);
+        HuffmanNode node = HUFFMAN_TREE;
+        // bits read since the last decoded symbol, all of them must be 1 if they are the padding
+        int pendingBits = 0;
+        boolean pendingOnes = true;
+
+        for (int i = 0; i < length; i++) {
+            int b = in.get() & 0xff;
+            for (int bit = 7; bit >= 0; bit--) {
+                int value = (b >>> bit) & 1;
+                node = node.children[value];
+                if (node == null) {
+                    throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+                }
+
+                pendingBits++;
+                pendingOnes &= value == 1;
+
+                if (node.symbol != -1) {
+                    if (node.symbol == EOS) {
+                        throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+                    }
+
+                    result.append((char) node.symbol);
+                    node = HUFFMAN_TREE;
+                    pendingBits = 0;
+                    pendingOnes = true;
+                }
+            }
+        }
+
+        if (pendingBits > 7 || !pendingOnes) {
+            // padding longer than 7 bits or not corresponding to the EOS prefix
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        return result.toString();
+    }
+
+    private static HuffmanNode buildHuffmanTree() {
+        HuffmanNode root = new HuffmanNode();
+        for (int symbol = 0; symbol < HUFFMAN_CODES.length; symbol++) {
+            HuffmanNode node = root;
+            int code = HUFFMAN_CODES[symbol];
+            for (int bit = HUFFMAN_CODE_LENGTHS[symbol] - 1; bit >= 0; bit--) {
+                int value = (code >>> bit) & 1;
+                if (node.children[value] == null) {
+                    node.children[value] = new HuffmanNode();
+                }
+                node = node.children[value];
+            }
+            node.symbol = symbol;
+        }
+        return root;
+    }
+
+    private static class HuffmanNode {
+
+        private final HuffmanNode[] children = new HuffmanNode[2];
+        private int symbol = -1;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private Hpack() {
+    }
+}
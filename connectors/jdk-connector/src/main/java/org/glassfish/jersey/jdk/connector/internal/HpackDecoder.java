@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HPACK decoder of HTTP/2 header blocks (RFC 7541).
+ * <p/>
+ * The decoder maintains the dynamic table of the connection, so the header blocks must be decoded in the order in which
+ * they have been received.
+ */
+class HpackDecoder {
+
+    // newest entry first
+    private final LinkedList<String[]> dynamicTable = new LinkedList<>();
+    private final int maxAllowedTableSize;
+
+    private int maxTableSize;
+    private int tableSize = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxAllowedTableSize maximal size of the dynamic table announced to the peer.
+     */
+    HpackDecoder(int maxAllowedTableSize) {
+        this.maxAllowedTableSize = maxAllowedTableSize;
+        this.maxTableSize = maxAllowedTableSize;
+    }
+
+    /**
+     * Decode a complete header block.
+     *
+     * @param block header block.
+     * @return decoded header fields in the order in which they appear in the block.
+     * @throws ParseException if the header block cannot be decoded.
+     */
+    List<Map.Entry<String, String>> decode(ByteBuffer block) throws ParseException {
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        boolean headerDecoded = false;
+
+        while (block.hasRemaining()) {
+            int b = block.get(block.position()) & 0xff;
+
+            if ((b & 0x80) != 0) {
+                // indexed header field
+                String[] entry = getEntry(Hpack.decodeInteger(block, 7));
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(entry[0], entry[1]));
+                headerDecoded = true;
+            } else if ((b & 0x40) != 0) {
+                // literal header field with incremental indexing
+                String[] entry = decodeLiteral(block, 6);
+                addEntry(entry);
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(entry[0], entry[1]));
+                headerDecoded = true;
+            } else if ((b & 0x20) != 0) {
+                // dynamic table size update, must be at the beginning of the block
+                int size = Hpack.decodeInteger(block, 5);
+                if (headerDecoded || size > maxAllowedTableSize) {
+                    throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+                }
+                maxTableSize = size;
+                evict(0);
+            } else {
+                // literal header field without indexing or never indexed
+                String[] entry = decodeLiteral(block, 4);
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(entry[0], entry[1]));
+                headerDecoded = true;
+            }
+        }
+
+        return headers;
+    }
+
+    private String[] decodeLiteral(ByteBuffer block, int prefixBits) throws ParseException {
+        int nameIndex = Hpack.decodeInteger(block, prefixBits);
+        String name = nameIndex == 0 ? Hpack.decodeString(block) : getEntry(nameIndex)[0];
+        String value = Hpack.decodeString(block);
+        return new String[] {name, value};
+    }
+
+    private String[] getEntry(int index) throws ParseException {
+        if (index <= 0) {
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        if (index <= Hpack.STATIC_TABLE.length) {
+            return Hpack.STATIC_TABLE[index - 1];
+        }
+
+        int dynamicIndex = index - Hpack.STATIC_TABLE.length - 1;
+        if (dynamicIndex >= dynamicTable.size()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_HPACK_DECODING_ERROR());
+        }
+
+        return dynamicTable.get(dynamicIndex);
+    }
+
+    private void addEntry(String[] entry) {
+        int size = entrySize(entry);
+        if (size > maxTableSize) {
+            // an entry larger than the table empties the table
+            dynamicTable.clear();
+            tableSize = 0;
+            return;
+        }
+
+        evict(size);
+        dynamicTable.addFirst(entry);
+        tableSize += size;
+    }
+
+    private void evict(int requiredSpace) {
+        while (tableSize + requiredSpace > maxTableSize && !dynamicTable.isEmpty()) {
+            tableSize -= entrySize(dynamicTable.removeLast());
+        }
+    }
+
+    private static int entrySize(String[] entry) {
+        return entry[0].length() + entry[1].length() + Hpack.ENTRY_OVERHEAD;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HPACK encoder of HTTP/2 header blocks (RFC 7541).
+ * <p/>
+ * The encoder does not use the dynamic table and the Huffman encoding, it only refers to the static table, so it does not
+ * maintain any state and the header blocks can be encoded in any order.
+ */
+final class HpackEncoder {
+
+    private static final Map<String, Integer> STATIC_NAMES = new HashMap<>();
+    private static final Map<String, Integer> STATIC_FIELDS = new HashMap<>();
+
+    static {
+        for (int i = Hpack.STATIC_TABLE.length; i > 0; i--) {
+            // iterate from the end, so that the lowest index of the name wins
+            String[] entry = Hpack.STATIC_TABLE[i - 1];
+            STATIC_NAMES.put(entry[0], i);
+            if (!entry[1].isEmpty()) {
+                STATIC_FIELDS.put(fieldKey(entry[0], entry[1]), i);
+            }
+        }
+    }
+
+    /**
+     * Encode a header field and append it to the header block.
+     *
+     * @param block     header block.
+     * @param name      lower case header name.
+     * @param value     header value.
+     * @param sensitive if {@code true}, the field is encoded as "never indexed", so that intermediaries do not compress it.
+     */
+    static void encode(ByteArrayOutputStream block, String name, String value, boolean sensitive) {
+        Integer fieldIndex = STATIC_FIELDS.get(fieldKey(name, value));
+        if (fieldIndex != null) {
+            // indexed header field
+            Hpack.encodeInteger(block, 0x80, 7, fieldIndex);
+            return;
+        }
+
+        // literal header field without indexing (0000) or never indexed (0001)
+        int flags = sensitive ? 0x10 : 0x00;
+        Integer nameIndex = STATIC_NAMES.get(name);
+        if (nameIndex != null) {
+            Hpack.encodeInteger(block, flags, 4, nameIndex);
+        } else {
+            block.write(flags);
+            Hpack.encodeString(block, name);
+        }
+        Hpack.encodeString(block, value);
+    }
+
+    private static String fieldKey(String name, String value) {
+        return name + '\n' + value;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private HpackEncoder() {
+    }
+}
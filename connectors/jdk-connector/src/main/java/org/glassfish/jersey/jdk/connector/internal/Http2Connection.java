@@ -0,0 +1,1114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * HTTP/2 connection (RFC 7540) that multiplexes the requests as concurrent streams.
+ * <p/>
+ * For {@code http} URIs the connection starts HTTP/2 directly (h2c with prior knowledge), for {@code https} URIs HTTP/2
+ * is negotiated by ALPN during the TLS handshake. If the server does not select HTTP/2, the owning pool is notified by
+ * {@link Listener#onHttp2NotSupported(MultiplexedConnection)}.
+ * <p/>
+ * The connection does not use the HPACK dynamic table for the requests, does not support server push and replenishes
+ * the flow control windows of the received data as soon as they have been received (the data are buffered
+ * in the response body stream).
+ * <p/>
+ * SYNCHRONIZATION NOTE: all the frames are written through {@link WriteQueueFilter}. The frames are enqueued while
+ * holding the connection lock, so that they are sent in the order in which they have been created (stream identifiers
+ * must be increasing, a header block must not be interleaved with other frames), and flushed after the lock has been
+ * released.
+ */
+class Http2Connection extends MultiplexedConnection {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2Connection.class.getName());
+
+    private static final String HTTP_VERSION = "HTTP/2.0";
+    private static final String H2 = "h2";
+    private static final String HTTP_1_1 = "http/1.1";
+
+    private static final int STREAM_RECEIVE_WINDOW = 1024 * 1024;
+    private static final int CONNECTION_RECEIVE_WINDOW = 16 * 1024 * 1024;
+    private static final int MAX_HEADER_BLOCK_SIZE = 1024 * 1024;
+    // used until the server announces its limit
+    private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+    private static final int MAX_STREAM_ID = Integer.MAX_VALUE;
+
+    /**
+     * Headers that must not be sent over HTTP/2 (RFC 7540, section 8.1.2.2), the host is sent as {@code :authority}.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "host", "te")));
+
+    private static final Set<String> SENSITIVE_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "authorization", "proxy-authorization")));
+
+    private final WriteQueueFilter writeQueue;
+    private final SslFilter sslFilter;
+    private final Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> filterChain;
+    private final Http2FrameParser frameParser = new Http2FrameParser(Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+    private final HpackDecoder hpackDecoder = new HpackDecoder(Hpack.DEFAULT_HEADER_TABLE_SIZE);
+    private final Map<Integer, Stream> streams = new HashMap<>();
+
+    private State state = State.CREATED;
+    private int nextStreamId = 1;
+    private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+    private int peerInitialWindowSize = Http2Frame.DEFAULT_INITIAL_WINDOW_SIZE;
+    private int peerMaxFrameSize = Http2Frame.DEFAULT_MAX_FRAME_SIZE;
+    private long connectionSendWindow = Http2Frame.DEFAULT_INITIAL_WINDOW_SIZE;
+    private int connectionReceivedData = 0;
+
+    // accessed only by the reading thread
+    private ByteArrayOutputStream headerBlock;
+    private int headerBlockStreamId;
+    private int headerBlockFlags;
+    /* responses are passed to the user after all the frames of the current read have been processed (as HttpFilter does),
+       so that reading the body in the callback does not block the processing of DATA frames from the same read */
+    private final List<Runnable> receivedResponses = new ArrayList<>();
+
+    Http2Connection(URI uri,
+                    CookieManager cookieManager,
+                    ConnectorConfiguration configuration,
+                    ScheduledExecutorService scheduler,
+                    Listener listener) {
+        super(uri, cookieManager, configuration, scheduler, listener);
+
+        Filter<ByteBuffer, ByteBuffer, ?, ?> socket = HttpConnection.createSocketFilter(uri, configuration);
+        sslFilter = socket instanceof SslFilter ? (SslFilter) socket : null;
+        writeQueue = new WriteQueueFilter(socket);
+        filterChain = new ConnectionFilter(writeQueue);
+    }
+
+    @Override
+    void connect() {
+        synchronized (this) {
+            if (state != State.CREATED) {
+                throw new IllegalStateException(LocalizationMessages.HTTP_CONNECTION_ESTABLISHING_ILLEGAL_STATE(state));
+            }
+
+            state = State.CONNECTING;
+            if (sslFilter == null || sslFilter.setApplicationProtocols(H2, HTTP_1_1)) {
+                scheduleConnectTimeout();
+                filterChain.connect(new InetSocketAddress(uri.getHost(), Utils.getPort(uri)), null);
+                return;
+            }
+
+            state = State.CLOSED;
+        }
+
+        // ALPN is not supported by the JDK
+        listener.onHttp2NotSupported(this);
+    }
+
+    @Override
+    synchronized boolean isConnecting() {
+        return state == State.CREATED || state == State.CONNECTING;
+    }
+
+    @Override
+    boolean trySend(RequestRecord requestRecord) {
+        HttpRequest httpRequest = requestRecord.request;
+        try {
+            addCookies(httpRequest);
+        } catch (IOException e) {
+            requestRecord.completionHandler.failed(e);
+            return true;
+        }
+
+        final Stream stream;
+        synchronized (this) {
+            if (state != State.OPEN || streams.size() >= maxConcurrentStreams || nextStreamId > MAX_STREAM_ID) {
+                return false;
+            }
+
+            cancelIdleTimeout();
+            stream = new Stream(nextStreamId, requestRecord, peerInitialWindowSize);
+            nextStreamId += 2;
+            streams.put(stream.id, stream);
+
+            boolean endStream = httpRequest.getBodyMode() == HttpRequest.BodyMode.NONE;
+            ByteBuffer body = null;
+            if (httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED) {
+                body = httpRequest.getBufferedBody();
+                endStream = !body.hasRemaining();
+            }
+
+            writeQueue.enqueue(Http2Frame.headers(stream.id, encodeHeaders(httpRequest), endStream, peerMaxFrameSize),
+                    writeFailureHandler());
+            stream.requestSent = endStream;
+            if (!endStream && body != null) {
+                stream.outboundData.add(new OutboundData(body, true, null));
+                writeStreamData(stream);
+            }
+
+            if (configuration.getResponseTimeout() != 0) {
+                stream.responseTimeout = scheduler.schedule(() -> handleResponseTimeout(stream),
+                        configuration.getResponseTimeout(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        writeQueue.flush();
+
+        if (httpRequest.getBodyMode() == HttpRequest.BodyMode.CHUNKED) {
+            ChunkedBodyOutputStream bodyStream = (ChunkedBodyOutputStream) httpRequest.getBodyStream();
+            bodyStream.open(new StreamDataFilter(stream), false);
+        }
+
+        return true;
+    }
+
+    @Override
+    void close() {
+        shutdown(Http2Frame.NO_ERROR, null, CloseReason.CLIENT);
+    }
+
+    private byte[] encodeHeaders(HttpRequest httpRequest) {
+        URI requestUri = httpRequest.getUri();
+        String path = requestUri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        }
+        if (requestUri.getRawQuery() != null) {
+            path += "?" + requestUri.getRawQuery();
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        HpackEncoder.encode(block, ":method", httpRequest.getMethod(), false);
+        HpackEncoder.encode(block, ":scheme", requestUri.getScheme(), false);
+        HpackEncoder.encode(block, ":authority", requestUri.getHost() + ":" + Utils.getPort(requestUri), false);
+        HpackEncoder.encode(block, ":path", path, false);
+
+        boolean contentLength = false;
+        for (Map.Entry<String, List<String>> header : httpRequest.getHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (EXCLUDED_HEADERS.contains(name)) {
+                continue;
+            }
+
+            contentLength |= name.equals("content-length");
+            for (String value : header.getValue()) {
+                HpackEncoder.encode(block, name, value, SENSITIVE_HEADERS.contains(name));
+            }
+        }
+
+        if (!contentLength && httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED) {
+            HpackEncoder.encode(block, "content-length", Integer.toString(httpRequest.getBodySize()), false);
+        }
+
+        return block.toByteArray();
+    }
+
+    /**
+     * Write as much of the pending request body of the stream as the flow control windows allow.
+     * Must be called while holding the connection lock.
+     */
+    private void writeStreamData(Stream stream) {
+        OutboundData data;
+        while ((data = stream.outboundData.peek()) != null) {
+            int remaining = data.buffer.remaining();
+            long window = Math.max(0, Math.min(stream.sendWindow, connectionSendWindow));
+            int length = (int) Math.min(Math.min(remaining, window), peerMaxFrameSize);
+            if (remaining > 0 && length == 0) {
+                // wait for WINDOW_UPDATE
+                return;
+            }
+
+            boolean complete = length == remaining;
+            boolean endStream = data.last && complete;
+            ByteBuffer frame = Http2Frame.data(stream.id, data.buffer, length, endStream);
+            stream.sendWindow -= length;
+            connectionSendWindow -= length;
+
+            CompletionHandler<ByteBuffer> completionHandler = writeFailureHandler();
+            if (complete) {
+                stream.outboundData.poll();
+                stream.requestSent = endStream;
+                if (data.completionHandler != null) {
+                    completionHandler = data.completionHandler;
+                }
+            }
+            writeQueue.enqueue(frame, completionHandler);
+        }
+    }
+
+    private void writeAllStreamData() {
+        for (Stream stream : new ArrayList<>(streams.values())) {
+            writeStreamData(stream);
+        }
+    }
+
+    private void writeStreamBody(Stream stream, ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+        synchronized (this) {
+            if (state == State.CLOSED || streams.get(stream.id) != stream || stream.requestSent) {
+                completionHandler.failed(new IOException(LocalizationMessages.HTTP_2_STREAM_CLOSED()));
+                return;
+            }
+
+            // an empty buffer closes the body, see ChunkedBodyOutputStream#open(Filter, boolean)
+            stream.outboundData.add(new OutboundData(data, !data.hasRemaining(),
+                    new WriteCompletionHandler(completionHandler)));
+            writeStreamData(stream);
+        }
+
+        writeQueue.flush();
+    }
+
+    private CompletionHandler<ByteBuffer> writeFailureHandler() {
+        return new CompletionHandler<ByteBuffer>() {
+            @Override
+            public void failed(Throwable throwable) {
+                shutdown(Http2Frame.NO_ERROR, throwable, CloseReason.ERROR);
+            }
+        };
+    }
+
+    private void processFrame(int type, int flags, int streamId, ByteBuffer payload) throws ParseException {
+        if (headerBlock != null && type != Http2Frame.CONTINUATION) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("CONTINUATION expected"));
+        }
+
+        switch (type) {
+            case Http2Frame.DATA:
+                processData(flags, streamId, payload);
+                break;
+            case Http2Frame.HEADERS:
+                processHeaders(flags, streamId, payload);
+                break;
+            case Http2Frame.CONTINUATION:
+                processContinuation(flags, streamId, payload);
+                break;
+            case Http2Frame.RST_STREAM:
+                processRstStream(streamId, payload);
+                break;
+            case Http2Frame.SETTINGS:
+                processSettings(flags, streamId, payload);
+                break;
+            case Http2Frame.PING:
+                processPing(flags, streamId, payload);
+                break;
+            case Http2Frame.GOAWAY:
+                processGoAway(streamId, payload);
+                break;
+            case Http2Frame.WINDOW_UPDATE:
+                processWindowUpdate(streamId, payload);
+                break;
+            case Http2Frame.PUSH_PROMISE:
+                // push has been disabled by the settings
+                throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("PUSH_PROMISE"));
+            default:
+                // PRIORITY and unknown frames are ignored
+                break;
+        }
+    }
+
+    private void processData(int flags, int streamId, ByteBuffer payload) throws ParseException {
+        int frameLength = payload.remaining();
+        ByteBuffer data = removePadding(flags, payload);
+        boolean endStream = (flags & Http2Frame.FLAG_END_STREAM) != 0;
+
+        final Stream stream;
+        synchronized (this) {
+            // the flow control windows are replenished immediately, the data are buffered by the body stream
+            connectionReceivedData += frameLength;
+            if (connectionReceivedData >= CONNECTION_RECEIVE_WINDOW / 2) {
+                writeQueue.enqueue(Http2Frame.windowUpdate(0, connectionReceivedData), writeFailureHandler());
+                connectionReceivedData = 0;
+            }
+
+            stream = streams.get(streamId);
+            if (stream != null && !endStream) {
+                stream.receivedData += frameLength;
+                if (stream.receivedData >= STREAM_RECEIVE_WINDOW / 2) {
+                    writeQueue.enqueue(Http2Frame.windowUpdate(streamId, stream.receivedData), writeFailureHandler());
+                    stream.receivedData = 0;
+                }
+            }
+        }
+        writeQueue.flush();
+
+        if (stream == null) {
+            // the stream has been already closed or reset by us
+            return;
+        }
+
+        if (stream.response == null) {
+            resetStream(stream, Http2Frame.PROTOCOL_ERROR,
+                    new IOException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("DATA before HEADERS")));
+            return;
+        }
+
+        stream.notifyDataAvailable(data);
+        if (endStream) {
+            handleResponseReceived(stream);
+        }
+    }
+
+    private void processHeaders(int flags, int streamId, ByteBuffer payload) throws ParseException {
+        if (streamId == 0) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("HEADERS on stream 0"));
+        }
+
+        ByteBuffer fragment = removePadding(flags, payload);
+        if ((flags & Http2Frame.FLAG_PRIORITY) != 0) {
+            if (fragment.remaining() < 5) {
+                throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("HEADERS"));
+            }
+            ((Buffer) fragment).position(fragment.position() + 5);
+        }
+
+        headerBlock = new ByteArrayOutputStream(fragment.remaining());
+        headerBlockStreamId = streamId;
+        headerBlockFlags = flags;
+        appendHeaderBlock(flags, fragment);
+    }
+
+    private void processContinuation(int flags, int streamId, ByteBuffer payload) throws ParseException {
+        if (headerBlock == null || streamId != headerBlockStreamId) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("CONTINUATION"));
+        }
+
+        appendHeaderBlock(flags, payload);
+    }
+
+    private void appendHeaderBlock(int flags, ByteBuffer fragment) throws ParseException {
+        if (headerBlock.size() + fragment.remaining() > MAX_HEADER_BLOCK_SIZE) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("header block too large"));
+        }
+        headerBlock.write(fragment.array(), fragment.arrayOffset() + fragment.position(), fragment.remaining());
+
+        if ((flags & Http2Frame.FLAG_END_HEADERS) != 0) {
+            ByteBuffer block = ByteBuffer.wrap(headerBlock.toByteArray());
+            headerBlock = null;
+            processHeaderBlock(headerBlockStreamId, (headerBlockFlags & Http2Frame.FLAG_END_STREAM) != 0, block);
+        }
+    }
+
+    private void processHeaderBlock(int streamId, boolean endStream, ByteBuffer block) throws ParseException {
+        // the block must be always decoded to keep the decoder state in sync with the server
+        List<Map.Entry<String, String>> headers;
+        try {
+            headers = hpackDecoder.decode(block);
+        } catch (ParseException e) {
+            shutdown(Http2Frame.COMPRESSION_ERROR, e, CloseReason.ERROR);
+            return;
+        }
+
+        final Stream stream;
+        synchronized (this) {
+            stream = streams.get(streamId);
+        }
+
+        if (stream == null) {
+            // the stream has been already closed or reset by us
+            return;
+        }
+
+        if (stream.response != null) {
+            // trailer fields
+            for (Map.Entry<String, String> header : headers) {
+                stream.response.addTrailerHeader(header.getKey(), header.getValue());
+            }
+
+            if (endStream) {
+                handleResponseReceived(stream);
+            } else {
+                resetStream(stream, Http2Frame.PROTOCOL_ERROR,
+                        new IOException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("trailers without END_STREAM")));
+            }
+            return;
+        }
+
+        HttpResponse response = createResponse(headers);
+        if (response == null) {
+            resetStream(stream, Http2Frame.PROTOCOL_ERROR,
+                    new IOException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR(":status")));
+            return;
+        }
+
+        if (response.getStatusCode() / 100 == 1) {
+            // informational response, the final one follows
+            return;
+        }
+
+        try {
+            cookieManager.put(stream.requestRecord.request.getUri(), response.getHeaders());
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+
+        response.setHasContent(!endStream && !Constants.HEAD.equals(stream.requestRecord.request.getMethod()));
+        synchronized (this) {
+            if (streams.get(streamId) != stream) {
+                // the stream has timed out in the meantime
+                return;
+            }
+            stream.response = response;
+        }
+
+        receivedResponses.add(() -> stream.requestRecord.completionHandler.completed(response));
+
+        if (endStream) {
+            handleResponseReceived(stream);
+        }
+    }
+
+    private void notifyReceivedResponses() {
+        List<Runnable> responses = new ArrayList<>(receivedResponses);
+        receivedResponses.clear();
+        responses.forEach(Runnable::run);
+    }
+
+    private static HttpResponse createResponse(List<Map.Entry<String, String>> headers) {
+        int statusCode = -1;
+        for (Map.Entry<String, String> header : headers) {
+            if (header.getKey().equals(":status")) {
+                try {
+                    statusCode = Integer.parseInt(header.getValue());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+
+        if (statusCode < 100 || statusCode > 999) {
+            return null;
+        }
+
+        Response.Status status = Response.Status.fromStatusCode(statusCode);
+        HttpResponse response = new HttpResponse(HTTP_VERSION, statusCode, status == null ? "" : status.getReasonPhrase());
+        for (Map.Entry<String, String> header : headers) {
+            if (!header.getKey().startsWith(":")) {
+                response.addHeader(header.getKey(), header.getValue());
+            }
+        }
+        return response;
+    }
+
+    private void processRstStream(int streamId, ByteBuffer payload) throws ParseException {
+        if (streamId == 0 || payload.remaining() != 4) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("RST_STREAM"));
+        }
+
+        int errorCode = payload.getInt();
+        final Stream stream;
+        synchronized (this) {
+            stream = streams.get(streamId);
+            if (stream == null) {
+                return;
+            }
+            removeStream(stream);
+        }
+
+        if (errorCode == Http2Frame.REFUSED_STREAM && stream.response == null && stream.requestRecord.retries == 0) {
+            // the server guarantees the request has not been processed
+            stream.failOutboundData(new IOException(LocalizationMessages.HTTP_2_STREAM_RESET(errorCode)));
+            listener.onNotProcessed(this, Collections.singletonList(stream.requestRecord));
+        } else {
+            failStream(stream, new IOException(LocalizationMessages.HTTP_2_STREAM_RESET(errorCode)));
+        }
+
+        listener.onReady(this);
+    }
+
+    private void processSettings(int flags, int streamId, ByteBuffer payload) throws ParseException {
+        if (streamId != 0 || payload.remaining() % 6 != 0) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("SETTINGS"));
+        }
+
+        if ((flags & Http2Frame.FLAG_ACK) != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            while (payload.hasRemaining()) {
+                int identifier = payload.getShort() & 0xffff;
+                int value = payload.getInt();
+                switch (identifier) {
+                    case Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS:
+                        // the value is unsigned
+                        maxConcurrentStreams = value < 0 ? Integer.MAX_VALUE : value;
+                        break;
+                    case Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE:
+                        if (value < 0) {
+                            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("SETTINGS_INITIAL_WINDOW_SIZE"));
+                        }
+                        int delta = value - peerInitialWindowSize;
+                        peerInitialWindowSize = value;
+                        for (Stream stream : streams.values()) {
+                            stream.sendWindow += delta;
+                        }
+                        break;
+                    case Http2Frame.SETTINGS_MAX_FRAME_SIZE:
+                        if (value < Http2Frame.DEFAULT_MAX_FRAME_SIZE || value > Http2Frame.MAX_FRAME_SIZE_LIMIT) {
+                            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("SETTINGS_MAX_FRAME_SIZE"));
+                        }
+                        peerMaxFrameSize = value;
+                        break;
+                    default:
+                        // the encoder does not use the dynamic table and push is disabled, other settings do not matter
+                        break;
+                }
+            }
+
+            writeQueue.enqueue(Http2Frame.settingsAck(), writeFailureHandler());
+            writeAllStreamData();
+        }
+
+        writeQueue.flush();
+        listener.onReady(this);
+    }
+
+    private void processPing(int flags, int streamId, ByteBuffer payload) throws ParseException {
+        if (streamId != 0 || payload.remaining() != 8) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("PING"));
+        }
+
+        if ((flags & Http2Frame.FLAG_ACK) != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            writeQueue.enqueue(Http2Frame.pingAck(payload), writeFailureHandler());
+        }
+        writeQueue.flush();
+    }
+
+    private void processGoAway(int streamId, ByteBuffer payload) throws ParseException {
+        if (streamId != 0 || payload.remaining() < 8) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("GOAWAY"));
+        }
+
+        int lastStreamId = payload.getInt() & Integer.MAX_VALUE;
+        int errorCode = payload.getInt();
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.finest(LocalizationMessages.HTTP_2_GOAWAY_RECEIVED(uri.getHost(), uri.getPort(), lastStreamId, errorCode));
+        }
+
+        final List<RequestRecord> notProcessed = new ArrayList<>();
+        final List<Stream> failed = new ArrayList<>();
+        final boolean close;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                // no new streams can be created
+                state = State.DRAINING;
+            }
+
+            for (Iterator<Stream> iterator = streams.values().iterator(); iterator.hasNext(); ) {
+                Stream stream = iterator.next();
+                if (stream.id > lastStreamId) {
+                    iterator.remove();
+                    stream.cancelResponseTimeout();
+                    if (stream.requestRecord.retries == 0) {
+                        notProcessed.add(stream.requestRecord);
+                    } else {
+                        failed.add(stream);
+                    }
+                }
+            }
+
+            close = streams.isEmpty();
+        }
+
+        for (Stream stream : failed) {
+            failStream(stream, new IOException(LocalizationMessages.CONNECTION_CLOSED()));
+        }
+
+        if (!notProcessed.isEmpty()) {
+            listener.onNotProcessed(this, notProcessed);
+        }
+
+        if (close) {
+            shutdown(Http2Frame.NO_ERROR, null, CloseReason.SERVER);
+        }
+    }
+
+    private void processWindowUpdate(int streamId, ByteBuffer payload) throws ParseException {
+        if (payload.remaining() != 4) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("WINDOW_UPDATE"));
+        }
+
+        int increment = payload.getInt() & Integer.MAX_VALUE;
+        if (increment == 0) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("WINDOW_UPDATE"));
+        }
+
+        synchronized (this) {
+            if (streamId == 0) {
+                connectionSendWindow += increment;
+                if (connectionSendWindow > Http2Frame.MAX_WINDOW_SIZE) {
+                    throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("connection window overflow"));
+                }
+                writeAllStreamData();
+            } else {
+                Stream stream = streams.get(streamId);
+                if (stream == null) {
+                    return;
+                }
+
+                stream.sendWindow += increment;
+                writeStreamData(stream);
+            }
+        }
+
+        writeQueue.flush();
+    }
+
+    private static ByteBuffer removePadding(int flags, ByteBuffer payload) throws ParseException {
+        if ((flags & Http2Frame.FLAG_PADDED) == 0) {
+            return payload;
+        }
+
+        if (!payload.hasRemaining()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("padding"));
+        }
+
+        int padLength = payload.get() & 0xff;
+        if (padLength > payload.remaining()) {
+            throw new ParseException(LocalizationMessages.HTTP_2_PROTOCOL_ERROR("padding"));
+        }
+
+        ((Buffer) payload).limit(payload.limit() - padLength);
+        return payload;
+    }
+
+    private void handleResponseReceived(Stream stream) {
+        synchronized (this) {
+            if (streams.get(stream.id) != stream) {
+                return;
+            }
+
+            stream.responseReceived = true;
+            if (!stream.requestSent) {
+                // the server does not need the rest of the request body
+                writeQueue.enqueue(Http2Frame.rstStream(stream.id, Http2Frame.NO_ERROR), writeFailureHandler());
+                stream.requestSent = true;
+            }
+            removeStream(stream);
+        }
+
+        writeQueue.flush();
+        stream.failOutboundData(new IOException(LocalizationMessages.HTTP_2_STREAM_CLOSED()));
+        stream.notifyAllDataRead();
+        listener.onReady(this);
+    }
+
+    private void handleResponseTimeout(Stream stream) {
+        synchronized (this) {
+            if (streams.get(stream.id) != stream) {
+                return;
+            }
+
+            stream.responseTimeout = null;
+            writeQueue.enqueue(Http2Frame.rstStream(stream.id, Http2Frame.CANCEL), writeFailureHandler());
+            removeStream(stream);
+        }
+
+        writeQueue.flush();
+        stream.failOutboundData(new IOException(LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE()));
+        stream.fail(new IOException(LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE()),
+                new IOException(LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE_BODY()));
+        listener.onReady(this);
+    }
+
+    private void resetStream(Stream stream, int errorCode, IOException error) {
+        synchronized (this) {
+            if (streams.get(stream.id) != stream) {
+                return;
+            }
+
+            writeQueue.enqueue(Http2Frame.rstStream(stream.id, errorCode), writeFailureHandler());
+            removeStream(stream);
+        }
+
+        writeQueue.flush();
+        failStream(stream, error);
+        listener.onReady(this);
+    }
+
+    private static void failStream(Stream stream, IOException error) {
+        stream.failOutboundData(error);
+        stream.fail(error, error);
+    }
+
+    /**
+     * Remove a completed stream. Must be called while holding the connection lock.
+     */
+    private void removeStream(Stream stream) {
+        if (streams.remove(stream.id) == null) {
+            return;
+        }
+
+        stream.cancelResponseTimeout();
+        if (!streams.isEmpty()) {
+            return;
+        }
+
+        if (state == State.DRAINING || nextStreamId > MAX_STREAM_ID) {
+            // the connection cannot be used for new streams
+            scheduler.execute(() -> shutdown(Http2Frame.NO_ERROR, null, CloseReason.SERVER));
+        } else if (state == State.OPEN) {
+            scheduleIdleTimeout();
+        }
+    }
+
+    @Override
+    protected void handleIdleTimeout() {
+        synchronized (this) {
+            if (state != State.OPEN || !streams.isEmpty()) {
+                return;
+            }
+        }
+
+        shutdown(Http2Frame.NO_ERROR, null, CloseReason.CLIENT);
+    }
+
+    @Override
+    protected void handleConnectTimeout() {
+        synchronized (this) {
+            if (state != State.CONNECTING) {
+                return;
+            }
+        }
+
+        shutdown(Http2Frame.NO_ERROR, new IOException(LocalizationMessages.CONNECTION_TIMEOUT()), CloseReason.ERROR);
+    }
+
+    private void handleHandshakeCompleted() {
+        final boolean http2;
+        synchronized (this) {
+            if (state != State.CONNECTING) {
+                return;
+            }
+
+            cancelConnectTimeout();
+            http2 = sslFilter == null || H2.equals(sslFilter.getApplicationProtocol());
+            if (!http2) {
+                state = State.CLOSED;
+            } else {
+                state = State.OPEN;
+                writeQueue.enqueue(ByteBuffer.wrap(Http2Frame.CONNECTION_PREFACE), writeFailureHandler());
+                writeQueue.enqueue(Http2Frame.settings(
+                        Http2Frame.SETTINGS_ENABLE_PUSH, 0,
+                        Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE, STREAM_RECEIVE_WINDOW), writeFailureHandler());
+                writeQueue.enqueue(Http2Frame.windowUpdate(0, CONNECTION_RECEIVE_WINDOW
+                        - Http2Frame.DEFAULT_INITIAL_WINDOW_SIZE), writeFailureHandler());
+                scheduleIdleTimeout();
+            }
+        }
+
+        if (!http2) {
+            // the server has not selected HTTP/2
+            filterChain.close();
+            listener.onHttp2NotSupported(this);
+            return;
+        }
+
+        writeQueue.flush();
+        listener.onReady(this);
+    }
+
+    /**
+     * Close the connection and fail or hand over to the pool the streams in progress.
+     */
+    private void shutdown(int errorCode, Throwable t, CloseReason reason) {
+        final State oldState;
+        final List<Stream> closedStreams;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+
+            oldState = state;
+            state = State.CLOSED;
+            cancelConnectTimeout();
+            cancelIdleTimeout();
+            closedStreams = new ArrayList<>(streams.values());
+            streams.clear();
+
+            if (oldState != State.CONNECTING && reason != CloseReason.SERVER) {
+                writeQueue.enqueue(Http2Frame.goAway(0, errorCode), new CompletionHandler<ByteBuffer>() {
+                    @Override
+                    public void failed(Throwable throwable) {
+                        filterChain.close();
+                    }
+
+                    @Override
+                    public void completed(ByteBuffer result) {
+                        filterChain.close();
+                    }
+                });
+            }
+        }
+
+        if (oldState == State.CONNECTING || reason == CloseReason.SERVER) {
+            filterChain.close();
+        } else {
+            writeQueue.flush();
+        }
+
+        if (oldState == State.CONNECTING) {
+            listener.onConnectFailed(this, t != null ? t : new IOException(LocalizationMessages.CONNECTION_CLOSED()));
+            return;
+        }
+
+        List<RequestRecord> notProcessed = new ArrayList<>();
+        for (Stream stream : closedStreams) {
+            stream.cancelResponseTimeout();
+            if (stream.response == null && reason != CloseReason.CLIENT && isRetryable(stream.requestRecord)) {
+                stream.failOutboundData(new IOException(LocalizationMessages.CONNECTION_CLOSED()));
+                notProcessed.add(stream.requestRecord);
+                continue;
+            }
+
+            IOException requestError;
+            IOException bodyError;
+            if (reason == CloseReason.CLIENT) {
+                requestError = new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING());
+                bodyError = new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING_BODY());
+            } else {
+                requestError = new IOException(LocalizationMessages.CLOSED_WHILE_RECEIVING_RESPONSE(), t);
+                bodyError = new IOException(LocalizationMessages.CLOSED_WHILE_RECEIVING_BODY(), t);
+            }
+            stream.failOutboundData(requestError);
+            stream.fail(requestError, bodyError);
+        }
+
+        if (!notProcessed.isEmpty()) {
+            listener.onNotProcessed(this, notProcessed);
+        }
+        listener.onClosed(this);
+    }
+
+    private class ConnectionFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
+
+        ConnectionFilter(Filter<ByteBuffer, ByteBuffer, ?, ?> downstreamFilter) {
+            super(downstreamFilter);
+        }
+
+        @Override
+        boolean processRead(ByteBuffer data) {
+            try {
+                frameParser.parse(data, Http2Connection.this::processFrame);
+            } catch (ParseException e) {
+                shutdown(Http2Frame.PROTOCOL_ERROR, e, CloseReason.ERROR);
+            } finally {
+                notifyReceivedResponses();
+            }
+            return false;
+        }
+
+        @Override
+        void processConnect() {
+            synchronized (Http2Connection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+            }
+
+            downstreamFilter.startSsl();
+        }
+
+        @Override
+        void processSslHandshakeCompleted() {
+            handleHandshakeCompleted();
+        }
+
+        @Override
+        void processConnectionClosed() {
+            shutdown(Http2Frame.NO_ERROR, null, CloseReason.SERVER);
+        }
+
+        @Override
+        void processError(Throwable t) {
+            shutdown(Http2Frame.INTERNAL_ERROR, t, CloseReason.ERROR);
+        }
+    }
+
+    /**
+     * Adapter that allows {@link ChunkedBodyOutputStream} to write the request body as DATA frames of a stream.
+     */
+    private class StreamDataFilter extends Filter<ByteBuffer, Void, Void, Void> {
+
+        private final Stream stream;
+
+        StreamDataFilter(Stream stream) {
+            super(null);
+            this.stream = stream;
+        }
+
+        @Override
+        void write(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+            writeStreamBody(stream, data, completionHandler);
+        }
+    }
+
+    /**
+     * Completion handler of a request body write, it is notified once.
+     */
+    private static class WriteCompletionHandler extends CompletionHandler<ByteBuffer> {
+
+        private final CompletionHandler<ByteBuffer> delegate;
+        private boolean done = false;
+
+        WriteCompletionHandler(CompletionHandler<ByteBuffer> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void failed(Throwable throwable) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            delegate.failed(throwable);
+        }
+
+        @Override
+        public void completed(ByteBuffer result) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            delegate.completed(result);
+        }
+    }
+
+    private static class Stream {
+
+        private final int id;
+        private final RequestRecord requestRecord;
+        private final Deque<OutboundData> outboundData = new ArrayDeque<>();
+
+        private long sendWindow;
+        private int receivedData = 0;
+        private volatile HttpResponse response;
+        private boolean requestSent = false;
+        private boolean responseReceived = false;
+        private Future<?> responseTimeout;
+        // the body stream does not accept any notification after the end of data or an error
+        private boolean bodyClosed = false;
+
+        Stream(int id, RequestRecord requestRecord, int sendWindow) {
+            this.id = id;
+            this.requestRecord = requestRecord;
+            this.sendWindow = sendWindow;
+        }
+
+        void cancelResponseTimeout() {
+            if (responseTimeout != null) {
+                responseTimeout.cancel(false);
+                responseTimeout = null;
+            }
+        }
+
+        synchronized void notifyDataAvailable(ByteBuffer data) {
+            if (!bodyClosed) {
+                response.getBodyStream().notifyDataAvailable(data);
+            }
+        }
+
+        synchronized void notifyAllDataRead() {
+            if (!bodyClosed) {
+                bodyClosed = true;
+                response.getBodyStream().notifyAllDataRead();
+            }
+        }
+
+        void fail(Throwable requestError, Throwable bodyError) {
+            synchronized (this) {
+                if (bodyClosed) {
+                    return;
+                }
+                bodyClosed = true;
+            }
+            MultiplexedConnection.fail(requestRecord, response, requestError, bodyError);
+        }
+
+        void failOutboundData(Throwable t) {
+            List<OutboundData> failed;
+            synchronized (this) {
+                failed = new ArrayList<>(outboundData);
+                outboundData.clear();
+            }
+
+            for (OutboundData data : failed) {
+                if (data.completionHandler != null) {
+                    data.completionHandler.failed(t);
+                }
+            }
+        }
+    }
+
+    private static class OutboundData {
+
+        private final ByteBuffer buffer;
+        private final boolean last;
+        private final CompletionHandler<ByteBuffer> completionHandler;
+
+        OutboundData(ByteBuffer buffer, boolean last, CompletionHandler<ByteBuffer> completionHandler) {
+            this.buffer = buffer;
+            this.last = last;
+            this.completionHandler = completionHandler;
+        }
+    }
+
+    private enum State {
+        CREATED,
+        CONNECTING,
+        OPEN,
+        // GOAWAY has been received, the streams in progress are completed, but no new streams can be created
+        DRAINING,
+        CLOSED
+    }
+
+    private enum CloseReason {
+        CLIENT,
+        SERVER,
+        ERROR
+    }
+}
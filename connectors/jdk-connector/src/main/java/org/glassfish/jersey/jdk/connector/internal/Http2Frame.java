@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP/2 frame constants and encoding of the frames sent by the connector (RFC 7540).
+ */
+final class Http2Frame {
+
+    static final byte[] CONNECTION_PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    static final int HEADER_LENGTH = 9;
+    static final int DEFAULT_MAX_FRAME_SIZE = 16_384;
+    static final int MAX_FRAME_SIZE_LIMIT = 16_777_215;
+    static final int DEFAULT_INITIAL_WINDOW_SIZE = 65_535;
+    static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    // frame types
+    static final int DATA = 0x0;
+    static final int HEADERS = 0x1;
+    static final int PRIORITY = 0x2;
+    static final int RST_STREAM = 0x3;
+    static final int SETTINGS = 0x4;
+    static final int PUSH_PROMISE = 0x5;
+    static final int PING = 0x6;
+    static final int GOAWAY = 0x7;
+    static final int WINDOW_UPDATE = 0x8;
+    static final int CONTINUATION = 0x9;
+
+    // frame flags
+    static final int FLAG_END_STREAM = 0x1;
+    static final int FLAG_ACK = 0x1;
+    static final int FLAG_END_HEADERS = 0x4;
+    static final int FLAG_PADDED = 0x8;
+    static final int FLAG_PRIORITY = 0x20;
+
+    // settings parameters
+    static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+    static final int SETTINGS_ENABLE_PUSH = 0x2;
+    static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+    static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+    static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+
+    // error codes
+    static final int NO_ERROR = 0x0;
+    static final int PROTOCOL_ERROR = 0x1;
+    static final int INTERNAL_ERROR = 0x2;
+    static final int FLOW_CONTROL_ERROR = 0x3;
+    static final int FRAME_SIZE_ERROR = 0x6;
+    static final int REFUSED_STREAM = 0x7;
+    static final int CANCEL = 0x8;
+    static final int COMPRESSION_ERROR = 0x9;
+
+    /**
+     * Encode a SETTINGS frame.
+     *
+     * @param settings pairs of setting identifiers and values.
+     * @return encoded frame.
+     */
+    static ByteBuffer settings(int... settings) {
+        ByteBuffer frame = allocate(settings.length / 2 * 6, SETTINGS, 0, 0);
+        for (int i = 0; i < settings.length; i += 2) {
+            frame.putShort((short) settings[i]);
+            frame.putInt(settings[i + 1]);
+        }
+        return flip(frame);
+    }
+
+    static ByteBuffer settingsAck() {
+        return flip(allocate(0, SETTINGS, FLAG_ACK, 0));
+    }
+
+    static ByteBuffer pingAck(ByteBuffer payload) {
+        ByteBuffer frame = allocate(payload.remaining(), PING, FLAG_ACK, 0);
+        frame.put(payload);
+        return flip(frame);
+    }
+
+    static ByteBuffer goAway(int lastStreamId, int errorCode) {
+        ByteBuffer frame = allocate(8, GOAWAY, 0, 0);
+        frame.putInt(lastStreamId);
+        frame.putInt(errorCode);
+        return flip(frame);
+    }
+
+    static ByteBuffer rstStream(int streamId, int errorCode) {
+        ByteBuffer frame = allocate(4, RST_STREAM, 0, streamId);
+        frame.putInt(errorCode);
+        return flip(frame);
+    }
+
+    static ByteBuffer windowUpdate(int streamId, int increment) {
+        ByteBuffer frame = allocate(4, WINDOW_UPDATE, 0, streamId);
+        frame.putInt(increment);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a DATA frame.
+     *
+     * @param streamId  stream identifier.
+     * @param data      data, {@code length} bytes will be consumed from the buffer.
+     * @param length    length of the frame payload.
+     * @param endStream {@code true} if this is the last frame of the stream.
+     * @return encoded frame.
+     */
+    static ByteBuffer data(int streamId, ByteBuffer data, int length, boolean endStream) {
+        ByteBuffer frame = allocate(length, DATA, endStream ? FLAG_END_STREAM : 0, streamId);
+        int limit = data.limit();
+        ((Buffer) data).limit(data.position() + length);
+        frame.put(data);
+        ((Buffer) data).limit(limit);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a header block into a HEADERS frame followed by CONTINUATION frames if the block does not fit into
+     * a single frame.
+     *
+     * @param streamId     stream identifier.
+     * @param block        encoded header block.
+     * @param endStream    {@code true} if the stream has no body.
+     * @param maxFrameSize maximal frame payload size accepted by the peer.
+     * @return encoded frames.
+     */
+    static ByteBuffer headers(int streamId, byte[] block, boolean endStream, int maxFrameSize) {
+        int frames = Math.max(1, (block.length + maxFrameSize - 1) / maxFrameSize);
+        ByteBuffer buffer = ByteBuffer.allocate(frames * HEADER_LENGTH + block.length);
+        int offset = 0;
+        for (int i = 0; i < frames; i++) {
+            int length = Math.min(maxFrameSize, block.length - offset);
+            int flags = i == frames - 1 ? FLAG_END_HEADERS : 0;
+            int type = CONTINUATION;
+            if (i == 0) {
+                type = HEADERS;
+                flags |= endStream ? FLAG_END_STREAM : 0;
+            }
+            putHeader(buffer, length, type, flags, streamId);
+            buffer.put(block, offset, length);
+            offset += length;
+        }
+        return flip(buffer);
+    }
+
+    private static ByteBuffer allocate(int length, int type, int flags, int streamId) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + length);
+        putHeader(frame, length, type, flags, streamId);
+        return frame;
+    }
+
+    private static void putHeader(ByteBuffer buffer, int length, int type, int flags, int streamId) {
+        buffer.put((byte) (length >>> 16));
+        buffer.put((byte) (length >>> 8));
+        buffer.put((byte) length);
+        buffer.put((byte) type);
+        buffer.put((byte) flags);
+        buffer.putInt(streamId & Integer.MAX_VALUE);
+    }
+
+    private static ByteBuffer flip(ByteBuffer buffer) {
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private Http2Frame() {
+    }
+}
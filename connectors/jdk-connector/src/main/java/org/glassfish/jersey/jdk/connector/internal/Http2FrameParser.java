@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits the data received from an HTTP/2 connection into frames.
+ * <p/>
+ * The payload of each frame is passed to the listener in a newly allocated buffer, so it can be retained by the listener.
+ */
+class Http2FrameParser {
+
+    private static final int BUFFER_STEP_SIZE = 1024;
+
+    private final int maxFrameSize;
+
+    // incomplete frame left from the previous input
+    private ByteBuffer buffer = ByteBuffer.allocate(Http2Frame.HEADER_LENGTH + Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+
+    /**
+     * Constructor.
+     *
+     * @param maxFrameSize maximal size of a frame payload accepted by this endpoint.
+     */
+    Http2FrameParser(int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+        ((Buffer) buffer).flip();
+    }
+
+    /**
+     * Parse the input and notify the listener about every complete frame. The input is fully consumed,
+     * an incomplete frame at its end is kept until more data are available.
+     *
+     * @param input    received data.
+     * @param listener frame listener.
+     * @throws ParseException if a frame exceeds the maximal frame size or the listener fails.
+     */
+    void parse(ByteBuffer input, FrameListener listener) throws ParseException {
+        ByteBuffer data = input;
+        if (buffer.hasRemaining()) {
+            buffer = Utils.appendBuffers(buffer, input, Integer.MAX_VALUE, BUFFER_STEP_SIZE);
+            data = buffer;
+        }
+
+        while (data.remaining() >= Http2Frame.HEADER_LENGTH) {
+            int start = data.position();
+            int length = ((data.get(start) & 0xff) << 16) | ((data.get(start + 1) & 0xff) << 8) | (data.get(start + 2) & 0xff);
+            if (length > maxFrameSize) {
+                throw new ParseException(LocalizationMessages.HTTP_2_FRAME_TOO_LARGE(length));
+            }
+
+            if (data.remaining() < Http2Frame.HEADER_LENGTH + length) {
+                break;
+            }
+
+            int type = data.get(start + 3) & 0xff;
+            int flags = data.get(start + 4) & 0xff;
+            int streamId = data.getInt(start + 5) & Integer.MAX_VALUE;
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            ((Buffer) data).position(start + Http2Frame.HEADER_LENGTH);
+            int limit = data.limit();
+            ((Buffer) data).limit(data.position() + length);
+            payload.put(data);
+            ((Buffer) data).limit(limit);
+            ((Buffer) payload).flip();
+
+            listener.onFrame(type, flags, streamId, payload);
+        }
+
+        if (data != buffer && data.hasRemaining()) {
+            // the input buffer might be reused by the caller
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).flip();
+            buffer = Utils.appendBuffers(buffer, data, Integer.MAX_VALUE, BUFFER_STEP_SIZE);
+        }
+    }
+
+    /**
+     * Listener of the parsed frames.
+     */
+    interface FrameListener {
+
+        /**
+         * Process a frame.
+         *
+         * @param type     frame type.
+         * @param flags    frame flags.
+         * @param streamId stream identifier.
+         * @param payload  frame payload.
+         * @throws ParseException if the frame violates the protocol.
+         */
+        void onFrame(int type, int flags, int streamId, ByteBuffer payload) throws ParseException;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,7 +50,7 @@ class HttpConnection {
     /**
      * Input buffer that is used by {@link TransportFilter} when SSL is not turned on.
      */
-    private static final int INPUT_BUFFER_SIZE = 2048;
+    static final int INPUT_BUFFER_SIZE = 2048;
 
     private static final Logger LOGGER = Logger.getLogger(HttpConnection.class.getName());
 
@@ -186,6 +186,28 @@ class HttpConnection {
     protected Filter<HttpRequest, HttpResponse, HttpRequest, HttpResponse> createFilterChain(URI uri,
                                                                                              ConnectorConfiguration
                                                                                                      configuration) {
+        Filter<ByteBuffer, ByteBuffer, ?, ?> socket = createSocketFilter(uri, configuration);
+
+        int maxHeaderSize = configuration.getMaxHeaderSize();
+        HttpFilter httpFilter = new HttpFilter(socket, maxHeaderSize, maxHeaderSize + INPUT_BUFFER_SIZE);
+
+        ConnectorConfiguration.ProxyConfiguration proxyConfiguration = configuration.getProxyConfiguration();
+        if (proxyConfiguration.isConfigured()) {
+            ProxyFilter proxyFilter = new ProxyFilter(httpFilter, proxyConfiguration);
+            return new ConnectionFilter(proxyFilter);
+        }
+
+        return new ConnectionFilter(httpFilter);
+    }
+
+    /**
+     * Create the bottom of a filter chain, {@link TransportFilter} optionally followed by {@link SslFilter}.
+     *
+     * @param uri           destination URI.
+     * @param configuration connector configuration.
+     * @return the top filter of the created chain.
+     */
+    static Filter<ByteBuffer, ByteBuffer, ?, ?> createSocketFilter(URI uri, ConnectorConfiguration configuration) {
         boolean secure = Constants.HTTPS.equals(uri.getScheme());
         Filter<ByteBuffer, ByteBuffer, ?, ?> socket;
 
@@ -206,16 +228,7 @@ class HttpConnection {
                     configuration.getContainerIdleTimeout());
         }
 
-        int maxHeaderSize = configuration.getMaxHeaderSize();
-        HttpFilter httpFilter = new HttpFilter(socket, maxHeaderSize, maxHeaderSize + INPUT_BUFFER_SIZE);
-
-        ConnectorConfiguration.ProxyConfiguration proxyConfiguration = configuration.getProxyConfiguration();
-        if (proxyConfiguration.isConfigured()) {
-            ProxyFilter proxyFilter = new ProxyFilter(httpFilter, proxyConfiguration);
-            return new ConnectionFilter(proxyFilter);
-        }
-
-        return new ConnectionFilter(httpFilter);
+        return socket;
     }
 
     private void changeState(State newState) {
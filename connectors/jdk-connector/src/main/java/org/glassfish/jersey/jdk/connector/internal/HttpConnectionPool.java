@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.jdk.connector.internal;
 
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
 
 import java.net.CookieManager;
 import java.util.HashMap;
@@ -40,6 +41,7 @@ class HttpConnectionPool {
 
     private final ConnectorConfiguration connectorConfiguration;
     private final CookieManager cookieManager;
+    private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
     private final Map<DestinationConnectionPool.DestinationKey, DestinationConnectionPool> destinationPools = new
             ConcurrentHashMap<>();
 
@@ -59,30 +61,39 @@ class HttpConnectionPool {
                 sniConfig.getSNIUri());
         DestinationConnectionPool destinationConnectionPool = destinationPools.get(destinationKey);
 
-
         if (destinationConnectionPool == null) {
-            synchronized (this) {
-                // check again while holding the lock
-                destinationConnectionPool = destinationPools.get(destinationKey);
+            // the pools of different destinations are created and used independently of each other
+            destinationConnectionPool = destinationPools.computeIfAbsent(destinationKey, this::createDestinationPool);
+        }
 
-                if (destinationConnectionPool == null) {
-                    final DestinationConnectionPool pool = new DestinationConnectionPool(connectorConfiguration, cookieManager,
-                            scheduler);
-                    pool.setConnectionCloseListener(() -> {
-                        /* There is a potential race when there is a request just about to be submitted to the pool
-                        we are just removing. Such request will be executed on the removed pool without any problems.
-                        The only issue is that this listener will be called for the second time in such a case, so we
-                        have to make sure we don't remove a new pool that might have been created in the meantime. */
-                        destinationPools.remove(destinationKey, pool);
-                    });
+        destinationConnectionPool.send(httpRequest, completionHandler);
+    }
 
-                    destinationConnectionPool = pool;
-                    destinationPools.put(destinationKey, destinationConnectionPool);
-                }
-            }
+    private DestinationConnectionPool createDestinationPool(DestinationConnectionPool.DestinationKey destinationKey) {
+        final DestinationConnectionPool pool = new DestinationConnectionPool(connectorConfiguration, cookieManager,
+                scheduler, metrics);
+        pool.setConnectionCloseListener(() -> {
+            /* There is a potential race when there is a request just about to be submitted to the pool
+            we are just removing. Such request will be executed on the removed pool without any problems.
+            The only issue is that this listener will be called for the second time in such a case, so we
+            have to make sure we don't remove a new pool that might have been created in the meantime. */
+            destinationPools.remove(destinationKey, pool);
+        });
+        return pool;
+    }
+
+    ConnectionPoolStatistics getStatistics() {
+        int idle = 0;
+        int busy = 0;
+        int pending = 0;
+        for (DestinationConnectionPool pool : destinationPools.values()) {
+            ConnectionPoolStatistics statistics = pool.getStatistics(metrics);
+            idle += statistics.getIdleConnections();
+            busy += statistics.getBusyConnections();
+            pending += statistics.getPendingRequests();
         }
 
-        destinationConnectionPool.send(httpRequest, completionHandler);
+        return metrics.snapshot(idle, busy, pending);
     }
 
     synchronized void close() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,7 +17,10 @@
 package org.glassfish.jersey.jdk.connector.internal;
 
 import java.net.URI;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -27,6 +30,10 @@ import javax.ws.rs.core.HttpHeaders;
 class HttpFilter extends Filter<HttpRequest, HttpResponse, ByteBuffer, ByteBuffer> {
 
     private final HttpParser httpParser;
+    // not null only in the pipelining mode
+    private final WriteQueueFilter writeQueue;
+    // in the pipelining mode, for each written request without a complete response whether a response body is expected
+    private final Queue<Boolean> expectedResponses = new ArrayDeque<>();
 
     /**
      * Constructor.
@@ -36,12 +43,36 @@ class HttpFilter extends Filter<HttpRequest, HttpResponse, ByteBuffer, ByteBuffe
     HttpFilter(Filter<ByteBuffer, ByteBuffer, ?, ?> downstreamFilter, int maxHeaderSize, int maxBufferSize) {
         super(downstreamFilter);
         this.httpParser = new HttpParser(maxHeaderSize, maxBufferSize);
+        this.writeQueue = null;
+    }
+
+    /**
+     * Constructor of a filter that allows writing a request before the responses to the previously written requests
+     * have been received (HTTP pipelining).
+     * <p/>
+     * The responses are passed upstream in the order in which the requests have been written. A request written
+     * in the pipelining mode is considered sent (the completion handler is notified) when its header and a buffered body
+     * have been written.
+     *
+     * @param writeQueue    downstream filter that queues the writes.
+     * @param maxHeaderSize maximal size of a response header.
+     * @param maxBufferSize maximal size of the parser buffer.
+     */
+    HttpFilter(WriteQueueFilter writeQueue, int maxHeaderSize, int maxBufferSize) {
+        super(writeQueue);
+        this.httpParser = new HttpParser(maxHeaderSize, maxBufferSize, true);
+        this.writeQueue = writeQueue;
     }
 
     @Override
     void write(final HttpRequest httpRequest, final CompletionHandler<HttpRequest> completionHandler) {
         addTransportHeaders(httpRequest);
 
+        if (writeQueue != null) {
+            writePipelined(httpRequest, completionHandler);
+            return;
+        }
+
         ByteBuffer header = HttpRequestEncoder.encodeHeader(httpRequest);
         prepareForReply(httpRequest, completionHandler);
         downstreamFilter.write(header, new CompletionHandler<ByteBuffer>() {
@@ -80,20 +111,62 @@ class HttpFilter extends Filter<HttpRequest, HttpResponse, ByteBuffer, ByteBuffe
         }
     }
 
-    private void prepareForReply(HttpRequest httpRequest, CompletionHandler<HttpRequest> completionHandler) {
-        completionHandler.completed(httpRequest);
+    private void writePipelined(final HttpRequest httpRequest, final CompletionHandler<HttpRequest> completionHandler) {
+        ByteBuffer data = HttpRequestEncoder.encodeHeader(httpRequest);
+        if (httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED) {
+            // write the header and the body at once, so that another request cannot get between them
+            ByteBuffer body = httpRequest.getBufferedBody();
+            ByteBuffer headerAndBody = ByteBuffer.allocate(data.remaining() + body.remaining());
+            headerAndBody.put(data);
+            headerAndBody.put(body);
+            ((Buffer) headerAndBody).flip();
+            data = headerAndBody;
+        }
 
-        boolean expectResponseBody = true;
+        synchronized (this) {
+            boolean expectResponseBody = expectResponseBody(httpRequest);
+            if (expectedResponses.isEmpty()) {
+                httpParser.reset(expectResponseBody);
+            }
+
+            expectedResponses.add(expectResponseBody);
+            // only enqueue to keep the order of the requests and the expected responses
+            writeQueue.enqueue(data, new CompletionHandler<ByteBuffer>() {
+                @Override
+                public void failed(Throwable throwable) {
+                    completionHandler.failed(throwable);
+                }
+
+                @Override
+                public void completed(ByteBuffer result) {
+                    if (httpRequest.getBodyMode() == HttpRequest.BodyMode.CHUNKED) {
+                        ChunkedBodyOutputStream bodyStream = (ChunkedBodyOutputStream) httpRequest.getBodyStream();
+                        bodyStream.open(writeQueue);
+                    }
 
-        if (Constants.HEAD.equals(httpRequest.getMethod()) || Constants.CONNECT.equals(httpRequest.getMethod())) {
-            expectResponseBody = false;
+                    completionHandler.completed(httpRequest);
+                }
+            });
         }
+        // the connection flushes the write queue once it has released its locks
+    }
+
+    private void prepareForReply(HttpRequest httpRequest, CompletionHandler<HttpRequest> completionHandler) {
+        completionHandler.completed(httpRequest);
+        httpParser.reset(expectResponseBody(httpRequest));
+    }
 
-        httpParser.reset(expectResponseBody);
+    private static boolean expectResponseBody(HttpRequest httpRequest) {
+        return !Constants.HEAD.equals(httpRequest.getMethod()) && !Constants.CONNECT.equals(httpRequest.getMethod());
     }
 
     @Override
     boolean processRead(ByteBuffer data) {
+        if (writeQueue != null) {
+            processReadPipelined(data);
+            return false;
+        }
+
         boolean headerParsed = httpParser.isHeaderParsed();
         try {
             httpParser.parse(data);
@@ -109,6 +182,50 @@ class HttpFilter extends Filter<HttpRequest, HttpResponse, ByteBuffer, ByteBuffe
         return false;
     }
 
+    private void processReadPipelined(ByteBuffer data) {
+        ByteBuffer input = data;
+        while (input != null) {
+            synchronized (this) {
+                if (expectedResponses.isEmpty()) {
+                    if (!input.hasRemaining()) {
+                        return;
+                    }
+                    input = null;
+                }
+            }
+
+            if (input == null) {
+                onError(new ParseException(LocalizationMessages.UNEXPECTED_DATA_IN_BUFFER()));
+                return;
+            }
+
+            boolean headerParsed = httpParser.isHeaderParsed();
+            try {
+                httpParser.parse(input);
+            } catch (ParseException e) {
+                onError(e);
+                return;
+            }
+
+            if (!headerParsed && httpParser.isHeaderParsed()) {
+                upstreamFilter.onRead(httpParser.getHttpResponse());
+            }
+
+            if (!httpParser.isComplete()) {
+                return;
+            }
+
+            input = httpParser.takeRemaining();
+            synchronized (this) {
+                expectedResponses.poll();
+                Boolean expectResponseBody = expectedResponses.peek();
+                if (expectResponseBody != null) {
+                    httpParser.reset(expectResponseBody);
+                }
+            }
+        }
+    }
+
     private void addTransportHeaders(HttpRequest httpRequest) {
         if (httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED) {
             httpRequest.addHeaderIfNotPresent(Constants.CONTENT_LENGTH, Integer.toString(httpRequest.getBodySize()));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -38,6 +38,7 @@ class HttpParser {
     private final HttpParserUtils.HeaderParsingState headerParsingState;
     private final int bufferMaxSize;
     private final int maxHeaderSize;
+    private final boolean pipelining;
 
     private volatile ByteBuffer buffer = ByteBuffer.allocate(INIT_BUFFER_SIZE);
     private volatile boolean headerParsed;
@@ -48,11 +49,25 @@ class HttpParser {
     private volatile HttpResponse httpResponse;
     private volatile TransferEncodingParser transferEncodingParser;
     private volatile boolean complete;
+    private volatile ByteBuffer remaining;
 
     HttpParser(int maxHeaderSize, int bufferMaxSize) {
+        this(maxHeaderSize, bufferMaxSize, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxHeaderSize maximal size of the response header.
+     * @param bufferMaxSize maximal size of the internal buffer.
+     * @param pipelining    if {@code true}, data following a complete response are kept as the beginning of the next
+     *                      response (see {@link #takeRemaining()}) instead of being reported as an error.
+     */
+    HttpParser(int maxHeaderSize, int bufferMaxSize, boolean pipelining) {
         headerParsingState = new HttpParserUtils.HeaderParsingState(maxHeaderSize);
         this.bufferMaxSize = bufferMaxSize;
         this.maxHeaderSize = maxHeaderSize;
+        this.pipelining = pipelining;
     }
 
     void reset(boolean expectContent) {
@@ -77,6 +92,17 @@ class HttpParser {
         return httpResponse;
     }
 
+    /**
+     * Get data that followed the last complete response in the pipelining mode and clear them from the parser.
+     *
+     * @return a copy of the data following the last complete response or {@code null} if there were no such data.
+     */
+    ByteBuffer takeRemaining() {
+        ByteBuffer result = remaining;
+        remaining = null;
+        return result;
+    }
+
     void parse(ByteBuffer input) throws ParseException {
         if (buffer.remaining() > 0) {
             input = Utils.appendBuffers(buffer, input, bufferMaxSize, BUFFER_STEP_SIZE);
@@ -100,7 +126,14 @@ class HttpParser {
         }
 
         if (complete && input.hasRemaining()) {
-            throw new ParseException(LocalizationMessages.UNEXPECTED_DATA_IN_BUFFER());
+            if (!pipelining) {
+                throw new ParseException(LocalizationMessages.UNEXPECTED_DATA_IN_BUFFER());
+            }
+
+            // the data belong to the next response and the input might be the internal buffer cleared by reset
+            remaining = ByteBuffer.allocate(input.remaining());
+            remaining.put(input);
+            ((Buffer) remaining).flip();
         }
 
         if (complete) {
@@ -507,7 +540,7 @@ class HttpParser {
                 }
 
                 transferEncodingParser = TransferEncodingParser
-                        .createFixedLengthParser(httpResponse.getBodyStream(), bodyLength);
+                        .createFixedLengthParser(httpResponse.getBodyStream(), bodyLength, pipelining);
 
             } catch (NumberFormatException e) {
                 throw new ParseException(LocalizationMessages.HTTP_INVALID_CONTENT_LENGTH());
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A connection that can carry more than one request at the same time, either by HTTP/1.1 pipelining
+ * ({@link PipelinedHttpConnection}) or by HTTP/2 streams ({@link Http2Connection}).
+ * <p/>
+ * Unlike {@link HttpConnection}, the connection handles the lifecycle of the requests it has accepted itself and notifies
+ * the owning pool only about the events that concern the pool: the connection is able to accept more requests, it has been
+ * closed or some of the accepted requests have not been processed by the server and can be sent again.
+ * <p/>
+ * SYNCHRONIZATION NOTE: the listener is never invoked while holding a lock of the connection.
+ */
+abstract class MultiplexedConnection {
+
+    /**
+     * Methods that can be safely repeated.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE", "PUT", "DELETE")));
+
+    protected final URI uri;
+    protected final CookieManager cookieManager;
+    protected final ConnectorConfiguration configuration;
+    protected final ScheduledExecutorService scheduler;
+    protected final Listener listener;
+
+    private Future<?> idleTimeout;
+    private Future<?> connectTimeout;
+
+    MultiplexedConnection(URI uri,
+                          CookieManager cookieManager,
+                          ConnectorConfiguration configuration,
+                          ScheduledExecutorService scheduler,
+                          Listener listener) {
+        this.uri = uri;
+        this.cookieManager = cookieManager;
+        this.configuration = configuration;
+        this.scheduler = scheduler;
+        this.listener = listener;
+    }
+
+    /**
+     * Start connecting. The listener is notified by {@link Listener#onReady(MultiplexedConnection)} when the connection
+     * is ready to accept requests.
+     */
+    abstract void connect();
+
+    /**
+     * Send the request if the connection can accept it now.
+     *
+     * @param requestRecord request to be sent.
+     * @return {@code true} if the connection has accepted the request, {@code false} if the request must be sent later
+     * or over another connection.
+     */
+    abstract boolean trySend(RequestRecord requestRecord);
+
+    /**
+     * Check whether the connection is being established.
+     *
+     * @return {@code true} if the connection is being established.
+     */
+    abstract boolean isConnecting();
+
+    /**
+     * Close the connection. Requests in progress fail.
+     */
+    abstract void close();
+
+    /**
+     * Add cookies stored for the request URI to the request.
+     *
+     * @param httpRequest request.
+     * @throws IOException if the cookies cannot be obtained.
+     */
+    protected void addCookies(HttpRequest httpRequest) throws IOException {
+        Map<String, List<String>> cookies = cookieManager.get(httpRequest.getUri(), httpRequest.getHeaders());
+        // CookieManager returns ""Cookie" -> empty list" pair if the cookie is not set
+        cookies.entrySet().stream().filter(cookieHeader -> cookieHeader.getValue() != null && !cookieHeader.getValue().isEmpty())
+                .forEach(cookieHeader -> httpRequest.getHeaders().put(cookieHeader.getKey(), cookieHeader.getValue()));
+    }
+
+    /**
+     * Check whether the request can be sent again if the server has not replied to it.
+     *
+     * @param requestRecord request.
+     * @return {@code true} if the request has an idempotent method, has not been repeated yet and its body can be
+     * written again.
+     */
+    protected static boolean isRetryable(RequestRecord requestRecord) {
+        return requestRecord.retries == 0 && isIdempotent(requestRecord.request)
+                && requestRecord.request.getBodyMode() != HttpRequest.BodyMode.CHUNKED;
+    }
+
+    /**
+     * Check whether the request method is idempotent.
+     *
+     * @param httpRequest request.
+     * @return {@code true} if the request method is idempotent.
+     */
+    protected static boolean isIdempotent(HttpRequest httpRequest) {
+        return IDEMPOTENT_METHODS.contains(httpRequest.getMethod());
+    }
+
+    /**
+     * Report a failure of a request to the user. If the response header has not been received yet, the request
+     * completion handler is notified, otherwise the error is propagated to the response body stream.
+     *
+     * @param requestRecord failed request.
+     * @param response      received response or {@code null}.
+     * @param requestError  error reported if the response has not been received yet.
+     * @param bodyError     error reported if the response has been received.
+     */
+    protected static void fail(RequestRecord requestRecord, HttpResponse response, Throwable requestError, Throwable bodyError) {
+        if (response == null) {
+            requestRecord.completionHandler.failed(requestError);
+        } else {
+            response.getBodyStream().notifyError(bodyError);
+        }
+    }
+
+    /**
+     * Schedule the idle timeout. Must be called while holding the connection lock.
+     */
+    protected void scheduleIdleTimeout() {
+        cancelIdleTimeout();
+        if (configuration.getConnectionIdleTimeout() == 0) {
+            return;
+        }
+
+        idleTimeout = scheduler.schedule(this::handleIdleTimeout, configuration.getConnectionIdleTimeout(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the idle timeout. Must be called while holding the connection lock.
+     */
+    protected void cancelIdleTimeout() {
+        if (idleTimeout != null) {
+            idleTimeout.cancel(false);
+            idleTimeout = null;
+        }
+    }
+
+    /**
+     * Schedule the connect timeout. Must be called while holding the connection lock.
+     */
+    protected void scheduleConnectTimeout() {
+        if (configuration.getConnectTimeout() == 0) {
+            return;
+        }
+
+        connectTimeout = scheduler.schedule(this::handleConnectTimeout, configuration.getConnectTimeout(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the connect timeout. Must be called while holding the connection lock.
+     */
+    protected void cancelConnectTimeout() {
+        if (connectTimeout != null) {
+            connectTimeout.cancel(false);
+            connectTimeout = null;
+        }
+    }
+
+    /**
+     * Invoked when the connection has been idle for the configured time.
+     */
+    protected abstract void handleIdleTimeout();
+
+    /**
+     * Invoked when the connection has not been established within the configured time.
+     */
+    protected abstract void handleConnectTimeout();
+
+    /**
+     * A request accepted by the pool.
+     */
+    static class RequestRecord {
+
+        final HttpRequest request;
+        final CompletionHandler<HttpResponse> completionHandler;
+        // how many times the request has been sent again
+        int retries = 0;
+        // fails the request if it is not sent within the connection pool wait timeout
+        volatile Future<?> waitTimeout;
+
+        RequestRecord(HttpRequest request, CompletionHandler<HttpResponse> completionHandler) {
+            this.request = request;
+            this.completionHandler = completionHandler;
+        }
+    }
+
+    /**
+     * Listener of the connection events relevant to the owning pool.
+     */
+    interface Listener {
+
+        /**
+         * The connection has been established or it is able to accept more requests.
+         *
+         * @param connection connection.
+         */
+        void onReady(MultiplexedConnection connection);
+
+        /**
+         * The connection could not be established.
+         *
+         * @param connection connection.
+         * @param t          cause.
+         */
+        void onConnectFailed(MultiplexedConnection connection, Throwable t);
+
+        /**
+         * The requests have been accepted by the connection, but they have not been processed by the server
+         * and can be sent again.
+         *
+         * @param connection connection.
+         * @param requests   requests to be sent again.
+         */
+        void onNotProcessed(MultiplexedConnection connection, List<RequestRecord> requests);
+
+        /**
+         * The connection has been closed.
+         *
+         * @param connection connection.
+         */
+        void onClosed(MultiplexedConnection connection);
+
+        /**
+         * The server does not support HTTP/2 and the connection has been closed before any request was sent.
+         *
+         * @param connection connection.
+         */
+        void onHttp2NotSupported(MultiplexedConnection connection);
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of {@link MultiplexedConnection multiplexed connections} to a single destination.
+ * <p/>
+ * A request is sent over the first connection that can accept it. A new connection is opened only when no existing
+ * connection can accept a pending request, no other connection is being established and the limit of connections
+ * per destination has not been reached.
+ */
+class MultiplexedConnectionPool implements MultiplexedConnection.Listener {
+
+    private final ConnectorConfiguration configuration;
+    private final CookieManager cookieManager;
+    private final ScheduledExecutorService scheduler;
+    private final ConnectionPoolMetrics metrics;
+    private final boolean http2;
+    private final Owner owner;
+    private final Deque<MultiplexedConnection.RequestRecord> pendingRequests = new ArrayDeque<>();
+    private final List<MultiplexedConnection> connections = new CopyOnWriteArrayList<>();
+    private final Map<MultiplexedConnection, Long> connectStartTimes = new ConcurrentHashMap<>();
+    // requests for processing the pending requests, only one thread processes them at a time
+    private final AtomicInteger processingRequests = new AtomicInteger();
+
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration connector configuration.
+     * @param cookieManager cookie manager.
+     * @param scheduler     scheduler for timeouts.
+     * @param metrics       connect statistics.
+     * @param http2         if {@code true} HTTP/2 connections are created, pipelined HTTP/1.1 connections otherwise.
+     * @param owner         pool owning this pool.
+     */
+    MultiplexedConnectionPool(ConnectorConfiguration configuration,
+                              CookieManager cookieManager,
+                              ScheduledExecutorService scheduler,
+                              ConnectionPoolMetrics metrics,
+                              boolean http2,
+                              Owner owner) {
+        this.configuration = configuration;
+        this.cookieManager = cookieManager;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.http2 = http2;
+        this.owner = owner;
+    }
+
+    void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
+        MultiplexedConnection.RequestRecord requestRecord =
+                new MultiplexedConnection.RequestRecord(httpRequest, completionHandler);
+        final boolean accepted;
+        synchronized (this) {
+            accepted = !closed;
+            if (accepted) {
+                pendingRequests.add(requestRecord);
+            }
+        }
+
+        if (!accepted) {
+            completionHandler.failed(new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_SENDING()));
+            return;
+        }
+
+        int waitTimeout = configuration.getConnectionPoolWaitTimeout();
+        if (waitTimeout > 0) {
+            requestRecord.waitTimeout = scheduler.schedule(() -> {
+                final boolean removed;
+                synchronized (this) {
+                    removed = pendingRequests.remove(requestRecord);
+                }
+
+                if (removed) {
+                    completionHandler.failed(new IOException(LocalizationMessages.CONNECTION_POOL_WAIT_TIMEOUT(waitTimeout)));
+                }
+            }, waitTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        processPendingRequests();
+    }
+
+    void close() {
+        final List<MultiplexedConnection.RequestRecord> failed;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            failed = new ArrayList<>(pendingRequests);
+            pendingRequests.clear();
+        }
+
+        connections.forEach(MultiplexedConnection::close);
+        IOException error = new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_SENDING());
+        failed.forEach(requestRecord -> requestRecord.completionHandler.failed(error));
+    }
+
+    /**
+     * Get the number of the open connections and the connections being established.
+     *
+     * @return number of connections.
+     */
+    int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Get the number of requests that have not been sent yet.
+     *
+     * @return number of pending requests.
+     */
+    synchronized int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    private void processPendingRequests() {
+        if (processingRequests.getAndIncrement() != 0) {
+            // another thread is processing the requests and it will process them again
+            return;
+        }
+
+        do {
+            processingRequests.set(1);
+            dispatchPendingRequests();
+        } while (processingRequests.decrementAndGet() != 0);
+    }
+
+    private void dispatchPendingRequests() {
+        final List<MultiplexedConnection.RequestRecord> pending;
+        synchronized (this) {
+            if (closed || pendingRequests.isEmpty()) {
+                return;
+            }
+            pending = new ArrayList<>(pendingRequests);
+        }
+
+        boolean waiting = false;
+        for (MultiplexedConnection.RequestRecord requestRecord : pending) {
+            boolean sent = false;
+            for (MultiplexedConnection connection : connections) {
+                if (connection.trySend(requestRecord)) {
+                    sent = true;
+                    break;
+                }
+            }
+
+            if (sent) {
+                synchronized (this) {
+                    pendingRequests.remove(requestRecord);
+                }
+
+                if (requestRecord.waitTimeout != null) {
+                    requestRecord.waitTimeout.cancel(false);
+                }
+            } else {
+                waiting = true;
+            }
+        }
+
+        if (waiting) {
+            openConnection(pending.get(0).request.getUri());
+        }
+    }
+
+    private void openConnection(URI uri) {
+        final MultiplexedConnection connection;
+        synchronized (this) {
+            if (closed || connections.size() >= configuration.getMaxConnectionsPerDestination()
+                    || connections.stream().anyMatch(MultiplexedConnection::isConnecting)) {
+                return;
+            }
+
+            connection = http2
+                    ? new Http2Connection(uri, cookieManager, configuration, scheduler, this)
+                    : new PipelinedHttpConnection(uri, cookieManager, configuration, scheduler, this);
+            connections.add(connection);
+        }
+
+        // we don't want to connect inside the synchronized block
+        connectStartTimes.put(connection, System.nanoTime());
+        connection.connect();
+    }
+
+    @Override
+    public void onReady(MultiplexedConnection connection) {
+        Long startTime = connectStartTimes.remove(connection);
+        if (startTime != null) {
+            metrics.connected(System.nanoTime() - startTime);
+        }
+
+        processPendingRequests();
+    }
+
+    @Override
+    public void onConnectFailed(MultiplexedConnection connection, Throwable t) {
+        if (connectStartTimes.remove(connection) != null) {
+            metrics.connectFailed();
+        }
+
+        final List<MultiplexedConnection.RequestRecord> failed = new ArrayList<>();
+        synchronized (this) {
+            connections.remove(connection);
+            if (connections.isEmpty()) {
+                // there is no connection that could process the pending requests
+                failed.addAll(pendingRequests);
+                pendingRequests.clear();
+            }
+        }
+
+        failed.forEach(requestRecord -> requestRecord.completionHandler.failed(t));
+        onConnectionRemoved();
+    }
+
+    @Override
+    public void onNotProcessed(MultiplexedConnection connection, List<MultiplexedConnection.RequestRecord> requests) {
+        final boolean failed;
+        synchronized (this) {
+            failed = closed;
+            if (!failed) {
+                for (int i = requests.size() - 1; i >= 0; i--) {
+                    MultiplexedConnection.RequestRecord requestRecord = requests.get(i);
+                    requestRecord.retries++;
+                    pendingRequests.addFirst(requestRecord);
+                }
+            }
+        }
+
+        if (failed) {
+            IOException error = new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_SENDING());
+            requests.forEach(requestRecord -> requestRecord.completionHandler.failed(error));
+        }
+    }
+
+    @Override
+    public void onClosed(MultiplexedConnection connection) {
+        connectStartTimes.remove(connection);
+        connections.remove(connection);
+        onConnectionRemoved();
+    }
+
+    @Override
+    public void onHttp2NotSupported(MultiplexedConnection connection) {
+        connectStartTimes.remove(connection);
+        final List<MultiplexedConnection.RequestRecord> pending;
+        synchronized (this) {
+            connections.remove(connection);
+            closed = true;
+            pending = new ArrayList<>(pendingRequests);
+            pendingRequests.clear();
+        }
+
+        connections.forEach(MultiplexedConnection::close);
+        owner.onHttp2NotSupported(pending);
+    }
+
+    private void onConnectionRemoved() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            if (connections.isEmpty() && pendingRequests.isEmpty()) {
+                owner.onLastConnectionClosed();
+                return;
+            }
+        }
+
+        processPendingRequests();
+    }
+
+    /**
+     * Callbacks to the pool owning this pool.
+     */
+    interface Owner {
+
+        /**
+         * The last connection has been closed and there are no pending requests.
+         */
+        void onLastConnectionClosed();
+
+        /**
+         * The destination does not support HTTP/2, this pool has been closed.
+         *
+         * @param pendingRequests requests that have not been sent yet.
+         */
+        void onHttp2NotSupported(List<MultiplexedConnection.RequestRecord> pendingRequests);
+    }
+}
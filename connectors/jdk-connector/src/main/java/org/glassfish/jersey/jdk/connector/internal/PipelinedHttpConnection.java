@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * HTTP/1.1 connection that sends requests before the responses to the previous requests have been received
+ * (HTTP pipelining, RFC 7230, section 6.3.2).
+ * <p/>
+ * Only requests with idempotent methods and without a chunked body are pipelined. Any other request is sent only when
+ * there is no other request in progress on the connection and no request is sent after it until its response has been
+ * received.
+ */
+class PipelinedHttpConnection extends MultiplexedConnection {
+
+    private static final Logger LOGGER = Logger.getLogger(PipelinedHttpConnection.class.getName());
+
+    private final int depth;
+    private final WriteQueueFilter writeQueue;
+    private final Filter<HttpRequest, HttpResponse, HttpRequest, HttpResponse> filterChain;
+    // requests in the order they have been written, the head is the one waiting for a response
+    private final Deque<Exchange> exchanges = new ArrayDeque<>();
+
+    private State state = State.CREATED;
+    // set if the request in progress must be the only one on the connection
+    private boolean exclusive = false;
+    // by default we treat all connection as persistent
+    // this flag will change to false if we receive "Connection: Close" header
+    private boolean persistentConnection = true;
+
+    PipelinedHttpConnection(URI uri,
+                            CookieManager cookieManager,
+                            ConnectorConfiguration configuration,
+                            ScheduledExecutorService scheduler,
+                            Listener listener) {
+        super(uri, cookieManager, configuration, scheduler, listener);
+        this.depth = configuration.getPipeliningDepth();
+
+        writeQueue = new WriteQueueFilter(HttpConnection.createSocketFilter(uri, configuration));
+        int maxHeaderSize = configuration.getMaxHeaderSize();
+        HttpFilter httpFilter = new HttpFilter(writeQueue, maxHeaderSize, maxHeaderSize + HttpConnection.INPUT_BUFFER_SIZE);
+        filterChain = new ConnectionFilter(httpFilter);
+    }
+
+    @Override
+    synchronized void connect() {
+        if (state != State.CREATED) {
+            throw new IllegalStateException(LocalizationMessages.HTTP_CONNECTION_ESTABLISHING_ILLEGAL_STATE(state));
+        }
+
+        state = State.CONNECTING;
+        scheduleConnectTimeout();
+        filterChain.connect(new InetSocketAddress(uri.getHost(), Utils.getPort(uri)), null);
+    }
+
+    @Override
+    synchronized boolean isConnecting() {
+        return state == State.CREATED || state == State.CONNECTING;
+    }
+
+    @Override
+    boolean trySend(RequestRecord requestRecord) {
+        HttpRequest httpRequest = requestRecord.request;
+        boolean pipelined = isIdempotent(httpRequest) && httpRequest.getBodyMode() != HttpRequest.BodyMode.CHUNKED;
+
+        try {
+            addCookies(httpRequest);
+        } catch (IOException e) {
+            requestRecord.completionHandler.failed(e);
+            return true;
+        }
+
+        synchronized (this) {
+            if (state != State.OPEN || !persistentConnection || exchanges.size() >= depth) {
+                return false;
+            }
+
+            if (!exchanges.isEmpty() && (exclusive || !pipelined)) {
+                return false;
+            }
+
+            cancelIdleTimeout();
+            exclusive = !pipelined;
+            Exchange exchange = new Exchange(requestRecord);
+            exchanges.add(exchange);
+
+            // the HTTP filter only enqueues the request, so that the order of the requests is the order of the exchanges
+            filterChain.write(httpRequest, new CompletionHandler<HttpRequest>() {
+                @Override
+                public void failed(Throwable throwable) {
+                    handleError(throwable);
+                }
+
+                @Override
+                public void completed(HttpRequest result) {
+                    handleRequestSent(exchange);
+                }
+            });
+        }
+
+        writeQueue.flush();
+        return true;
+    }
+
+    @Override
+    void close() {
+        closeConnection(null, CloseReason.CLIENT);
+    }
+
+    private synchronized void handleRequestSent(Exchange exchange) {
+        if (state != State.OPEN || !exchanges.contains(exchange) || configuration.getResponseTimeout() == 0) {
+            return;
+        }
+
+        exchange.responseTimeout = scheduler.schedule(() -> handleResponseTimeout(exchange),
+                configuration.getResponseTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    private void handleResponse(HttpResponse response) {
+        final Exchange exchange;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+
+            exchange = findAwaitingResponse();
+            if (exchange == null) {
+                // the HTTP filter passes only responses to the requests written
+                throw new IllegalStateException("Response without a request");
+            }
+
+            exchange.response = response;
+            try {
+                cookieManager.put(exchange.requestRecord.request.getUri(), response.getHeaders());
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, e.getMessage(), e);
+            }
+
+            List<String> connectionValues = response.getHeader(Constants.CONNECTION);
+            if (connectionValues != null && connectionValues.stream()
+                    .anyMatch(connectionValue -> connectionValue.equalsIgnoreCase(Constants.CONNECTION_CLOSE))) {
+                persistentConnection = false;
+            }
+        }
+
+        exchange.requestRecord.completionHandler.completed(response);
+
+        if (response.getHasContent()) {
+            response.getBodyStream().setStateChangeLister(new AsynchronousBodyInputStream.StateChangeLister() {
+                @Override
+                public void onError(Throwable t) {
+                    handleBodyError(exchange, t);
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    handleResponseRead(exchange);
+                }
+            });
+        } else {
+            handleResponseRead(exchange);
+        }
+    }
+
+    private Exchange findAwaitingResponse() {
+        for (Exchange exchange : exchanges) {
+            if (exchange.response == null) {
+                return exchange;
+            }
+        }
+        return null;
+    }
+
+    private void handleResponseRead(Exchange exchange) {
+        final boolean persistent;
+        synchronized (this) {
+            if (!exchanges.remove(exchange)) {
+                return;
+            }
+
+            exchange.cancelResponseTimeout();
+            exclusive = false;
+            persistent = persistentConnection;
+
+            if (persistent && exchanges.isEmpty()) {
+                scheduleIdleTimeout();
+            }
+        }
+
+        if (!persistent) {
+            // the server will not respond to the following requests
+            closeConnection(null, CloseReason.SERVER);
+            return;
+        }
+
+        listener.onReady(this);
+    }
+
+    private void handleResponseTimeout(Exchange exchange) {
+        synchronized (this) {
+            if (state != State.OPEN || !exchanges.remove(exchange)) {
+                return;
+            }
+        }
+
+        // responses are received in order, the connection cannot be used for the following requests anymore
+        fail(exchange.requestRecord, exchange.response,
+                new IOException(LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE()),
+                new IOException(LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE_BODY()));
+        closeConnection(null, CloseReason.SERVER);
+    }
+
+    private void handleBodyError(Exchange exchange, Throwable t) {
+        synchronized (this) {
+            // the error has been already reported to the body stream
+            exchanges.remove(exchange);
+            exchange.cancelResponseTimeout();
+        }
+
+        handleError(t);
+    }
+
+    private void handleError(Throwable t) {
+        closeConnection(t, CloseReason.ERROR);
+    }
+
+    @Override
+    protected void handleIdleTimeout() {
+        synchronized (this) {
+            if (state != State.OPEN || !exchanges.isEmpty()) {
+                return;
+            }
+        }
+
+        closeConnection(null, CloseReason.CLIENT);
+    }
+
+    @Override
+    protected void handleConnectTimeout() {
+        synchronized (this) {
+            if (state != State.CONNECTING) {
+                return;
+            }
+        }
+
+        closeConnection(new IOException(LocalizationMessages.CONNECTION_TIMEOUT()), CloseReason.ERROR);
+    }
+
+    private void closeConnection(Throwable t, CloseReason reason) {
+        final State oldState;
+        final List<Exchange> closedExchanges;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+
+            oldState = state;
+            state = State.CLOSED;
+            cancelConnectTimeout();
+            cancelIdleTimeout();
+            closedExchanges = new ArrayList<>(exchanges);
+            exchanges.clear();
+        }
+
+        filterChain.close();
+
+        if (oldState != State.OPEN) {
+            listener.onConnectFailed(this, t != null ? t : new IOException(LocalizationMessages.CONNECTION_CLOSED()));
+            return;
+        }
+
+        List<RequestRecord> notProcessed = new ArrayList<>();
+        for (Exchange exchange : closedExchanges) {
+            exchange.cancelResponseTimeout();
+            if (exchange.response == null && reason != CloseReason.CLIENT && isRetryable(exchange.requestRecord)) {
+                notProcessed.add(exchange.requestRecord);
+                continue;
+            }
+
+            if (reason == CloseReason.CLIENT) {
+                fail(exchange.requestRecord, exchange.response,
+                        new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING()),
+                        new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING_BODY()));
+            } else if (reason == CloseReason.ERROR) {
+                fail(exchange.requestRecord, exchange.response, t, t);
+            } else {
+                fail(exchange.requestRecord, exchange.response,
+                        new IOException(LocalizationMessages.CLOSED_WHILE_RECEIVING_RESPONSE(), t),
+                        new IOException(LocalizationMessages.CLOSED_WHILE_RECEIVING_BODY(), t));
+            }
+        }
+
+        if (!notProcessed.isEmpty()) {
+            listener.onNotProcessed(this, notProcessed);
+        }
+        listener.onClosed(this);
+    }
+
+    private class ConnectionFilter extends Filter<HttpRequest, HttpResponse, HttpRequest, HttpResponse> {
+
+        ConnectionFilter(Filter<HttpRequest, HttpResponse, ?, ?> downstreamFilter) {
+            super(downstreamFilter);
+        }
+
+        @Override
+        boolean processRead(HttpResponse response) {
+            handleResponse(response);
+            return false;
+        }
+
+        @Override
+        void processConnect() {
+            synchronized (PipelinedHttpConnection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+            }
+
+            downstreamFilter.startSsl();
+        }
+
+        @Override
+        void processSslHandshakeCompleted() {
+            synchronized (PipelinedHttpConnection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+
+                cancelConnectTimeout();
+                state = State.OPEN;
+                scheduleIdleTimeout();
+            }
+
+            listener.onReady(PipelinedHttpConnection.this);
+        }
+
+        @Override
+        void processConnectionClosed() {
+            closeConnection(null, CloseReason.SERVER);
+        }
+
+        @Override
+        void processError(Throwable t) {
+            handleError(t);
+        }
+
+        @Override
+        void write(HttpRequest data, CompletionHandler<HttpRequest> completionHandler) {
+            downstreamFilter.write(data, completionHandler);
+        }
+    }
+
+    private static class Exchange {
+
+        private final RequestRecord requestRecord;
+        private volatile HttpResponse response;
+        private Future<?> responseTimeout;
+
+        Exchange(RequestRecord requestRecord) {
+            this.requestRecord = requestRecord;
+        }
+
+        void cancelResponseTimeout() {
+            if (responseTimeout != null) {
+                responseTimeout.cancel(false);
+                responseTimeout = null;
+            }
+        }
+    }
+
+    private enum State {
+        CREATED,
+        CONNECTING,
+        OPEN,
+        CLOSED
+    }
+
+    private enum CloseReason {
+        CLIENT,
+        SERVER,
+        ERROR
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
 import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
 
 
 /**
@@ -583,6 +584,40 @@ class SslFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
         }
     }
 
+    /**
+     * Set the protocols offered to the server using the Application-Layer Protocol Negotiation (ALPN) TLS extension.
+     * <p/>
+     * Must be called before the SSL handshake has started.
+     *
+     * @param protocols application protocols in the order of preference.
+     * @return {@code true} if ALPN is supported by the JDK, {@code false} otherwise.
+     */
+    boolean setApplicationProtocols(String... protocols) {
+        try {
+            SSLParameters sslParameters = sslEngine.getSSLParameters();
+            sslParameters.setApplicationProtocols(protocols);
+            sslEngine.setSSLParameters(sslParameters);
+            return true;
+        } catch (NoSuchMethodError | UnsupportedOperationException e) {
+            // JDK 8 without ALPN support
+            return false;
+        }
+    }
+
+    /**
+     * Get the application protocol negotiated during the SSL handshake.
+     *
+     * @return negotiated application protocol, an empty string if no protocol has been negotiated or {@code null}
+     * if ALPN is not supported or the handshake has not completed yet.
+     */
+    String getApplicationProtocol() {
+        try {
+            return sslEngine.getApplicationProtocol();
+        } catch (NoSuchMethodError | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
     /**
      * Only for test.
      */
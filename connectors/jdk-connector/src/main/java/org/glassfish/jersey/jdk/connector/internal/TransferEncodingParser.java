@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +32,22 @@ abstract class TransferEncodingParser {
     abstract boolean parse(ByteBuffer input) throws ParseException;
 
     static TransferEncodingParser createFixedLengthParser(AsynchronousBodyInputStream responseBody, long expectedLength) {
-        return new FixedLengthEncodingParser(responseBody, expectedLength);
+        return createFixedLengthParser(responseBody, expectedLength, false);
+    }
+
+    /**
+     * Create a parser of a body with a known length.
+     *
+     * @param responseBody   response body stream the parsed data are passed to.
+     * @param expectedLength length of the body.
+     * @param pipelining     if {@code true}, data following the body are left in the input for the next response
+     *                       instead of being reported as an error.
+     * @return fixed length body parser.
+     */
+    static TransferEncodingParser createFixedLengthParser(AsynchronousBodyInputStream responseBody,
+                                                          long expectedLength,
+                                                          boolean pipelining) {
+        return new FixedLengthEncodingParser(responseBody, expectedLength, pipelining);
     }
 
     static TransferEncodingParser createChunkParser(AsynchronousBodyInputStream responseBody,
@@ -44,20 +59,28 @@ abstract class TransferEncodingParser {
 
         private final long expectedLength;
         private final AsynchronousBodyInputStream responseBody;
+        private final boolean pipelining;
         private volatile long consumedLength = 0;
 
-        FixedLengthEncodingParser(AsynchronousBodyInputStream responseBody, long expectedLength) {
+        FixedLengthEncodingParser(AsynchronousBodyInputStream responseBody, long expectedLength, boolean pipelining) {
             this.expectedLength = expectedLength;
             this.responseBody = responseBody;
+            this.pipelining = pipelining;
         }
 
         @Override
         boolean parse(ByteBuffer input) throws ParseException {
-            if (input.remaining() + consumedLength > expectedLength) {
-                throw new ParseException(LocalizationMessages.HTTP_BODY_SIZE_OVERFLOW());
+            long length = input.remaining();
+            if (length + consumedLength > expectedLength) {
+                if (!pipelining) {
+                    throw new ParseException(LocalizationMessages.HTTP_BODY_SIZE_OVERFLOW());
+                }
+
+                // the rest belongs to the next response
+                length = expectedLength - consumedLength;
             }
 
-            byte[] data = new byte[input.remaining()];
+            byte[] data = new byte[(int) length];
             input.get(data);
             ByteBuffer parsed = ByteBuffer.wrap(data);
             responseBody.notifyDataAvailable(parsed);
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A filter that allows more than one write to be in progress at the same time. The writes are queued and passed to
+ * the downstream filter one by one in the order in which they have been submitted. Small queued writes are gathered into
+ * a single downstream write.
+ * <p/>
+ * Filters positioned under this filter ({@link TransportFilter}, {@link SslFilter}) support only one write in progress.
+ * <p/>
+ * SYNCHRONIZATION NOTE: {@link #enqueue(ByteBuffer, CompletionHandler)} only takes a lock of this filter, which is never
+ * held while calling other code, so it can be invoked while holding other locks. {@link #flush()} (and
+ * {@link #write(ByteBuffer, CompletionHandler)}) initiates the downstream write and must not be invoked while holding
+ * a lock that might be also needed by a write completion handler.
+ */
+class WriteQueueFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
+
+    /**
+     * Maximal size of a buffer gathered from more queued writes.
+     */
+    private static final int MAX_GATHERED_SIZE = 64 * 1024;
+
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+
+    private boolean writing = false;
+    private Throwable error = null;
+
+    /**
+     * Constructor.
+     *
+     * @param downstreamFilter downstream filter.
+     */
+    WriteQueueFilter(Filter<ByteBuffer, ByteBuffer, ?, ?> downstreamFilter) {
+        super(downstreamFilter);
+    }
+
+    @Override
+    void write(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+        enqueue(data, completionHandler);
+        flush();
+    }
+
+    /**
+     * Add the data to the write queue without initiating the write.
+     *
+     * @param data              data to be written.
+     * @param completionHandler completion handler, might be {@code null}.
+     */
+    void enqueue(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+        final Throwable failure;
+        synchronized (this) {
+            failure = error;
+            if (failure == null) {
+                pendingWrites.add(new PendingWrite(data, completionHandler));
+                return;
+            }
+        }
+
+        if (completionHandler != null) {
+            completionHandler.failed(failure);
+        }
+    }
+
+    /**
+     * Initiate write of the queued data if no write is in progress.
+     */
+    void flush() {
+        synchronized (this) {
+            if (writing) {
+                return;
+            }
+            writing = true;
+        }
+
+        writeNext();
+    }
+
+    private void writeNext() {
+        final List<PendingWrite> batch = new ArrayList<>(1);
+        final ByteBuffer data;
+        synchronized (this) {
+            PendingWrite first = pendingWrites.poll();
+            if (first == null) {
+                writing = false;
+                return;
+            }
+
+            batch.add(first);
+            int size = first.data.remaining();
+            while (!pendingWrites.isEmpty() && size + pendingWrites.peek().data.remaining() <= MAX_GATHERED_SIZE) {
+                PendingWrite next = pendingWrites.poll();
+                size += next.data.remaining();
+                batch.add(next);
+            }
+
+            if (batch.size() == 1) {
+                data = first.data;
+            } else {
+                data = ByteBuffer.allocate(size);
+                for (PendingWrite pendingWrite : batch) {
+                    data.put(pendingWrite.data);
+                }
+                ((Buffer) data).flip();
+            }
+        }
+
+        downstreamFilter.write(data, new CompletionHandler<ByteBuffer>() {
+            @Override
+            public void completed(ByteBuffer result) {
+                for (PendingWrite pendingWrite : batch) {
+                    pendingWrite.completed();
+                }
+
+                writeNext();
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                final List<PendingWrite> failed;
+                synchronized (WriteQueueFilter.this) {
+                    error = throwable;
+                    writing = false;
+                    failed = new ArrayList<>(pendingWrites);
+                    pendingWrites.clear();
+                }
+
+                for (PendingWrite pendingWrite : batch) {
+                    pendingWrite.failed(throwable);
+                }
+                for (PendingWrite pendingWrite : failed) {
+                    pendingWrite.failed(throwable);
+                }
+            }
+        });
+    }
+
+    @Override
+    void close() {
+        final List<PendingWrite> failed;
+        synchronized (this) {
+            failed = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+
+        super.close();
+
+        if (!failed.isEmpty()) {
+            Throwable t = new IllegalStateException(LocalizationMessages.CONNECTION_CLOSED());
+            for (PendingWrite pendingWrite : failed) {
+                pendingWrite.failed(t);
+            }
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final ByteBuffer data;
+        private final CompletionHandler<ByteBuffer> completionHandler;
+
+        PendingWrite(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+            this.data = data;
+            this.completionHandler = completionHandler;
+        }
+
+        void completed() {
+            if (completionHandler != null) {
+                completionHandler.completed(data);
+            }
+        }
+
+        void failed(Throwable t) {
+            if (completionHandler != null) {
+                completionHandler.failed(t);
+            }
+        }
+    }
+}
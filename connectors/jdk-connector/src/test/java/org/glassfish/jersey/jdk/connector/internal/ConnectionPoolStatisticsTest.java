@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the connection pool statistics, fairness and wait timeout.
+ */
+public class ConnectionPoolStatisticsTest extends JerseyTest {
+
+    @Test
+    public void testStatistics() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, target("resource").request().get().getStatus());
+        }
+
+        ConnectionPoolStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client());
+        assertEquals(1, statistics.getEstablishedConnections());
+        assertEquals(0, statistics.getFailedConnections());
+        // the connection might not have been returned to the pool yet
+        assertEquals(1, statistics.getIdleConnections() + statistics.getBusyConnections());
+        assertEquals(0, statistics.getPendingRequests());
+        assertTrue(statistics.getAverageConnectTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(statistics.getMaxConnectTime(TimeUnit.NANOSECONDS)
+                >= statistics.getAverageConnectTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testPendingRequests() throws Exception {
+        Future<String> slow = target("resource").queryParam("delay", 1000).request().async().get(String.class);
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(target("resource").request().async().get(String.class));
+        }
+
+        ConnectionPoolStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client());
+        for (int i = 0; i < 50 && statistics.getPendingRequests() < responses.size(); i++) {
+            // the requests are submitted to the pool asynchronously
+            Thread.sleep(10);
+            statistics = JdkConnectorProvider.getConnectionPoolStatistics(client());
+        }
+        assertEquals(1, statistics.getBusyConnections());
+        assertEquals(responses.size(), statistics.getPendingRequests());
+
+        long slowOrder = Long.parseLong(slow.get(5, TimeUnit.SECONDS));
+        for (Future<String> response : responses) {
+            assertTrue(Long.parseLong(response.get(5, TimeUnit.SECONDS)) > slowOrder);
+        }
+        assertEquals(0, JdkConnectorProvider.getConnectionPoolStatistics(client()).getPendingRequests());
+    }
+
+    @Test
+    public void testWaitTimeout() throws Exception {
+        Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JdkConnectorProvider())
+                .property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                .property(JdkConnectorProperties.CONNECTION_POOL_WAIT_TIMEOUT, 200));
+
+        try {
+            Future<String> slow = client.target(getBaseUri()).path("resource").queryParam("delay", 2000).request().async()
+                    .get(String.class);
+            for (int i = 0; i < 50 && JdkConnectorProvider.getConnectionPoolStatistics(client).getBusyConnections() == 0;
+                 i++) {
+                Thread.sleep(10);
+            }
+
+            Future<String> waiting = client.target(getBaseUri()).path("resource").request().async().get(String.class);
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause().getCause() instanceof IOException);
+            slow.get(5, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.connectorProvider(new JdkConnectorProvider());
+        config.property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, 1);
+    }
+
+    @Path("/resource")
+    public static class Resource {
+
+        private static long counter = 0;
+
+        @GET
+        public synchronized String get(@QueryParam("delay") int delay) throws InterruptedException {
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            return Long.toString(counter++);
+        }
+    }
+}
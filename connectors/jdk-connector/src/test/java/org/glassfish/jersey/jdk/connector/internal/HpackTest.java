@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the HPACK header compression, the examples are from RFC 7541 appendix C.
+ */
+public class HpackTest {
+
+    @Test
+    public void testIntegerEncoding() throws ParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Hpack.encodeInteger(out, 0, 5, 10);
+        Hpack.encodeInteger(out, 0, 5, 1337);
+        Hpack.encodeInteger(out, 0, 8, 42);
+
+        assertEquals("0a1f9a0a2a", toHex(out.toByteArray()));
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(10, Hpack.decodeInteger(buffer, 5));
+        assertEquals(1337, Hpack.decodeInteger(buffer, 5));
+        assertEquals(42, Hpack.decodeInteger(buffer, 8));
+    }
+
+    @Test
+    public void testDecodeWithoutHuffman() throws ParseException {
+        HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_HEADER_TABLE_SIZE);
+
+        assertHeaders(decoder.decode(fromHex("828684410f7777772e6578616d706c652e636f6d")),
+                ":method", "GET", ":scheme", "http", ":path", "/", ":authority", "www.example.com");
+        // the second request uses the dynamic table entry added by the first one
+        assertHeaders(decoder.decode(fromHex("828684be58086e6f2d6361636865")),
+                ":method", "GET", ":scheme", "http", ":path", "/", ":authority", "www.example.com",
+                "cache-control", "no-cache");
+    }
+
+    @Test
+    public void testDecodeWithHuffman() throws ParseException {
+        HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_HEADER_TABLE_SIZE);
+
+        assertHeaders(decoder.decode(fromHex("828684418cf1e3c2e5f23a6ba0ab90f4ff")),
+                ":method", "GET", ":scheme", "http", ":path", "/", ":authority", "www.example.com");
+        assertHeaders(decoder.decode(fromHex("828684be5886a8eb10649cbf")),
+                ":method", "GET", ":scheme", "http", ":path", "/", ":authority", "www.example.com",
+                "cache-control", "no-cache");
+    }
+
+    @Test
+    public void testDecodeResponsesWithEviction() throws ParseException {
+        HpackDecoder decoder = new HpackDecoder(256);
+
+        assertHeaders(decoder.decode(fromHex("488264025885aec3771a4b6196d07abe941054d444a8200595040b8166e082a62d1bff"
+                        + "6e919d29ad171863c78f0b97c8e9ae82ae43d3")),
+                ":status", "302", "cache-control", "private", "date", "Mon, 21 Oct 2013 20:13:21 GMT",
+                "location", "https://www.example.com");
+        assertHeaders(decoder.decode(fromHex("4883640effc1c0bf")),
+                ":status", "307", "cache-control", "private", "date", "Mon, 21 Oct 2013 20:13:21 GMT",
+                "location", "https://www.example.com");
+    }
+
+    @Test
+    public void testEncodeDecode() throws ParseException {
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        HpackEncoder.encode(block, ":method", "GET", false);
+        HpackEncoder.encode(block, ":path", "/resource?q=1", false);
+        HpackEncoder.encode(block, "accept", "text/plain", false);
+        HpackEncoder.encode(block, "authorization", "Basic dXNlcjpwYXNz", true);
+        HpackEncoder.encode(block, "x-custom", "value", false);
+
+        assertHeaders(new HpackDecoder(Hpack.DEFAULT_HEADER_TABLE_SIZE).decode(ByteBuffer.wrap(block.toByteArray())),
+                ":method", "GET", ":path", "/resource?q=1", "accept", "text/plain",
+                "authorization", "Basic dXNlcjpwYXNz", "x-custom", "value");
+    }
+
+    @Test
+    public void testInvalidIndex() {
+        assertThrows(ParseException.class,
+                () -> new HpackDecoder(Hpack.DEFAULT_HEADER_TABLE_SIZE).decode(fromHex("ff00")));
+    }
+
+    private static void assertHeaders(List<Map.Entry<String, String>> headers, String... expected) {
+        assertEquals(expected.length / 2, headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            assertEquals(expected[2 * i], headers.get(i).getKey());
+            assertEquals(expected[2 * i + 1], headers.get(i).getValue());
+        }
+    }
+
+    private static ByteBuffer fromHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b & 0xff));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameStream;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the HTTP/2 transport against a cleartext HTTP/2 server with prior knowledge.
+ */
+public class Http2Test {
+
+    private static final int PORT = 8323;
+
+    private final AtomicInteger connectionsCount = new AtomicInteger(0);
+    private EventLoopGroup group;
+    private Channel serverChannel;
+    private Client client;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        group = new NioEventLoopGroup();
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        connectionsCount.incrementAndGet();
+                        ch.pipeline().addLast(Http2FrameCodecBuilder.forServer().build(), new EchoHandler());
+                    }
+                })
+                .bind(PORT).sync().channel();
+
+        client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JdkConnectorProvider())
+                .property(JdkConnectorProperties.HTTP2_ENABLED, true));
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        client.close();
+        serverChannel.close().sync();
+        group.shutdownGracefully().sync();
+    }
+
+    @Test
+    public void testConcurrentStreams() throws Exception {
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.target("http://localhost:" + PORT).path("resource/" + i).request().async()
+                    .get(String.class));
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("GET /resource/" + i, responses.get(i).get(10, TimeUnit.SECONDS));
+        }
+        // all the requests have been multiplexed over a single connection
+        assertEquals(1, connectionsCount.get());
+    }
+
+    @Test
+    public void testRequestBody() throws Exception {
+        StringBuilder entity = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            entity.append(i);
+        }
+
+        Response response = client.target("http://localhost:" + PORT).path("resource").request()
+                .header("X-Test", "value")
+                .post(Entity.entity(entity.toString(), MediaType.TEXT_PLAIN));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("value", response.getHeaderString("X-Test"));
+        assertEquals("POST /resource" + entity, response.readEntity(String.class));
+    }
+
+    /**
+     * Responds with the request method, path and entity, copies the {@code x-test} header to the response.
+     */
+    private static class EchoHandler extends ChannelDuplexHandler {
+
+        private final Map<Http2FrameStream, Http2Headers> requestHeaders = new HashMap<>();
+        private final Map<Http2FrameStream, ByteBuf> requestBodies = new HashMap<>();
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof Http2HeadersFrame) {
+                Http2HeadersFrame headersFrame = (Http2HeadersFrame) msg;
+                requestHeaders.put(headersFrame.stream(), headersFrame.headers());
+                requestBodies.put(headersFrame.stream(), Unpooled.buffer());
+                if (headersFrame.isEndStream()) {
+                    respond(ctx, headersFrame.stream());
+                }
+            } else if (msg instanceof Http2DataFrame) {
+                Http2DataFrame dataFrame = (Http2DataFrame) msg;
+                requestBodies.get(dataFrame.stream()).writeBytes(dataFrame.content());
+                if (dataFrame.isEndStream()) {
+                    respond(ctx, dataFrame.stream());
+                }
+            }
+            ReferenceCountUtil.release(msg);
+        }
+
+        private void respond(ChannelHandlerContext ctx, Http2FrameStream stream) {
+            Http2Headers headers = requestHeaders.remove(stream);
+            ByteBuf body = requestBodies.remove(stream);
+
+            Http2Headers responseHeaders = new DefaultHttp2Headers().status("200");
+            if (headers.get("x-test") != null) {
+                responseHeaders.set("x-test", headers.get("x-test"));
+            }
+
+            ByteBuf content = Unpooled.wrappedBuffer(
+                    (headers.method() + " " + headers.path()).getBytes(StandardCharsets.US_ASCII));
+            ctx.write(new DefaultHttp2HeadersFrame(responseHeaders).stream(stream));
+            ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(content, body), true).stream(stream));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the HTTP/1.1 request pipelining.
+ */
+public class PipeliningTest extends JerseyTest {
+
+    @Test
+    public void testPipelinedRequests() throws Exception {
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            if (i % 5 == 4) {
+                // non-idempotent requests are not pipelined, but they must not break the order of the responses
+                responses.add(target("resource").request().async().post(Entity.entity("post" + i, MediaType.TEXT_PLAIN),
+                        String.class));
+            } else {
+                responses.add(target("resource").queryParam("id", i).request().async().get(String.class));
+            }
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            String expected = i % 5 == 4 ? "post" + i : "get" + i;
+            assertEquals(expected, responses.get(i).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testRequestsSentBeforeResponse() throws Exception {
+        // the server responds only after it has received both requests, so it works only if the requests are pipelined
+        TestServer testServer = new TestServer(2);
+        Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JdkConnectorProvider())
+                .property(JdkConnectorProperties.PIPELINING_DEPTH, 2)
+                .property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, 1));
+
+        try {
+            testServer.start();
+            String uri = "http://localhost:" + TestServer.PORT;
+            Future<Response> response1 = client.target(uri).request().async().get();
+            Future<Response> response2 = client.target(uri).request().async().head();
+
+            assertEquals(200, response1.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals("response 1", response1.get().readEntity(String.class));
+            assertEquals(200, response2.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(1, testServer.connectionsCount.get());
+        } finally {
+            client.close();
+            testServer.stop();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.connectorProvider(new JdkConnectorProvider());
+        config.property(JdkConnectorProperties.PIPELINING_DEPTH, 4);
+        config.property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, 1);
+    }
+
+    @Path("/resource")
+    public static class Resource {
+
+        @GET
+        public String get(@QueryParam("id") int id) {
+            return "get" + id;
+        }
+
+        @POST
+        public String post(String entity) {
+            return entity;
+        }
+    }
+
+    private static class TestServer {
+
+        static final int PORT = 8322;
+
+        private final int requestsBeforeResponse;
+        private final ServerSocket serverSocket;
+        private final ExecutorService executorService = Executors.newCachedThreadPool();
+        private final AtomicInteger connectionsCount = new AtomicInteger(0);
+
+        TestServer(int requestsBeforeResponse) throws IOException {
+            this.requestsBeforeResponse = requestsBeforeResponse;
+            serverSocket = new ServerSocket(PORT);
+        }
+
+        void start() {
+            executorService.execute(() -> {
+                try {
+                    while (!serverSocket.isClosed()) {
+                        Socket socket = serverSocket.accept();
+                        connectionsCount.incrementAndGet();
+                        executorService.submit(() -> handleConnection(socket));
+                    }
+                } catch (IOException e) {
+                    // do nothing
+                }
+            });
+        }
+
+        private void handleConnection(Socket socket) {
+            try (Socket s = socket) {
+                InputStream inputStream = s.getInputStream();
+                int received = 0;
+                int matched = 0;
+                // count the ends of the request headers, the requests have no bodies
+                while (received < requestsBeforeResponse) {
+                    int b = inputStream.read();
+                    if (b == -1) {
+                        return;
+                    }
+                    matched = (b == "\r\n\r\n".charAt(matched)) ? matched + 1 : (b == '\r' ? 1 : 0);
+                    if (matched == 4) {
+                        received++;
+                        matched = 0;
+                    }
+                }
+
+                OutputStream outputStream = s.getOutputStream();
+                outputStream.write(("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\nresponse 1"
+                        + "HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                outputStream.flush();
+                // wait for the client to close the connection
+                while (inputStream.read() != -1) {
+                    // do nothing
+                }
+            } catch (IOException e) {
+                // do nothing
+            }
+        }
+
+        void stop() throws IOException {
+            serverSocket.close();
+            executorService.shutdownNow();
+        }
+    }
+}
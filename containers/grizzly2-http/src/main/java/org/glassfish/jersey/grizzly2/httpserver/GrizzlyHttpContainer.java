@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,9 @@ import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +44,8 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.message.FileTransferOutput;
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -53,6 +58,7 @@ import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 
 import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.http.io.OutputBuffer;
 import org.glassfish.grizzly.http.server.HttpHandler;
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
@@ -157,6 +163,61 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         }
     };
 
+    /**
+     * Response entity stream that writes transferred file regions as memory mapped buffers, which Grizzly passes
+     * to the connection without copying them into its own buffers.
+     */
+    private static final class ResponseOutputStream extends OutputStream implements FileTransferOutput {
+
+        /**
+         * File regions smaller than this are copied, mapping them would cost more than copying.
+         */
+        private static final int MIN_MAPPED_SIZE = 64 * 1024;
+        private static final int MAX_MAPPED_SIZE = 8 * 1024 * 1024;
+
+        private final OutputStream output;
+        private final OutputBuffer outputBuffer;
+
+        private ResponseOutputStream(final Response response) {
+            this.output = response.getOutputStream();
+            this.outputBuffer = response.getOutputBuffer();
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void transferFrom(final Path file, final long position, final long count) throws IOException {
+            if (count < MIN_MAPPED_SIZE) {
+                ReaderWriter.writeTo(file, position, count, output);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                for (long offset = 0; offset < count; offset += MAX_MAPPED_SIZE) {
+                    outputBuffer.writeByteBuffer(channel.map(FileChannel.MapMode.READ_ONLY, position + offset,
+                            Math.min(count - offset, MAX_MAPPED_SIZE)));
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
     private static final class ResponseWriter implements ContainerResponseWriter {
 
         private final String name;
@@ -247,7 +308,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     }
                 }
 
-                return grizzlyResponse.getOutputStream();
+                return new ResponseOutputStream(grizzlyResponse);
             } finally {
                 logger.debugLog("{0} - writeResponseStatusAndHeaders() called", name);
             }
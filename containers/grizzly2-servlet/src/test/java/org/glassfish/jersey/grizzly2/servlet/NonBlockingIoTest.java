@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.grizzly2.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.servlet.ServletRegistration;
+import org.glassfish.grizzly.servlet.WebappContext;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.servlet.ServletContainer;
+import org.glassfish.jersey.servlet.ServletProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ServletProperties#NON_BLOCKING_IO Servlet 3.1 non-blocking I/O} mode of the servlet container.
+ */
+public class NonBlockingIoTest {
+
+    private static final int LARGE_SIZE = 4 * 1024 * 1024;
+    private static final int STREAM_SIZE = 64 * 1024 * 1024;
+    private static final AtomicLong STREAM_WRITTEN = new AtomicLong();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+    private static HttpServer server;
+    private static String baseUri;
+
+    @Path("/")
+    public static class Resource {
+
+        @Context
+        private HttpServletRequest request;
+
+        @POST
+        @Path("echo")
+        public String echo(final String entity) {
+            // the request is put into the async mode to read the entity using a read listener
+            return request.isAsyncStarted() + ":" + entity;
+        }
+
+        @GET
+        @Path("large")
+        public byte[] large() {
+            return largeEntity();
+        }
+
+        @GET
+        @Path("stream")
+        public StreamingOutput stream() {
+            return output -> {
+                final byte[] chunk = new byte[65536];
+                for (int i = 0; i < STREAM_SIZE / chunk.length; i++) {
+                    output.write(chunk);
+                    STREAM_WRITTEN.addAndGet(chunk.length);
+                }
+            };
+        }
+
+        @GET
+        @Path("async")
+        public void async(@Suspended final AsyncResponse response) {
+            EXECUTOR.submit(() -> response.resume(largeEntity()));
+        }
+
+        @GET
+        @Path("chunked")
+        public ChunkedOutput<String> chunked() {
+            final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+            EXECUTOR.submit(() -> {
+                try {
+                    for (int i = 0; i < 1000; i++) {
+                        output.write(i + ",");
+                    }
+                    output.close();
+                } catch (final IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return output;
+        }
+    }
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        final ResourceConfig resourceConfig = new ResourceConfig(Resource.class)
+                .property(ServletProperties.NON_BLOCKING_IO, true)
+                .property(ServletProperties.NON_BLOCKING_IO_BUFFER_SIZE, 8192);
+
+        final WebappContext context = new WebappContext("NonBlockingIoTest", "");
+        final ServletRegistration registration = context.addServlet("jersey", new ServletContainer(resourceConfig));
+        registration.setAsyncSupported(true);
+        registration.addMapping("/*");
+
+        server = new HttpServer();
+        server.addListener(new NetworkListener("grizzly", "localhost", 0));
+        context.deploy(server);
+        server.start();
+        baseUri = "http://localhost:" + server.getListener("grizzly").getPort() + "/";
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.shutdownNow();
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testEntityReadNonBlocking() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUri + "echo").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/plain");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write("hello".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("true:hello", new String(read(connection), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEntityLargerThanBuffer() throws IOException {
+        final byte[] entity = new byte[100000];
+        Arrays.fill(entity, (byte) 'a');
+
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUri + "echo").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/plain");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(entity);
+        }
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(entity.length + "true:".length(), read(connection).length);
+    }
+
+    @Test
+    public void testLargeResponseSlowClient() throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUri + "large").openConnection();
+        assertEquals(200, connection.getResponseCode());
+
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        try (InputStream in = connection.getInputStream()) {
+            final byte[] buffer = new byte[65536];
+            int read;
+            int reads = 0;
+            while ((read = in.read(buffer)) != -1) {
+                received.write(buffer, 0, read);
+                if (reads++ < 10) {
+                    // let the server queue the response
+                    TimeUnit.MILLISECONDS.sleep(20);
+                }
+            }
+        }
+        assertArrayEquals(largeEntity(), received.toByteArray());
+    }
+
+    @Test
+    public void testSynchronousResponseNotReadingClient() throws Exception {
+        final URL url = new URL(baseUri + "stream");
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(8192);
+            socket.connect(new InetSocketAddress(url.getHost(), url.getPort()));
+            socket.getOutputStream().write(("GET /stream HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+
+            // the container thread writing the response must not queue the entity for a client that does not read
+            TimeUnit.SECONDS.sleep(1);
+            final long written = STREAM_WRITTEN.get();
+            assertTrue(written < STREAM_SIZE / 4, "Bytes written before the client started to read: " + written);
+
+            long received = 0;
+            final InputStream in = socket.getInputStream();
+            final byte[] buffer = new byte[65536];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                received += read;
+            }
+            assertTrue(received > STREAM_SIZE, "Bytes received: " + received);
+        }
+    }
+
+    @Test
+    public void testAsyncResponse() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUri + "async").openConnection();
+        assertEquals(200, connection.getResponseCode());
+        assertArrayEquals(largeEntity(), read(connection));
+    }
+
+    @Test
+    public void testChunkedOutput() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUri + "chunked").openConnection();
+        assertEquals(200, connection.getResponseCode());
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            expected.append(i).append(',');
+        }
+        assertEquals(expected.toString(), new String(read(connection), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] largeEntity() {
+        final byte[] entity = new byte[LARGE_SIZE];
+        for (int i = 0; i < entity.length; i++) {
+            entity[i] = (byte) i;
+        }
+        return entity;
+    }
+
+    private static byte[] read(final HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
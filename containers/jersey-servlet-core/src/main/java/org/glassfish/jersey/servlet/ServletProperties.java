@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -109,6 +109,51 @@ public final class ServletProperties {
     // TODO implement generic support
     public static final String JAXRS_APPLICATION_CLASS = "javax.ws.rs.Application";
 
+    /**
+     * If set to {@code true}, the Servlet 3.1 non-blocking I/O is used to read request entities and to write response
+     * entities, so that the container threads are not held while slow clients upload requests or download responses.
+     * <p>
+     * Request entities with a declared {@code Content-Length} not greater than {@link #NON_BLOCKING_IO_BUFFER_SIZE} are read
+     * into memory before the request is processed, other request entities are read using blocking I/O. Response bytes
+     * the client is not ready to receive are queued; the thread writing the response only waits once more than
+     * {@link #NON_BLOCKING_IO_BUFFER_SIZE} bytes are queued. Container threads cannot wait for the client, so responses
+     * written by the container thread dispatching the request (i.e. responses of synchronous resource methods) are only
+     * written using the non-blocking I/O if their length is known not to exceed {@link #NON_BLOCKING_IO_BUFFER_SIZE},
+     * other such responses are written using blocking I/O.
+     * </p>
+     * <p>
+     * The non-blocking I/O requires a Servlet 3.1+ container with the {@code jersey-container-servlet} module and all Servlet
+     * instances and Servlet filters involved in the request processing to declare support for asynchronous request
+     * processing. Blocking I/O is used otherwise, and for the {@link #FILTER_FORWARD_ON_404} filter mode.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String NON_BLOCKING_IO = "jersey.config.servlet.nonBlockingIo";
+
+    /**
+     * Maximum number of request or response entity bytes buffered in memory per request by the
+     * {@link #NON_BLOCKING_IO non-blocking I/O}.
+     * <p>
+     * The value MUST be an instance of {@link Integer} or a String convertible to Integer.
+     * </p>
+     * <p>
+     * The default value is {@code 65536}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String NON_BLOCKING_IO_BUFFER_SIZE = "jersey.config.servlet.nonBlockingIo.bufferSize";
+
     /**
      * Indicates that Jersey should scan the whole web app for application-specific resources and
      * providers. If the property is present and the value is not {@code false}, the whole web app
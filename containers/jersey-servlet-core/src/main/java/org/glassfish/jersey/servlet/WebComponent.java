@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,7 @@ import javax.servlet.FilterConfig;
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -77,6 +78,8 @@ import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.InternalServerProperties;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
 import org.glassfish.jersey.servlet.internal.LocalizationMessages;
+import org.glassfish.jersey.servlet.internal.NonBlockingEntityReader;
+import org.glassfish.jersey.servlet.internal.NonBlockingOutputStream;
 import org.glassfish.jersey.servlet.internal.PersistenceUnitBinder;
 import org.glassfish.jersey.servlet.internal.ResponseWriter;
 import org.glassfish.jersey.servlet.internal.ServletContainerProviderFactory;
@@ -107,6 +110,8 @@ public class WebComponent {
     private static final Type REQUEST_TYPE = (new GenericType<Ref<HttpServletRequest>>() {}).getType();
     private static final Type RESPONSE_TYPE = (new GenericType<Ref<HttpServletResponse>>() {}).getType();
 
+    private static final int DEFAULT_NON_BLOCKING_BUFFER_SIZE = 65536;
+
     private static final AsyncContextDelegate DEFAULT_ASYNC_DELEGATE = new AsyncContextDelegate() {
 
         @Override
@@ -262,6 +267,12 @@ public class WebComponent {
      */
     private final boolean queryParamsAsFormParams;
 
+    /**
+     * Maximum number of entity bytes buffered by the non-blocking I/O, {@code 0} if the non-blocking I/O is disabled.
+     * See {@link ServletProperties#NON_BLOCKING_IO}.
+     */
+    private final int nonBlockingBufferSize;
+
     /**
      * Create and initialize new web component instance.
      *
@@ -321,6 +332,10 @@ public class WebComponent {
                 ServerProperties.RESPONSE_SET_STATUS_OVER_SEND_ERROR, false, Boolean.class);
         this.backgroundTaskScheduler = appHandler.getInjectionManager()
                 .getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
+        this.nonBlockingBufferSize = !forwardOn404 && resourceConfig.isProperty(ServletProperties.NON_BLOCKING_IO)
+                ? Math.max(1, ServerProperties.getValue(resourceConfig.getProperties(),
+                        ServletProperties.NON_BLOCKING_IO_BUFFER_SIZE, DEFAULT_NON_BLOCKING_BUFFER_SIZE, Integer.class))
+                : 0;
     }
 
     /**
@@ -379,12 +394,15 @@ public class WebComponent {
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse) throws ServletException, IOException {
 
+        final AsyncContextDelegate asyncDelegate = asyncExtensionDelegate.createDelegate(servletRequest, servletResponse);
+        final boolean nonBlocking = nonBlockingBufferSize > 0 && startNonBlocking(servletRequest, asyncDelegate);
         final ResponseWriter responseWriter = new ResponseWriter(
                 forwardOn404,
                 configSetStatusOverSendError,
                 servletResponse,
-                asyncExtensionDelegate.createDelegate(servletRequest, servletResponse),
-                backgroundTaskScheduler);
+                asyncDelegate,
+                backgroundTaskScheduler,
+                nonBlocking ? nonBlockingBufferSize : 0);
 
         try {
             final ContainerRequest requestContext = new ContainerRequest(baseUri, requestUri, servletRequest.getMethod(),
@@ -392,21 +410,22 @@ public class WebComponent {
                     appHandler.getConfiguration()
             );
 
-            initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter);
-
-            appHandler.handle(requestContext);
-        } catch (final HeaderValueException hve) {
-            if (LOGGER.isLoggable(Level.FINE)) {
-                LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
-            }
-
-            final Response.Status status = Response.Status.BAD_REQUEST;
-
-            if (configSetStatusOverSendError) {
-                servletResponse.reset();
-                ServletContainer.setStatus(servletResponse, status.getStatusCode(), status.getReasonPhrase());
+            final long contentLength = nonBlocking ? servletRequest.getContentLengthLong() : -1;
+            if (contentLength > 0 && contentLength <= nonBlockingBufferSize) {
+                initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter, false);
+                readEntityNonBlocking(requestContext, servletRequest, servletResponse, asyncDelegate, (int) contentLength);
             } else {
-                servletResponse.sendError(status.getStatusCode(), status.getReasonPhrase());
+                initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter, true);
+                if (nonBlocking) {
+                    NonBlockingOutputStream.runInContainerThread(() -> appHandler.handle(requestContext));
+                } else {
+                    appHandler.handle(requestContext);
+                }
+            }
+        } catch (final HeaderValueException hve) {
+            sendBadRequest(servletResponse, hve);
+            if (nonBlocking) {
+                asyncDelegate.complete();
             }
         } catch (final Exception e) {
             throw new ServletException(e);
@@ -414,28 +433,115 @@ public class WebComponent {
         return responseWriter;
     }
 
+    /**
+     * Put the request into the asynchronous mode required by the Servlet 3.1 non-blocking I/O.
+     *
+     * @return {@code true} if the non-blocking I/O can be used to process the request.
+     */
+    private static boolean startNonBlocking(final HttpServletRequest servletRequest, final AsyncContextDelegate asyncDelegate) {
+        if (servletRequest.isAsyncSupported()) {
+            try {
+                asyncDelegate.suspend();
+                return true;
+            } catch (final UnsupportedOperationException | IllegalStateException ex) {
+                LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_UNAVAILABLE(), ex);
+                return false;
+            }
+        }
+        LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_UNAVAILABLE());
+        return false;
+    }
+
+    /**
+     * Read the request entity using the non-blocking I/O and process the request once the entity has been read.
+     */
+    private void readEntityNonBlocking(final ContainerRequest requestContext,
+                                       final HttpServletRequest servletRequest,
+                                       final HttpServletResponse servletResponse,
+                                       final AsyncContextDelegate asyncDelegate,
+                                       final int contentLength) throws IOException {
+        final ServletInputStream inputStream = servletRequest.getInputStream();
+        final NonBlockingEntityReader.Callback callback = new NonBlockingEntityReader.Callback() {
+            @Override
+            public void completed(final InputStream entity) {
+                try {
+                    requestContext.setEntityStream(entity);
+                    filterFormParameters(servletRequest, requestContext);
+                    NonBlockingOutputStream.runInContainerThread(() -> appHandler.handle(requestContext));
+                } catch (final HeaderValueException hve) {
+                    try {
+                        sendBadRequest(servletResponse, hve);
+                    } catch (final IOException ex) {
+                        LOGGER.log(Level.FINER, "Unable to send the error response.", ex);
+                    } finally {
+                        asyncDelegate.complete();
+                    }
+                } catch (final RuntimeException e) {
+                    failed(e);
+                }
+            }
+
+            @Override
+            public void failed(final Throwable error) {
+                LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_FAILED(), error);
+                try {
+                    if (!servletResponse.isCommitted()) {
+                        servletResponse.sendError(Response.Status.BAD_REQUEST.getStatusCode());
+                    }
+                } catch (final IOException | IllegalStateException ex) {
+                    LOGGER.log(Level.FINER, "Unable to send the error response.", ex);
+                } finally {
+                    asyncDelegate.complete();
+                }
+            }
+        };
+        final NonBlockingEntityReader reader = new NonBlockingEntityReader(inputStream, contentLength, callback);
+        inputStream.setReadListener(reader);
+        reader.start();
+    }
+
+    private void sendBadRequest(final HttpServletResponse servletResponse, final HeaderValueException hve) throws IOException {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
+        }
+
+        final Response.Status status = Response.Status.BAD_REQUEST;
+
+        if (configSetStatusOverSendError) {
+            servletResponse.reset();
+            ServletContainer.setStatus(servletResponse, status.getStatusCode(), status.getReasonPhrase());
+        } else {
+            servletResponse.sendError(status.getStatusCode(), status.getReasonPhrase());
+        }
+    }
+
     /**
      * Initialize {@code ContainerRequest} instance to used to handle {@code servletRequest}.
+     *
+     * @param readEntity {@code false} if the request entity is read and set later, using the non-blocking I/O.
      */
     private void initContainerRequest(
             final ContainerRequest requestContext,
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse,
-            final ResponseWriter responseWriter) throws IOException {
-
-        try {
-            requestContext.setEntityStream(new InputStreamWrapper() {
-                @Override
-                protected InputStream getWrapped() {
-                    try {
-                        return servletRequest.getInputStream();
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
+            final ResponseWriter responseWriter,
+            final boolean readEntity) throws IOException {
+
+        if (readEntity) {
+            try {
+                requestContext.setEntityStream(new InputStreamWrapper() {
+                    @Override
+                    protected InputStream getWrapped() {
+                        try {
+                            return servletRequest.getInputStream();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
                     }
-                }
-            });
-        } catch (UncheckedIOException e) {
-            throw e.getCause();
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
         }
 
         requestContext.setRequestScopedInitializer(requestScopedInitializer.get(new RequestContextProvider() {
@@ -451,10 +557,12 @@ public class WebComponent {
         requestContext.setWriter(responseWriter);
 
         addRequestHeaders(servletRequest, requestContext);
-        // Check if any servlet filters have consumed a request entity
-        // of the media type application/x-www-form-urlencoded
-        // This can happen if a filter calls request.getParameter(...)
-        filterFormParameters(servletRequest, requestContext);
+        if (readEntity) {
+            // Check if any servlet filters have consumed a request entity
+            // of the media type application/x-www-form-urlencoded
+            // This can happen if a filter calls request.getParameter(...)
+            filterFormParameters(servletRequest, requestContext);
+        }
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+/**
+ * Reads a request entity of a known length from a {@link ServletInputStream} in the Servlet 3.1 non-blocking mode.
+ * <p>
+ * The entity bytes are read into memory whenever the servlet container reports them {@link ServletInputStream#isReady()
+ * available}, so that no thread waits for a slow client while the entity is being uploaded. Once the whole entity has been
+ * read, the {@link Callback callback} is invoked with the buffered entity stream, usually to process the request.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class NonBlockingEntityReader implements ReadListener {
+
+    /**
+     * Callback notified when the request entity has been read.
+     */
+    public interface Callback {
+
+        /**
+         * Invoked when the whole request entity has been read.
+         *
+         * @param entity buffered request entity.
+         */
+        void completed(InputStream entity);
+
+        /**
+         * Invoked when the request entity could not be read.
+         *
+         * @param error reading failure.
+         */
+        void failed(Throwable error);
+    }
+
+    private final ServletInputStream in;
+    private final Callback callback;
+    private final byte[] buffer;
+    private final AtomicBoolean done = new AtomicBoolean();
+    // guarded by this
+    private int count;
+
+    /**
+     * Create new entity reader. The reader must be {@link ServletInputStream#setReadListener(ReadListener) registered}
+     * as the read listener of the servlet input stream.
+     *
+     * @param in            servlet input stream.
+     * @param contentLength declared length of the request entity.
+     * @param callback      callback notified when the entity has been read.
+     */
+    public NonBlockingEntityReader(final ServletInputStream in, final int contentLength, final Callback callback) {
+        this.in = in;
+        this.callback = callback;
+        this.buffer = new byte[contentLength];
+    }
+
+    /**
+     * Start reading the entity. The method must be invoked once the reader has been registered as the read listener.
+     * Data already received by the servlet container are read immediately, some containers would not notify the listener
+     * about them otherwise.
+     */
+    public void start() {
+        try {
+            onDataAvailable();
+        } catch (final IOException | RuntimeException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        if (readAvailable()) {
+            // the entity is complete, containers differ in whether and when they notify the listener
+            onAllDataRead();
+        }
+    }
+
+    /**
+     * Read the data available without blocking.
+     *
+     * @return {@code true} if the whole entity has been read.
+     */
+    private synchronized boolean readAvailable() throws IOException {
+        while (count < buffer.length && in.isReady()) {
+            final int read = in.read(buffer, count, buffer.length - count);
+            if (read == -1) {
+                throw new EOFException(LocalizationMessages.NON_BLOCKING_ENTITY_INCOMPLETE(buffer.length));
+            }
+            count += read;
+        }
+        return count == buffer.length;
+    }
+
+    @Override
+    public void onAllDataRead() throws IOException {
+        if (!readAvailable()) {
+            throw new EOFException(LocalizationMessages.NON_BLOCKING_ENTITY_INCOMPLETE(buffer.length));
+        }
+        if (done.compareAndSet(false, true)) {
+            callback.completed(new ByteArrayInputStream(buffer));
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        if (done.compareAndSet(false, true)) {
+            callback.failed(t);
+        }
+    }
+}
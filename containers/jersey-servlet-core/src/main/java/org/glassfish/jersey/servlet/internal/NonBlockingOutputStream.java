@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * Response entity output stream writing to a {@link ServletOutputStream} in the Servlet 3.1 non-blocking mode.
+ * <p>
+ * Bytes are written to the servlet output stream as long as it {@link ServletOutputStream#isReady() is ready}, otherwise
+ * they are queued and written from {@link #onWritePossible()} once the client has read the previous data. The thread
+ * writing the entity does not wait for a slow client until more than the configured number of bytes is queued. Threads
+ * of the servlet container dispatching the request never wait, since the container does not notify the write listener
+ * before the dispatch returns. Such threads must therefore only use the stream for responses that do not exceed
+ * the configured number of bytes (see {@link #isContainerThread()}).
+ * </p>
+ * <p>
+ * The stream does not close the servlet output stream; the asynchronous request processing is completed by the
+ * {@link #complete(Runnable) completion callback} once all the queued bytes are written.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class NonBlockingOutputStream extends OutputStream implements WriteListener {
+
+    private static final Logger LOGGER = Logger.getLogger(NonBlockingOutputStream.class.getName());
+
+    private static final ThreadLocal<Boolean> CONTAINER_THREAD = new ThreadLocal<>();
+
+    private final ServletOutputStream out;
+    private final int maxQueued;
+
+    private final Deque<byte[]> queue = new ArrayDeque<>();
+    private long queued;
+    private boolean flushPending;
+    private boolean closed;
+    private Throwable error;
+    private Runnable onComplete;
+
+    /**
+     * Create new non-blocking output stream. The stream must be {@link ServletOutputStream#setWriteListener(WriteListener)
+     * registered} as the write listener of the servlet output stream before it is used.
+     *
+     * @param out       servlet output stream.
+     * @param maxQueued number of queued bytes above which the writing thread waits until the client catches up.
+     */
+    public NonBlockingOutputStream(final ServletOutputStream out, final int maxQueued) {
+        this.out = out;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Run the task in the servlet container thread dispatching the request. Writes to a non-blocking output stream done by
+     * the task never wait for the client.
+     *
+     * @param task task processing the request.
+     */
+    public static void runInContainerThread(final Runnable task) {
+        final Boolean previous = CONTAINER_THREAD.get();
+        CONTAINER_THREAD.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                CONTAINER_THREAD.remove();
+            }
+        }
+    }
+
+    /**
+     * Check whether the current thread is a servlet container thread {@link #runInContainerThread(Runnable) dispatching
+     * the request}.
+     *
+     * @return {@code true} if the current thread must not wait for the client.
+     */
+    static boolean isContainerThread() {
+        return CONTAINER_THREAD.get() != null;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        synchronized (this) {
+            checkError();
+            if (queue.isEmpty() && out.isReady()) {
+                out.write(b, off, len);
+                return;
+            }
+            // the write listener is notified once the servlet output stream is ready again
+            queue.add(Arrays.copyOfRange(b, off, off + len));
+            queued += len;
+
+            if (!isContainerThread()) {
+                try {
+                    while (queued > maxQueued && error == null) {
+                        wait();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+                checkError();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            checkError();
+            if (queue.isEmpty() && out.isReady()) {
+                out.flush();
+            } else {
+                flushPending = true;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // do not close - let the servlet container close the stream
+    }
+
+    /**
+     * Invoke the callback once all the queued bytes are written, or the writing has failed.
+     *
+     * @param callback callback completing the asynchronous request processing.
+     */
+    public void complete(final Runnable callback) {
+        synchronized (this) {
+            closed = true;
+            if (!isDrained()) {
+                onComplete = callback;
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        final Runnable callback;
+        synchronized (this) {
+            try {
+                while (!queue.isEmpty() && out.isReady()) {
+                    final byte[] bytes = queue.poll();
+                    queued -= bytes.length;
+                    out.write(bytes);
+                }
+                if (queue.isEmpty() && flushPending && out.isReady()) {
+                    flushPending = false;
+                    out.flush();
+                }
+            } finally {
+                notifyAll();
+            }
+            callback = takeCallback();
+        }
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_FAILED(), t);
+        final Runnable callback;
+        synchronized (this) {
+            error = t;
+            queue.clear();
+            queued = 0;
+            flushPending = false;
+            notifyAll();
+            callback = takeCallback();
+        }
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    private boolean isDrained() {
+        return error != null || (queue.isEmpty() && !flushPending);
+    }
+
+    private Runnable takeCallback() {
+        if (closed && onComplete != null && isDrained()) {
+            final Runnable callback = onComplete;
+            onComplete = null;
+            return callback;
+        }
+        return null;
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw error instanceof IOException ? (IOException) error : new IOException(error);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import java.util.logging.Logger;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.glassfish.jersey.server.ContainerException;
@@ -70,6 +71,12 @@ public class ResponseWriter implements ContainerResponseWriter {
 
     private final JerseyRequestTimeoutHandler requestTimeoutHandler;
 
+    /**
+     * Maximum number of response bytes queued by the non-blocking output, {@code 0} if the blocking output is used.
+     */
+    private final int nonBlockingBufferSize;
+    private volatile NonBlockingOutputStream nonBlockingOutput;
+
     /**
      * Creates a new instance to write a single Jersey response.
      *
@@ -86,6 +93,33 @@ public class ResponseWriter implements ContainerResponseWriter {
                           final HttpServletResponse response,
                           final AsyncContextDelegate asyncExt,
                           final ScheduledExecutorService timeoutTaskExecutor) {
+        this(useSetStatusOn404, configSetStatusOverSendError, response, asyncExt, timeoutTaskExecutor, 0);
+    }
+
+    /**
+     * Creates a new instance to write a single Jersey response, optionally using the Servlet 3.1 non-blocking output.
+     * The non-blocking output can only be used if the request has already been put into the asynchronous mode
+     * by the {@code asyncExt} delegate.
+     *
+     * @param useSetStatusOn404            true if status should be written explicitly when 404 is returned
+     * @param configSetStatusOverSendError if {@code true} method {@link HttpServletResponse#setStatus} is used over
+     *                                     {@link HttpServletResponse#sendError}
+     * @param response                     original HttpResponseRequest
+     * @param asyncExt                     delegate to use for async features implementation
+     * @param timeoutTaskExecutor          Jersey runtime executor used for background execution of timeout
+     *                                     handling tasks.
+     * @param nonBlockingBufferSize        maximum number of response bytes queued by the non-blocking output before
+     *                                     the writing thread waits for the client, {@code 0} to use the blocking output.
+     *                                     Larger responses written by a servlet container thread, as well as responses
+     *                                     of an unknown length, use the blocking output.
+     * @since 2.45
+     */
+    public ResponseWriter(final boolean useSetStatusOn404,
+                          final boolean configSetStatusOverSendError,
+                          final HttpServletResponse response,
+                          final AsyncContextDelegate asyncExt,
+                          final ScheduledExecutorService timeoutTaskExecutor,
+                          final int nonBlockingBufferSize) {
         this.useSetStatusOn404 = useSetStatusOn404;
         this.configSetStatusOverSendError = configSetStatusOverSendError;
         this.response = response;
@@ -93,6 +127,7 @@ public class ResponseWriter implements ContainerResponseWriter {
         this.responseContext = new CompletableFuture<>();
 
         this.requestTimeoutHandler = new JerseyRequestTimeoutHandler(this, timeoutTaskExecutor);
+        this.nonBlockingBufferSize = nonBlockingBufferSize;
     }
 
     @Override
@@ -154,7 +189,16 @@ public class ResponseWriter implements ContainerResponseWriter {
             return null;
         } else {
             try {
-                final OutputStream outputStream = response.getOutputStream();
+                final ServletOutputStream outputStream = response.getOutputStream();
+
+                // container threads cannot wait for the client, so they only queue the responses that fit into the buffer
+                if (nonBlockingBufferSize > 0 && (!NonBlockingOutputStream.isContainerThread()
+                        || (contentLength != -1 && contentLength <= nonBlockingBufferSize))) {
+                    final NonBlockingOutputStream nonBlocking = new NonBlockingOutputStream(outputStream, nonBlockingBufferSize);
+                    outputStream.setWriteListener(nonBlocking);
+                    nonBlockingOutput = nonBlocking;
+                    return nonBlocking;
+                }
 
                 // delegating output stream prevents closing the underlying servlet output stream,
                 // so that any Servlet filters in the chain can still write to the response after us.
@@ -171,6 +215,18 @@ public class ResponseWriter implements ContainerResponseWriter {
             callSendError();
         } finally {
             requestTimeoutHandler.close();
+            completeAsync();
+        }
+    }
+
+    /**
+     * Complete the asynchronous processing, in the non-blocking mode once all the response bytes are written.
+     */
+    private void completeAsync() {
+        final NonBlockingOutputStream output = nonBlockingOutput;
+        if (output != null) {
+            output.complete(asyncExt::complete);
+        } else {
             asyncExt.complete();
         }
     }
@@ -234,6 +290,10 @@ public class ResponseWriter implements ContainerResponseWriter {
             }
         } finally {
             requestTimeoutHandler.close();
+            if (nonBlockingBufferSize > 0) {
+                // the request is always asynchronous in the non-blocking mode, even if the response has been committed
+                completeAsync();
+            }
             responseContext.completeExceptionally(error);
             rethrow(error);
         }
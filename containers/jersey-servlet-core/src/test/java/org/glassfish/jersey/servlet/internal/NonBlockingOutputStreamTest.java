@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NonBlockingOutputStream}.
+ */
+public class NonBlockingOutputStreamTest {
+
+    private static class TestServletOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private volatile boolean ready = true;
+        private int flushes;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(final int b) {
+            if (!ready) {
+                throw new IllegalStateException();
+            }
+            written.write(b);
+        }
+
+        @Override
+        public void flush() {
+            if (!ready) {
+                throw new IllegalStateException();
+            }
+            flushes++;
+        }
+    }
+
+    @Test
+    public void testWriteWhenReady() throws IOException {
+        final TestServletOutputStream servletStream = new TestServletOutputStream();
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(servletStream, 4);
+        final AtomicInteger completed = new AtomicInteger();
+
+        stream.write(new byte[] {1, 2, 3, 4, 5, 6});
+        stream.flush();
+        stream.complete(completed::incrementAndGet);
+
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6}, servletStream.written.toByteArray());
+        assertEquals(1, servletStream.flushes);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    public void testQueueWhenNotReady() throws IOException {
+        final TestServletOutputStream servletStream = new TestServletOutputStream();
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(servletStream, 16);
+        final AtomicInteger completed = new AtomicInteger();
+
+        stream.write(1);
+        servletStream.ready = false;
+        stream.write(new byte[] {2, 3});
+        stream.flush();
+        stream.complete(completed::incrementAndGet);
+
+        assertArrayEquals(new byte[] {1}, servletStream.written.toByteArray());
+        assertEquals(0, servletStream.flushes);
+        assertEquals(0, completed.get());
+
+        servletStream.ready = true;
+        stream.onWritePossible();
+
+        assertArrayEquals(new byte[] {1, 2, 3}, servletStream.written.toByteArray());
+        assertEquals(1, servletStream.flushes);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    public void testWriterWaitsForClient() throws Exception {
+        final TestServletOutputStream servletStream = new TestServletOutputStream();
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(servletStream, 4);
+        servletStream.ready = false;
+
+        final CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+            try {
+                stream.write(new byte[8]);
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> write.get(200, TimeUnit.MILLISECONDS));
+
+        servletStream.ready = true;
+        stream.onWritePossible();
+        write.get(10, TimeUnit.SECONDS);
+        assertEquals(8, servletStream.written.size());
+    }
+
+    @Test
+    public void testContainerThreadDoesNotWait() {
+        final TestServletOutputStream servletStream = new TestServletOutputStream();
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(servletStream, 4);
+        servletStream.ready = false;
+
+        NonBlockingOutputStream.runInContainerThread(() -> {
+            try {
+                stream.write(new byte[8]);
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertEquals(0, servletStream.written.size());
+    }
+
+    @Test
+    public void testError() throws Exception {
+        final TestServletOutputStream servletStream = new TestServletOutputStream();
+        final NonBlockingOutputStream stream = new NonBlockingOutputStream(servletStream, 4);
+        final AtomicInteger completed = new AtomicInteger();
+        servletStream.ready = false;
+
+        final CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+            try {
+                stream.write(new byte[8]);
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        stream.complete(completed::incrementAndGet);
+        assertFalse(write.isDone());
+
+        stream.onError(new IOException("Connection reset"));
+        assertThrows(Exception.class, () -> write.get(10, TimeUnit.SECONDS));
+        assertTrue(write.isCompletedExceptionally());
+        assertEquals(1, completed.get());
+        assertThrows(IOException.class, () -> stream.write(1));
+    }
+}
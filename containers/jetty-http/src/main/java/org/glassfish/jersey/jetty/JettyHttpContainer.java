@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.Principal;
 import java.util.Enumeration;
 import java.util.List;
@@ -48,6 +51,8 @@ import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.jetty.internal.LocalizationMessages;
+import org.glassfish.jersey.message.FileTransferOutput;
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -63,6 +68,7 @@ import org.eclipse.jetty.continuation.Continuation;
 import org.eclipse.jetty.continuation.ContinuationListener;
 import org.eclipse.jetty.continuation.ContinuationSupport;
 import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.HttpOutput;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Response;
 import org.eclipse.jetty.server.handler.AbstractHandler;
@@ -256,6 +262,59 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
         }
     }
 
+    /**
+     * Response entity stream that writes transferred file regions as memory mapped buffers, which Jetty writes
+     * to the connection without copying them into its own buffers.
+     */
+    private static final class ResponseOutputStream extends OutputStream implements FileTransferOutput {
+
+        /**
+         * File regions smaller than this are copied, mapping them would cost more than copying.
+         */
+        private static final int MIN_MAPPED_SIZE = 64 * 1024;
+        private static final int MAX_MAPPED_SIZE = 8 * 1024 * 1024;
+
+        private final HttpOutput output;
+
+        private ResponseOutputStream(final HttpOutput output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void transferFrom(final Path file, final long position, final long count) throws IOException {
+            if (count < MIN_MAPPED_SIZE) {
+                ReaderWriter.writeTo(file, position, count, output);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                for (long offset = 0; offset < count; offset += MAX_MAPPED_SIZE) {
+                    output.write(channel.map(FileChannel.MapMode.READ_ONLY, position + offset,
+                            Math.min(count - offset, MAX_MAPPED_SIZE)));
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
     private static final class ResponseWriter implements ContainerResponseWriter {
 
         private final Response response;
@@ -290,7 +349,8 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
             }
 
             try {
-                return response.getOutputStream();
+                final OutputStream output = response.getOutputStream();
+                return output instanceof HttpOutput ? new ResponseOutputStream((HttpOutput) output) : output;
             } catch (final IOException ioe) {
                 throw new ContainerException("Error during writing out the response headers.", ioe);
             }
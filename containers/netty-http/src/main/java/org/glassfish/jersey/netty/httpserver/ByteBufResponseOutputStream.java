@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+
+import org.glassfish.jersey.message.FileTransferOutput;
+
+/**
+ * Response entity output stream that writes the entity bytes into buffers allocated by the channel
+ * {@link io.netty.buffer.ByteBufAllocator allocator} (pooled by default) and passes them directly to the channel.
+ * <p>
+ * Unlike {@link org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput} the stream never blocks, which makes
+ * it safe to use on the event loop. On the other hand it does not apply any back-pressure, the written content
+ * is queued in the channel outbound buffer.
+ * </p>
+ * <p>
+ * File regions {@link #transferFrom(Path, long, long) transferred} to the stream are passed to the channel as
+ * {@link DefaultFileRegion file regions}, which are sent using {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}. When the channel is encrypted, the file content is read directly into
+ * channel buffers instead.
+ * </p>
+ */
+final class ByteBufResponseOutputStream extends OutputStream implements FileTransferOutput {
+
+    /**
+     * Amount of buffered bytes that are passed to the channel even without an explicit flush.
+     */
+    private static final int WRITE_THRESHOLD = 64 * 1024;
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final ChannelHandlerContext ctx;
+    private final int initialCapacity;
+
+    private ByteBuf buffer;
+    private boolean closed = false;
+
+    /**
+     * Create new stream.
+     *
+     * @param ctx           channel handler context.
+     * @param contentLength length of the response entity or {@code -1} if unknown.
+     */
+    ByteBufResponseOutputStream(final ChannelHandlerContext ctx, final long contentLength) {
+        this.ctx = ctx;
+        this.initialCapacity = contentLength > 0 ? (int) Math.min(contentLength, WRITE_THRESHOLD) : DEFAULT_CAPACITY;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        buffer().writeByte(b);
+        writeIfFull();
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        buffer().writeBytes(b, off, len);
+        writeIfFull();
+    }
+
+    @Override
+    public void transferFrom(final Path file, final long position, final long count) throws IOException {
+        checkClosed();
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        if (ctx.pipeline().get(SslHandler.class) == null) {
+            if (buffer != null) {
+                ctx.write(new DefaultHttpContent(buffer));
+                buffer = null;
+            }
+            // the region closes the channel once it is written
+            ctx.write(new DefaultFileRegion(channel, position, count));
+            return;
+        }
+
+        try {
+            long remaining = count;
+            while (remaining > 0) {
+                final ByteBuf buf = buffer();
+                final int length = (int) Math.min(remaining, Math.max(buf.writableBytes(), initialCapacity));
+                final int read = buf.writeBytes(channel, position + count - remaining, length);
+                if (read == -1) {
+                    throw new EOFException();
+                }
+                remaining -= read;
+                writeIfFull();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!closed && buffer != null && buffer.isReadable()) {
+            ctx.writeAndFlush(new DefaultHttpContent(buffer));
+            buffer = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        final ByteBuf last = buffer == null ? Unpooled.EMPTY_BUFFER : buffer;
+        buffer = null;
+        ctx.writeAndFlush(new DefaultLastHttpContent(last));
+    }
+
+    private void checkClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Stream already closed.");
+        }
+    }
+
+    private ByteBuf buffer() throws IOException {
+        checkClosed();
+        if (buffer == null) {
+            buffer = ctx.alloc().buffer(initialCapacity);
+        }
+        return buffer;
+    }
+
+    private void writeIfFull() {
+        if (buffer.readableBytes() >= WRITE_THRESHOLD) {
+            ctx.write(new DefaultHttpContent(buffer));
+            buffer = null;
+        }
+    }
+}
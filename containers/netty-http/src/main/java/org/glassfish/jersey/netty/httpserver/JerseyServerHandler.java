@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,10 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,6 +27,8 @@ import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.MediaType;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -36,15 +40,22 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import org.glassfish.jersey.internal.PropertiesDelegate;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.internal.ContainerUtils;
+import org.glassfish.jersey.server.internal.InternalServerProperties;
 
 /**
  * {@link io.netty.channel.ChannelInboundHandler} which servers as a bridge
  * between Netty and Jersey. Handles additional validation on the payload size
  * that is controlled by a JVM property {@code max.http.request.entitySizeMb}.
+ * <p>
+ * Requests are processed on the container executor service, unless
+ * {@link NettyServerProperties#EVENT_LOOP_PROCESSING_ENABLED event loop processing} is enabled. Synchronous resource
+ * methods are always invoked on the container executor service.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
@@ -54,6 +65,12 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
     private final NettyInputStream nettyInputStream = new NettyInputStream();
     private final NettyHttpContainer container;
     private final ResourceConfig resourceConfig;
+    private final boolean eventLoopProcessing;
+    private final int eventLoopMaxEntitySize;
+
+    // request processed on the event loop which entity is being aggregated
+    private ContainerRequest aggregatedRequest;
+    private CompositeByteBuf aggregatedEntity;
 
     private static final long MAX_REQUEST_ENTITY_BYTES = Long.getLong("jersey.max.http.request.entitySizeMb", new Long(50000))
             .longValue() * 1024 * 1024; //50 MB default limit
@@ -68,6 +85,12 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
         this.baseUri = baseUri;
         this.container = container;
         this.resourceConfig = resourceConfig;
+
+        final Map<String, Object> properties = resourceConfig == null
+                ? Collections.<String, Object>emptyMap() : resourceConfig.getProperties();
+        this.eventLoopProcessing = PropertiesHelper.isProperty(properties, NettyServerProperties.EVENT_LOOP_PROCESSING_ENABLED);
+        this.eventLoopMaxEntitySize = PropertiesHelper.getValue(properties, NettyServerProperties.EVENT_LOOP_MAX_ENTITY_SIZE,
+                NettyServerProperties.DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE, null);
     }
 
     @Override
@@ -79,10 +102,10 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
             nettyInputStream.clear(); // clearing the content - possible leftover from previous request processing.
             final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
-            requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
-
             long contentLength = req.headers().contains(HttpHeaderNames.CONTENT_LENGTH) ? HttpUtil.getContentLength(req)
                     : -1L;
+            boolean chunked = HttpUtil.isTransferEncodingChunked(req);
+            boolean hasEntity = false;
             if (contentLength >= MAX_REQUEST_ENTITY_BYTES) {
                 requestContext.abortWith(javax.ws.rs.core.Response.status(Status.REQUEST_ENTITY_TOO_LARGE).build());
             } else {
@@ -97,30 +120,53 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                         : false;
                 //process entity streams only if there is an entity issued in the request (i.e., content-length >=0).
                 //Otherwise, it's safe to discard during next processing
-                if ((!isJson && contentLength != -1) || HttpUtil.isTransferEncodingChunked(req)
-                        || (isJson && contentLength >= 2)) {
-                    requestContext.setEntityStream(nettyInputStream);
-                }
+                hasEntity = (!isJson && contentLength != -1) || chunked || (isJson && contentLength >= 2);
             }
 
+            // requests with a small entity of a known size are processed on the event loop once the entity is aggregated
+            final boolean eventLoop = eventLoopProcessing
+                    && (!hasEntity || (!chunked && contentLength <= eventLoopMaxEntitySize));
+
+            requestContext.setWriter(new NettyResponseWriter(ctx, req, container, eventLoop));
+
             // copying headers from netty request to jersey container request context.
             for (String name : req.headers().names()) {
                 requestContext.headers(name, req.headers().getAll(name));
             }
 
-            // must be like this, since there is a blocking read from Jersey
-            container.getExecutorService().execute(new Runnable() {
-                @Override
-                public void run() {
+            if (eventLoop) {
+                // only suspended and CompletionStage returning resource methods are invoked on the event loop
+                requestContext.setProperty(InternalServerProperties.BLOCKING_INVOCATION_EXECUTOR, container.getExecutorService());
+                if (hasEntity) {
+                    aggregatedRequest = requestContext;
+                    aggregatedEntity = ctx.alloc().compositeBuffer();
+                } else {
                     container.getApplicationHandler().handle(requestContext);
                 }
-            });
+            } else {
+                if (hasEntity) {
+                    requestContext.setEntityStream(nettyInputStream);
+                }
+
+                // must be like this, since there is a blocking read from Jersey
+                container.getExecutorService().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        container.getApplicationHandler().handle(requestContext);
+                    }
+                });
+            }
         }
 
         if (msg instanceof HttpContent) {
           HttpContent httpContent = (HttpContent) msg;
 
           ByteBuf content = httpContent.content();
+          if (aggregatedRequest != null) {
+              aggregate(content, msg instanceof LastHttpContent);
+              return;
+          }
+
           if (content.isReadable()) {
               nettyInputStream.publish(content);
           }
@@ -131,6 +177,44 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
       }
     }
 
+    /**
+     * Aggregate the request entity of a request processed on the event loop and process the request once the entity
+     * is complete.
+     *
+     * @param content request entity content.
+     * @param last    {@code true} if the content is the last part of the request entity.
+     */
+    private void aggregate(final ByteBuf content, final boolean last) {
+        if (content.isReadable()) {
+            aggregatedEntity.addComponent(true, content);
+        } else {
+            content.release();
+        }
+
+        if (last) {
+            final ContainerRequest requestContext = aggregatedRequest;
+            final byte[] entity = ByteBufUtil.getBytes(aggregatedEntity);
+            releaseAggregatedEntity();
+
+            requestContext.setEntityStream(new ByteArrayInputStream(entity));
+            container.getApplicationHandler().handle(requestContext);
+        }
+    }
+
+    private void releaseAggregatedEntity() {
+        if (aggregatedEntity != null) {
+            aggregatedEntity.release();
+        }
+        aggregatedEntity = null;
+        aggregatedRequest = null;
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releaseAggregatedEntity();
+        super.channelInactive(ctx);
+    }
+
     /**
      * Create Jersey {@link ContainerRequest} based on Netty {@link HttpRequest}.
      *
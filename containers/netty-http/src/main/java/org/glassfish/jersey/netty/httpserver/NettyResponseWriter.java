@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.File;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.message.FileSegment;
 import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
@@ -62,6 +64,7 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private final ChannelHandlerContext ctx;
     private final HttpRequest req;
     private final NettyHttpContainer container;
+    private final boolean directWrite;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
@@ -69,9 +72,24 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private boolean responseWritten = false;
 
     NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container) {
+        this(ctx, req, container, false);
+    }
+
+    /**
+     * Create new response writer.
+     *
+     * @param ctx         channel handler context.
+     * @param req         Netty HTTP request.
+     * @param container   Netty container.
+     * @param directWrite if {@code true}, the response entity is written directly into channel buffers without blocking
+     *                    when the response is written on the event loop or the entity is a file (used when
+     *                    the request is processed on the event loop).
+     */
+    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container, boolean directWrite) {
         this.ctx = ctx;
         this.req = req;
         this.container = container;
+        this.directWrite = directWrite;
     }
 
     @Override
@@ -103,8 +121,12 @@ class NettyResponseWriter implements ContainerResponseWriter {
             response.headers().add(e.getKey(), e.getValue());
         }
 
+        final boolean fileEntity = isFileEntity(responseContext.getEntity());
         if (contentLength == -1) {
-            HttpUtil.setTransferEncodingChunked(response, true);
+            // keep the length of file entities (set by the file providers) which content is transferred, chunk otherwise
+            if (!fileEntity || !response.headers().contains(HttpHeaderNames.CONTENT_LENGTH)) {
+                HttpUtil.setTransferEncodingChunked(response, true);
+            }
         } else if (req.method() != HttpMethod.HEAD || !response.headers().contains(HttpHeaderNames.CONTENT_LENGTH)) {
             response.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentLength);
         }
@@ -113,9 +135,23 @@ class NettyResponseWriter implements ContainerResponseWriter {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
         }
 
+        final boolean hasEntity = req.method() != HttpMethod.HEAD && (contentLength > 0 || contentLength == -1);
+
+        // file regions do not need back-pressure, so they are passed to the channel directly from any thread
+        if (directWrite && (ctx.executor().inEventLoop() || fileEntity)) {
+            // status line and headers are flushed together with the (first part of the) entity
+            ctx.write(response);
+
+            if (hasEntity) {
+                return new ByteBufResponseOutputStream(ctx, contentLength);
+            }
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            return null;
+        }
+
         ctx.writeAndFlush(response);
 
-        if (req.method() != HttpMethod.HEAD && (contentLength > 0 || contentLength == -1)) {
+        if (hasEntity) {
 
             JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ctx.channel());
 
@@ -132,6 +168,10 @@ class NettyResponseWriter implements ContainerResponseWriter {
         }
     }
 
+    private static boolean isFileEntity(final Object entity) {
+        return entity instanceof File || entity instanceof FileSegment;
+    }
+
     @Override
     public boolean suspend(long timeOut, TimeUnit timeUnit, final ContainerResponseWriter.TimeoutHandler
             timeoutHandler) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Netty HTTP container.
+ *
+ * @since 2.45
+ */
+@PropertiesClass
+public final class NettyServerProperties {
+
+    /**
+     * <p>
+     *     If {@code true}, requests without an entity and requests with a small entity (see
+     *     {@link #EVENT_LOOP_MAX_ENTITY_SIZE}) are processed directly on the Netty event loop instead of being
+     *     dispatched to the container executor service. The request entity of such requests is fully aggregated before the
+     *     request is processed and the response bytes are written into pooled buffers of the channel allocator.
+     * </p>
+     * <p>
+     *     Only resource methods that are suspended (e.g. inject {@link javax.ws.rs.container.AsyncResponse}) or return
+     *     a {@link java.util.concurrent.CompletionStage} are invoked on the event loop. Other resource methods are invoked
+     *     on the container executor service, which also writes their responses. Filters, interceptors and entity
+     *     providers that run on the event loop must not block.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String EVENT_LOOP_PROCESSING_ENABLED = "jersey.config.server.netty.eventLoopProcessing.enabled";
+
+    /**
+     * <p>
+     *     The maximal size (in bytes) of a request entity that is aggregated and processed on the Netty event loop if
+     *     {@link #EVENT_LOOP_PROCESSING_ENABLED event loop processing} is enabled. Requests with a larger or chunked entity
+     *     are dispatched to the container executor service.
+     * </p>
+     * <p>
+     *     The default value is {@value #DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String EVENT_LOOP_MAX_ENTITY_SIZE = "jersey.config.server.netty.eventLoopProcessing.maxEntitySize";
+
+    /**
+     * The default value of {@link #EVENT_LOOP_MAX_ENTITY_SIZE}.
+     *
+     * @since 2.45
+     */
+    public static final int DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE = 8192;
+
+    private NettyServerProperties() {
+        // prevents instantiation
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -271,6 +271,29 @@ public final class CommonProperties {
      */
     public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_SERVER = "jersey.config.server.contentLength.buffer";
 
+    /**
+     * If {@code true}, the buffers used to buffer the outbound message entity (see
+     * {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}) are acquired from a shared
+     * {@link org.glassfish.jersey.message.internal.StripedBufferPool buffer pool} instead of being allocated for every
+     * message. The value can also be an instance of {@link org.glassfish.jersey.message.internal.BufferPool}, which is
+     * then used as the buffer pool.
+     * <p>
+     * The buffer is released back to the pool once the buffered entity is written to the underlying output stream,
+     * so the pooling must be enabled only if the underlying output stream does not retain the written byte arrays.
+     * </p>
+     * The value of this property may be overridden by the client/server variant of this property
+     * (<tt>jersey.config.server.contentLength.buffer.pool</tt> or <tt>jersey.config.client.contentLength.buffer.pool</tt>).
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL = "jersey.config.contentLength.buffer.pool";
+
     /**
      * Disable some of the default providers from being loaded. The following providers extend application footprint
      * by XML dependencies, which is too heavy for native image, or by AWT which may possibly be not available by JDK 11 desktop:
@@ -389,6 +412,44 @@ public final class CommonProperties {
      */
     public static String USE_VIRTUAL_THREADS = "jersey.config.threads.use.virtual";
 
+    /**
+     * <p>
+     *     Defines the maximum number of distinct header values whose parsed representation is cached by
+     *     {@link org.glassfish.jersey.message.internal.HttpHeaderReader}, per cached header type (e.g. {@code Accept},
+     *     {@code Content-Type}, {@code Cookie}). The value {@code 0} disables the caching.
+     * </p>
+     * <p>
+     *     This property is read from the system properties.
+     * </p>
+     * <p>
+     *     The default value is {@value org.glassfish.jersey.message.internal.HeaderValueCache#DEFAULT_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.45
+     */
+    public static final String HEADER_CACHE_SIZE = "jersey.config.headers.cache.size";
+
+    /**
+     * <p>
+     *     Defines the time in milliseconds after the last access a parsed header value is removed from the
+     *     {@link org.glassfish.jersey.message.internal.HttpHeaderReader} cache. The value {@code 0} means
+     *     the cached values do not expire and are only evicted by the {@link #HEADER_CACHE_SIZE size} limit.
+     * </p>
+     * <p>
+     *     This property is read from the system properties.
+     * </p>
+     * <p>
+     *     The default value is {@value org.glassfish.jersey.message.internal.HeaderValueCache#DEFAULT_EXPIRY}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.45
+     */
+    public static final String HEADER_CACHE_EXPIRY = "jersey.config.headers.cache.expiry";
+
     /**
      * Prevent instantiation.
      */
@@ -145,7 +145,7 @@ public final class CacheBuilder<K, V> {
     static final int DEFAULT_EXPIRATION_NANOS = 0;
     static final int DEFAULT_REFRESH_NANOS = 0;
     private final int initialCapacity = UNSET_INT;
-    private final int concurrencyLevel = UNSET_INT;
+    private int concurrencyLevel = UNSET_INT;
     private long maximumSize = UNSET_INT;
     private final long maximumWeight = UNSET_INT;
     private final long expireAfterWriteNanos = UNSET_INT;
@@ -168,6 +168,23 @@ public final class CacheBuilder<K, V> {
         return (concurrencyLevel == UNSET_INT) ? DEFAULT_CONCURRENCY_LEVEL : concurrencyLevel;
     }
 
+    /**
+     * Guides the allowed concurrency among update operations. Used as a hint for internal sizing. The
+     * table is internally partitioned to try to permit the indicated number of concurrent updates
+     * without contention. Reads are not blocked by updates.
+     *
+     * @param concurrencyLevel estimated number of concurrently updating threads
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is nonpositive
+     * @throws IllegalStateException    if a concurrency level was already set
+     */
+    public CacheBuilder<K, V> concurrencyLevel(int concurrencyLevel) {
+        checkState(this.concurrencyLevel == UNSET_INT, "concurrency level was already set to %s",
+                this.concurrencyLevel);
+        checkArgument(concurrencyLevel > 0);
+        this.concurrencyLevel = concurrencyLevel;
+        return this;
+    }
+
     /**
      * Specifies the maximum number of entries the cache may contain. Note that the cache <b>may evict
      * an entry before this limit is exceeded</b>. As the cache size grows close to the maximum, the
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -46,18 +46,36 @@ public abstract class LRU<K, V> {
      * @return new LRU
      */
     public static <K, V> LRU<K, V> create() {
-        return LRUFactory.createLRU();
+        return LRUFactory.createLRU(LRUFactory.LRU_CACHE_SIZE, LRUFactory.TIMEOUT);
+    }
+
+    /**
+     * Create new LRU with the given maximum size and expiration. The cache is partitioned so that
+     * concurrent updates from different threads do not contend on a single lock, reads are not blocked.
+     *
+     * @param maximumSize maximum number of the cached entries.
+     * @param expireAfterAccess time in milliseconds after the last access an entry is removed from the cache,
+     *                          {@code 0} or a negative value for no expiration.
+     * @return new LRU
+     * @since 2.45
+     */
+    public static <K, V> LRU<K, V> create(long maximumSize, long expireAfterAccess) {
+        return LRUFactory.createLRU(maximumSize, expireAfterAccess);
     }
 
     private static class LRUFactory {
-        // TODO configure via the Configuration
         public static final int LRU_CACHE_SIZE = 128;
         public static final long TIMEOUT = 5000L;
-        private static <K, V> LRU<K, V> createLRU() {
-            final Cache<K, V> CACHE = CacheBuilder.newBuilder()
-                    .maximumSize(LRU_CACHE_SIZE)
-                    .expireAfterAccess(TIMEOUT, TimeUnit.MILLISECONDS)
-                    .build();
+        private static final int CONCURRENCY_LEVEL = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        private static <K, V> LRU<K, V> createLRU(long maximumSize, long expireAfterAccess) {
+            final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                    .concurrencyLevel(CONCURRENCY_LEVEL)
+                    .maximumSize(maximumSize);
+            if (expireAfterAccess > 0) {
+                builder.expireAfterAccess(expireAfterAccess, TimeUnit.MILLISECONDS);
+            }
+            final Cache<K, V> CACHE = builder.build();
             return new LRU<K, V>() {
                 @Override
                 public V getIfPresent(Object key) {
@@ -72,5 +90,4 @@ public abstract class LRU<K, V> {
         }
     }
 
-
 }
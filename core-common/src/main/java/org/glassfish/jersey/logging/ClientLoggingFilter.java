@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -65,6 +65,11 @@ final class ClientLoggingFilter extends LoggingInterceptor implements ClientRequ
      *                      and print "...more..." string at the end. Negative values are interpreted as zero.
      *  separator      delimiter for particular log lines. Default is Linux new line delimiter
      *  redactHeaders  a collection of HTTP headers to be redacted when logging.
+     *  samplingRate   fraction of the requests to be logged.
+     *  includePaths   request URI path prefixes of the requests to be logged.
+     *  excludePaths   request URI path prefixes of the requests not to be logged.
+     *  async          whether the messages are passed to the logger by a background thread.
+     *  asyncQueueSize maximum number of messages waiting for the background thread.
      */
     public ClientLoggingFilter(LoggingFeature.LoggingFeatureBuilder builder) {
         super(builder);
@@ -72,7 +77,8 @@ final class ClientLoggingFilter extends LoggingInterceptor implements ClientRequ
 
     @Override
     public void filter(final ClientRequestContext context) throws IOException {
-        if (!logger.isLoggable(level)) {
+        if (!isLogged(context.getUri())) {
+            context.setProperty(LOGGING_SKIPPED_PROPERTY, Boolean.TRUE);
             return;
         }
         final long id = _id.incrementAndGet();
@@ -96,10 +102,13 @@ final class ClientLoggingFilter extends LoggingInterceptor implements ClientRequ
     @Override
     public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext)
             throws IOException {
-        if (!logger.isLoggable(level)) {
+        if (!logger.isLoggable(level) || requestContext.getProperty(LOGGING_SKIPPED_PROPERTY) != null) {
             return;
         }
         final Object requestId = requestContext.getProperty(LOGGING_ID_PROPERTY);
+        if (requestId == null && !isLogged(requestContext.getUri())) {
+            return;
+        }
         final long id = requestId != null ? (Long) requestId : _id.incrementAndGet();
 
         final StringBuilder b = new StringBuilder();
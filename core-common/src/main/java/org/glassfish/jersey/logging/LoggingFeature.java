@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -45,6 +45,11 @@ import org.glassfish.jersey.CommonProperties;
  * <li>{@link #LOGGING_FEATURE_MAX_ENTITY_SIZE}</li>
  * <li>{@link #LOGGING_FEATURE_SEPARATOR}</li>
  * <li>{@link #LOGGING_FEATURE_REDACT_HEADERS}</li>
+ * <li>{@link #LOGGING_FEATURE_SAMPLING_RATE}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_INCLUDE}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_EXCLUDE}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC_QUEUE_SIZE}</li>
  * </ul>
  * <p>
  * If any of the configuration value is not set, following default values are applied:
@@ -55,6 +60,10 @@ import org.glassfish.jersey.CommonProperties;
  * <li>maximum entity size: {@value #DEFAULT_MAX_ENTITY_SIZE}</li>
  * <li>line separator: {@link #DEFAULT_SEPARATOR}</li>
  * <li>redact headers: {@value #DEFAULT_REDACT_HEADERS}</li>
+ * <li>sampling rate: {@value #DEFAULT_SAMPLING_RATE}</li>
+ * <li>included and excluded paths: none</li>
+ * <li>asynchronous logging: {@code false}</li>
+ * <li>asynchronous logging queue size: {@value #DEFAULT_ASYNC_QUEUE_SIZE}</li>
  * </ul>
  * <p>
  * Server configurable properties:
@@ -65,6 +74,11 @@ import org.glassfish.jersey.CommonProperties;
  * <li>{@link #LOGGING_FEATURE_MAX_ENTITY_SIZE_SERVER}</li>
  * <li>{@link #LOGGING_FEATURE_SEPARATOR_SERVER}</li>
  * <li>{@link #LOGGING_FEATURE_REDACT_HEADERS_SERVER}</li>
+ * <li>{@link #LOGGING_FEATURE_SAMPLING_RATE_SERVER}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_INCLUDE_SERVER}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_EXCLUDE_SERVER}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC_SERVER}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC_QUEUE_SIZE_SERVER}</li>
  * </ul>
  * Client configurable properties:
  * <ul>
@@ -74,6 +88,11 @@ import org.glassfish.jersey.CommonProperties;
  * <li>{@link #LOGGING_FEATURE_MAX_ENTITY_SIZE_CLIENT}</li>
  * <li>{@link #LOGGING_FEATURE_SEPARATOR_CLIENT}</li>
  * <li>{@link #LOGGING_FEATURE_REDACT_HEADERS_CLIENT}</li>
+ * <li>{@link #LOGGING_FEATURE_SAMPLING_RATE_CLIENT}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_INCLUDE_CLIENT}</li>
+ * <li>{@link #LOGGING_FEATURE_PATHS_EXCLUDE_CLIENT}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC_CLIENT}</li>
+ * <li>{@link #LOGGING_FEATURE_ASYNC_QUEUE_SIZE_CLIENT}</li>
  * </ul>
  *
  * @author Ondrej Kosatka
@@ -105,6 +124,18 @@ public class LoggingFeature implements Feature {
      * Default headers to be redacted. If multiple, separate each header with a semicolon.
      */
     public static final String DEFAULT_REDACT_HEADERS = HttpHeaders.AUTHORIZATION;
+    /**
+     * Default fraction of the requests to be logged.
+     *
+     * @since 2.45
+     */
+    public static final double DEFAULT_SAMPLING_RATE = 1.0;
+    /**
+     * Default maximum number of messages waiting to be logged by the asynchronous logging.
+     *
+     * @since 2.45
+     */
+    public static final int DEFAULT_ASYNC_QUEUE_SIZE = 1024;
 
     private static final String LOGGER_NAME_POSTFIX = ".logger.name";
     private static final String LOGGER_LEVEL_POSTFIX = ".logger.level";
@@ -112,6 +143,11 @@ public class LoggingFeature implements Feature {
     private static final String MAX_ENTITY_POSTFIX = ".entity.maxSize";
     private static final String SEPARATOR_POSTFIX = ".separator";
     private static final String REDACT_HEADERS_POSTFIX = ".headers.redact";
+    private static final String SAMPLING_RATE_POSTFIX = ".samplingRate";
+    private static final String PATHS_INCLUDE_POSTFIX = ".paths.include";
+    private static final String PATHS_EXCLUDE_POSTFIX = ".paths.exclude";
+    private static final String ASYNC_POSTFIX = ".async";
+    private static final String ASYNC_QUEUE_SIZE_POSTFIX = ".async.queueSize";
     private static final String LOGGING_FEATURE_COMMON_PREFIX = "jersey.config.logging";
     /**
      * Common logger name property.
@@ -137,6 +173,41 @@ public class LoggingFeature implements Feature {
      * Common property for configuring headers to be redacted. The headers are semicolon-separated.
      */
     public static final String LOGGING_FEATURE_REDACT_HEADERS = LOGGING_FEATURE_COMMON_PREFIX + REDACT_HEADERS_POSTFIX;
+    /**
+     * Common property for configuring the fraction of the requests to be logged, a number between {@code 0} and {@code 1}.
+     * The decision is made once for every request, so that its response is logged only if the request is logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_SAMPLING_RATE = LOGGING_FEATURE_COMMON_PREFIX + SAMPLING_RATE_POSTFIX;
+    /**
+     * Common property for configuring the paths of the requests to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path. If set, only the requests with a matching path are logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_INCLUDE = LOGGING_FEATURE_COMMON_PREFIX + PATHS_INCLUDE_POSTFIX;
+    /**
+     * Common property for configuring the paths of the requests not to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_EXCLUDE = LOGGING_FEATURE_COMMON_PREFIX + PATHS_EXCLUDE_POSTFIX;
+    /**
+     * Common property for enabling the asynchronous logging. The messages are formatted on the request thread, but passed to
+     * the logger by a background thread, so that slow log handlers do not delay the requests.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC = LOGGING_FEATURE_COMMON_PREFIX + ASYNC_POSTFIX;
+    /**
+     * Common property for configuring the maximum number of messages waiting to be logged by the asynchronous logging.
+     * Messages exceeding the limit are dropped.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC_QUEUE_SIZE = LOGGING_FEATURE_COMMON_PREFIX + ASYNC_QUEUE_SIZE_POSTFIX;
 
     private static final String LOGGING_FEATURE_SERVER_PREFIX = "jersey.config.server.logging";
     /**
@@ -164,6 +235,41 @@ public class LoggingFeature implements Feature {
      */
     public static final String LOGGING_FEATURE_REDACT_HEADERS_SERVER =
             LOGGING_FEATURE_SERVER_PREFIX + REDACT_HEADERS_POSTFIX;
+    /**
+     * Server property for configuring the fraction of the requests to be logged, a number between {@code 0} and {@code 1}.
+     * The decision is made once for every request, so that its response is logged only if the request is logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_SAMPLING_RATE_SERVER = LOGGING_FEATURE_SERVER_PREFIX + SAMPLING_RATE_POSTFIX;
+    /**
+     * Server property for configuring the paths of the requests to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path. If set, only the requests with a matching path are logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_INCLUDE_SERVER = LOGGING_FEATURE_SERVER_PREFIX + PATHS_INCLUDE_POSTFIX;
+    /**
+     * Server property for configuring the paths of the requests not to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_EXCLUDE_SERVER = LOGGING_FEATURE_SERVER_PREFIX + PATHS_EXCLUDE_POSTFIX;
+    /**
+     * Server property for enabling the asynchronous logging. The messages are formatted on the request thread, but passed to
+     * the logger by a background thread, so that slow log handlers do not delay the requests.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC_SERVER = LOGGING_FEATURE_SERVER_PREFIX + ASYNC_POSTFIX;
+    /**
+     * Server property for configuring the maximum number of messages waiting to be logged by the asynchronous logging.
+     * Messages exceeding the limit are dropped.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC_QUEUE_SIZE_SERVER = LOGGING_FEATURE_SERVER_PREFIX + ASYNC_QUEUE_SIZE_POSTFIX;
 
     private static final String LOGGING_FEATURE_CLIENT_PREFIX = "jersey.config.client.logging";
     /**
@@ -191,6 +297,41 @@ public class LoggingFeature implements Feature {
      */
     public static final String LOGGING_FEATURE_REDACT_HEADERS_CLIENT =
             LOGGING_FEATURE_CLIENT_PREFIX + REDACT_HEADERS_POSTFIX;
+    /**
+     * Client property for configuring the fraction of the requests to be logged, a number between {@code 0} and {@code 1}.
+     * The decision is made once for every request, so that its response is logged only if the request is logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_SAMPLING_RATE_CLIENT = LOGGING_FEATURE_CLIENT_PREFIX + SAMPLING_RATE_POSTFIX;
+    /**
+     * Client property for configuring the paths of the requests to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path. If set, only the requests with a matching path are logged.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_INCLUDE_CLIENT = LOGGING_FEATURE_CLIENT_PREFIX + PATHS_INCLUDE_POSTFIX;
+    /**
+     * Client property for configuring the paths of the requests not to be logged. The paths are semicolon-separated prefixes
+     * of the request URI path.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_PATHS_EXCLUDE_CLIENT = LOGGING_FEATURE_CLIENT_PREFIX + PATHS_EXCLUDE_POSTFIX;
+    /**
+     * Client property for enabling the asynchronous logging. The messages are formatted on the request thread, but passed to
+     * the logger by a background thread, so that slow log handlers do not delay the requests.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC_CLIENT = LOGGING_FEATURE_CLIENT_PREFIX + ASYNC_POSTFIX;
+    /**
+     * Client property for configuring the maximum number of messages waiting to be logged by the asynchronous logging.
+     * Messages exceeding the limit are dropped.
+     *
+     * @since 2.45
+     */
+    public static final String LOGGING_FEATURE_ASYNC_QUEUE_SIZE_CLIENT = LOGGING_FEATURE_CLIENT_PREFIX + ASYNC_QUEUE_SIZE_POSTFIX;
 
     private final LoggingFeatureBuilder builder;
 
@@ -344,6 +485,45 @@ public class LoggingFeature implements Feature {
                         properties,
                         LOGGING_FEATURE_REDACT_HEADERS,
                         DEFAULT_REDACT_HEADERS));
+        final Double samplingRate = CommonProperties.getValue(
+                properties,
+                runtimeType == RuntimeType.SERVER
+                        ? LOGGING_FEATURE_SAMPLING_RATE_SERVER : LOGGING_FEATURE_SAMPLING_RATE_CLIENT,
+                CommonProperties.getValue(
+                        properties,
+                        LOGGING_FEATURE_SAMPLING_RATE,
+                        DEFAULT_SAMPLING_RATE));
+        final String includePaths = CommonProperties.getValue(
+                properties,
+                runtimeType == RuntimeType.SERVER
+                        ? LOGGING_FEATURE_PATHS_INCLUDE_SERVER : LOGGING_FEATURE_PATHS_INCLUDE_CLIENT,
+                CommonProperties.getValue(
+                        properties,
+                        LOGGING_FEATURE_PATHS_INCLUDE,
+                        ""));
+        final String excludePaths = CommonProperties.getValue(
+                properties,
+                runtimeType == RuntimeType.SERVER
+                        ? LOGGING_FEATURE_PATHS_EXCLUDE_SERVER : LOGGING_FEATURE_PATHS_EXCLUDE_CLIENT,
+                CommonProperties.getValue(
+                        properties,
+                        LOGGING_FEATURE_PATHS_EXCLUDE,
+                        ""));
+        final Boolean async = CommonProperties.getValue(
+                properties,
+                runtimeType == RuntimeType.SERVER ? LOGGING_FEATURE_ASYNC_SERVER : LOGGING_FEATURE_ASYNC_CLIENT,
+                CommonProperties.getValue(
+                        properties,
+                        LOGGING_FEATURE_ASYNC,
+                        Boolean.FALSE));
+        final Integer asyncQueueSize = CommonProperties.getValue(
+                properties,
+                runtimeType == RuntimeType.SERVER
+                        ? LOGGING_FEATURE_ASYNC_QUEUE_SIZE_SERVER : LOGGING_FEATURE_ASYNC_QUEUE_SIZE_CLIENT,
+                CommonProperties.getValue(
+                        properties,
+                        LOGGING_FEATURE_ASYNC_QUEUE_SIZE,
+                        DEFAULT_ASYNC_QUEUE_SIZE));
 
         final Level loggerLevel = Level.parse(filterLevel);
 
@@ -355,6 +535,13 @@ public class LoggingFeature implements Feature {
         builder.separator = builder.separator == null ? filterSeparator : builder.separator;
         builder.redactHeaders = builder.redactHeaders == null
                 ? Arrays.asList(redactHeaders.split(";")) : builder.redactHeaders;
+        builder.samplingRate = builder.samplingRate == null ? samplingRate : builder.samplingRate;
+        builder.includePaths = builder.includePaths == null
+                ? Arrays.asList(includePaths.split(";")) : builder.includePaths;
+        builder.excludePaths = builder.excludePaths == null
+                ? Arrays.asList(excludePaths.split(";")) : builder.excludePaths;
+        builder.async = builder.async == null ? async : builder.async;
+        builder.asyncQueueSize = builder.asyncQueueSize == null ? asyncQueueSize : builder.asyncQueueSize;
 
         return builder;
     }
@@ -403,7 +590,7 @@ public class LoggingFeature implements Feature {
 
     /**
      * Builder class for logging feature configuration. Accepts parameters for the filter logger, verbosity, max
-     * entity size, level, and separator.
+     * entity size, level, separator, redacted headers, sampling rate, included and excluded paths and asynchronous logging.
      */
     public static class LoggingFeatureBuilder {
 
@@ -413,6 +600,11 @@ public class LoggingFeature implements Feature {
         Level level;
         String separator;
         Collection<String> redactHeaders;
+        Double samplingRate;
+        Collection<String> includePaths;
+        Collection<String> excludePaths;
+        Boolean async;
+        Integer asyncQueueSize;
 
         public LoggingFeatureBuilder() {
 
@@ -441,6 +633,61 @@ public class LoggingFeature implements Feature {
             this.redactHeaders = redactHeaders;
             return this;
         }
+        /**
+         * Set the fraction of the requests to be logged.
+         *
+         * @param samplingRate number between {@code 0} (no request is logged) and {@code 1} (every request is logged).
+         * @return updated builder.
+         * @since 2.45
+         */
+        public LoggingFeatureBuilder samplingRate(Double samplingRate) {
+            this.samplingRate = samplingRate;
+            return this;
+        }
+        /**
+         * Set the prefixes of the request URI paths to be logged. If not empty, only matching requests are logged.
+         *
+         * @param includePaths request URI path prefixes.
+         * @return updated builder.
+         * @since 2.45
+         */
+        public LoggingFeatureBuilder includePaths(Collection<String> includePaths) {
+            this.includePaths = includePaths;
+            return this;
+        }
+        /**
+         * Set the prefixes of the request URI paths not to be logged.
+         *
+         * @param excludePaths request URI path prefixes.
+         * @return updated builder.
+         * @since 2.45
+         */
+        public LoggingFeatureBuilder excludePaths(Collection<String> excludePaths) {
+            this.excludePaths = excludePaths;
+            return this;
+        }
+        /**
+         * Enable the asynchronous logging.
+         *
+         * @param async {@code true} if the messages should be passed to the logger by a background thread.
+         * @return updated builder.
+         * @since 2.45
+         */
+        public LoggingFeatureBuilder async(Boolean async) {
+            this.async = async;
+            return this;
+        }
+        /**
+         * Set the maximum number of messages waiting to be logged by the asynchronous logging.
+         *
+         * @param asyncQueueSize maximum number of waiting messages, messages exceeding the limit are dropped.
+         * @return updated builder.
+         * @since 2.45
+         */
+        public LoggingFeatureBuilder asyncQueueSize(Integer asyncQueueSize) {
+            this.asyncQueueSize = asyncQueueSize;
+            return this;
+        }
 
         public LoggingFeature build() {
             return new LoggingFeature(this);
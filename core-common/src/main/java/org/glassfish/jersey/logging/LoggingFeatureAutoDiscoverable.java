@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,12 @@ import javax.annotation.Priority;
 
 import org.glassfish.jersey.internal.spi.AutoDiscoverable;
 
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC_CLIENT;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC_SERVER;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC_QUEUE_SIZE;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC_QUEUE_SIZE_CLIENT;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_ASYNC_QUEUE_SIZE_SERVER;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_LOGGER_LEVEL;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_LOGGER_LEVEL_CLIENT;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_LOGGER_LEVEL_SERVER;
@@ -34,9 +40,18 @@ import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_LOGGER
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_MAX_ENTITY_SIZE;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_MAX_ENTITY_SIZE_CLIENT;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_MAX_ENTITY_SIZE_SERVER;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_EXCLUDE;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_EXCLUDE_CLIENT;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_EXCLUDE_SERVER;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_INCLUDE;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_INCLUDE_CLIENT;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_PATHS_INCLUDE_SERVER;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_REDACT_HEADERS;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_REDACT_HEADERS_CLIENT;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_REDACT_HEADERS_SERVER;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SAMPLING_RATE;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SAMPLING_RATE_CLIENT;
+import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SAMPLING_RATE_SERVER;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SEPARATOR;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SEPARATOR_CLIENT;
 import static org.glassfish.jersey.logging.LoggingFeature.LOGGING_FEATURE_SEPARATOR_SERVER;
@@ -79,7 +94,12 @@ public final class LoggingFeatureAutoDiscoverable implements AutoDiscoverable {
                 || properties.containsKey(LOGGING_FEATURE_VERBOSITY)
                 || properties.containsKey(LOGGING_FEATURE_MAX_ENTITY_SIZE)
                 || properties.containsKey(LOGGING_FEATURE_SEPARATOR)
-                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS);
+                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS)
+                || properties.containsKey(LOGGING_FEATURE_SAMPLING_RATE)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_INCLUDE)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_EXCLUDE)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC_QUEUE_SIZE);
     }
 
     private boolean clientConfigured(Map properties) {
@@ -88,7 +108,12 @@ public final class LoggingFeatureAutoDiscoverable implements AutoDiscoverable {
                 || properties.containsKey(LOGGING_FEATURE_VERBOSITY_CLIENT)
                 || properties.containsKey(LOGGING_FEATURE_MAX_ENTITY_SIZE_CLIENT)
                 || properties.containsKey(LOGGING_FEATURE_SEPARATOR_CLIENT)
-                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS_CLIENT);
+                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS_CLIENT)
+                || properties.containsKey(LOGGING_FEATURE_SAMPLING_RATE_CLIENT)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_INCLUDE_CLIENT)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_EXCLUDE_CLIENT)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC_CLIENT)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC_QUEUE_SIZE_CLIENT);
     }
 
     private boolean serverConfigured(Map properties) {
@@ -97,6 +122,11 @@ public final class LoggingFeatureAutoDiscoverable implements AutoDiscoverable {
                 || properties.containsKey(LOGGING_FEATURE_VERBOSITY_SERVER)
                 || properties.containsKey(LOGGING_FEATURE_MAX_ENTITY_SIZE_SERVER)
                 || properties.containsKey(LOGGING_FEATURE_SEPARATOR_SERVER)
-                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS_SERVER);
+                || properties.containsKey(LOGGING_FEATURE_REDACT_HEADERS_SERVER)
+                || properties.containsKey(LOGGING_FEATURE_SAMPLING_RATE_SERVER)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_INCLUDE_SERVER)
+                || properties.containsKey(LOGGING_FEATURE_PATHS_EXCLUDE_SERVER)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC_SERVER)
+                || properties.containsKey(LOGGING_FEATURE_ASYNC_QUEUE_SIZE_SERVER);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,14 +17,15 @@
 package org.glassfish.jersey.logging;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.security.AccessController;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +34,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -46,7 +56,10 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.WriterInterceptor;
 import javax.ws.rs.ext.WriterInterceptorContext;
 
+import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Predicates;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.logging.LoggingFeature.Verbosity;
 import org.glassfish.jersey.message.MessageUtils;
 
@@ -74,7 +87,19 @@ abstract class LoggingInterceptor implements WriterInterceptor {
      * Logging record id property
      */
     static final String LOGGING_ID_PROPERTY = LoggingFeature.class.getName() + ".id";
+    /**
+     * Property marking a request which is not logged
+     */
+    static final String LOGGING_SKIPPED_PROPERTY = LoggingFeature.class.getName() + ".skipped";
     private static final String NOTIFICATION_PREFIX = "* ";
+    /**
+     * Maximum number of entity buffers kept for reuse.
+     */
+    private static final int ENTITY_BUFFER_POOL_SIZE = 16;
+    /**
+     * Number of seconds after which an idle asynchronous logging thread terminates.
+     */
+    private static final long ASYNC_WRITER_KEEP_ALIVE = 60;
     private static final MediaType TEXT_MEDIA_TYPE = new MediaType("text", "*");
 
     /**
@@ -112,6 +137,15 @@ abstract class LoggingInterceptor implements WriterInterceptor {
     final int maxEntitySize;
     final String separator;
     final Predicate<String> redactHeaderPredicate;
+    final double samplingRate;
+    final List<String> includePaths;
+    final List<String> excludePaths;
+    final boolean async;
+    final int asyncQueueSize;
+    private final ExecutorService asyncWriter;
+    private final AtomicInteger pendingMessages = new AtomicInteger();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final BlockingQueue<byte[]> entityBuffers = new ArrayBlockingQueue<>(ENTITY_BUFFER_POOL_SIZE);
 
     /**
      * Creates a logging filter using builder instance with custom logger and entity logging turned on,
@@ -126,6 +160,11 @@ abstract class LoggingInterceptor implements WriterInterceptor {
      *                      and print "...more..." string at the end. Negative values are interpreted as zero.
      *  separator      delimiter for particular log lines. Default is Linux new line delimiter
      *  redactHeaders  a collection of HTTP headers to be redacted when logging.
+     *  samplingRate   fraction of the requests to be logged.
+     *  includePaths   request URI path prefixes of the requests to be logged.
+     *  excludePaths   request URI path prefixes of the requests not to be logged.
+     *  async          whether the messages are passed to the logger by a background thread.
+     *  asyncQueueSize maximum number of messages waiting for the background thread.
      */
 
     LoggingInterceptor(LoggingFeature.LoggingFeatureBuilder builder) {
@@ -137,6 +176,81 @@ abstract class LoggingInterceptor implements WriterInterceptor {
         this.redactHeaderPredicate = builder.redactHeaders != null && !builder.redactHeaders.isEmpty()
                 ? new RedactHeaderPredicate(builder.redactHeaders)
                 : header -> false;
+        this.samplingRate = builder.samplingRate == null ? LoggingFeature.DEFAULT_SAMPLING_RATE : builder.samplingRate;
+        this.includePaths = paths(builder.includePaths);
+        this.excludePaths = paths(builder.excludePaths);
+        this.async = builder.async != null && builder.async;
+        this.asyncQueueSize = builder.asyncQueueSize == null
+                ? LoggingFeature.DEFAULT_ASYNC_QUEUE_SIZE : Math.max(0, builder.asyncQueueSize);
+        this.asyncWriter = async ? createAsyncWriter() : null;
+    }
+
+    /**
+     * Create the single background thread of the asynchronous logging of this filter. The thread terminates when idle,
+     * so that neither the thread nor the filter outlive the runtime the filter has been registered in, and the thread
+     * does not keep the context class loader of the thread that started it.
+     */
+    private static ExecutorService createAsyncWriter() {
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("jersey-logging-writer-%d")
+                .setDaemon(true)
+                .build();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                ASYNC_WRITER_KEEP_ALIVE, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> threadFactory.newThread(() -> {
+                    try {
+                        AccessController.doPrivileged(ReflectionHelper.setContextClassLoaderPA(null));
+                    } catch (final SecurityException e) {
+                        // the messages are still logged, with the inherited context class loader
+                    }
+                    runnable.run();
+                }));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static List<String> paths(final Collection<String> paths) {
+        if (paths == null) {
+            return Collections.emptyList();
+        }
+        return paths.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicates.not(String::isEmpty))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Decide whether the request and its response should be logged, according to the logger level, the included and
+     * excluded paths and the sampling rate.
+     *
+     * @param uri request URI.
+     * @return {@code true} if the request should be logged.
+     */
+    boolean isLogged(final URI uri) {
+        if (logger == null || !logger.isLoggable(level)) {
+            return false;
+        }
+        if (!includePaths.isEmpty() || !excludePaths.isEmpty()) {
+            final String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (!includePaths.isEmpty() && !startsWithAny(path, includePaths)) {
+                return false;
+            }
+            if (startsWithAny(path, excludePaths)) {
+                return false;
+            }
+        }
+        return samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    private static boolean startsWithAny(final String path, final List<String> prefixes) {
+        for (final String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -146,10 +260,51 @@ abstract class LoggingInterceptor implements WriterInterceptor {
      */
     void log(final StringBuilder b) {
         if (logger != null && logger.isLoggable(level)) {
-            logger.log(level, b.toString());
+            if (async) {
+                logAsync(b.toString());
+            } else {
+                logger.log(level, b.toString());
+            }
         }
     }
 
+    private void logAsync(final String message) {
+        if (pendingMessages.incrementAndGet() > asyncQueueSize) {
+            pendingMessages.decrementAndGet();
+            droppedMessages.incrementAndGet();
+            return;
+        }
+        asyncWriter.execute(() -> {
+            try {
+                final long dropped = droppedMessages.getAndSet(0);
+                if (dropped > 0) {
+                    logger.log(level, LocalizationMessages.LOGGING_MESSAGES_DROPPED(dropped));
+                }
+                logger.log(level, message);
+            } finally {
+                pendingMessages.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Get the number of messages waiting to be logged by the asynchronous logging.
+     *
+     * @return number of waiting messages.
+     */
+    int pendingMessages() {
+        return pendingMessages.get();
+    }
+
+    private byte[] acquireEntityBuffer() {
+        final byte[] buffer = entityBuffers.poll();
+        return buffer != null ? buffer : new byte[maxEntitySize + 1];
+    }
+
+    private void releaseEntityBuffer(final byte[] buffer) {
+        entityBuffers.offer(buffer);
+    }
+
     private StringBuilder prefixId(final StringBuilder b, final long id) {
         b.append(Long.toString(id)).append(" ");
         return b;
@@ -217,22 +372,25 @@ abstract class LoggingInterceptor implements WriterInterceptor {
             stream = new BufferedInputStream(stream);
         }
         stream.mark(maxEntitySize + 1);
-        final byte[] entity = new byte[maxEntitySize + 1];
-
-        int entitySize = 0;
-        while (entitySize < entity.length) {
-            int readBytes = stream.read(entity, entitySize, entity.length - entitySize);
-            if (readBytes < 0) {
-                break;
+        final byte[] entity = acquireEntityBuffer();
+        try {
+            int entitySize = 0;
+            while (entitySize < entity.length) {
+                int readBytes = stream.read(entity, entitySize, entity.length - entitySize);
+                if (readBytes < 0) {
+                    break;
+                }
+                entitySize += readBytes;
             }
-            entitySize += readBytes;
-        }
 
-        b.append(new String(entity, 0, Math.min(entitySize, maxEntitySize), charset));
-        if (entitySize > maxEntitySize) {
-            b.append("...more...");
+            b.append(new String(entity, 0, Math.min(entitySize, maxEntitySize), charset));
+            if (entitySize > maxEntitySize) {
+                b.append("...more...");
+            }
+            b.append('\n');
+        } finally {
+            releaseEntityBuffer(entity);
         }
-        b.append('\n');
         stream.reset();
         return stream;
     }
@@ -241,10 +399,16 @@ abstract class LoggingInterceptor implements WriterInterceptor {
     public void aroundWriteTo(final WriterInterceptorContext writerInterceptorContext)
             throws IOException, WebApplicationException {
         final LoggingStream stream = (LoggingStream) writerInterceptorContext.getProperty(ENTITY_LOGGER_PROPERTY);
-        writerInterceptorContext.proceed();
-        if (logger.isLoggable(level) && printEntity(verbosity, writerInterceptorContext.getMediaType())) {
+        try {
+            writerInterceptorContext.proceed();
+            if (logger.isLoggable(level) && printEntity(verbosity, writerInterceptorContext.getMediaType())) {
+                if (stream != null) {
+                    log(stream.getStringBuilder(MessageUtils.getCharset(writerInterceptorContext.getMediaType())));
+                }
+            }
+        } finally {
             if (stream != null) {
-                log(stream.getStringBuilder(MessageUtils.getCharset(writerInterceptorContext.getMediaType())));
+                stream.release();
             }
         }
     }
@@ -281,11 +445,15 @@ abstract class LoggingInterceptor implements WriterInterceptor {
 
     /**
      * Helper class used to log an entity to the output stream up to the specified maximum number of bytes.
+     * <p>
+     * At most {@code maxEntitySize + 1} bytes of the entity are captured, into a buffer reused by the following entities.
+     * </p>
      */
     class LoggingStream extends FilterOutputStream {
 
         private final StringBuilder b;
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private byte[] buffer;
+        private int size;
 
         /**
          * Creates {@code LoggingStream} with the entity and the underlying output stream as parameters.
@@ -301,10 +469,10 @@ abstract class LoggingInterceptor implements WriterInterceptor {
 
         StringBuilder getStringBuilder(final Charset charset) {
             // write entity to the builder
-            final byte[] entity = baos.toByteArray();
-
-            b.append(new String(entity, 0, Math.min(entity.length, maxEntitySize), charset));
-            if (entity.length > maxEntitySize) {
+            if (buffer != null) {
+                b.append(new String(buffer, 0, Math.min(size, maxEntitySize), charset));
+            }
+            if (size > maxEntitySize) {
                 b.append("...more...");
             }
             b.append('\n');
@@ -312,10 +480,35 @@ abstract class LoggingInterceptor implements WriterInterceptor {
             return b;
         }
 
+        /**
+         * Return the capture buffer for reuse. The captured entity is discarded.
+         */
+        void release() {
+            if (buffer != null) {
+                releaseEntityBuffer(buffer);
+                buffer = null;
+                size = 0;
+            }
+        }
+
+        private void capture(final byte[] ba, final int off, final int len) {
+            final int captured = Math.min(len, maxEntitySize + 1 - size);
+            if (captured > 0) {
+                if (buffer == null) {
+                    buffer = acquireEntityBuffer();
+                }
+                System.arraycopy(ba, off, buffer, size, captured);
+                size += captured;
+            }
+        }
+
         @Override
         public void write(final int i) throws IOException {
-            if (baos.size() <= maxEntitySize) {
-                baos.write(i);
+            if (size <= maxEntitySize) {
+                if (buffer == null) {
+                    buffer = acquireEntityBuffer();
+                }
+                buffer[size++] = (byte) i;
             }
             out.write(i);
         }
@@ -325,9 +518,7 @@ abstract class LoggingInterceptor implements WriterInterceptor {
             if ((off | len | ba.length - (len + off) | off + len) < 0) {
                 throw new IndexOutOfBoundsException();
             }
-            if (baos.size() <= maxEntitySize) {
-                baos.write(ba, off, len);
-            }
+            capture(ba, off, len);
             out.write(ba, off, len);
         }
     }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Entity representing a contiguous region of a file.
+ * <p>
+ * Returning a file segment from a resource method sends only the given part of the file. Like {@link java.io.File}
+ * entities, file segments are written using a zero-copy file transfer whenever the underlying container supports it
+ * (see {@link FileTransferOutput}). The {@code Content-Length} of the response is set to the {@link #getCount() length}
+ * of the segment unless the entity is content-encoded.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class FileSegment {
+
+    private final Path path;
+    private final long position;
+    private final long count;
+
+    /**
+     * Create a new segment of the file.
+     *
+     * @param path     path of the file.
+     * @param position position of the first byte of the segment in the file.
+     * @param count    number of bytes in the segment.
+     * @throws IllegalArgumentException in case the position or count is negative.
+     */
+    public FileSegment(final Path path, final long position, final long count) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Negative file segment position or length: " + position + ", " + count);
+        }
+        this.path = Objects.requireNonNull(path, "path");
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Create a new segment of the file.
+     *
+     * @param file     the file.
+     * @param position position of the first byte of the segment in the file.
+     * @param count    number of bytes in the segment.
+     * @throws IllegalArgumentException in case the position or count is negative.
+     */
+    public FileSegment(final File file, final long position, final long count) {
+        this(file.toPath(), position, count);
+    }
+
+    /**
+     * Get the path of the file.
+     *
+     * @return path of the file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the position of the first byte of the segment in the file.
+     *
+     * @return segment position.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Get the number of bytes in the segment.
+     *
+     * @return segment length.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "FileSegment{" + path + ", position=" + position + ", count=" + count + '}';
+    }
+}
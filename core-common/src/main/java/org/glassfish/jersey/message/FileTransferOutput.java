@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Output capable of transferring a region of a file without copying the file content through the Java heap.
+ * <p>
+ * Entity output streams provided by containers (or connectors) may implement this interface to let message
+ * body writers hand over a file region to the underlying I/O layer, which then can use
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel) sendfile},
+ * a memory mapped file or a similar zero-copy mechanism. The transferred bytes are written in order with the bytes
+ * written to the stream before and after the transfer.
+ * </p>
+ * <p>
+ * Message body writers are not expected to test for this interface directly, they should use
+ * {@link org.glassfish.jersey.message.internal.ReaderWriter#writeTo(Path, long, long, java.io.OutputStream)}
+ * instead which falls back to copying the file content if the entity stream does not support file transfers.
+ * </p>
+ *
+ * @since 2.45
+ */
+public interface FileTransferOutput {
+
+    /**
+     * Write {@code count} bytes of the {@code file} starting at {@code position} to this output.
+     *
+     * @param file     file to be transferred.
+     * @param position position in the file the transfer starts at.
+     * @param count    number of bytes to be transferred.
+     * @throws IOException in case the file cannot be read or the output cannot be written.
+     */
+    void transferFrom(Path file, long position, long count) throws IOException;
+}
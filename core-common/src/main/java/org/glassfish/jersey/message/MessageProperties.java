@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -91,6 +91,22 @@ public final class MessageProperties {
      */
     public static final int IO_DEFAULT_BUFFER_SIZE = 8192;
 
+    /**
+     * If set to {@code true}, the byte buffers used to copy byte streams by
+     * {@link org.glassfish.jersey.message.internal.ReaderWriter} are acquired from a shared
+     * {@link org.glassfish.jersey.message.internal.StripedBufferPool buffer pool} instead of being allocated for every copy.
+     * The pooling must be enabled only if the output streams the data are copied to do not retain the written byte arrays.
+     * <p />
+     * This property is read from the system properties.
+     * <p />
+     * The default value is {@code false}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.45
+     */
+    public static final String IO_BUFFER_POOL = "jersey.config.io.bufferPool";
+
     /**
      * <p>
      *     Integer value used to override maximum number of string length during the JSON processing the JSON provider accepts.
@@ -123,6 +139,28 @@ public final class MessageProperties {
      */
     public static final String LEGACY_WORKERS_ORDERING = "jersey.config.workers.legacyOrdering";
 
+    /**
+     * Maximum number of the cached {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReader} and
+     * {@link javax.ws.rs.ext.MessageBodyWriter MessageBodyWriter} lookups. The lookups are cached per Java type and media
+     * type, separately for the readers and for the writers. If the number of the cached lookups exceeds the maximum, the
+     * least recently used lookups are evicted. The property value is expected to be a positive integer otherwise it will be
+     * ignored.
+     * <p />
+     * The default value is {@value #WORKERS_LOOKUP_CACHE_DEFAULT_SIZE}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.45
+     */
+    public static final String WORKERS_LOOKUP_CACHE_SIZE = "jersey.config.workers.lookupCache.size";
+
+    /**
+     * The default maximum number ({@value}) of the cached message body worker lookups.
+     *
+     * @since 2.45
+     */
+    public static final int WORKERS_LOOKUP_CACHE_DEFAULT_SIZE = 1024;
+
     /**
      * Prevents instantiation.
      */
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+/**
+ * Pool of byte array buffers used to buffer and copy message entities.
+ * <p>
+ * A buffer {@link #acquire(int) acquired} from the pool is exclusively owned by the caller until it is
+ * {@link #release(byte[]) released} back to the pool. Released buffers must not be referenced anymore by the caller,
+ * nor by the streams the buffer content has been written to.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @see StripedBufferPool
+ * @see org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL
+ * @since 2.45
+ */
+public interface BufferPool {
+
+    /**
+     * Acquire a buffer of at least the given size.
+     *
+     * @param size minimal size of the buffer.
+     * @return buffer which length is greater or equal to the requested size.
+     */
+    byte[] acquire(int size);
+
+    /**
+     * Release the buffer back to the pool. The pool may discard the buffer.
+     *
+     * @param buffer buffer previously {@link #acquire(int) acquired} from this pool.
+     */
+    void release(byte[] buffer);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,16 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.glassfish.jersey.innate.VirtualThreadSupport;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.message.FileTransferOutput;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -51,15 +51,23 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * The internal buffer is allocated lazily, when the first byte is written. It can be started with a smaller initial size
+ * (see {@link #enableBuffering(int, int)}) and grown up to the configured buffer size as needed, and it can be
+ * {@link #setBufferPool(BufferPool) acquired from a buffer pool} and released back to the pool once the stream is committed.
+ * </p>
+ * <p>
+ * File regions {@link #transferFrom(Path, long, long) transferred} to the stream commit the stream and are passed
+ * to the adapted output stream, so that the container can write them without copying the file content.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements FileTransferOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
-    private final boolean isVirtualThread = VirtualThreadSupport.isVirtualThread();
 
     /**
      * Null stream provider.
@@ -82,10 +90,22 @@ public final class CommittingOutputStream extends OutputStream {
      * Internal buffer size.
      */
     private int bufferSize = 0;
+    /**
+     * Initial size of the internal buffer.
+     */
+    private int initialBufferSize = 0;
+    /**
+     * Pool the entity buffer is acquired from, {@code null} if the buffer is not pooled.
+     */
+    private BufferPool bufferPool;
     /**
      * Entity buffer.
      */
-    private ByteArrayOutputStream buffer;
+    private byte[] buffer;
+    /**
+     * Number of bytes in the entity buffer.
+     */
+    private int count;
     /**
      * When {@code true}, the data are written directly to output stream and not to the buffer.
      */
@@ -136,16 +156,44 @@ public final class CommittingOutputStream extends OutputStream {
      *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
      */
     public void enableBuffering(int bufferSize) {
-        Preconditions.checkState(!isCommitted && (this.buffer == null || this.buffer.size() == 0),
-                                 COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        enableBuffering(bufferSize, 0);
+    }
+
+    /**
+     * Enable buffering of the serialized entity with the internal buffer starting at the given initial size.
+     * The buffer grows up to the {@code bufferSize} if needed, so the initial size does not limit the size of the entity
+     * that can be buffered.
+     *
+     * @param bufferSize        size of the buffer. When the value is less or equal to zero the buffering will be disabled
+     *                          and {@code -1} will be passed to the
+     *                          {@link OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
+     * @param initialBufferSize initial size of the internal buffer. When the value is less or equal to zero, the buffer
+     *                          starts at {@code bufferSize}.
+     * @since 2.45
+     */
+    public void enableBuffering(int bufferSize, int initialBufferSize) {
+        Preconditions.checkState(!isCommitted && count == 0, COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        releaseBuffer();
         this.bufferSize = bufferSize;
-        if (bufferSize <= 0) {
-            this.directWrite = true;
-            this.buffer = null;
-        } else {
-            directWrite = false;
-            buffer = new ByteArrayOutputStream(bufferSize);
-        }
+        this.initialBufferSize = initialBufferSize;
+        this.directWrite = bufferSize <= 0;
+    }
+
+    /**
+     * Set the pool the internal entity buffer is acquired from. The buffer is released back to the pool once
+     * the stream is committed, hence the stream returned from the
+     * {@link #setStreamProvider(OutboundMessageContext.StreamProvider) stream provider} must not retain the written
+     * byte arrays.
+     * <p>
+     * This method must be called before first bytes are written into this stream.
+     * </p>
+     *
+     * @param bufferPool buffer pool, {@code null} to allocate the buffer on the heap.
+     * @since 2.45
+     */
+    public void setBufferPool(BufferPool bufferPool) {
+        Preconditions.checkState(buffer == null, COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        this.bufferPool = bufferPool;
     }
 
     /**
@@ -187,11 +235,13 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (b.length + buffer.size() > bufferSize) {
+            if (b.length + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                ensureCapacity(count + b.length);
+                System.arraycopy(b, 0, buffer, count, b.length);
+                count += b.length;
             }
         }
     }
@@ -202,11 +252,13 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b, off, len);
         } else {
-            if (len + buffer.size() > bufferSize) {
+            if (len + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b, off, len);
             } else {
-                buffer.write(b, off, len);
+                ensureCapacity(count + len);
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
             }
         }
     }
@@ -217,15 +269,33 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (buffer.size() + 1 > bufferSize) {
+            if (count + 1 > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                ensureCapacity(count + 1);
+                buffer[count++] = (byte) b;
             }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Buffered bytes are written out first and the stream is committed. The file region is then passed to
+     * the adapted output stream, which transfers it without copying if it supports file transfers.
+     * </p>
+     */
+    @Override
+    public void transferFrom(Path file, long position, long count) throws IOException {
+        if (directWrite) {
+            commitStream();
+        } else {
+            flushBuffer(false);
+        }
+        ReaderWriter.writeTo(file, position, count, adaptedOutput);
+    }
+
     /**
      * Commit the output stream.
      *
@@ -271,22 +341,51 @@ public final class CommittingOutputStream extends OutputStream {
         if (!directWrite) {
             int currentSize;
             if (endOfStream) {
-                currentSize = buffer == null ? 0 : buffer.size();
+                currentSize = count;
             } else {
                 currentSize = -1;
             }
 
             commitStream(currentSize);
             if (buffer != null) {
-                if (isVirtualThread && adaptedOutput != null) {
-                    adaptedOutput.write(buffer.toByteArray());
-                } else {
-                    // Virtual thread in JDK 21 are blocked by synchronized writeTo
-                    // but about 10% faster than ^ without virtual threads.
-                    buffer.writeTo(adaptedOutput);
+                try {
+                    if (count > 0) {
+                        adaptedOutput.write(buffer, 0, count);
+                    }
+                } finally {
+                    releaseBuffer();
                 }
             }
         }
     }
 
+    private void ensureCapacity(int minCapacity) {
+        if (buffer == null) {
+            final int initialSize = initialBufferSize > 0 ? Math.min(initialBufferSize, bufferSize) : bufferSize;
+            buffer = allocate(Math.max(minCapacity, initialSize));
+        } else if (minCapacity > buffer.length) {
+            // grow up to the configured buffer size
+            final byte[] grown = allocate(Math.min(bufferSize, Math.max(minCapacity, buffer.length << 1)));
+            System.arraycopy(buffer, 0, grown, 0, count);
+            final byte[] previous = buffer;
+            buffer = grown;
+            if (bufferPool != null) {
+                bufferPool.release(previous);
+            }
+        }
+    }
+
+    private byte[] allocate(int size) {
+        return bufferPool == null ? new byte[size] : bufferPool.acquire(size);
+    }
+
+    private void releaseBuffer() {
+        final byte[] released = buffer;
+        buffer = null;
+        count = 0;
+        if (released != null && bufferPool != null) {
+            bufferPool.release(released);
+        }
+    }
+
 }
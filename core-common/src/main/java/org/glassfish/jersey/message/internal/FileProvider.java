@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,18 +23,29 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import javax.inject.Singleton;
 
+import org.glassfish.jersey.message.FileTransferOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
+ * <p>
+ * Files are written using {@link ReaderWriter#writeTo(Path, long, long, OutputStream)}, so that containers supporting
+ * {@link FileTransferOutput file transfers} can send the file content without copying it through the Java heap.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -44,6 +55,9 @@ import javax.inject.Singleton;
 @Singleton
 public final class FileProvider extends AbstractMessageReaderWriterProvider<File> {
 
+    @Context
+    private Configuration configuration;
+
     @Override
     public boolean isReadable(final Class<?> type,
                               final Type genericType,
@@ -82,7 +96,39 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
-        Files.copy(t.toPath(), entityStream);
+        writeTo(t.toPath(), 0, t.length(), configuration, httpHeaders, entityStream);
+    }
+
+    /**
+     * Write a region of a file as the message entity.
+     * <p>
+     * On the server side, if the entity stream supports {@link FileTransferOutput file transfers}, i.e. it has not been
+     * wrapped by a {@link javax.ws.rs.ext.WriterInterceptor writer interceptor}, and the entity is not content-encoded,
+     * the {@code Content-Length} header is set to the length of the region (unless already present), so that
+     * the container does not need to buffer or chunk the entity.
+     * </p>
+     *
+     * @param file          the file.
+     * @param position      position in the file the region starts at.
+     * @param count         length of the region.
+     * @param configuration runtime configuration, may be {@code null}.
+     * @param httpHeaders   message headers.
+     * @param entityStream  entity stream.
+     * @throws IOException in case of an I/O error.
+     */
+    static void writeTo(final Path file,
+                        final long position,
+                        final long count,
+                        final Configuration configuration,
+                        final MultivaluedMap<String, Object> httpHeaders,
+                        final OutputStream entityStream) throws IOException {
+        if (entityStream instanceof FileTransferOutput
+                && configuration != null && configuration.getRuntimeType() == RuntimeType.SERVER
+                && !httpHeaders.containsKey(HttpHeaders.CONTENT_LENGTH)
+                && !httpHeaders.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            httpHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, count);
+        }
+        ReaderWriter.writeTo(file, position, count, entityStream);
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.message.FileSegment;
+
+/**
+ * Message body writer that supports {@link FileSegment file segment} marshalling.
+ * <p>
+ * Like {@link FileProvider}, the writer lets containers supporting {@link org.glassfish.jersey.message.FileTransferOutput
+ * file transfers} send the segment without copying it through the Java heap.
+ * </p>
+ */
+@Produces({"application/octet-stream", "*/*"})
+@Singleton
+public final class FileSegmentProvider implements MessageBodyWriter<FileSegment> {
+
+    @Context
+    private Configuration configuration;
+
+    @Override
+    public boolean isWriteable(Class<?> t, Type gt, Annotation[] as, MediaType mediaType) {
+        return FileSegment.class.isAssignableFrom(t);
+    }
+
+    @Override
+    public long getSize(FileSegment s, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return s.getCount();
+    }
+
+    @Override
+    public void writeTo(FileSegment s, Class<?> t, Type gt, Annotation[] as,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+            OutputStream entity) throws IOException {
+        FileProvider.writeTo(s.getPath(), s.getPosition(), s.getCount(), configuration, httpHeaders, entity);
+    }
+}
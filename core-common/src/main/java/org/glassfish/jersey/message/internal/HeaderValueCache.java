@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.security.AccessController;
+import java.text.ParseException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.internal.util.collection.LRU;
+
+/**
+ * Cache of the parsed representations of HTTP header values used by {@link HttpHeaderReader}.
+ * <p>
+ * The cache is partitioned, so lookups never block and concurrent updates of different partitions do not contend.
+ * A header value that is not cached yet may be parsed by more than one thread at the same time, the last parsed
+ * value wins. The cached values are shared between threads, hence they must be immutable or copied by the caller.
+ * </p>
+ * <p>
+ * The size and the expiration of the cache are configured by {@link CommonProperties#HEADER_CACHE_SIZE} and
+ * {@link CommonProperties#HEADER_CACHE_EXPIRY} system properties.
+ * </p>
+ *
+ * @param <T> parsed header value type.
+ * @since 2.45
+ */
+public final class HeaderValueCache<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(HeaderValueCache.class.getName());
+
+    /**
+     * Default maximum number of the cached header values.
+     */
+    public static final long DEFAULT_SIZE = 128L;
+    /**
+     * Default time in milliseconds after the last access a cached header value expires.
+     */
+    public static final long DEFAULT_EXPIRY = 5000L;
+
+    /**
+     * Parser of a header value.
+     *
+     * @param <T> parsed header value type.
+     */
+    interface Parser<T> {
+
+        T parse(String header) throws ParseException;
+    }
+
+    private final String name;
+    private final LRU<String, T> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create new cache configured by the system properties.
+     *
+     * @param name name of the cache.
+     * @param <T>  parsed header value type.
+     * @return new cache.
+     */
+    static <T> HeaderValueCache<T> create(String name) {
+        return new HeaderValueCache<>(name,
+                getSystemProperty(CommonProperties.HEADER_CACHE_SIZE, DEFAULT_SIZE),
+                getSystemProperty(CommonProperties.HEADER_CACHE_EXPIRY, DEFAULT_EXPIRY));
+    }
+
+    /**
+     * Create new cache.
+     *
+     * @param name   name of the cache.
+     * @param size   maximum number of the cached values, {@code 0} or less disables the caching.
+     * @param expiry time in milliseconds after the last access a cached value expires, {@code 0} or less for no expiration.
+     */
+    HeaderValueCache(String name, long size, long expiry) {
+        this.name = name;
+        this.cache = size > 0 ? LRU.create(size, expiry) : null;
+    }
+
+    /**
+     * Get the parsed representation of the header value, parse and cache the value if not cached yet.
+     *
+     * @param header header value.
+     * @param parser parser used when the header value is not cached.
+     * @return parsed header value.
+     * @throws ParseException if the header value cannot be parsed. Values that fail to parse are not cached.
+     */
+    T get(String header, Parser<T> parser) throws ParseException {
+        if (cache != null) {
+            final T value = cache.getIfPresent(header);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        }
+        misses.increment();
+        final T value = parser.parse(header);
+        if (cache != null && value != null) {
+            cache.put(header, value);
+        }
+        return value;
+    }
+
+    /**
+     * Get the name of the cache, usually the name of the header the cache is used for.
+     *
+     * @return cache name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of lookups that found the header value in the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that had to parse the header value.
+     *
+     * @return number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of the cache hits to all the lookups.
+     *
+     * @return hit ratio, {@code 1.0} when there was no lookup yet.
+     */
+    public double getHitRate() {
+        final long hitCount = getHitCount();
+        final long lookups = hitCount + getMissCount();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Reset the hit and miss counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderValueCache{name=" + name + ", hits=" + getHitCount() + ", misses=" + getMissCount() + '}';
+    }
+
+    private static long getSystemProperty(String property, long defaultValue) {
+        final String value = AccessController.doPrivileged(PropertiesHelper.getSystemProperty(property));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warning(LocalizationMessages.HTTP_HEADER_CACHE_PROPERTY_INVALID(property, value, defaultValue));
+            return defaultValue;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,16 +23,15 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.NewCookie;
-import org.glassfish.jersey.internal.util.collection.LRU;
 
 /**
  * An abstract pull-based reader of HTTP headers.
@@ -317,17 +316,54 @@ public abstract class HttpHeaderReader {
     }
 
     /**
-     * TODO javadoc.
+     * Read the cookies from the {@code Cookie} header value. The parsed cookies are cached.
+     *
+     * @param header {@code Cookie} header value.
+     * @return new map of the cookie names to the cookies.
      */
     public static Map<String, Cookie> readCookies(String header) {
-        return CookiesParser.parseCookies(header);
+        return new LinkedHashMap<>(readCached(COOKIES_CACHE, header, CookiesParser::parseCookies));
     }
 
     /**
-     * TODO javadoc.
+     * Read the first cookie from the {@code Cookie} header value. The parsed cookie is cached.
+     *
+     * @param header {@code Cookie} header value.
+     * @return the first cookie.
      */
     public static Cookie readCookie(String header) {
-        return CookiesParser.parseCookie(header);
+        return readCached(COOKIE_CACHE, header, CookiesParser::parseCookie);
+    }
+
+    /**
+     * Read a single media type, e.g. the {@code Content-Type} header value. The parsed media type is cached.
+     *
+     * @param header media type header value.
+     * @return parsed media type.
+     * @throws ParseException if the header value is not a valid media type.
+     * @since 2.45
+     */
+    public static MediaType readMediaType(String header) throws ParseException {
+        return MEDIA_TYPE_CACHE.get(header, h -> MediaTypeProvider.valueOf(newInstance(h)));
+    }
+
+    /**
+     * Get the caches of the parsed header values, for instance to monitor the cache hit and miss counts.
+     *
+     * @return unmodifiable list of the header value caches.
+     * @since 2.45
+     */
+    public static List<HeaderValueCache<?>> getCaches() {
+        return Collections.unmodifiableList(CACHES);
+    }
+
+    private static <T> T readCached(HeaderValueCache<T> cache, String header, HeaderValueCache.Parser<T> parser) {
+        try {
+            return cache.get(header, parser);
+        } catch (ParseException e) {
+            // the cookie parser does not throw ParseException
+            throw new IllegalArgumentException(e);
+        }
     }
 
     /**
@@ -444,6 +480,18 @@ public abstract class HttpHeaderReader {
         return STRING_LIST_READER.readList(header);
     }
 
+    private static final List<HeaderValueCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+    private static <T> HeaderValueCache<T> createCache(String name) {
+        final HeaderValueCache<T> cache = HeaderValueCache.create(name);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    private static final HeaderValueCache<MediaType> MEDIA_TYPE_CACHE = createCache("mediaType");
+    private static final HeaderValueCache<Cookie> COOKIE_CACHE = createCache("cookie");
+    private static final HeaderValueCache<Map<String, Cookie>> COOKIES_CACHE = createCache("cookies");
+
     private static final MediaTypeListReader MEDIA_TYPE_LIST_READER = new MediaTypeListReader();
     private static final AcceptableMediaTypeListReader ACCEPTABLE_MEDIA_TYPE_LIST_READER = new AcceptableMediaTypeListReader();
     private static final QualitySourceMediaTypeListReader QUALITY_SOURCE_MEDIA_TYPE_LIST_READER =
@@ -468,7 +516,7 @@ public abstract class HttpHeaderReader {
         }
 
         private MediaTypeListReader() {
-            super(MEDIA_TYPE_CREATOR);
+            super(MEDIA_TYPE_CREATOR, createCache("mediaTypes"));
         }
     }
 
@@ -482,7 +530,7 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private AcceptableMediaTypeListReader() {
-            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, AcceptableMediaType.COMPARATOR);
+            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, AcceptableMediaType.COMPARATOR, createCache("acceptMediaTypes"));
         }
     }
     /*
@@ -498,7 +546,8 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private QualitySourceMediaTypeListReader() {
-            super(QUALITY_SOURCE_MEDIA_TYPE_CREATOR, QualitySourceMediaType.COMPARATOR);
+            super(QUALITY_SOURCE_MEDIA_TYPE_CREATOR, QualitySourceMediaType.COMPARATOR,
+                    createCache("qualitySourceMediaTypes"));
         }
     }
 
@@ -507,7 +556,7 @@ public abstract class HttpHeaderReader {
      */
     private static class AcceptMediaTypeListReader extends QualifiedListReader<AcceptableMediaType> {
         AcceptMediaTypeListReader(List<QualitySourceMediaType> priorityMediaTypes) {
-            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, new AcceptableMediaTypeComparator(priorityMediaTypes));
+            super(ACCEPTABLE_MEDIA_TYPE_CREATOR, new AcceptableMediaTypeComparator(priorityMediaTypes), null);
         }
 
         private static final ListElementCreator<AcceptableMediaType> ACCEPTABLE_MEDIA_TYPE_CREATOR =
@@ -569,7 +618,7 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private AcceptableTokenListReader() {
-            super(ACCEPTABLE_TOKEN_CREATOR);
+            super(ACCEPTABLE_TOKEN_CREATOR, createCache("acceptTokens"));
         }
     }
 
@@ -583,27 +632,29 @@ public abstract class HttpHeaderReader {
                     }
                 };
         private AcceptableLanguageTagListReader() {
-            super(LANGUAGE_CREATOR);
+            super(LANGUAGE_CREATOR, createCache("acceptLanguages"));
         }
     }
 
     private abstract static class QualifiedListReader<T extends Qualified> extends ListReader<T> {
-        @Override
-        public List<T> readList(String header) throws ParseException {
-            List<T> l = super.readList(header);
-            Collections.sort(l, comparator);
-            return l;
-        }
-
         private final Comparator<T> comparator;
-        private QualifiedListReader(ListElementCreator<T> creator) {
-            this(creator, (Comparator<T>) Quality.QUALIFIED_COMPARATOR);
+
+        private QualifiedListReader(ListElementCreator<T> creator, HeaderValueCache<List<T>> cache) {
+            this(creator, (Comparator<T>) Quality.QUALIFIED_COMPARATOR, cache);
         }
 
-        protected QualifiedListReader(ListElementCreator<T> creator, Comparator<T> comparator) {
-            super(creator);
+        protected QualifiedListReader(ListElementCreator<T> creator, Comparator<T> comparator, HeaderValueCache<List<T>> cache) {
+            super(creator, cache);
             this.comparator = comparator;
         }
+
+        @Override
+        protected List<T> parse(String header) throws ParseException {
+            // the cached list is sorted already, so that the copies handed out need not be sorted again
+            final List<T> l = super.parse(header);
+            Collections.sort(l, comparator);
+            return l;
+        }
     }
 
     private static class StringListReader extends ListReader<String> {
@@ -616,16 +667,21 @@ public abstract class HttpHeaderReader {
         };
 
         private StringListReader() {
-            super(listElementCreator);
+            super(listElementCreator, createCache("strings"));
         }
     }
 
     private abstract static class ListReader<T> {
-        private final LRU<String, List<T>> LIST_CACHE = LRU.create();
+        private final HeaderValueCache<List<T>> cache;
         protected final ListElementCreator<T> creator;
 
-        protected ListReader(ListElementCreator<T> creator) {
+        /**
+         * @param creator list element creator.
+         * @param cache   cache of the parsed lists, {@code null} if the parsed lists should not be cached.
+         */
+        protected ListReader(ListElementCreator<T> creator, HeaderValueCache<List<T>> cache) {
             this.creator = creator;
+            this.cache = cache;
         }
 
         protected List<T> readList(final String header) throws ParseException {
@@ -634,32 +690,24 @@ public abstract class HttpHeaderReader {
 
         private List<T> readList(final List<T> l, final String header)
                 throws ParseException {
+            // the cached list is shared, hand out a copy
+            l.addAll(cache != null ? cache.get(header, this::parse) : parse(header));
+            return l;
+        }
 
-//            List<T> list = null;
-            List<T> list = LIST_CACHE.getIfPresent(header);
-
-            if (list == null) {
-                synchronized (LIST_CACHE) {
-                    list = LIST_CACHE.getIfPresent(header);
-                    if (list == null) {
-                        HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
-                        HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
-                        list = new LinkedList<>();
-
-                        while (reader.hasNext()) {
-                            list.add(creator.create(adapter));
-                            adapter.reset();
-                            if (reader.hasNext()) {
-                                reader.next();
-                            }
-                        }
-                        LIST_CACHE.put(header, list);
-                    }
+        protected List<T> parse(final String header) throws ParseException {
+            final HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
+            final HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
+            final List<T> list = new ArrayList<>();
+
+            while (reader.hasNext()) {
+                list.add(creator.create(adapter));
+                adapter.reset();
+                if (reader.hasNext()) {
+                    reader.next();
                 }
             }
-
-            l.addAll(list);
-            return l;
+            return list;
         }
     }
 }
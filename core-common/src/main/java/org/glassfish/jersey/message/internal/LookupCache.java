@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Bounded cache of the message body worker lookups, keyed by a Java type and a media type.
+ * <p>
+ * The parameters of the media types are ignored. The values are grouped by the Java type and the values of a Java type are
+ * hashed by the case-insensitive type and subtype of the media type. The lookups use a per-thread probe key, so they do
+ * not allocate. If the number of the cached values exceeds the maximum size,
+ * the values are evicted in the order in which they have been cached, except for the values looked up since they have been
+ * cached or since they have been passed over by the previous eviction, which are kept (second chance eviction, an
+ * approximation of the least recently used eviction that does not require any locking of the lookups).
+ * </p>
+ *
+ * @param <V> cached value type.
+ * @since 2.45
+ */
+final class LookupCache<V> {
+
+    private static final ThreadLocal<MediaKey> PROBE = ThreadLocal.withInitial(MediaKey::new);
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<MediaKey, Entry<V>>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<V>> evictionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create new cache.
+     *
+     * @param maximumSize maximum number of the cached values.
+     */
+    LookupCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get the value cached for the Java type and the media type.
+     *
+     * @param type      Java type.
+     * @param mediaType media type, may be {@code null}.
+     * @return cached value or {@code null} if no value is cached.
+     */
+    V get(final Class<?> type, final MediaType mediaType) {
+        final ConcurrentHashMap<MediaKey, Entry<V>> typeEntries = entries.get(type);
+        if (typeEntries != null) {
+            final MediaKey probe = PROBE.get();
+            final Entry<V> entry = typeEntries.get(probe.set(mediaType));
+            probe.set(null);
+            if (entry != null) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the value for the Java type and the media type, unless a value is cached already.
+     *
+     * @param type      Java type.
+     * @param mediaType media type, may be {@code null}.
+     * @param value     value to be cached.
+     */
+    void put(final Class<?> type, final MediaType mediaType, final V value) {
+        final ConcurrentHashMap<MediaKey, Entry<V>> typeEntries = entries.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        final Entry<V> added = new Entry<>(type, MediaKey.of(mediaType), value, typeEntries);
+        if (typeEntries.putIfAbsent(added.key, added) == null) {
+            evictionOrder.add(added);
+            if (size.incrementAndGet() > maximumSize) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        while (size.get() > maximumSize) {
+            final Entry<V> eldest = evictionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (eldest.referenced) {
+                // the value has been looked up since it has been cached or passed over, give it a second chance
+                eldest.referenced = false;
+                evictionOrder.add(eldest);
+                continue;
+            }
+            if (eldest.owner.remove(eldest.key, eldest)) {
+                if (eldest.owner.isEmpty()) {
+                    entries.remove(eldest.type, eldest.owner);
+                }
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Get the current statistics of the cache.
+     *
+     * @return cache statistics.
+     */
+    LookupCacheStatistics getStatistics() {
+        return new LookupCacheStatistics(size.get(), maximumSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Media type key comparing the type and subtype case-insensitively, the parameters are ignored. Keys stored in the cache
+     * are immutable, the per-thread lookup probes are {@link #set(MediaType) reset} for every lookup.
+     */
+    private static final class MediaKey {
+
+        private String type = "";
+        private String subtype = "";
+        private int hash;
+
+        private MediaKey() {
+            set(null);
+        }
+
+        private static MediaKey of(final MediaType mediaType) {
+            return new MediaKey().set(mediaType);
+        }
+
+        private MediaKey set(final MediaType mediaType) {
+            type = mediaType == null ? "" : mediaType.getType();
+            subtype = mediaType == null ? "" : mediaType.getSubtype();
+            hash = 31 * hash(type) + hash(subtype);
+            return this;
+        }
+
+        private static int hash(final String value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MediaKey)) {
+                return false;
+            }
+            final MediaKey other = (MediaKey) o;
+            return hash == other.hash && type.equalsIgnoreCase(other.type) && subtype.equalsIgnoreCase(other.subtype);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final Class<?> type;
+        private final MediaKey key;
+        private final V value;
+        private final ConcurrentHashMap<MediaKey, Entry<V>> owner;
+        private volatile boolean referenced;
+
+        private Entry(final Class<?> type,
+                      final MediaKey key,
+                      final V value,
+                      final ConcurrentHashMap<MediaKey, Entry<V>> owner) {
+            this.type = type;
+            this.key = key;
+            this.value = value;
+            this.owner = owner;
+        }
+    }
+}
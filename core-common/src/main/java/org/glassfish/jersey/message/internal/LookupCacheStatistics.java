@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+/**
+ * Statistics of the message body worker lookup cache of a {@link MessageBodyFactory}. Instances are immutable snapshots.
+ *
+ * @since 2.45
+ */
+public final class LookupCacheStatistics {
+
+    private final int size;
+    private final int maximumSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Create new statistics.
+     *
+     * @param size          number of the cached lookups.
+     * @param maximumSize   maximum number of the cached lookups.
+     * @param hitCount      number of the lookups served from the cache.
+     * @param missCount     number of the lookups not found in the cache.
+     * @param evictionCount number of the evicted lookups.
+     */
+    public LookupCacheStatistics(final int size, final int maximumSize, final long hitCount, final long missCount,
+                                 final long evictionCount) {
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Get the number of the cached lookups.
+     *
+     * @return current cache size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the maximum number of the cached lookups.
+     *
+     * @return maximum cache size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Get the number of the lookups served from the cache.
+     *
+     * @return cache hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of the lookups not found in the cache.
+     *
+     * @return cache miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the number of the lookups evicted from the cache because the cache exceeded the maximum size.
+     *
+     * @return cache eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "LookupCacheStatistics{size=" + size + ", maximumSize=" + maximumSize + ", hits=" + hitCount
+                + ", misses=" + missCount + ", evictions=" + evictionCount + '}';
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -64,7 +64,7 @@ public class MediaTypeProvider implements HeaderDelegateProvider<MediaType> {
         throwIllegalArgumentExceptionIfNull(header, MEDIA_TYPE_IS_NULL);
 
         try {
-            return valueOf(HttpHeaderReader.newInstance(header));
+            return HttpHeaderReader.readMediaType(header);
         } catch (ParseException ex) {
             throw new IllegalArgumentException(
                     "Error parsing media type '" + header + "'", ex);
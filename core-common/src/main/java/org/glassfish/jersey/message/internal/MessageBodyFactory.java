@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -192,10 +192,8 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     private final Map<Class<?>, List<MediaType>> typeToMediaTypeWritersCache = new ConcurrentHashMap<>(
             LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
 
-    private final Map<ModelLookupKey, List<ReaderModel>> mbrLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
-    private final Map<ModelLookupKey, List<WriterModel>> mbwLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
+    private final LookupCache<List<ReaderModel>> mbrLookupCache;
+    private final LookupCache<List<WriterModel>> mbwLookupCache;
 
     /**
      * Create a new message body factory.
@@ -205,6 +203,17 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     public MessageBodyFactory(Configuration configuration) {
         this.legacyProviderOrdering = configuration != null
                 && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.LEGACY_WORKERS_ORDERING));
+
+        int lookupCacheSize = MessageProperties.WORKERS_LOOKUP_CACHE_DEFAULT_SIZE;
+        if (configuration != null) {
+            final Integer size = PropertiesHelper.getValue(configuration.getProperties(),
+                    MessageProperties.WORKERS_LOOKUP_CACHE_SIZE, Integer.class, null);
+            if (size != null && size > 0) {
+                lookupCacheSize = size;
+            }
+        }
+        this.mbrLookupCache = new LookupCache<>(lookupCacheSize);
+        this.mbwLookupCache = new LookupCache<>(lookupCacheSize);
     }
 
     /**
@@ -479,37 +488,26 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         }
     }
 
-    private static class ModelLookupKey {
-
-        final Class<?> clazz;
-        final MediaType mediaType;
-
-        private ModelLookupKey(final Class<?> clazz, final MediaType mediaType) {
-            this.clazz = clazz;
-            this.mediaType = mediaType;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-
-            final ModelLookupKey that = (ModelLookupKey) o;
-
-            return !(clazz != null ? !clazz.equals(that.clazz) : that.clazz != null)
-                    && !(mediaType != null ? !mediaType.equals(that.mediaType) : that.mediaType != null);
-        }
+    /**
+     * Get the statistics of the cache of the {@link MessageBodyReader message body reader} lookups.
+     *
+     * @return reader lookup cache statistics.
+     * @see MessageProperties#WORKERS_LOOKUP_CACHE_SIZE
+     * @since 2.45
+     */
+    public LookupCacheStatistics getReaderLookupCacheStatistics() {
+        return mbrLookupCache.getStatistics();
+    }
 
-        @Override
-        public int hashCode() {
-            int result = clazz != null ? clazz.hashCode() : 0;
-            result = 31 * result + (mediaType != null ? mediaType.hashCode() : 0);
-            return result;
-        }
+    /**
+     * Get the statistics of the cache of the {@link MessageBodyWriter message body writer} lookups.
+     *
+     * @return writer lookup cache statistics.
+     * @see MessageProperties#WORKERS_LOOKUP_CACHE_SIZE
+     * @since 2.45
+     */
+    public LookupCacheStatistics getWriterLookupCacheStatistics() {
+        return mbwLookupCache.getStatistics();
     }
 
     private static void addReaders(final List<ReaderModel> models, final Set<MessageBodyReader> readers, final boolean custom) {
@@ -651,14 +649,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                                                            final List<ReaderModel> models,
                                                            final PropertiesDelegate propertiesDelegate) {
 
-        // Ensure a parameter-less lookup type to prevent excessive memory consumption
+        // The lookups are cached regardless of the media type parameters to prevent excessive memory consumption
         // reported in JERSEY-2297
-        final MediaType lookupType = mediaType == null || mediaType.getParameters().isEmpty()
-                ? mediaType
-                : new MediaType(mediaType.getType(), mediaType.getSubtype());
-
-        final ModelLookupKey lookupKey = new ModelLookupKey(c, lookupType);
-        List<ReaderModel> readers = mbrLookupCache.get(lookupKey);
+        List<ReaderModel> readers = mbrLookupCache.get(c, mediaType);
         if (readers == null) {
             readers = new ArrayList<>();
 
@@ -668,7 +661,7 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 }
             }
             readers.sort(new WorkerComparator<>(c, mediaType));
-            mbrLookupCache.put(lookupKey, readers);
+            mbrLookupCache.put(c, mediaType, readers);
         }
 
         if (readers.isEmpty()) {
@@ -770,14 +763,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                                                            final MediaType mediaType,
                                                            final List<WriterModel> models,
                                                            final PropertiesDelegate propertiesDelegate) {
-        // Ensure  a parameter-less lookup type to prevent excessive memory consumption
+        // The lookups are cached regardless of the media type parameters to prevent excessive memory consumption
         // reported in JERSEY-2297
-        final MediaType lookupType = mediaType == null || mediaType.getParameters().isEmpty()
-                ? mediaType
-                : new MediaType(mediaType.getType(), mediaType.getSubtype());
-
-        final ModelLookupKey lookupKey = new ModelLookupKey(c, lookupType);
-        List<WriterModel> writers = mbwLookupCache.get(lookupKey);
+        List<WriterModel> writers = mbwLookupCache.get(c, mediaType);
         if (writers == null) {
 
             writers = new ArrayList<>();
@@ -788,7 +776,7 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 }
             }
             writers.sort(new WorkerComparator<>(c, mediaType));
-            mbwLookupCache.put(lookupKey, writers);
+            mbwLookupCache.put(c, mediaType, writers);
         }
 
         if (writers.isEmpty()) {
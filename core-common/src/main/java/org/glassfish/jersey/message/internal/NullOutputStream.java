@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,10 @@ package org.glassfish.jersey.message.internal;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.message.FileTransferOutput;
 
 /**
  * A {@code "dev/null"} output stream - an output stream implementation that discards all the
@@ -31,7 +33,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
  * @author Miroslav Fuksa
  * @author Marek Potociar
  */
-public class NullOutputStream extends OutputStream {
+public class NullOutputStream extends OutputStream implements FileTransferOutput {
 
     private boolean isClosed;
 
@@ -50,6 +52,11 @@ public class NullOutputStream extends OutputStream {
         }
     }
 
+    @Override
+    public void transferFrom(Path file, long position, long count) throws IOException {
+        checkClosed();
+    }
+
     @Override
     public void flush() throws IOException {
         checkClosed();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -52,6 +52,7 @@ import javax.ws.rs.ext.RuntimeDelegate;
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.RuntimeDelegateDecorator;
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.internal.util.collection.GuardianStringKeyMultivaluedMap;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
@@ -520,13 +521,37 @@ public class OutboundMessageContext extends MessageHeaderMethods {
      * @param configuration runtime configuration.
      */
     public void enableBuffering(Configuration configuration) {
-        final Integer bufferSize = CommonProperties.getValue(configuration.getProperties(),
+        enableBuffering(configuration, 0);
+    }
+
+    /**
+     * Enable a buffering of serialized entity with the buffer starting at the given initial size. The buffer grows up to
+     * the size configured by {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER} if needed. If
+     * {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL buffer pooling} is configured, the buffer is acquired
+     * from the buffer pool.
+     * <p/>
+     * This method must be called before first bytes are written to the {@link #getEntityStream() entity stream}.
+     *
+     * @param configuration     runtime configuration.
+     * @param initialBufferSize initial size of the buffer, the value less or equal to zero means the configured buffer size.
+     * @since 2.45
+     */
+    public void enableBuffering(Configuration configuration, int initialBufferSize) {
+        final Map<String, Object> properties = configuration.getProperties();
+        final Integer bufferSize = CommonProperties.getValue(properties,
                 configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, Integer.class);
-        if (bufferSize != null) {
-            committingOutputStream.enableBuffering(bufferSize);
-        } else {
-            committingOutputStream.enableBuffering();
+        committingOutputStream.setBufferPool(getBufferPool(properties, configuration));
+        committingOutputStream.enableBuffering(
+                bufferSize != null ? bufferSize : CommittingOutputStream.DEFAULT_BUFFER_SIZE, initialBufferSize);
+    }
+
+    private static BufferPool getBufferPool(Map<String, Object> properties, Configuration configuration) {
+        final Object bufferPool = CommonProperties.getValue(properties,
+                configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOL, Object.class);
+        if (bufferPool instanceof BufferPool) {
+            return (BufferPool) bufferPool;
         }
+        return PropertiesHelper.isProperty(bufferPool) ? StripedBufferPool.getDefault() : null;
     }
 
     /**
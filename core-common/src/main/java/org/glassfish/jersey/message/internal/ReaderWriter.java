@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,14 +17,20 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,6 +43,7 @@ import javax.ws.rs.core.MediaType;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.FileTransferOutput;
 import org.glassfish.jersey.message.MessageProperties;
 
 /**
@@ -64,6 +71,11 @@ public final class ReaderWriter {
      */
     public static final int BUFFER_SIZE = getBufferSize();
 
+    /**
+     * Pool of the byte buffers, {@code null} if the buffers are not pooled.
+     */
+    private static final BufferPool BUFFER_POOL = getBufferPool();
+
     private static int getBufferSize() {
         // TODO should we unify this buffer size and CommittingOutputStream buffer size (controlled by CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER)?
         final String value = AccessController.doPrivileged(PropertiesHelper.getSystemProperty(MessageProperties.IO_BUFFER_SIZE));
@@ -85,6 +97,11 @@ public final class ReaderWriter {
         return MessageProperties.IO_DEFAULT_BUFFER_SIZE;
     }
 
+    private static BufferPool getBufferPool() {
+        final String value = AccessController.doPrivileged(PropertiesHelper.getSystemProperty(MessageProperties.IO_BUFFER_POOL));
+        return PropertiesHelper.isProperty(value) ? StripedBufferPool.getDefault() : null;
+    }
+
     /**
      * Read bytes from an input stream and write them to an output stream.
      *
@@ -93,13 +110,75 @@ public final class ReaderWriter {
      * @throws IOException if there is an error reading or writing bytes.
      */
     public static void writeTo(InputStream in, OutputStream out) throws IOException {
+        if (BUFFER_POOL == null) {
+            writeTo(in, out, new byte[BUFFER_SIZE]);
+        } else {
+            final byte[] data = BUFFER_POOL.acquire(BUFFER_SIZE);
+            try {
+                writeTo(in, out, data);
+            } finally {
+                BUFFER_POOL.release(data);
+            }
+        }
+    }
+
+    private static void writeTo(InputStream in, OutputStream out, byte[] data) throws IOException {
         int read;
-        final byte[] data = new byte[BUFFER_SIZE];
         while ((read = in.read(data)) != -1) {
             out.write(data, 0, read);
         }
     }
 
+    /**
+     * Write a region of a file to an output stream.
+     * <p>
+     * If the output stream is a {@link FileTransferOutput}, the file region is handed over to the stream, which allows
+     * the underlying I/O layer to transfer the file content without copying it through the Java heap. Otherwise
+     * the file region is copied to the stream.
+     * </p>
+     *
+     * @param file     the file to read from.
+     * @param position position in the file the region starts at.
+     * @param count    number of bytes to write.
+     * @param out      the output stream to write to.
+     * @throws IOException if there is an error reading or writing bytes or the file is shorter than expected.
+     * @since 2.45
+     */
+    public static void writeTo(Path file, long position, long count, OutputStream out) throws IOException {
+        if (out instanceof FileTransferOutput) {
+            ((FileTransferOutput) out).transferFrom(file, position, count);
+        } else if (count > 0) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (BUFFER_POOL == null) {
+                    writeTo(channel, position, count, out, new byte[(int) Math.min(count, BUFFER_SIZE)]);
+                } else {
+                    final byte[] data = BUFFER_POOL.acquire(BUFFER_SIZE);
+                    try {
+                        writeTo(channel, position, count, out, data);
+                    } finally {
+                        BUFFER_POOL.release(data);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeTo(FileChannel channel, long position, long count, OutputStream out, byte[] data)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        long remaining = count;
+        while (remaining > 0) {
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit((int) Math.min(remaining, data.length));
+            final int read = channel.read(buffer, position + count - remaining);
+            if (read == -1) {
+                throw new EOFException(LocalizationMessages.FILE_REGION_EOF(position + count - remaining));
+            }
+            out.write(data, 0, read);
+            remaining -= read;
+        }
+    }
+
     /**
      * Read characters from an input stream and write them to an output stream.
      *
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free {@link BufferPool buffer pool} with power of two size classes.
+ * <p>
+ * Each size class holds a fixed number of buffers in slots striped by the thread acquiring or releasing the buffer,
+ * which keeps the contention between threads low. Requested sizes are rounded up to the nearest size class.
+ * Buffers larger than the largest size class are not pooled, and buffers released into a full stripe are discarded,
+ * so the amount of the retained memory is bounded.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class StripedBufferPool implements BufferPool {
+
+    private static final int MIN_SIZE_SHIFT = 9;
+    private static final int MAX_SIZE_SHIFT = 17;
+    private static final int SIZE_CLASSES = MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1;
+    private static final int PROBES = 2;
+
+    /**
+     * Smallest pooled buffer size.
+     */
+    public static final int MIN_BUFFER_SIZE = 1 << MIN_SIZE_SHIFT;
+    /**
+     * Largest pooled buffer size.
+     */
+    public static final int MAX_BUFFER_SIZE = 1 << MAX_SIZE_SHIFT;
+
+    private static class DefaultPoolHolder {
+        private static final StripedBufferPool INSTANCE = new StripedBufferPool(
+                Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    private final int stripes;
+    private final AtomicReferenceArray<byte[]> slots;
+
+    /**
+     * Create new buffer pool.
+     *
+     * @param stripes number of buffers retained per size class, rounded up to a power of two.
+     */
+    public StripedBufferPool(final int stripes) {
+        final int count = Math.max(1, stripes);
+        this.stripes = Integer.bitCount(count) == 1 ? count : Integer.highestOneBit(count) << 1;
+        this.slots = new AtomicReferenceArray<>(SIZE_CLASSES * this.stripes);
+    }
+
+    /**
+     * Get the shared buffer pool instance.
+     *
+     * @return shared buffer pool.
+     */
+    public static StripedBufferPool getDefault() {
+        return DefaultPoolHolder.INSTANCE;
+    }
+
+    @Override
+    public byte[] acquire(final int size) {
+        if (size > MAX_BUFFER_SIZE) {
+            return new byte[size];
+        }
+
+        final int sizeClass = sizeClass(size);
+        final int base = sizeClass * stripes;
+        final int stripe = stripe();
+        for (int i = 0; i < PROBES; i++) {
+            final int index = base + ((stripe + i) & (stripes - 1));
+            if (slots.get(index) != null) {
+                final byte[] buffer = slots.getAndSet(index, null);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        }
+        return new byte[1 << (sizeClass + MIN_SIZE_SHIFT)];
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        final int length = buffer.length;
+        if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE || Integer.bitCount(length) != 1) {
+            // not acquired from the pool
+            return;
+        }
+
+        final int base = sizeClass(length) * stripes;
+        final int stripe = stripe();
+        for (int i = 0; i < PROBES; i++) {
+            final int index = base + ((stripe + i) & (stripes - 1));
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    private static int sizeClass(final int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SIZE_SHIFT;
+    }
+
+    private int stripe() {
+        final long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32)) & (stripes - 1);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tracing logger recording the events of a request in a structured form.
+ * <p>
+ * Unlike the {@link TracingLogger#create(TracingLogger.Level, String) default tracing logger}, which formats each message and
+ * logs it through the JDK logger as soon as the event occurs, this logger only stores the event, its timestamp, its duration
+ * and the references to the message arguments into arrays preallocated for the request. The arrays form a ring of a fixed
+ * capacity; if the request produces more events, the oldest ones are overwritten. The messages are only formatted on demand,
+ * i.e. when they are written to the response headers or {@link #getMessage(int) requested} by an {@link Exporter exporter}.
+ * The arguments are formatted in their state at that time.
+ * </p>
+ * <p>
+ * The logger is used by a single request and is not thread-safe.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class StructuredTracingLogger extends TracingLogger {
+
+    /**
+     * Consumer of the events recorded for a request.
+     */
+    public interface Exporter {
+
+        /**
+         * Export the events recorded by the tracing logger. Invoked when the tracing logger is
+         * {@link TracingLogger#flush(MultivaluedMap) flushed} at the end of the request processing.
+         *
+         * @param trace tracing logger of the request.
+         */
+        void export(StructuredTracingLogger trace);
+    }
+
+    private final Level threshold;
+    private final boolean headers;
+    private final Exporter exporter;
+
+    private final Event[] events;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final Object[][] arguments;
+    private long recorded;
+
+    /**
+     * Create new structured tracing logger.
+     *
+     * @param threshold tracing level threshold.
+     * @param capacity  maximal number of events kept for the request.
+     * @param headers   {@code true} if the formatted messages should be written to the response headers.
+     * @param exporter  exporter of the recorded events, can be {@code null}.
+     */
+    StructuredTracingLogger(final Level threshold, final int capacity, final boolean headers, final Exporter exporter) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Tracing buffer capacity must be positive: " + capacity);
+        }
+        this.threshold = threshold;
+        this.headers = headers;
+        this.exporter = exporter;
+
+        this.events = new Event[capacity];
+        this.timestamps = new long[capacity];
+        this.durations = new long[capacity];
+        this.arguments = new Object[capacity][];
+    }
+
+    @Override
+    public boolean isLogEnabled(final Event event) {
+        return isEnabled(event.level());
+    }
+
+    @Override
+    public void log(final Event event, final Object... args) {
+        if (isEnabled(event.level())) {
+            record(event, System.nanoTime(), 0, args);
+        }
+    }
+
+    @Override
+    public void logDuration(final Event event, final long fromTimestamp, final Object... args) {
+        if (isEnabled(event.level())) {
+            final long timestamp = System.nanoTime();
+            record(event, timestamp, fromTimestamp == -1 ? 0 : timestamp - fromTimestamp, args);
+        }
+    }
+
+    @Override
+    public long timestamp(final Event event) {
+        if (isEnabled(event.level())) {
+            return System.nanoTime();
+        }
+        return -1;
+    }
+
+    @Override
+    public void flush(final MultivaluedMap<String, Object> headers) {
+        if (this.headers && size() > 0) {
+            final TracingInfo tracingInfo = new TracingInfo();
+            for (int i = 0; i < size(); i++) {
+                final int slot = slot(i);
+                tracingInfo.addMessage(new TracingInfo.Message(events[slot], durations[slot], timestamps[slot],
+                        formatArguments(arguments[slot])));
+            }
+            final String[] messages = tracingInfo.getMessages();
+            for (int i = 0; i < messages.length; i++) {
+                headers.putSingle(String.format(TracingLogger.HEADER_RESPONSE_FORMAT, i), messages[i]);
+            }
+        }
+        if (exporter != null) {
+            exporter.export(this);
+        }
+    }
+
+    /**
+     * Get the number of the events kept by the logger.
+     *
+     * @return number of the recorded events, at most the capacity of the logger.
+     */
+    public int size() {
+        return (int) Math.min(recorded, events.length);
+    }
+
+    /**
+     * Get the number of the events overwritten because the request produced more events than the capacity of the logger.
+     *
+     * @return number of the overwritten events.
+     */
+    public long getOverwrittenCount() {
+        return Math.max(0, recorded - events.length);
+    }
+
+    /**
+     * Get the type of an event.
+     *
+     * @param index index of the event, {@code 0} is the oldest kept event.
+     * @return event type.
+     */
+    public Event getEvent(final int index) {
+        return events[slot(index)];
+    }
+
+    /**
+     * Get the time of an event.
+     *
+     * @param index index of the event, {@code 0} is the oldest kept event.
+     * @return time of the event in nanos, see {@link System#nanoTime()}.
+     */
+    public long getTimestamp(final int index) {
+        return timestamps[slot(index)];
+    }
+
+    /**
+     * Get the duration of an event.
+     *
+     * @param index index of the event, {@code 0} is the oldest kept event.
+     * @return duration of the event in nanos, {@code 0} if the event has no duration.
+     */
+    public long getDuration(final int index) {
+        return durations[slot(index)];
+    }
+
+    /**
+     * Get the message arguments of an event. The returned array must not be modified.
+     *
+     * @param index index of the event, {@code 0} is the oldest kept event.
+     * @return message arguments.
+     */
+    public Object[] getArguments(final int index) {
+        return arguments[slot(index)];
+    }
+
+    /**
+     * Format the message of an event.
+     *
+     * @param index index of the event, {@code 0} is the oldest kept event.
+     * @return formatted message.
+     */
+    public String getMessage(final int index) {
+        final int slot = slot(index);
+        return new TracingInfo.Message(events[slot], durations[slot], timestamps[slot], formatArguments(arguments[slot]))
+                .toString();
+    }
+
+    private void record(final Event event, final long timestamp, final long duration, final Object[] args) {
+        final int slot = (int) (recorded % events.length);
+        events[slot] = event;
+        timestamps[slot] = timestamp;
+        durations[slot] = duration;
+        arguments[slot] = args;
+        recorded++;
+    }
+
+    private int slot(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return (int) ((recorded - size() + index) % events.length);
+    }
+
+    private boolean isEnabled(final Level level) {
+        return threshold.ordinal() >= level.ordinal();
+    }
+
+    private static String[] formatArguments(final Object[] args) {
+        final String[] formatted = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            formatted[i] = TracingInfo.formatInstance(args[i]);
+        }
+        return formatted;
+    }
+}
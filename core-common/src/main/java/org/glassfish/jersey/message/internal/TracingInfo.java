@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,15 @@
 
 package org.glassfish.jersey.message.internal;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.JerseyPriorities;
+
 /**
  * Collects tracing messages for a request.
  *
@@ -69,6 +75,70 @@ final class TracingInfo {
         }
     }
 
+    /**
+     * Format info of instance.
+     *
+     * It shows its class name, identity hash code, and following info if available: priority value, response detail.
+     *
+     * @param instance instance to be formatted
+     * @return Formatted info of instance.
+     */
+    static String formatInstance(final Object instance) {
+        final StringBuilder textSB = new StringBuilder();
+        if (instance == null) {
+            textSB.append("null");
+        } else if ((instance instanceof Number) || (instance instanceof String) || (instance instanceof Method)) {
+            textSB.append(instance.toString());
+        } else if (instance instanceof Response.StatusType) {
+            textSB.append(formatStatusInfo((Response.StatusType) instance));
+        } else {
+            textSB.append('[');
+            formatInstance(instance, textSB);
+            final int priority = JerseyPriorities.getPriorityValue(instance.getClass(), -1);
+            if (priority != -1) {
+                textSB.append(" #").append(priority);
+            }
+            if (instance instanceof WebApplicationException) {
+                formatResponse(((WebApplicationException) instance).getResponse(), textSB);
+            } else if (instance instanceof Response) {
+                formatResponse(((Response) instance), textSB);
+            }
+            textSB.append(']');
+        }
+        return textSB.toString();
+    }
+
+    /**
+     * Basic format of instance - just class name and identity hash code.
+     *
+     * @param instance instance to be formatted
+     * @param textSB   Formatted info will be appended to {@code StringBuilder}
+     */
+    private static void formatInstance(final Object instance, final StringBuilder textSB) {
+        textSB.append(instance.getClass().getName()).append(" @")
+                .append(Integer.toHexString(System.identityHashCode(instance)));
+    }
+
+    /**
+     * Format of response - status code, status family, reason phrase and info about entity.
+     *
+     * @param response response to be formatted
+     * @param textSB   Formatted info will be appended to {@code StringBuilder}
+     */
+    private static void formatResponse(final Response response, final StringBuilder textSB) {
+        textSB.append(" <").append(formatStatusInfo(response.getStatusInfo())).append('|');
+        if (response.hasEntity()) {
+            formatInstance(response.getEntity(), textSB);
+        } else {
+            textSB.append("-no-entity-");
+        }
+        textSB.append('>');
+    }
+
+    private static String formatStatusInfo(final Response.StatusType statusInfo) {
+        return String.valueOf(statusInfo.getStatusCode()) + '/' + statusInfo.getFamily() + '|' + statusInfo.getReasonPhrase();
+    }
+
     /**
      * Returns all collected messages enhanced by time duration data.
      *
@@ -143,10 +213,22 @@ final class TracingInfo {
          * @param args message arguments.
          */
         public Message(final TracingLogger.Event event, final long duration, final String[] args) {
+            this(event, duration, System.nanoTime(), args);
+        }
+
+        /**
+         * Create a new trace message of an event recorded before.
+         *
+         * @param event     trace event.
+         * @param duration  event duration.
+         * @param timestamp time of the event in nanos.
+         * @param args      message arguments.
+         */
+        Message(final TracingLogger.Event event, final long duration, final long timestamp, final String[] args) {
             this.event = event;
             this.duration = duration;
 
-            this.timestamp = System.nanoTime();
+            this.timestamp = timestamp;
             if (event.messageFormat() != null) {
                 this.text = String.format(event.messageFormat(), (Object[]) args);
             } else {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,14 +16,10 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.lang.reflect.Method;
 import java.util.logging.Logger;
 
-import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedMap;
-import javax.ws.rs.core.Response;
 
-import org.glassfish.jersey.JerseyPriorities;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 
 /**
@@ -60,7 +56,7 @@ public abstract class TracingLogger {
     /**
      * Response header name format.
      */
-    private static final String HEADER_RESPONSE_FORMAT = HEADER_TRACING_PREFIX + "%03d";
+    static final String HEADER_RESPONSE_FORMAT = HEADER_TRACING_PREFIX + "%03d";
     /**
      * Default event level.
      */
@@ -132,6 +128,22 @@ public abstract class TracingLogger {
         return new TracingLoggerImpl(threshold, loggerNameSuffix);
     }
 
+    /**
+     * Create new structured tracing logger. The logger records the events into a buffer of a fixed capacity and only formats
+     * the messages on demand, see {@link StructuredTracingLogger}.
+     *
+     * @param threshold tracing level threshold.
+     * @param capacity  maximal number of events kept for the request.
+     * @param headers   {@code true} if the formatted messages should be written to the response headers.
+     * @param exporter  exporter of the recorded events, can be {@code null}.
+     * @return new structured tracing logger.
+     * @since 2.45
+     */
+    public static TracingLogger createStructured(final Level threshold, final int capacity, final boolean headers,
+                                                 final StructuredTracingLogger.Exporter exporter) {
+        return new StructuredTracingLogger(threshold, capacity, headers, exporter);
+    }
+
     /**
      * Get an empty (no-op) tracing logger instance.
      *
@@ -265,7 +277,7 @@ public abstract class TracingLogger {
             if (isEnabled(event.level())) {
                 final String[] messageArgsStr = new String[messageArgs.length];
                 for (int i = 0; i < messageArgs.length; i++) {
-                    messageArgsStr[i] = formatInstance(messageArgs[i]);
+                    messageArgsStr[i] = TracingInfo.formatInstance(messageArgs[i]);
                 }
                 final TracingInfo.Message message = new TracingInfo.Message(event, duration, messageArgsStr);
                 tracingInfo.addMessage(message);
@@ -294,70 +306,6 @@ public abstract class TracingLogger {
         private boolean isEnabled(final Level level) {
             return threshold.ordinal() >= level.ordinal();
         }
-
-        /**
-         * Format info of instance.
-         *
-         * It shows its class name, identity hash code, and following info if available: priority value, response detail.
-         *
-         * @param instance instance to be formatted
-         * @return Formatted info of instance.
-         */
-        private static String formatInstance(final Object instance) {
-            final StringBuilder textSB = new StringBuilder();
-            if (instance == null) {
-                textSB.append("null");
-            } else if ((instance instanceof Number) || (instance instanceof String) || (instance instanceof Method)) {
-                textSB.append(instance.toString());
-            } else if (instance instanceof Response.StatusType) {
-                textSB.append(formatStatusInfo((Response.StatusType) instance));
-            } else {
-                textSB.append('[');
-                formatInstance(instance, textSB);
-                final int priority = JerseyPriorities.getPriorityValue(instance.getClass(), -1);
-                if (priority != -1) {
-                    textSB.append(" #").append(priority);
-                }
-                if (instance instanceof WebApplicationException) {
-                    formatResponse(((WebApplicationException) instance).getResponse(), textSB);
-                } else if (instance instanceof Response) {
-                    formatResponse(((Response) instance), textSB);
-                }
-                textSB.append(']');
-            }
-            return textSB.toString();
-        }
-
-        /**
-         * Basic format of instance - just class name and identity hash code.
-         *
-         * @param instance instance to be formatted
-         * @param textSB   Formatted info will be appended to {@code StringBuilder}
-         */
-        private static void formatInstance(final Object instance, final StringBuilder textSB) {
-            textSB.append(instance.getClass().getName()).append(" @")
-                    .append(Integer.toHexString(System.identityHashCode(instance)));
-        }
-
-        /**
-         * Format of response - status code, status family, reason phrase and info about entity.
-         *
-         * @param response response to be formatted
-         * @param textSB   Formatted info will be appended to {@code StringBuilder}
-         */
-        private static void formatResponse(final Response response, final StringBuilder textSB) {
-            textSB.append(" <").append(formatStatusInfo(response.getStatusInfo())).append('|');
-            if (response.hasEntity()) {
-                formatInstance(response.getEntity(), textSB);
-            } else {
-                textSB.append("-no-entity-");
-            }
-            textSB.append('>');
-        }
-
-        private static String formatStatusInfo(final Response.StatusType statusInfo) {
-            return String.valueOf(statusInfo.getStatusCode()) + '/' + statusInfo.getFamily() + '|' + statusInfo.getReasonPhrase();
-        }
     }
 
     /**
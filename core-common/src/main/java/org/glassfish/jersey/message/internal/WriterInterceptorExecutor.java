@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -40,6 +41,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
+import org.glassfish.jersey.message.FileTransferOutput;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
@@ -236,7 +238,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
                 throws WebApplicationException, IOException {
             final TracingLogger tracingLogger = getTracingLogger();
             final long timestamp = tracingLogger.timestamp(MsgTraceEvent.MBW_WRITE_TO);
-            final UnCloseableOutputStream entityStream = new UnCloseableOutputStream(context.getOutputStream(), writer);
+            final UnCloseableOutputStream entityStream = UnCloseableOutputStream.create(context.getOutputStream(), writer);
 
             try {
                 writer.writeTo(context.getEntity(), context.getType(), context.getGenericType(), context.getAnnotations(),
@@ -253,7 +255,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      */
     private static class UnCloseableOutputStream extends OutputStream {
 
-        private final OutputStream original;
+        final OutputStream original;
         private final MessageBodyWriter writer;
 
         private UnCloseableOutputStream(final OutputStream original, final MessageBodyWriter writer) {
@@ -261,6 +263,17 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             this.writer = writer;
         }
 
+        /**
+         * Create the stream. The stream supports {@link FileTransferOutput file transfers} only if the original stream
+         * does, i.e. the entity stream has not been replaced by a {@link WriterInterceptor writer interceptor} that
+         * may transform the written bytes.
+         */
+        private static UnCloseableOutputStream create(final OutputStream original, final MessageBodyWriter writer) {
+            return original instanceof FileTransferOutput
+                    ? new FileTransferUnCloseableOutputStream(original, writer)
+                    : new UnCloseableOutputStream(original, writer);
+        }
+
         @Override
         public void write(final int i) throws IOException {
             original.write(i);
@@ -288,4 +301,20 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             }
         }
     }
+
+    /**
+     * Un-closeable output stream handing the file transfers over to the original stream.
+     */
+    private static final class FileTransferUnCloseableOutputStream extends UnCloseableOutputStream
+            implements FileTransferOutput {
+
+        private FileTransferUnCloseableOutputStream(final OutputStream original, final MessageBodyWriter writer) {
+            super(original, writer);
+        }
+
+        @Override
+        public void transferFrom(final Path file, final long position, final long count) throws IOException {
+            ((FileTransferOutput) original).transferFrom(file, position, count);
+        }
+    }
 }
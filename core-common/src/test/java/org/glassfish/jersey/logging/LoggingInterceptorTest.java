@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,10 +20,21 @@ import org.mockito.stubbing.Answer;
 
 import javax.ws.rs.core.MediaType;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
 import static org.glassfish.jersey.logging.LoggingFeature.Verbosity.HEADERS_ONLY;
@@ -31,6 +42,8 @@ import static org.glassfish.jersey.logging.LoggingFeature.Verbosity.PAYLOAD_ANY;
 import static org.glassfish.jersey.logging.LoggingFeature.Verbosity.PAYLOAD_TEXT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -171,6 +184,155 @@ public class LoggingInterceptorTest {
         assertEquals(inputString.substring(0, maxEntitySize) + "...more...\n", buffer.toString());
     }
 
+    //
+    // sampling and paths
+    //
+
+    @Test
+    public void testIncludedAndExcludedPaths() {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(LoggingFeature.builder()
+                .withLogger(Logger.getAnonymousLogger())
+                .level(Level.INFO)
+                .maxEntitySize(10)
+                .includePaths(Collections.singletonList("/api"))
+                .excludePaths(Arrays.asList("/api/health", " "))) {};
+
+        assertTrue(loggingInterceptor.isLogged(URI.create("http://localhost/api/users")));
+        assertFalse(loggingInterceptor.isLogged(URI.create("http://localhost/api/health")));
+        assertFalse(loggingInterceptor.isLogged(URI.create("http://localhost/static/index.html")));
+    }
+
+    @Test
+    public void testSamplingRate() {
+        LoggingInterceptor never = new LoggingInterceptor(LoggingFeature.builder()
+                .withLogger(Logger.getAnonymousLogger()).level(Level.INFO).maxEntitySize(10).samplingRate(0.0)) {};
+        LoggingInterceptor half = new LoggingInterceptor(LoggingFeature.builder()
+                .withLogger(Logger.getAnonymousLogger()).level(Level.INFO).maxEntitySize(10).samplingRate(0.5)) {};
+
+        int logged = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(never.isLogged(URI.create("http://localhost/")));
+            if (half.isLogged(URI.create("http://localhost/"))) {
+                logged++;
+            }
+        }
+        assertTrue(logged > 4_000 && logged < 6_000, String.valueOf(logged));
+    }
+
+    //
+    // entity capture
+    //
+
+    @Test
+    public void testLoggingStreamCapturesBoundedEntity() throws Exception {
+        int maxEntitySize = 10;
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(LoggingFeature.builder().maxEntitySize(maxEntitySize)) {};
+        String entity = getRandomString(1000);
+
+        for (int round = 0; round < 2; round++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            LoggingInterceptor.LoggingStream stream = loggingInterceptor.new LoggingStream(new StringBuilder(), out);
+            stream.write(entity.charAt(0));
+            stream.write(entity.getBytes(StandardCharsets.UTF_8), 1, entity.length() - 1);
+
+            assertEquals(entity, out.toString("UTF-8"));
+            assertEquals(entity.substring(0, maxEntitySize) + "...more...\n",
+                    stream.getStringBuilder(StandardCharsets.UTF_8).toString());
+            stream.release();
+        }
+    }
+
+    //
+    // asynchronous logging
+    //
+
+    @Test
+    public void testAsyncLoggingDropsMessagesOverQueueSize() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+                if (record.getMessage().equals("first")) {
+                    blocked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                done.countDown();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(LoggingFeature.builder()
+                .withLogger(logger).level(Level.INFO).maxEntitySize(10).async(true).asyncQueueSize(1)) {};
+
+        loggingInterceptor.log(new StringBuilder("first"));
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        loggingInterceptor.log(new StringBuilder("second"));
+        release.countDown();
+
+        // the queue is released once the first message has been logged
+        while (loggingInterceptor.pendingMessages() > 0) {
+            Thread.sleep(10);
+        }
+        loggingInterceptor.log(new StringBuilder("third"));
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(3, messages.size());
+        assertEquals("first", messages.get(0));
+        assertTrue(messages.get(1).startsWith("1 "), messages.get(1));
+        assertEquals("third", messages.get(2));
+    }
+
+    @Test
+    public void testAsyncLoggingThreadPerFilterWithoutContextClassLoader() throws Exception {
+        final CountDownLatch done = new CountDownLatch(2);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final List<ClassLoader> classLoaders = new CopyOnWriteArrayList<>();
+        final Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                threads.add(Thread.currentThread());
+                classLoaders.add(Thread.currentThread().getContextClassLoader());
+                done.countDown();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        for (int i = 0; i < 2; i++) {
+            new LoggingInterceptor(LoggingFeature.builder().withLogger(logger).level(Level.INFO).maxEntitySize(10).async(true)) {}
+                    .log(new StringBuilder("message"));
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNotSame(threads.get(0), threads.get(1));
+        assertNull(classLoaders.get(0));
+        assertNull(classLoaders.get(1));
+    }
+
     private static String getRandomString(int length) {
         final String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz1234567890 _";
         StringBuilder result = new StringBuilder();
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link HeaderValueCache} and its usage in {@link HttpHeaderReader}.
+ */
+public class HeaderValueCacheTest {
+
+    @Test
+    public void testHitsAndMisses() throws ParseException {
+        final HeaderValueCache<String> cache = new HeaderValueCache<>("test", 16, 0);
+        final AtomicInteger parsed = new AtomicInteger();
+        final HeaderValueCache.Parser<String> parser = header -> {
+            parsed.incrementAndGet();
+            return header.toUpperCase();
+        };
+
+        assertEquals("A", cache.get("a", parser));
+        assertEquals("A", cache.get("a", parser));
+        assertEquals("B", cache.get("b", parser));
+
+        assertEquals(2, parsed.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate(), 0.0001);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testDisabledCache() throws ParseException {
+        final HeaderValueCache<String> cache = new HeaderValueCache<>("test", 0, 0);
+        final AtomicInteger parsed = new AtomicInteger();
+
+        cache.get("a", header -> header + parsed.incrementAndGet());
+        cache.get("a", header -> header + parsed.incrementAndGet());
+
+        assertEquals(2, parsed.get());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testParseFailureNotCached() {
+        final HeaderValueCache<String> cache = new HeaderValueCache<>("test", 16, 0);
+        final AtomicInteger parsed = new AtomicInteger();
+        final HeaderValueCache.Parser<String> parser = header -> {
+            parsed.incrementAndGet();
+            throw new ParseException(header, 0);
+        };
+
+        assertThrows(ParseException.class, () -> cache.get("a", parser));
+        assertThrows(ParseException.class, () -> cache.get("a", parser));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testCachedListIsCopied() throws ParseException {
+        final List<AcceptableMediaType> first = HttpHeaderReader.readAcceptMediaType("text/plain;q=0.5, application/json");
+        first.clear();
+
+        final List<AcceptableMediaType> second = HttpHeaderReader.readAcceptMediaType("text/plain;q=0.5, application/json");
+        assertEquals(2, second.size());
+        // the cached list is kept sorted by quality
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, new MediaType(second.get(0).getType(), second.get(0).getSubtype()));
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testMediaTypeCached() throws ParseException {
+        final HeaderValueCache<?> cache = getCache("mediaType");
+        final long hits = cache.getHitCount();
+
+        final MediaType mediaType = HttpHeaderReader.readMediaType("application/xml;charset=UTF-8");
+        assertEquals("UTF-8", mediaType.getParameters().get(MediaType.CHARSET_PARAMETER));
+        assertSame(mediaType, MediaType.valueOf("application/xml;charset=UTF-8"));
+        assertTrue(cache.getHitCount() > hits);
+        assertThrows(IllegalArgumentException.class, () -> MediaType.valueOf("application/xml;charset"));
+    }
+
+    @Test
+    public void testCookiesCached() {
+        final Map<String, Cookie> first = HttpHeaderReader.readCookies("a=1; b=2");
+        first.remove("a");
+
+        final Map<String, Cookie> second = HttpHeaderReader.readCookies("a=1; b=2");
+        assertEquals(2, second.size());
+        assertEquals("1", second.get("a").getValue());
+        assertTrue(getCache("cookies").getHitCount() > 0);
+
+        assertSame(HttpHeaderReader.readCookie("c=3"), HttpHeaderReader.readCookie("c=3"));
+    }
+
+    @Test
+    public void testCachesExposed() {
+        final List<HeaderValueCache<?>> caches = HttpHeaderReader.getCaches();
+        assertFalse(caches.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> caches.remove(0));
+    }
+
+    private static HeaderValueCache<?> getCache(String name) {
+        return HttpHeaderReader.getCaches().stream()
+                .filter(cache -> name.equals(cache.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.message.MessageProperties;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link LookupCache}.
+ */
+public class LookupCacheTest {
+
+    @Test
+    public void testLookupIgnoresMediaTypeParameters() {
+        final LookupCache<String> cache = new LookupCache<>(16);
+        assertNull(cache.get(String.class, MediaType.TEXT_PLAIN_TYPE));
+
+        cache.put(String.class, MediaType.TEXT_PLAIN_TYPE.withCharset("UTF-8"), "text");
+        cache.put(String.class, null, "none");
+        cache.put(Integer.class, MediaType.TEXT_PLAIN_TYPE, "integer");
+        // the first cached value is kept
+        cache.put(String.class, MediaType.valueOf("TEXT/Plain"), "other");
+
+        assertEquals("text", cache.get(String.class, MediaType.TEXT_PLAIN_TYPE));
+        assertEquals("text", cache.get(String.class, MediaType.valueOf("text/plain;charset=ISO-8859-1")));
+        assertEquals("none", cache.get(String.class, null));
+        assertEquals("integer", cache.get(Integer.class, MediaType.TEXT_PLAIN_TYPE));
+        assertNull(cache.get(String.class, MediaType.TEXT_HTML_TYPE));
+
+        final LookupCacheStatistics statistics = cache.getStatistics();
+        assertEquals(3, statistics.getSize());
+        assertEquals(16, statistics.getMaximumSize());
+        assertEquals(4, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(0, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testEldestLookupsEvicted() {
+        final LookupCache<Integer> cache = new LookupCache<>(3);
+        for (int i = 0; i < 5; i++) {
+            cache.put(String.class, new MediaType("application", "x-" + i), i);
+        }
+        cache.put(Integer.class, MediaType.TEXT_PLAIN_TYPE, 5);
+
+        assertNull(cache.get(String.class, new MediaType("application", "x-0")));
+        assertNull(cache.get(String.class, new MediaType("application", "x-2")));
+        assertEquals(3, cache.get(String.class, new MediaType("application", "x-3")));
+        assertEquals(4, cache.get(String.class, new MediaType("application", "x-4")));
+        assertEquals(5, cache.get(Integer.class, MediaType.TEXT_PLAIN_TYPE));
+
+        final LookupCacheStatistics statistics = cache.getStatistics();
+        assertEquals(3, statistics.getSize());
+        assertEquals(3, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testRecentlyUsedLookupsKept() {
+        final LookupCache<Integer> cache = new LookupCache<>(3);
+        for (int i = 0; i < 3; i++) {
+            cache.put(String.class, new MediaType("application", "x-" + i), i);
+        }
+        assertEquals(0, cache.get(String.class, MediaType.valueOf("Application/X-0")));
+
+        cache.put(String.class, new MediaType("application", "x-3"), 3);
+        cache.put(String.class, new MediaType("application", "x-4"), 4);
+
+        assertEquals(0, cache.get(String.class, new MediaType("application", "x-0")));
+        assertNull(cache.get(String.class, new MediaType("application", "x-1")));
+        assertNull(cache.get(String.class, new MediaType("application", "x-2")));
+        assertEquals(3, cache.get(String.class, new MediaType("application", "x-3")));
+        assertEquals(4, cache.get(String.class, new MediaType("application", "x-4")));
+        assertEquals(2, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testMessageBodyFactoryStatistics() {
+        final MessageBodyFactory factory = new MessageBodyFactory(null);
+        assertEquals(0, factory.getReaderLookupCacheStatistics().getSize());
+        assertEquals(MessageProperties.WORKERS_LOOKUP_CACHE_DEFAULT_SIZE,
+                factory.getWriterLookupCacheStatistics().getMaximumSize());
+    }
+}
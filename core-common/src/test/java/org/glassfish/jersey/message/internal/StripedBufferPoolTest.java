@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link StripedBufferPool}.
+ */
+public class StripedBufferPoolTest {
+
+    @Test
+    public void testSizeClasses() {
+        final StripedBufferPool pool = new StripedBufferPool(1);
+
+        assertEquals(StripedBufferPool.MIN_BUFFER_SIZE, pool.acquire(1).length);
+        assertEquals(StripedBufferPool.MIN_BUFFER_SIZE, pool.acquire(StripedBufferPool.MIN_BUFFER_SIZE).length);
+        assertEquals(1024, pool.acquire(StripedBufferPool.MIN_BUFFER_SIZE + 1).length);
+        assertEquals(8192, pool.acquire(8000).length);
+        assertEquals(StripedBufferPool.MAX_BUFFER_SIZE + 1, pool.acquire(StripedBufferPool.MAX_BUFFER_SIZE + 1).length);
+    }
+
+    @Test
+    public void testReleasedBufferIsReused() {
+        final StripedBufferPool pool = new StripedBufferPool(3);
+
+        final byte[] buffer = pool.acquire(8192);
+        pool.release(buffer);
+
+        assertSame(buffer, pool.acquire(5000));
+        assertNotSame(buffer, pool.acquire(5000));
+        // different size class
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(100));
+    }
+
+    @Test
+    public void testForeignBufferIsNotPooled() {
+        final StripedBufferPool pool = new StripedBufferPool(1);
+
+        final byte[] buffer = new byte[1000];
+        pool.release(buffer);
+
+        assertNotSame(buffer, pool.acquire(1000));
+    }
+}
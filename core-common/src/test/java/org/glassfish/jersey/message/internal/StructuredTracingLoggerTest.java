@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StructuredTracingLogger}.
+ */
+public class StructuredTracingLoggerTest {
+
+    private enum TestEvent implements TracingLogger.Event {
+        SUMMARY_EVENT(TracingLogger.Level.SUMMARY, "value %s"),
+        VERBOSE_EVENT(TracingLogger.Level.VERBOSE, null);
+
+        private final TracingLogger.Level level;
+        private final String messageFormat;
+
+        TestEvent(final TracingLogger.Level level, final String messageFormat) {
+            this.level = level;
+            this.messageFormat = messageFormat;
+        }
+
+        @Override
+        public String category() {
+            return "TEST";
+        }
+
+        @Override
+        public TracingLogger.Level level() {
+            return level;
+        }
+
+        @Override
+        public String messageFormat() {
+            return messageFormat;
+        }
+    }
+
+    @Test
+    public void testEventsAreFormattedOnDemand() {
+        final StructuredTracingLogger logger = (StructuredTracingLogger) TracingLogger.createStructured(
+                TracingLogger.Level.TRACE, 8, false, null);
+        final Number argument = 42;
+
+        logger.log(TestEvent.SUMMARY_EVENT, argument);
+        logger.log(TestEvent.VERBOSE_EVENT, "ignored");
+
+        assertFalse(logger.isLogEnabled(TestEvent.VERBOSE_EVENT));
+        assertEquals(1, logger.size());
+        assertSame(TestEvent.SUMMARY_EVENT, logger.getEvent(0));
+        assertSame(argument, logger.getArguments(0)[0]);
+        assertEquals("value 42", logger.getMessage(0));
+
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        logger.flush(headers);
+        assertTrue(headers.isEmpty());
+    }
+
+    @Test
+    public void testRingKeepsNewestEvents() {
+        final StructuredTracingLogger logger = (StructuredTracingLogger) TracingLogger.createStructured(
+                TracingLogger.Level.VERBOSE, 3, false, null);
+        for (int i = 0; i < 5; i++) {
+            logger.log(TestEvent.SUMMARY_EVENT, i);
+        }
+
+        assertEquals(3, logger.size());
+        assertEquals(2, logger.getOverwrittenCount());
+        assertEquals("value 2", logger.getMessage(0));
+        assertEquals("value 4", logger.getMessage(2));
+        assertTrue(logger.getTimestamp(0) <= logger.getTimestamp(2));
+    }
+
+    @Test
+    public void testFlushToHeadersAndExporter() {
+        final AtomicInteger exported = new AtomicInteger();
+        final TracingLogger logger = TracingLogger.createStructured(TracingLogger.Level.VERBOSE, 8, true,
+                trace -> exported.addAndGet(trace.size()));
+
+        final long start = logger.timestamp(TestEvent.VERBOSE_EVENT);
+        logger.log(TestEvent.SUMMARY_EVENT, "first");
+        logger.logDuration(TestEvent.VERBOSE_EVENT, start, this, "second");
+
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        logger.flush(headers);
+
+        assertEquals(2, exported.get());
+        assertEquals(2, headers.size());
+        final String message = (String) headers.getFirst("X-Jersey-Tracing-001");
+        assertTrue(message.startsWith("TEST"), message);
+        assertTrue(message.contains("[" + getClass().getName() + " @"), message);
+        assertTrue(message.endsWith("second "), message);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -20,8 +20,12 @@ package org.glassfish.jersey.server;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +40,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.inject.Singleton;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.RuntimeType;
 import javax.ws.rs.core.Application;
@@ -67,6 +72,7 @@ import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.internal.MessageBodyFactory;
 import org.glassfish.jersey.message.internal.MessagingBinders;
 import org.glassfish.jersey.message.internal.NullOutputStream;
+import org.glassfish.jersey.model.ContractProvider;
 import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.ManagedObjectsFinalizer;
 import org.glassfish.jersey.model.internal.RankedComparator;
@@ -77,6 +83,7 @@ import org.glassfish.jersey.process.internal.Stage;
 import org.glassfish.jersey.process.internal.Stages;
 import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.ParallelInitializer;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.internal.inject.ParamConverterConfigurator;
 import org.glassfish.jersey.server.internal.inject.ParamExtractorConfigurator;
@@ -317,6 +324,12 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
 
         CompositeApplicationEventListener compositeListener = null;
 
+        final Map<String, Duration> phases = new LinkedHashMap<>();
+        long phaseStart = System.nanoTime();
+
+        final ParallelInitializer initializer = ParallelInitializer.create(runtimeConfig);
+        bootstrapBag.setParallelInitializer(initializer);
+
         Errors.mark(); // mark begin of validation phase
         try {
             // TODO: Create as a configurator? / The same code in ClientConfig.
@@ -330,9 +343,11 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
 
             // Configure binders and features.
             runtimeConfig.configureMetaProviders(injectionManager, bootstrapBag.getManagedObjectsFinalizer());
+            phaseStart = recordPhase(phases, "configuration", phaseStart);
 
             ResourceBagConfigurator resourceBagConfigurator = new ResourceBagConfigurator();
             resourceBagConfigurator.init(injectionManager, bootstrapBag);
+            phaseStart = recordPhase(phases, "introspection", phaseStart);
 
             runtimeConfig.lock();
 
@@ -344,6 +359,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
 
             ResourceModelConfigurator resourceModelConfigurator = new ResourceModelConfigurator();
             resourceModelConfigurator.init(injectionManager, bootstrapBag);
+            phaseStart = recordPhase(phases, "model", phaseStart);
 
             ServerExecutorProvidersConfigurator executorProvidersConfigurator = new ServerExecutorProvidersConfigurator();
             executorProvidersConfigurator.init(injectionManager, bootstrapBag);
@@ -352,6 +368,12 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
 
             bootstrapConfigurators.forEach(configurator -> configurator.postInit(injectionManager, bootstrapBag));
             resourceModelConfigurator.postInit(injectionManager, bootstrapBag);
+            phaseStart = recordPhase(phases, "registration", phaseStart);
+
+            if (initializer.isParallel()) {
+                initializeSingletonProviders(injectionManager, initializer);
+                phaseStart = recordPhase(phases, "providers", phaseStart);
+            }
 
             Iterable<ApplicationEventListener> appEventListeners =
                     Providers.getAllProviders(injectionManager, ApplicationEventListener.class, new RankedComparator<>());
@@ -364,17 +386,27 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                         resourceBag.classes, resourceBag.instances, null));
             }
 
-            if (!disableValidation()) {
+            final ModelSnapshot modelSnapshot = bootstrapBag.getModelSnapshot();
+            if (modelSnapshot != null) {
+                modelSnapshot.resolveProviders(injectionManager);
+            }
+            if (!disableValidation() && (modelSnapshot == null || !modelSnapshot.isCurrent())) {
                 ComponentModelValidator validator = new ComponentModelValidator(
                         bootstrapBag.getValueParamProviders(), bootstrapBag.getMessageBodyWorkers());
-                    validator.validate(bootstrapBag.getResourceModel());
+                validator.validate(bootstrapBag.getResourceModel(), initializer);
             }
 
-            if (Errors.fatalIssuesFound() && !ignoreValidationError()) {
-                throw new ModelValidationException(LocalizationMessages.RESOURCE_MODEL_VALIDATION_FAILED_AT_INIT(),
-                        ModelErrors.getErrorsAsResourceModelIssues(true));
+            if (Errors.fatalIssuesFound()) {
+                if (!ignoreValidationError()) {
+                    throw new ModelValidationException(LocalizationMessages.RESOURCE_MODEL_VALIDATION_FAILED_AT_INIT(),
+                            ModelErrors.getErrorsAsResourceModelIssues(true));
+                }
+            } else if (modelSnapshot != null && !disableValidation()) {
+                // only a validated resource model can be trusted by the subsequent starts
+                modelSnapshot.store(bootstrapBag.getResourceModel());
             }
         } finally {
+            initializer.close();
             if (ignoreValidationError()) {
                 Errors.logErrors(true);
                 Errors.reset(); // reset errors to the state before validation phase
@@ -382,6 +414,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                 Errors.unmark();
             }
         }
+        phaseStart = recordPhase(phases, "validation", phaseStart);
 
         this.msgBodyWorkers = bootstrapBag.getMessageBodyWorkers();
 
@@ -430,13 +463,23 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
             injectionManager.inject(instance);
         }
 
+        phaseStart = recordPhase(phases, "runtime", phaseStart);
+
+        if (ServerProperties.getValue(runtimeConfig.getProperties(),
+                ServerProperties.PROVIDER_WARMUP,
+                Boolean.FALSE,
+                Boolean.class)) {
+            EntityProvidersWarmUp.warmUp(msgBodyWorkers, bootstrapBag.getResourceModel());
+            recordPhase(phases, "warmup", phaseStart);
+        }
+
         logApplicationInitConfiguration(injectionManager, resourceBag, processingProviders);
 
         if (compositeListener != null) {
             ApplicationEvent initFinishedEvent = new ApplicationEventImpl(
                     ApplicationEvent.Type.INITIALIZATION_APP_FINISHED, runtimeConfig,
                     componentBag.getRegistrations(), resourceBag.classes, resourceBag.instances,
-                    bootstrapBag.getResourceModel());
+                    bootstrapBag.getResourceModel(), Collections.unmodifiableMap(phases));
             compositeListener.onEvent(initFinishedEvent);
 
             MonitoringContainerListener containerListener = injectionManager.getInstance(MonitoringContainerListener.class);
@@ -446,6 +489,28 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
         return serverRuntime;
     }
 
+    private static long recordPhase(final Map<String, Duration> phases, final String phase, final long start) {
+        final long end = System.nanoTime();
+        phases.put(phase, Duration.ofNanos(end - start));
+        return end;
+    }
+
+    /**
+     * Instantiate the singleton providers ahead of the first request. The providers are instantiated per contract,
+     * a provider implementing several contracts is instantiated only once by the injection manager.
+     */
+    private void initializeSingletonProviders(final InjectionManager injectionManager, final ParallelInitializer initializer) {
+        final ComponentBag componentBag = runtimeConfig.getComponentBag();
+        final Set<Class<?>> contracts = new LinkedHashSet<>();
+        for (final Class<?> providerClass : componentBag.getClasses(ComponentBag.excludeMetaProviders(injectionManager))) {
+            final ContractProvider model = componentBag.getModel(providerClass);
+            if (model.getScope() == Singleton.class) {
+                contracts.addAll(model.getContracts());
+            }
+        }
+        initializer.forEach(contracts, contract -> Providers.getAllServiceHolders(injectionManager, contract));
+    }
+
     private boolean ignoreValidationError() {
         return ServerProperties.getValue(runtimeConfig.getProperties(),
                 ServerProperties.RESOURCE_VALIDATION_IGNORE_ERRORS,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 
 package org.glassfish.jersey.server;
 
+import java.util.concurrent.Executor;
+
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
@@ -74,4 +76,19 @@ public interface AsyncContext extends AsyncResponse {
      * @param producer response producer.
      */
     public void invokeManaged(Producer<Response> producer);
+
+    /**
+     * Invoke the provided response producer in a thread of the given executor.
+     * <p>
+     * The default implementation ignores the executor and {@link #invokeManaged(Producer) invokes the producer
+     * in a Jersey-managed asynchronous thread}.
+     * </p>
+     *
+     * @param executor executor to invoke the producer in.
+     * @param producer response producer.
+     * @since 2.45
+     */
+    public default void invokeManaged(Executor executor, Producer<Response> producer) {
+        invokeManaged(producer);
+    }
 }
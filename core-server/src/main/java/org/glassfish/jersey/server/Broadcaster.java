@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,9 +17,15 @@
 package org.glassfish.jersey.server;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,6 +39,9 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
  * @author Martin Matula
  */
 public class Broadcaster<T> implements BroadcasterListener<T> {
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final int MIN_BATCH_SIZE = 16;
+
     // We do not expect large amounts of broadcaster listeners additions/removals, but large amounts of traversals.
     private final CopyOnWriteArrayList<BroadcasterListener<T>> listeners =
             new CopyOnWriteArrayList<BroadcasterListener<T>>();
@@ -40,6 +49,9 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     private final ConcurrentLinkedQueue<ChunkedOutput<T>> chunkedOutputs =
             new ConcurrentLinkedQueue<ChunkedOutput<T>>();
 
+    private final boolean serializeOnce;
+    private final ExecutorService executorService;
+
     /**
      * Creates a new instance.
      * If this constructor is called by a subclass, it assumes the the reason for the subclass to exist is to implement
@@ -61,11 +73,37 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @see #Broadcaster()
      */
     protected Broadcaster(final Class<? extends Broadcaster> subclass) {
+        this(subclass, new Builder<T>());
+    }
+
+    /**
+     * Can be used by subclasses to create a broadcaster with a custom configuration.
+     *
+     * @param subclass subclass of Broadcaster that should not be registered as a listener - if creating a direct instance
+     *                 of this subclass, this constructor will not register the new instance as a listener.
+     * @param builder  builder holding the broadcaster configuration.
+     * @see #Broadcaster(Class)
+     * @since 2.45
+     */
+    protected Broadcaster(final Class<? extends Broadcaster> subclass, final Builder<T> builder) {
+        this.serializeOnce = builder.serializeOnce;
+        this.executorService = builder.executorService;
         if (subclass != getClass()) {
             listeners.add(this);
         }
     }
 
+    /**
+     * Returns a builder to create a {@code Broadcaster} with custom configuration.
+     *
+     * @param <T> broadcast type.
+     * @return builder.
+     * @since 2.45
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
     /**
      * Register {@link ChunkedOutput} to this {@code Broadcaster} instance.
      *
@@ -124,12 +162,22 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @param chunk chunk to be sent.
      */
     public void broadcast(final T chunk) {
-        forEachOutput(new Task<ChunkedOutput<T>>() {
-            @Override
-            public void run(final ChunkedOutput<T> cr) throws IOException {
-                cr.write(chunk);
-            }
-        });
+        if (serializeOnce && chunk != null) {
+            final SharedChunk<T> sharedChunk = new SharedChunk<>(chunk);
+            forEachOutput(new Task<ChunkedOutput<T>>() {
+                @Override
+                public void run(final ChunkedOutput<T> cr) throws IOException {
+                    cr.writeShared(sharedChunk);
+                }
+            });
+        } else {
+            forEachOutput(new Task<ChunkedOutput<T>>() {
+                @Override
+                public void run(final ChunkedOutput<T> cr) throws IOException {
+                    cr.write(chunk);
+                }
+            });
+        }
     }
 
     /**
@@ -173,6 +221,11 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     }
 
     private void forEachOutput(final Task<ChunkedOutput<T>> t) {
+        if (executorService != null) {
+            forEachOutputInParallel(t);
+            return;
+        }
+
         for (Iterator<ChunkedOutput<T>> iterator = chunkedOutputs.iterator(); iterator.hasNext(); ) {
             ChunkedOutput<T> chunkedOutput = iterator.next();
             if (!chunkedOutput.isClosed()) {
@@ -189,6 +242,53 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         }
     }
 
+    /**
+     * Run the task for the registered outputs split into batches processed by the executor service.
+     * Waits for all the batches to be processed, so that the chunks are written in the broadcast order.
+     */
+    private void forEachOutputInParallel(final Task<ChunkedOutput<T>> t) {
+        final List<ChunkedOutput<T>> outputs = new ArrayList<>(chunkedOutputs);
+        final int batchSize = Math.max(MIN_BATCH_SIZE, (outputs.size() + PARALLELISM - 1) / PARALLELISM);
+
+        final List<Future<?>> batches = new ArrayList<>();
+        for (int from = batchSize; from < outputs.size(); from += batchSize) {
+            final List<ChunkedOutput<T>> batch = outputs.subList(from, Math.min(from + batchSize, outputs.size()));
+            try {
+                batches.add(executorService.submit(() -> forEachOutput(batch, t)));
+            } catch (RejectedExecutionException e) {
+                forEachOutput(batch, t);
+            }
+        }
+        // the first batch is processed by the calling thread
+        forEachOutput(outputs.subList(0, Math.min(batchSize, outputs.size())), t);
+
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                Logger.getLogger(Broadcaster.class.getName()).log(Level.WARNING, e.getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private void forEachOutput(final List<ChunkedOutput<T>> outputs, final Task<ChunkedOutput<T>> t) {
+        for (ChunkedOutput<T> chunkedOutput : outputs) {
+            if (!chunkedOutput.isClosed()) {
+                try {
+                    t.run(chunkedOutput);
+                } catch (Exception e) {
+                    fireOnException(chunkedOutput, e);
+                }
+            }
+            if (chunkedOutput.isClosed() && chunkedOutputs.remove(chunkedOutput)) {
+                fireOnClose(chunkedOutput);
+            }
+        }
+    }
+
     private void forEachListener(final Task<BroadcasterListener<T>> t) {
         for (BroadcasterListener<T> listener : listeners) {
             try {
@@ -218,4 +318,63 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
             }
         });
     }
+
+    /**
+     * Builder that allows to create a new {@code Broadcaster} based on the given configuration options.
+     * <p>
+     * The broadcaster created by {@link #build()} does not register itself as a {@link BroadcasterListener listener}.
+     * </p>
+     *
+     * @param <T> broadcast type.
+     * @since 2.45
+     */
+    public static class Builder<T> {
+        boolean serializeOnce;
+        ExecutorService executorService;
+
+        private Builder() {
+            // hide constructor
+        }
+
+        /**
+         * Set whether the broadcast chunks should be serialized only once for all the registered chunked outputs
+         * of the same chunk type and media type instead of being serialized by every chunked output.
+         * <p>
+         * The serialized bytes are shared by the chunked outputs, so the message body writer used to serialize the chunks
+         * must not produce output that depends on the particular request.
+         * </p>
+         *
+         * @param serializeOnce {@code true} to serialize the broadcast chunks only once, {@code false} otherwise.
+         * @return builder.
+         * @see SharedChunk
+         */
+        public Builder<T> serializeOnce(boolean serializeOnce) {
+            this.serializeOnce = serializeOnce;
+            return this;
+        }
+
+        /**
+         * Set the executor service used to write the broadcast chunks to the registered chunked outputs in parallel.
+         * <p>
+         * The broadcasting thread waits until the chunk is written to all the chunked outputs. The
+         * {@link BroadcasterListener listeners} may be notified from the threads of the executor service.
+         * </p>
+         *
+         * @param executorService executor service, {@code null} to write the chunks sequentially in the broadcasting thread.
+         * @return builder.
+         */
+        public Builder<T> executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Build the {@code Broadcaster} instance.
+         *
+         * @return broadcaster.
+         */
+        public Broadcaster<T> build() {
+            return new Broadcaster<>(Broadcaster.class, this);
+        }
+    }
 }
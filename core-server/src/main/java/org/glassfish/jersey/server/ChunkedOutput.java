@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,7 +50,8 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
-    private final BlockingDeque<T> queue;
+    // contains chunks of type T and shared chunks
+    private final BlockingDeque<Object> queue;
     private final byte[] chunkDelimiter;
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Object lock = new Object();
@@ -245,6 +246,25 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
      */
     public void write(final T chunk) throws IOException {
+        enqueue(chunk);
+    }
+
+    /**
+     * Write a chunk shared with other chunked outputs.
+     * <p>
+     * The shared chunk is serialized only once for all the chunked outputs of the same chunk type and media type,
+     * the serialized bytes are then written by every chunked output the shared chunk is written to.
+     * </p>
+     *
+     * @param chunk a shared chunk instance to be written.
+     * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
+     * @since 2.45
+     */
+    public void writeShared(final SharedChunk<? extends T> chunk) throws IOException {
+        enqueue(chunk);
+    }
+
+    private void enqueue(final Object chunk) throws IOException {
         if (closed) {
             throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
         }
@@ -276,7 +296,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                 @Override
                 public Void call() throws IOException {
                     boolean shouldClose;
-                    T t;
+                    Object t;
 
                     synchronized (lock) {
                         if (flushing) {
@@ -305,19 +325,19 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             }
 
                             final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
+                            final OutputStream writtenStream;
+                            if (t instanceof SharedChunk) {
+                                final SharedChunk<?> shared = (SharedChunk<?>) t;
+                                origStream.write(shared.serialize(
+                                        requestContext.getWorkers(),
+                                        getType(),
+                                        responseContext.getEntityAnnotations(),
+                                        responseContext.getMediaType(),
+                                        out -> writeChunk(shared.getChunk(), out)));
+                                writtenStream = origStream;
+                            } else {
+                                writtenStream = writeChunk(t, origStream);
+                            }
 
                             //noinspection ArrayEquality
                             if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
@@ -405,6 +425,22 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    private OutputStream writeChunk(final Object chunk, final OutputStream entityStream) throws IOException {
+        return requestContext.getWorkers().writeTo(
+                chunk,
+                chunk.getClass(),
+                getType(),
+                responseContext.getEntityAnnotations(),
+                responseContext.getMediaType(),
+                responseContext.getHeaders(),
+                requestContext.getPropertiesDelegate(),
+                entityStream,
+                // The output stream stored in the response context for this chunked output
+                // is already intercepted as a whole (if there are any interceptors);
+                // no need to intercept the individual chunks.
+                Collections.<WriterInterceptor>emptyList());
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -376,6 +376,20 @@ public class ContainerResponse implements ContainerResponseContext {
         messageContext.enableBuffering(configuration);
     }
 
+    /**
+     * Enable a buffering of serialized entity with the buffer starting at the given initial size. The buffer grows up to
+     * the size configured by {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER} if needed.
+     * <p/>
+     * This method must be called before first bytes are written to the {@link #getEntityStream() entity stream}.
+     *
+     * @param configuration     runtime configuration.
+     * @param initialBufferSize initial size of the buffer, the value less or equal to zero means the configured buffer size.
+     * @since 2.45
+     */
+    public void enableBuffering(final Configuration configuration, final int initialBufferSize) {
+        messageContext.enableBuffering(configuration, initialBufferSize);
+    }
+
     /**
      * Commit the {@link #getEntityStream() entity stream} unless already committed.
      *
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.guava.Primitives;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MediaTypes;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.model.RuntimeResource;
+
+/**
+ * Pre-populates the lookup caches of the {@link MessageBodyWorkers message body workers} with the entity types and media
+ * types of the resource methods, see {@link ServerProperties#PROVIDER_WARMUP}.
+ * <p>
+ * For each resource method of the runtime resource model, the message body reader of the entity parameter is looked up for
+ * every concrete media type the method consumes and the message body writer of the response entity is looked up for every
+ * concrete media type the method produces. If the method does not declare concrete media types, the media types supported
+ * by the workers for the entity type are used. Methods returning a {@link Response} are skipped as the type of the response
+ * entity is not known until the method is invoked.
+ * </p>
+ *
+ * @since 2.45
+ */
+final class EntityProvidersWarmUp {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityProvidersWarmUp.class.getName());
+
+    private final MessageBodyWorkers workers;
+    private final Set<List<Object>> readerLookups = new HashSet<>();
+    private final Set<List<Object>> writerLookups = new HashSet<>();
+    private int methods;
+
+    private EntityProvidersWarmUp(final MessageBodyWorkers workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Pre-populate the message body worker lookup caches for the resource methods of the resource model.
+     *
+     * @param workers       message body workers.
+     * @param resourceModel application resource model.
+     */
+    static void warmUp(final MessageBodyWorkers workers, final ResourceModel resourceModel) {
+        final long start = System.nanoTime();
+        final EntityProvidersWarmUp warmUp = new EntityProvidersWarmUp(workers);
+        for (final RuntimeResource resource : resourceModel.getRuntimeResourceModel().getRuntimeResources()) {
+            warmUp.visit(resource);
+        }
+        if (LOGGER.isLoggable(Level.CONFIG)) {
+            LOGGER.config(LocalizationMessages.ENTITY_PROVIDERS_WARMUP_FINISHED(warmUp.readerLookups.size(),
+                    warmUp.writerLookups.size(), warmUp.methods, (System.nanoTime() - start) / 1000000));
+        }
+    }
+
+    private void visit(final RuntimeResource resource) {
+        for (final ResourceMethod method : resource.getResourceMethods()) {
+            methods++;
+            final Invocable invocable = method.getInvocable();
+            final Annotation[] annotations = invocable.getHandlingMethod().getDeclaredAnnotations();
+            for (final Parameter parameter : invocable.getParameters()) {
+                if (parameter.getSource() == Parameter.Source.ENTITY) {
+                    warmUpReaders(parameter.getRawType(), parameter.getType(), annotations, method.getConsumedTypes());
+                    // there's at most one entity parameter
+                    break;
+                }
+            }
+            warmUpWriters(invocable, annotations, method.getProducedTypes());
+        }
+        for (final RuntimeResource child : resource.getChildRuntimeResources()) {
+            visit(child);
+        }
+    }
+
+    private void warmUpReaders(final Class<?> rawType, final Type type, final Annotation[] annotations,
+                               final List<MediaType> consumedTypes) {
+        workers.getReaderModelsForType(rawType);
+        for (final MediaType mediaType : concrete(consumedTypes, rawType, true)) {
+            if (readerLookups.add(Arrays.asList(rawType, mediaType))) {
+                try {
+                    workers.getMessageBodyReader(rawType, type, annotations, mediaType);
+                } catch (final RuntimeException ex) {
+                    // the provider might require a request scope
+                    LOGGER.log(Level.FINE, LocalizationMessages.ENTITY_PROVIDERS_WARMUP_FAILED(rawType, mediaType), ex);
+                }
+            }
+        }
+    }
+
+    private void warmUpWriters(final Invocable invocable, final Annotation[] annotations, final List<MediaType> producedTypes) {
+        final Class<?> rawType = Primitives.wrap(invocable.getRawRoutingResponseType());
+        if (Response.class.isAssignableFrom(rawType) || Void.class == rawType) {
+            return;
+        }
+        final Type routingType = invocable.getRoutingResponseType();
+        final Type type = routingType instanceof GenericType ? ((GenericType) routingType).getType() : routingType;
+
+        // the writer models are used by the method selection
+        workers.getWritersModelsForType(rawType);
+        for (final MediaType mediaType : concrete(producedTypes, rawType, false)) {
+            if (writerLookups.add(Arrays.asList(rawType, mediaType))) {
+                try {
+                    workers.getMessageBodyWriter(rawType, type, annotations, mediaType);
+                } catch (final RuntimeException ex) {
+                    // the provider might require a request scope
+                    LOGGER.log(Level.FINE, LocalizationMessages.ENTITY_PROVIDERS_WARMUP_FAILED(rawType, mediaType), ex);
+                }
+            }
+        }
+    }
+
+    private List<MediaType> concrete(final List<MediaType> declaredTypes, final Class<?> rawType, final boolean readers) {
+        List<MediaType> mediaTypes = concrete(declaredTypes);
+        if (mediaTypes.isEmpty()) {
+            mediaTypes = concrete(readers
+                    ? workers.getMessageBodyReaderMediaTypesByType(rawType)
+                    : workers.getMessageBodyWriterMediaTypesByType(rawType));
+        }
+        return mediaTypes;
+    }
+
+    private static List<MediaType> concrete(final List<MediaType> mediaTypes) {
+        final List<MediaType> concrete = new ArrayList<>(mediaTypes.size());
+        for (final MediaType mediaType : mediaTypes) {
+            if (!MediaTypes.isWildcard(mediaType)) {
+                // the lookups are cached without the media type parameters
+                concrete.add(mediaType.getParameters().isEmpty()
+                        ? mediaType : new MediaType(mediaType.getType(), mediaType.getSubtype()));
+            }
+        }
+        return concrete;
+    }
+}
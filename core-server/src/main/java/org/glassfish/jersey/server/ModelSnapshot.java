@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.ParamConverterProvider;
+
+import org.glassfish.jersey.internal.Version;
+import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.inject.Providers;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
+
+/**
+ * Snapshot of a validated application resource model, see {@link ServerProperties#RESOURCE_MODEL_SNAPSHOT}.
+ * <p>
+ * The snapshot file stores a checksum of everything the resource model is built from: the class files of the registered
+ * classes and of their super-classes and interfaces, the programmatic resources, the configuration properties and the
+ * Jersey version, together with a summary of the resource model. The providers the resource model is validated against,
+ * including the auto-discovered and service-loaded ones that are not registered in the application, are only known once
+ * the application is bootstrapped, their checksum is therefore {@link #resolveProviders(InjectionManager) computed} and
+ * stored separately. The snapshot is {@link #isCurrent() current} when both the stored checksums match the application,
+ * which means that the application resource model has already been validated successfully and the validation does not
+ * need to be repeated.
+ * </p>
+ *
+ * @since 2.45
+ */
+final class ModelSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(ModelSnapshot.class.getName());
+
+    private static final String FORMAT_VERSION = "1";
+    private static final String VERSION_KEY = "version";
+    private static final String CHECKSUM_KEY = "checksum";
+    private static final String PROVIDERS_CHECKSUM_KEY = "providers.checksum";
+    private static final String RESOURCE_KEY_PREFIX = "resource.";
+
+    /**
+     * Provider contracts the resource model is validated against.
+     */
+    private static final Class<?>[] VALIDATED_PROVIDERS = {
+            MessageBodyReader.class, MessageBodyWriter.class, ParamConverterProvider.class, ValueParamProvider.class};
+
+    private final Path file;
+    private final String checksum;
+    private final boolean resourcesCurrent;
+    private final String storedProvidersChecksum;
+    private String providersChecksum;
+
+    private ModelSnapshot(final Path file,
+                          final String checksum,
+                          final boolean resourcesCurrent,
+                          final String storedProvidersChecksum) {
+        this.file = file;
+        this.checksum = checksum;
+        this.resourcesCurrent = resourcesCurrent;
+        this.storedProvidersChecksum = storedProvidersChecksum;
+    }
+
+    /**
+     * Load the snapshot configured for the application.
+     *
+     * @param config application configuration.
+     * @return model snapshot, or {@code null} if the snapshot is not configured.
+     */
+    static ModelSnapshot load(final ResourceConfig config) {
+        final Path file = getFile(config.getProperty(ServerProperties.RESOURCE_MODEL_SNAPSHOT));
+        if (file == null) {
+            return null;
+        }
+
+        final String checksum = checksum(config);
+        boolean current = false;
+        String providersChecksum = null;
+        if (Files.isRegularFile(file)) {
+            final Properties snapshot = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                snapshot.load(in);
+                current = FORMAT_VERSION.equals(snapshot.getProperty(VERSION_KEY))
+                        && checksum.equals(snapshot.getProperty(CHECKSUM_KEY));
+                providersChecksum = snapshot.getProperty(PROVIDERS_CHECKSUM_KEY);
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_READ_FAILED(file), e);
+            }
+        }
+        return new ModelSnapshot(file, checksum, current, providersChecksum);
+    }
+
+    /**
+     * Check whether the snapshot matches the registered classes and resources, i.e. whether their introspection has
+     * already been validated.
+     *
+     * @return {@code true} if the snapshot matches the registered classes and resources.
+     */
+    boolean isResourcesCurrent() {
+        return resourcesCurrent;
+    }
+
+    /**
+     * Compute the checksum of the providers the resource model is validated against. The providers are resolved from
+     * the injection manager, so that the providers auto-discovered or loaded from {@code META-INF/services} are included.
+     *
+     * @param injectionManager injection manager of the bootstrapped application.
+     */
+    void resolveProviders(final InjectionManager injectionManager) {
+        final MessageDigest digest = newDigest();
+        final Set<Class<?>> visited = new HashSet<>();
+        for (final Class<?> contract : VALIDATED_PROVIDERS) {
+            final Map<String, Class<?>> providers = new TreeMap<>();
+            int synthetic = 0;
+            for (final Object provider : Providers.getAllProviders(injectionManager, contract)) {
+                final Class<?> providerClass = provider.getClass();
+                if (providerClass.isSynthetic() || Proxy.isProxyClass(providerClass)) {
+                    // names of the lambda and proxy classes differ between runs
+                    synthetic++;
+                } else {
+                    providers.put(providerClass.getName(), providerClass);
+                }
+            }
+            update(digest, "contract:" + contract.getName() + ':' + synthetic);
+            for (final Class<?> providerClass : providers.values()) {
+                updateHierarchy(digest, providerClass, visited);
+            }
+        }
+        providersChecksum = toHex(digest);
+        LOGGER.config(isCurrent()
+                ? LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_CURRENT(file)
+                : LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_OUTDATED(file));
+    }
+
+    /**
+     * Check whether the snapshot matches the application, i.e. whether the application resource model has already been
+     * validated. The snapshot is never current before the {@link #resolveProviders(InjectionManager) providers are
+     * resolved}.
+     *
+     * @return {@code true} if the snapshot is current.
+     */
+    boolean isCurrent() {
+        return resourcesCurrent && providersChecksum != null && providersChecksum.equals(storedProvidersChecksum);
+    }
+
+    /**
+     * Store the snapshot of the validated resource model, unless the stored snapshot is {@link #isCurrent() current}.
+     * A failure to store the snapshot is logged and does not prevent the application from starting.
+     *
+     * @param model validated resource model.
+     */
+    void store(final ResourceModel model) {
+        if (isCurrent() || providersChecksum == null) {
+            return;
+        }
+
+        final Properties snapshot = new Properties();
+        snapshot.setProperty(VERSION_KEY, FORMAT_VERSION);
+        snapshot.setProperty(CHECKSUM_KEY, checksum);
+        snapshot.setProperty(PROVIDERS_CHECKSUM_KEY, providersChecksum);
+        final List<String> resources = new ArrayList<>();
+        for (final Resource resource : model.getResources()) {
+            summarize(resource, "", resources);
+        }
+        for (int i = 0; i < resources.size(); i++) {
+            snapshot.setProperty(RESOURCE_KEY_PREFIX + i, resources.get(i));
+        }
+
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // concurrently starting instances must never read a partially written snapshot
+            final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                snapshot.store(out, "Jersey application resource model snapshot");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException | SecurityException e) {
+            LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_WRITE_FAILED(file), e);
+        }
+    }
+
+    private static Path getFile(final Object value) {
+        if (value instanceof Path) {
+            return (Path) value;
+        } else if (value instanceof File) {
+            return ((File) value).toPath();
+        } else if (value != null && !value.toString().trim().isEmpty()) {
+            return Paths.get(value.toString().trim());
+        }
+        return null;
+    }
+
+    private static void summarize(final Resource resource, final String parentPath, final List<String> summary) {
+        if (resource.isExtended()) {
+            return;
+        }
+        final String path = parentPath + (resource.getPath() == null ? "" : "/" + resource.getPath());
+        final StringBuilder methods = new StringBuilder();
+        for (final ResourceMethod method : resource.getAllMethods()) {
+            if (method.isExtended()) {
+                continue;
+            }
+            if (methods.length() > 0) {
+                methods.append(',');
+            }
+            methods.append(method.getType() == ResourceMethod.JaxrsType.SUB_RESOURCE_LOCATOR
+                    ? "LOCATOR" : method.getHttpMethod());
+        }
+        summary.add((path.isEmpty() ? "/" : path) + ' ' + methods);
+        for (final Resource child : resource.getChildResources()) {
+            if (!child.isExtended()) {
+                summarize(child, path, summary);
+            }
+        }
+    }
+
+    private static String checksum(final ResourceConfig config) {
+        final MessageDigest digest = newDigest();
+
+        update(digest, "jersey:" + Version.getVersion());
+
+        for (final Map.Entry<String, Object> property : new TreeMap<>(config.getProperties()).entrySet()) {
+            final Object value = property.getValue();
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Enum) {
+                update(digest, "property:" + property.getKey() + '=' + value);
+            }
+        }
+
+        final Map<String, Class<?>> classes = new TreeMap<>();
+        for (final Class<?> c : config.getClasses()) {
+            classes.put(c.getName(), c);
+        }
+        for (final Object instance : config.getSingletons()) {
+            classes.put(instance.getClass().getName(), instance.getClass());
+        }
+        final Set<Class<?>> visited = new HashSet<>();
+        for (final Class<?> c : classes.values()) {
+            updateHierarchy(digest, c, visited);
+        }
+
+        for (final Resource resource : config.getResources()) {
+            updateResource(digest, resource);
+        }
+
+        return toHex(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(final MessageDigest digest) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void updateHierarchy(final MessageDigest digest, final Class<?> c, final Set<Class<?>> visited) {
+        if (c == null || c == Object.class || !visited.add(c)) {
+            return;
+        }
+        update(digest, "class:" + c.getName());
+        final String classFile = "/" + c.getName().replace('.', '/') + ".class";
+        try (InputStream in = c.getResourceAsStream(classFile)) {
+            if (in != null) {
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        } catch (final IOException e) {
+            // the class name alone identifies the class
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+        updateHierarchy(digest, c.getSuperclass(), visited);
+        for (final Class<?> i : c.getInterfaces()) {
+            updateHierarchy(digest, i, visited);
+        }
+    }
+
+    private static void updateResource(final MessageDigest digest, final Resource resource) {
+        update(digest, "resource:" + resource.getPath() + ':' + resource.getName());
+        for (final ResourceMethod method : resource.getAllMethods()) {
+            final Invocable invocable = method.getInvocable();
+            final Class<?> handlerClass = invocable.getHandler().getHandlerClass();
+            // names of the lambda classes differ between runs
+            final String handler = handlerClass.isSynthetic()
+                    ? "synthetic:" + invocable.getHandlingMethod().getName()
+                    : handlerClass.getName() + ':' + invocable.getHandlingMethod().toGenericString();
+            update(digest, "method:" + method.getHttpMethod() + ':' + method.getConsumedTypes() + ':'
+                    + method.getProducedTypes() + ':' + handler);
+        }
+        for (final Resource child : resource.getChildResources()) {
+            updateResource(digest, child);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,11 +16,14 @@
 
 package org.glassfish.jersey.server;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.server.internal.ParallelInitializer;
 import org.glassfish.jersey.server.model.Resource;
 
 /**
@@ -37,10 +40,14 @@ class ResourceBagConfigurator implements BootstrapConfigurator {
         ServerBootstrapBag serverBag = (ServerBootstrapBag) bootstrapBag;
         ResourceConfig runtimeConfig = serverBag.getRuntimeConfig();
 
+        final ModelSnapshot modelSnapshot = ModelSnapshot.load(runtimeConfig);
+        serverBag.setModelSnapshot(modelSnapshot);
+
+        // the introspection of the classes and resources matching the snapshot has been validated already
         final boolean disableValidation = ServerProperties.getValue(runtimeConfig.getProperties(),
                 ServerProperties.RESOURCE_VALIDATION_DISABLE,
                 Boolean.FALSE,
-                Boolean.class);
+                Boolean.class) || modelSnapshot != null && modelSnapshot.isResourcesCurrent();
 
         final ResourceBag.Builder resourceBagBuilder = new ResourceBag.Builder();
 
@@ -49,29 +56,34 @@ class ResourceBagConfigurator implements BootstrapConfigurator {
             resourceBagBuilder.registerProgrammaticResource(programmaticResource);
         }
 
-        // Introspecting classes & instances
-        for (final Class<?> c : runtimeConfig.getClasses()) {
-            try {
-                final Resource resource = Resource.from(c, disableValidation);
-                if (resource != null) {
-                    resourceBagBuilder.registerResource(c, resource);
-                }
-            } catch (final IllegalArgumentException ex) {
-                LOGGER.warning(ex.getMessage());
+        // Introspecting classes & instances, the resources are registered in the order of the classes & instances
+        final ParallelInitializer initializer = serverBag.getParallelInitializer();
+
+        final List<Class<?>> classes = new ArrayList<>(runtimeConfig.getClasses());
+        final List<Resource> classResources = initializer.map(classes, c -> introspect(c, disableValidation));
+        for (int i = 0; i < classes.size(); i++) {
+            if (classResources.get(i) != null) {
+                resourceBagBuilder.registerResource(classes.get(i), classResources.get(i));
             }
         }
 
-        for (final Object o : runtimeConfig.getSingletons()) {
-            try {
-                final Resource resource = Resource.from(o.getClass(), disableValidation);
-                if (resource != null) {
-                    resourceBagBuilder.registerResource(o, resource);
-                }
-            } catch (final IllegalArgumentException ex) {
-                LOGGER.warning(ex.getMessage());
+        final List<Object> singletons = new ArrayList<>(runtimeConfig.getSingletons());
+        final List<Resource> singletonResources = initializer.map(singletons, o -> introspect(o.getClass(), disableValidation));
+        for (int i = 0; i < singletons.size(); i++) {
+            if (singletonResources.get(i) != null) {
+                resourceBagBuilder.registerResource(singletons.get(i), singletonResources.get(i));
             }
         }
 
         serverBag.setResourceBag(resourceBagBuilder.build());
     }
+
+    private static Resource introspect(final Class<?> resourceClass, final boolean disableValidation) {
+        try {
+            return Resource.from(resourceClass, disableValidation);
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.warning(ex.getMessage());
+            return null;
+        }
+    }
 }
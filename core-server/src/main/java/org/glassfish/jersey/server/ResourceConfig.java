@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -55,6 +55,7 @@ import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.scanning.AnnotationAcceptingListener;
+import org.glassfish.jersey.server.internal.scanning.ClassIndex;
 import org.glassfish.jersey.server.internal.scanning.FilesScanner;
 import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
 import org.glassfish.jersey.server.model.Resource;
@@ -902,13 +903,34 @@ public class ResourceConfig extends Application implements Configurable<Resource
 
         final AnnotationAcceptingListener parentAfl =
                 AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(_state.getClassLoader());
+        final ClassIndex.Mode indexMode = ClassIndex.Mode.of(getProperty(ServerProperties.PROVIDER_SCANNING_INDEX));
 
-        for (final ResourceFinder resourceFinder : rfs) {
+        for (ResourceFinder resourceFinder : rfs) {
             AnnotationAcceptingListener afl = parentAfl;
+            ClassIndex validatedIndex = null;
+            Set<String> indexed = null;
 
             if (resourceFinder instanceof PackageNamesScanner) {
-                final ClassLoader classLoader = ((PackageNamesScanner) resourceFinder).getClassloader();
-                if (!getClassLoader().equals(classLoader)) {
+                final PackageNamesScanner scanner = (PackageNamesScanner) resourceFinder;
+                final ClassLoader classLoader = scanner.getClassloader();
+                final ClassIndex index = indexMode == ClassIndex.Mode.DISABLED ? null : ClassIndex.load(classLoader);
+                if (index != null) {
+                    indexed = index.getClassNames(scanner.getPackages(), scanner.isRecursive());
+                    if (indexMode == ClassIndex.Mode.ENABLED) {
+                        // the build-time index replaces the scanning of the class-path elements it has been shipped in,
+                        // the package locations of the other class-path elements are still scanned
+                        result.addAll(ClassIndex.loadClasses(indexed, classLoader));
+                        scanner.close();
+                        resourceFinder = new PackageNamesScanner(
+                                classLoader, scanner.getPackages(), scanner.isRecursive(), index::covers);
+                        LOGGER.log(Level.CONFIG, LocalizationMessages.CLASS_INDEX_USED(
+                                Arrays.toString(scanner.getPackages()), indexed.size()));
+                    } else {
+                        validatedIndex = index;
+                    }
+                }
+                if (validatedIndex != null || !getClassLoader().equals(classLoader)) {
+                    // the classes found by the scanner have to be collected separately to be validated
                     afl = AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(classLoader);
                 }
             }
@@ -931,6 +953,18 @@ public class ResourceConfig extends Application implements Configurable<Resource
                 }
             }
 
+            if (validatedIndex != null) {
+                // only the classes of the indexed class-path elements are expected to be listed in the index
+                final ClassLoader classLoader = ((PackageNamesScanner) resourceFinder).getClassloader();
+                final Set<Class<?>> covered = new HashSet<>();
+                for (final Class<?> clazz : afl.getAnnotatedClasses()) {
+                    if (validatedIndex.covers(clazz, classLoader)) {
+                        covered.add(clazz);
+                    }
+                }
+                ClassIndex.validate(indexed, covered);
+            }
+
             if (afl != parentAfl) {
                result.addAll(afl.getAnnotatedClasses());
             }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+/**
+ * Initial entity buffer sizes adapted to the sizes of the responses previously produced by the resource methods.
+ * <p>
+ * The size hint follows the size of the latest response rounded up to a power of two immediately when the responses grow
+ * and decays by halving when the responses shrink.
+ * </p>
+ *
+ * @see ServerProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_ADAPTIVE
+ */
+final class ResponseBufferSizes {
+
+    private static final int MIN_SIZE = 512;
+
+    // keyed by the handling Java method, resource methods of the sub-resources may be created per request
+    private final ConcurrentHashMap<Method, AtomicInteger> sizes = new ConcurrentHashMap<>();
+
+    /**
+     * Get the initial buffer size for the response of the resource method.
+     *
+     * @param resourceMethod matched resource method, may be {@code null}.
+     * @return initial buffer size, {@code 0} if unknown.
+     */
+    int getInitialSize(final ResourceMethod resourceMethod) {
+        if (resourceMethod == null) {
+            return 0;
+        }
+        final AtomicInteger size = sizes.get(resourceMethod.getInvocable().getHandlingMethod());
+        return size == null ? 0 : size.get();
+    }
+
+    /**
+     * Record the size of the response produced by the resource method.
+     *
+     * @param resourceMethod matched resource method, may be {@code null}.
+     * @param responseSize   buffered response size, {@code -1} if the response did not fit into the buffer.
+     * @param bufferSize     configured buffer size.
+     */
+    void record(final ResourceMethod resourceMethod, final int responseSize, final int bufferSize) {
+        if (resourceMethod == null || bufferSize <= 0) {
+            return;
+        }
+
+        final int observed = responseSize < 0 || responseSize >= bufferSize
+                ? bufferSize
+                : Math.min(bufferSize, Math.max(MIN_SIZE, Integer.highestOneBit(Math.max(1, responseSize - 1)) << 1));
+
+        final Method method = resourceMethod.getInvocable().getHandlingMethod();
+        AtomicInteger size = sizes.get(method);
+        if (size == null) {
+            size = sizes.computeIfAbsent(method, m -> new AtomicInteger());
+        }
+        final int previous = size.get();
+        final int next = Math.max(observed, previous >> 1);
+        if (next != previous) {
+            size.lazySet(next);
+        }
+    }
+}
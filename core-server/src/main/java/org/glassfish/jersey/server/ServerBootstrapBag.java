@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,7 @@ import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
+import org.glassfish.jersey.server.internal.ParallelInitializer;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.inject.MultivaluedParameterExtractorProvider;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
@@ -54,6 +55,8 @@ public class ServerBootstrapBag extends BootstrapBag {
     private ResourceBag resourceBag;
     private ResourceModel resourceModel;
     private Collection<ModelProcessor> modelProcessors;
+    private ModelSnapshot modelSnapshot;
+    private ParallelInitializer parallelInitializer = ParallelInitializer.sequential();
 
     public Collection<ModelProcessor> getModelProcessors() {
         return modelProcessors;
@@ -63,6 +66,32 @@ public class ServerBootstrapBag extends BootstrapBag {
         this.modelProcessors = modelProcessors;
     }
 
+    /**
+     * Get the application resource model snapshot.
+     *
+     * @return model snapshot, or {@code null} if the snapshot is not configured.
+     */
+    ModelSnapshot getModelSnapshot() {
+        return modelSnapshot;
+    }
+
+    void setModelSnapshot(ModelSnapshot modelSnapshot) {
+        this.modelSnapshot = modelSnapshot;
+    }
+
+    /**
+     * Get the initializer executing the independent initialization steps of the application.
+     *
+     * @return parallel or sequential initializer, never {@code null}.
+     */
+    ParallelInitializer getParallelInitializer() {
+        return parallelInitializer;
+    }
+
+    void setParallelInitializer(ParallelInitializer parallelInitializer) {
+        this.parallelInitializer = parallelInitializer;
+    }
+
     public ResourceBag getResourceBag() {
         requireNonNull(resourceBag, ResourceBag.class);
         return resourceBag;
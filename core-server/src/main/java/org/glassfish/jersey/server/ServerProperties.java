@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -83,6 +83,41 @@ public final class ServerProperties {
      */
     public static final String PROVIDER_SCANNING_RECURSIVE = "jersey.config.server.provider.scanning.recursive";
 
+    /**
+     * Defines how the build-time class index is used by the {@link #PROVIDER_PACKAGES package scanning}.
+     * <p>
+     * The class index is a {@value org.glassfish.jersey.server.internal.scanning.ClassIndex#RESOURCE} class-path
+     * resource listing the JAX-RS root resource and provider classes of the application. It is generated at build time
+     * by the {@link org.glassfish.jersey.server.internal.scanning.ClassIndexProcessor} annotation processor. For the
+     * class-path elements (directories and jars) shipping an index, the classes of the scanned packages are taken from
+     * the index instead of reading and parsing every class file of the packages, which considerably shortens the start-up
+     * of applications with large class-paths. The scanned packages are still scanned in the class-path elements without
+     * an index. All the classes of a class-path element shipping an index are expected to be compiled with the annotation
+     * processor.
+     * </p>
+     * <p>
+     * The supported values are:
+     * <ul>
+     * <li>{@code ENABLED} - the index is used instead of the package scanning for the class-path elements shipping
+     * an index, the other class-path elements are scanned.</li>
+     * <li>{@code DISABLED} - the index is ignored and the packages are always scanned.</li>
+     * <li>{@code VALIDATE} - the packages are scanned and the found classes are compared with the index, any difference
+     * is logged as a warning.</li>
+     * </ul>
+     * The value is case insensitive.
+     * </p>
+     * <p>
+     * A default value is {@code ENABLED}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #PROVIDER_PACKAGES
+     * @since 2.45
+     */
+    public static final String PROVIDER_SCANNING_INDEX = "jersey.config.server.provider.scanning.index";
+
     /**
      * Defines class-path that contains application-specific resources and
      * providers.
@@ -442,6 +477,79 @@ public final class ServerProperties {
      */
     public static final String RESOURCE_VALIDATION_DISABLE = "jersey.config.server.resource.validation.disable";
 
+    /**
+     * Location of the application resource model snapshot file.
+     * <p>
+     * When set, the checksum of everything the application resource model is built from (the class files of the
+     * registered resource and provider classes, including their super-classes and interfaces, the programmatic resources,
+     * the configuration properties and the Jersey version) and of the resolved entity, parameter and parameter converter
+     * providers the resource model is validated against, including the auto-discovered and service-loaded ones, is compared
+     * with the checksum stored in the snapshot file.
+     * If the checksums match, the application resource model has already been validated by a previous start of the
+     * application and the validation of the resource model during the deployment is skipped. Otherwise the resource
+     * model is validated and, if no fatal issue is found, the snapshot file is (re)written. The snapshot can be created
+     * at build time by starting the application once, or by the first start of the application.
+     * </p>
+     * <p>
+     * Sub-resources returned from sub-resource locators are validated regardless of the snapshot, see
+     * {@link #RESOURCE_VALIDATION_DISABLE}.
+     * </p>
+     * <p>
+     * The property value MUST be an instance of {@link String}, {@link java.io.File} or {@link java.nio.file.Path}.
+     * </p>
+     * <p>
+     * A default value is not set.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String RESOURCE_MODEL_SNAPSHOT = "jersey.config.server.resource.model.snapshot";
+
+    /**
+     * If {@code true} then the application is initialized in parallel.
+     * <p>
+     * The registered classes are introspected, the root resources are validated and the singleton providers are
+     * instantiated concurrently on a dedicated fork-join pool with one thread per available processor. The pool is shut
+     * down once the application is initialized. The resources, providers and validation issues are registered in the same
+     * order as during the sequential initialization, so the resulting application does not depend on the number of
+     * processors. The duration of the individual initialization phases is reported by the
+     * {@link org.glassfish.jersey.server.monitoring.ApplicationEvent#getInitializationPhases() application events}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String INITIALIZATION_PARALLEL = "jersey.config.server.initialization.parallel";
+
+    /**
+     * If {@code true} then the message body worker lookups of the resource methods are performed during the application
+     * initialization.
+     * <p>
+     * The message body readers and writers are looked up for the entity parameter and the response entity types of all
+     * the resource methods and for the concrete media types the methods consume and produce, so that the lookup caches of
+     * the message body workers are populated before the first request is served. Resource methods returning a
+     * {@link javax.ws.rs.core.Response} are not pre-warmed. The duration of the warm-up is reported as the {@code warmup}
+     * {@link org.glassfish.jersey.server.monitoring.ApplicationEvent#getInitializationPhases() initialization phase}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String PROVIDER_WARMUP = "jersey.config.server.provider.warmup";
+
     /**
      * If {@code true} then validation of application resource models does not fail even in case of a fatal
      * validation errors. All resource model validation issues are still output to the log, unless the resource
@@ -540,6 +648,86 @@ public final class ServerProperties {
     public static final String MONITORING_STATISTICS_REFRESH_INTERVAL =
             "jersey.config.server.monitoring.statistics.refresh.interval";
 
+    /**
+     * Type of the reservoirs collecting the execution times of the time window
+     * {@link org.glassfish.jersey.server.monitoring.ExecutionStatistics monitoring statistics}.
+     * <p/>
+     * With the default value {@value #MONITORING_STATISTICS_RESERVOIR_SLIDING_WINDOW}, every measurement is stored
+     * in sliding windows until it leaves the window. With {@value #MONITORING_STATISTICS_RESERVOIR_HISTOGRAM}, the
+     * measurements are aggregated into log-linear histograms of time slices, which use a constant amount of memory
+     * and do not contend under concurrent updates, at the cost of windows moving by the steps of one sixth of
+     * the window length.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_RESERVOIR = "jersey.config.server.monitoring.statistics.reservoir";
+
+    /**
+     * {@link #MONITORING_STATISTICS_RESERVOIR} value storing every measurement in sliding windows.
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_RESERVOIR_SLIDING_WINDOW = "SLIDING_WINDOW";
+
+    /**
+     * {@link #MONITORING_STATISTICS_RESERVOIR} value aggregating the measurements into histograms.
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_RESERVOIR_HISTOGRAM = "HISTOGRAM";
+
+    /**
+     * Maximal number of request events buffered for the processing into
+     * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics monitoring statistics}. The value is rounded up
+     * to a power of two. Events that do not fit into the buffer are handled according to the
+     * {@link #MONITORING_STATISTICS_OVERFLOW_POLICY}.
+     * <p/>
+     * The default value is {@code 524288}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_QUEUE_SIZE = "jersey.config.server.monitoring.statistics.queue.size";
+
+    /**
+     * Policy applied to the request events when the buffer of the monitoring statistics processing fills up.
+     * <p/>
+     * With the default value {@value #MONITORING_STATISTICS_OVERFLOW_POLICY_DROP}, every event is buffered until the buffer
+     * is full and the events that do not fit are dropped. With {@value #MONITORING_STATISTICS_OVERFLOW_POLICY_SAMPLE}, only
+     * a random sample of the events is buffered once the buffer is half full, halving the sampling rate every time
+     * the free space of the buffer halves, so that the execution statistics keep following the traffic during bursts.
+     * Response code and exception mapper statistics are never sampled.
+     * <p/>
+     * The numbers of the dropped and of the sampled out events are exposed by the
+     * {@link org.glassfish.jersey.server.monitoring.ApplicationMXBean}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_OVERFLOW_POLICY =
+            "jersey.config.server.monitoring.statistics.overflow.policy";
+
+    /**
+     * {@link #MONITORING_STATISTICS_OVERFLOW_POLICY} value dropping the events which do not fit into the buffer.
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_OVERFLOW_POLICY_DROP = "DROP";
+
+    /**
+     * {@link #MONITORING_STATISTICS_OVERFLOW_POLICY} value sampling the events when the buffer fills up.
+     *
+     * @since 2.45
+     */
+    public static final String MONITORING_STATISTICS_OVERFLOW_POLICY_SAMPLE = "SAMPLE";
+
     /**
      * {@link String} property that defines the application name.
      *
@@ -610,6 +798,70 @@ public final class ServerProperties {
      */
     public static final String TRACING_THRESHOLD = "jersey.config.server.tracing.threshold";
 
+    /**
+     * Set the output of the tracing support.
+     *
+     * <p>
+     * Allowed values:
+     * <ul>
+     *     <li>{@code HEADERS} - tracing messages are formatted as the events occur, logged by the JDK logger and returned in
+     *     the response headers ({@code X-Jersey-Tracing-nnn}).</li>
+     *     <li>{@code STRUCTURED} - the events, their timestamps and references to the message arguments are recorded into
+     *     a buffer preallocated for the request (see {@link #TRACING_BUFFER_SIZE}). The messages are only formatted when
+     *     they are written to the response headers at the end of the request processing. The messages are not logged by
+     *     the JDK logger.</li>
+     *     <li>{@code JFR} - the events are recorded as with {@code STRUCTURED} and exported as Java Flight Recorder events
+     *     at the end of the request processing. The messages are only formatted if the event is enabled in a running
+     *     recording. The response headers are only written for requests explicitly asking for tracing by the
+     *     {@code X-Jersey-Tracing-Accept} request header.</li>
+     * </ul>
+     * Type of the property value is {@code String}. The default value is {@code "HEADERS"}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING
+     * @since 2.45
+     */
+    public static final String TRACING_OUTPUT = "jersey.config.server.tracing.output";
+
+    /**
+     * Set the fraction of the requests traced when the tracing support is enabled for {@code ALL} requests.
+     *
+     * The requests explicitly asking for tracing by the {@code X-Jersey-Tracing-Accept} request header are always traced.
+     * The property allows to keep the tracing enabled on a percentage of production requests, typically together with
+     * the {@code JFR} {@link #TRACING_OUTPUT tracing output}.
+     *
+     * <p>
+     * The value is a number between {@code 0.0} and {@code 1.0}. Type of the property value is {@code Double}. The default
+     * value is {@code 1.0}, i.e. all the requests are traced.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING
+     * @since 2.45
+     */
+    public static final String TRACING_SAMPLING_RATE = "jersey.config.server.tracing.samplingRate";
+
+    /**
+     * Set the maximal number of tracing events kept for a request by the {@code STRUCTURED} and {@code JFR}
+     * {@link #TRACING_OUTPUT tracing outputs}. If the request produces more events, the oldest ones are discarded.
+     *
+     * <p>
+     * The value must be a positive integer. Type of the property value is {@code Integer}. The default value is {@code 256}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING_OUTPUT
+     * @since 2.45
+     */
+    public static final String TRACING_BUFFER_SIZE = "jersey.config.server.tracing.bufferSize";
+
     /**
      * Whenever response status is {@code 4xx} or {@code 5xx} it is possible to choose between {@code sendError} or
      * {@code setStatus} on container specific {@code Response} implementation. E.g. on servlet container Jersey
@@ -760,6 +1012,86 @@ public final class ServerProperties {
     public static final String UNWRAP_COMPLETION_STAGE_IN_WRITER_ENABLE =
             "jersey.config.server.unwrap.completion.stage.writer.enable";
 
+    /**
+     * If {@code true} then Jersey will index the request path routes by the literal prefixes of their path patterns
+     * (using a radix tree) and match the request path only against the routes whose literal prefix matches the path.
+     * Routes with literal paths (without template variables) are matched without evaluating regular expressions.
+     * The JAX-RS matching algorithm (ordering of the routes, sub-resource locator rules) is not affected.
+     *
+     * <p>
+     * The index is not used for requests with {@link #TRACING tracing} enabled at the {@code VERBOSE} level as these
+     * report the non-matched routes.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String ROUTING_PATH_INDEX_ENABLED = "jersey.config.server.routing.pathIndex.enabled";
+
+    /**
+     * An integer value that defines the size of the per-resource cache of resource method selections. When set to
+     * a positive value, Jersey caches the resource method selected for a combination of the request HTTP method,
+     * {@code Content-Type} and {@code Accept} header values (together with the acceptable media types), so the
+     * repeated requests with the same headers skip the media type compatibility checks and sorting of the candidate
+     * resource methods. Requests with a {@code Content-Type} containing parameters other than {@code charset}
+     * (e.g. multipart {@code boundary}) are not cached.
+     * <p>
+     * The cache is disabled by default (the default value is {@code 0}).
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String METHOD_SELECTION_CACHE_SIZE = "jersey.config.server.routing.methodSelection.cache.size";
+
+    /**
+     * If {@code true} then Jersey will invoke the resource methods using {@link java.lang.invoke.MethodHandle method handles}
+     * created once per resource method during the application initialization, instead of using the reflective
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)} calls. Resource methods that cannot be accessed via
+     * a method handle are invoked using reflection.
+     * <p>
+     * The property has no effect on resource methods whose invocation handler is provided by a custom
+     * {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED =
+            "jersey.config.server.resource.invocation.methodHandles.enabled";
+
+    /**
+     * If {@code true} then the initial size of the buffer used to buffer the outbound entity (see
+     * {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}) is adapted to the sizes of the responses previously produced by the matched
+     * resource method. The buffer still grows up to the configured buffer size if needed, so the property does not
+     * influence whether the <tt>{@value javax.ws.rs.core.HttpHeaders#CONTENT_LENGTH}</tt> header is set.
+     * <p>
+     * The property is useful together with the {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL
+     * buffer pooling} or when the configured buffer size is much larger than the typical response size.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_ADAPTIVE = "jersey.config.server.contentLength.buffer.adaptive";
+
     /**
      * JVM argument to define the value of
      * {@link org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants#COLLISION_BUFFER_POWER}.
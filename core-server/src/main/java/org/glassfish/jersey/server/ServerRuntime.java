@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import java.util.Queue;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +39,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.ws.rs.HttpMethod;
+import javax.ws.rs.RuntimeType;
 import javax.ws.rs.InternalServerErrorException;
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.ServiceUnavailableException;
@@ -54,6 +56,7 @@ import javax.ws.rs.ext.ExceptionMapper;
 
 import javax.inject.Provider;
 
+import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.guava.Preconditions;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.Injections;
@@ -64,6 +67,7 @@ import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.internal.util.collection.Refs;
 import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.message.internal.CommittingOutputStream;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.message.internal.MessageBodyProviderNotFoundException;
 import org.glassfish.jersey.message.internal.OutboundJaxrsResponse;
@@ -83,6 +87,7 @@ import org.glassfish.jersey.server.internal.process.Endpoint;
 import org.glassfish.jersey.server.internal.process.MappableException;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.routing.UriRoutingContext;
+import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
@@ -118,8 +123,7 @@ public class ServerRuntime {
 
     private final ExternalRequestScope externalRequestScope;
 
-    private final TracingConfig tracingConfig;
-    private final TracingLogger.Level tracingThreshold;
+    private final TracingUtils.Settings tracingSettings;
 
     private final boolean processResponseErrors;
 
@@ -128,6 +132,9 @@ public class ServerRuntime {
     /** Resolve relative URIs according to RFC7231 (not JAX-RS 2.0 compliant */
     private final boolean rfc7231LocationHeaderRelativeUriResolution;
 
+    private final ResponseBufferSizes responseBufferSizes;
+    private final int responseBufferSize;
+
     static ServerRuntime createServerRuntime(
             InjectionManager injectionManager,
             ServerBootstrapBag bootstrapBag,
@@ -177,8 +184,7 @@ public class ServerRuntime {
         this.externalRequestScope = externalScope;
         this.configuration = configuration;
 
-        this.tracingConfig = TracingUtils.getTracingConfig(configuration);
-        this.tracingThreshold = TracingUtils.getTracingThreshold(configuration);
+        this.tracingSettings = new TracingUtils.Settings(configuration);
 
         this.processResponseErrors = PropertiesHelper.isProperty(
                 configuration.getProperty(ServerProperties.PROCESSING_RESPONSE_ERRORS_ENABLED));
@@ -190,6 +196,12 @@ public class ServerRuntime {
         this.rfc7231LocationHeaderRelativeUriResolution = ServerProperties.getValue(configuration.getProperties(),
                 ServerProperties.LOCATION_HEADER_RELATIVE_URI_RESOLUTION_RFC7231,
                 Boolean.FALSE, Boolean.class);
+
+        this.responseBufferSizes = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_ADAPTIVE, Boolean.FALSE, Boolean.class)
+                ? new ResponseBufferSizes() : null;
+        this.responseBufferSize = CommonProperties.getValue(configuration.getProperties(), RuntimeType.SERVER,
+                CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, CommittingOutputStream.DEFAULT_BUFFER_SIZE, Integer.class);
     }
 
     /**
@@ -198,7 +210,7 @@ public class ServerRuntime {
      * @param request container request to be processed.
      */
     public void process(final ContainerRequest request) {
-        TracingUtils.initTracingSupport(tracingConfig, tracingThreshold, request);
+        TracingUtils.initTracingSupport(tracingSettings, request);
         TracingUtils.logStart(request);
 
         final UriRoutingContext routingContext = request.getUriRoutingContext();
@@ -628,6 +640,10 @@ public class ServerRuntime {
 
             final boolean isHead = request.getMethod().equals(HttpMethod.HEAD);
 
+            final boolean buffered = (writer.enableResponseBuffering() || isHead) && !response.isChunked();
+            final ResourceMethod resourceMethod = runtime.responseBufferSizes == null || !buffered
+                    ? null : processingContext.routingContext().getMatchedResourceMethod();
+
             try {
                 response.setStreamProvider(new OutboundMessageContext.StreamProvider() {
                     @Override
@@ -636,13 +652,21 @@ public class ServerRuntime {
                             ServerRuntime.ensureAbsolute(response.getLocation(), response.getHeaders(),
                                     response.getRequestContext(), runtime.rfc7231LocationHeaderRelativeUriResolution);
                         }
+                        if (resourceMethod != null) {
+                            runtime.responseBufferSizes.record(resourceMethod, contentLength, runtime.responseBufferSize);
+                        }
                         final OutputStream outputStream = writer.writeResponseStatusAndHeaders(contentLength, response);
                         return isHead ? null : outputStream;
                     }
                 });
 
-                if ((writer.enableResponseBuffering() || isHead) && !response.isChunked()) {
-                    response.enableBuffering(runtime.configuration);
+                if (buffered) {
+                    if (resourceMethod != null) {
+                        response.enableBuffering(runtime.configuration,
+                                runtime.responseBufferSizes.getInitialSize(resourceMethod));
+                    } else {
+                        response.enableBuffering(runtime.configuration);
+                    }
                 }
 
                 try {
@@ -819,7 +843,12 @@ public class ServerRuntime {
 
         @Override
         public void invokeManaged(final Producer<Response> producer) {
-            responder.runtime.managedAsyncExecutor.get().submit(new Runnable() {
+            invokeManaged(responder.runtime.managedAsyncExecutor.get(), producer);
+        }
+
+        @Override
+        public void invokeManaged(final Executor executor, final Producer<Response> producer) {
+            executor.execute(new Runnable() {
                 @Override
                 public void run() {
                     responder.runtime.requestScope.runInScope(requestContext, new Runnable() {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A chunk {@link ChunkedOutput#writeShared(SharedChunk) written} to multiple {@link ChunkedOutput chunked outputs}
+ * that is serialized only once.
+ * <p>
+ * The chunk is serialized by the first chunked output that writes it and the serialized bytes are re-used
+ * by all other chunked outputs with the same chunk type, media type and entity annotations, i.e. the
+ * {@link javax.ws.rs.ext.MessageBodyWriter message body writer} is invoked once per such combination
+ * instead of once per chunked output. This is useful when broadcasting the same chunk to large number of clients,
+ * see {@link Broadcaster.Builder#serializeOnce(boolean)}.
+ * </p>
+ * <p>
+ * Note that the serialized bytes are shared, so the message body writer must not produce output that depends
+ * on the particular request.
+ * </p>
+ *
+ * @param <T> chunk type.
+ * @since 2.45
+ */
+public final class SharedChunk<T> {
+
+    private final T chunk;
+    private final ConcurrentHashMap<Key, byte[]> serialized = new ConcurrentHashMap<>(2);
+
+    /**
+     * Create new shared chunk.
+     *
+     * @param chunk chunk instance to be shared. Must not be {@code null}.
+     */
+    public SharedChunk(final T chunk) {
+        this.chunk = Objects.requireNonNull(chunk);
+    }
+
+    /**
+     * Get the shared chunk instance.
+     *
+     * @return shared chunk instance.
+     */
+    public T getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Get the serialized chunk for the given serialization context, serialize the chunk using the given serializer
+     * if it has not been serialized for the context yet.
+     *
+     * @param workers     message body workers used to serialize the chunk.
+     * @param type        chunk type.
+     * @param annotations entity annotations.
+     * @param mediaType   media type of the chunk.
+     * @param serializer  serializer used in case the chunk has not been serialized yet.
+     * @return serialized chunk, the returned array must not be modified.
+     * @throws IOException if the chunk serialization fails.
+     */
+    byte[] serialize(final Object workers,
+                     final Type type,
+                     final Annotation[] annotations,
+                     final MediaType mediaType,
+                     final Serializer serializer) throws IOException {
+        try {
+            return serialized.computeIfAbsent(new Key(workers, type, annotations, mediaType), key -> {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                try {
+                    serializer.writeTo(buffer).flush();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return buffer.toByteArray();
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Chunk serializer.
+     */
+    @FunctionalInterface
+    interface Serializer {
+
+        /**
+         * Serialize the chunk into the given output stream.
+         *
+         * @param out output stream.
+         * @return output stream the chunk has been written to (may wrap the given stream).
+         * @throws IOException if the serialization fails.
+         */
+        OutputStream writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final class Key {
+
+        private final Object workers;
+        private final Type type;
+        private final Annotation[] annotations;
+        private final MediaType mediaType;
+        private final int hash;
+
+        private Key(final Object workers, final Type type, final Annotation[] annotations, final MediaType mediaType) {
+            this.workers = workers;
+            this.type = type;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+            this.hash = Objects.hash(System.identityHashCode(workers), type, Arrays.hashCode(annotations), mediaType);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return workers == other.workers
+                    && Objects.equals(type, other.type)
+                    && Arrays.equals(annotations, other.annotations)
+                    && Objects.equals(mediaType, other.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,11 +19,16 @@ package org.glassfish.jersey.server;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
 
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.HttpHeaders;
 
+import org.glassfish.jersey.message.internal.StructuredTracingLogger;
 import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.internal.JfrTracingExporter;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ServerTraceEvent;
 
 /**
@@ -34,6 +39,8 @@ import org.glassfish.jersey.server.internal.ServerTraceEvent;
  */
 public final class TracingUtils {
 
+    private static final Logger LOGGER = Logger.getLogger(TracingUtils.class.getName());
+
     private static final List<String> SUMMARY_HEADERS = new ArrayList<>();
 
     static {
@@ -46,6 +53,62 @@ public final class TracingUtils {
     }
 
     private static final TracingConfig DEFAULT_CONFIGURATION_TYPE = TracingConfig.OFF;
+    private static final Output DEFAULT_OUTPUT = Output.HEADERS;
+    private static final double DEFAULT_SAMPLING_RATE = 1.0;
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * Output of the tracing support, see {@link ServerProperties#TRACING_OUTPUT}.
+     */
+    /*package*/ enum Output {
+        HEADERS,
+        STRUCTURED,
+        JFR
+    }
+
+    /**
+     * Application-wide tracing settings.
+     */
+    /*package*/ static final class Settings {
+
+        private final TracingConfig type;
+        private final TracingLogger.Level threshold;
+        private final Output output;
+        private final double samplingRate;
+        private final int bufferSize;
+        private final StructuredTracingLogger.Exporter exporter;
+
+        /**
+         * Read the tracing settings from the application configuration.
+         *
+         * @param configuration application configuration.
+         */
+        Settings(final Configuration configuration) {
+            this.type = getTracingConfig(configuration);
+            this.threshold = getTracingThreshold(configuration);
+
+            final String outputText = ServerProperties.getValue(configuration.getProperties(),
+                    ServerProperties.TRACING_OUTPUT, String.class);
+            this.output = outputText == null ? DEFAULT_OUTPUT : Output.valueOf(outputText);
+            this.samplingRate = ServerProperties.getValue(configuration.getProperties(),
+                    ServerProperties.TRACING_SAMPLING_RATE, DEFAULT_SAMPLING_RATE, Double.class);
+            this.bufferSize = ServerProperties.getValue(configuration.getProperties(),
+                    ServerProperties.TRACING_BUFFER_SIZE, DEFAULT_BUFFER_SIZE, Integer.class);
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException(ServerProperties.TRACING_BUFFER_SIZE + " must be positive: " + bufferSize);
+            }
+            this.exporter = type != TracingConfig.OFF && output == Output.JFR ? createJfrExporter() : null;
+        }
+
+        private Settings(final TracingConfig type, final TracingLogger.Level threshold) {
+            this.type = type;
+            this.threshold = threshold;
+            this.output = DEFAULT_OUTPUT;
+            this.samplingRate = DEFAULT_SAMPLING_RATE;
+            this.bufferSize = DEFAULT_BUFFER_SIZE;
+            this.exporter = null;
+        }
+    }
 
     private TracingUtils() {
     }
@@ -61,18 +124,44 @@ public final class TracingUtils {
     public static void initTracingSupport(TracingConfig type,
                                           TracingLogger.Level appThreshold,
                                           ContainerRequest containerRequest) {
-        final TracingLogger tracingLogger;
-        if (isTracingSupportEnabled(type, containerRequest)) {
-            tracingLogger = TracingLogger.create(
-                    getTracingThreshold(appThreshold, containerRequest),
-                    getTracingLoggerNameSuffix(containerRequest));
-        } else {
-            tracingLogger = TracingLogger.empty();
+        initTracingSupport(new Settings(type, appThreshold), containerRequest);
+    }
+
+    /**
+     * According to configuration/request header it initialize {@link TracingLogger} and put it to the request properties.
+     *
+     * @param settings         application-wide tracing settings.
+     * @param containerRequest request instance to get runtime properties to store {@link TracingLogger} instance to
+     *                         if tracing support is enabled for the request.
+     */
+    /*package*/
+    static void initTracingSupport(Settings settings, ContainerRequest containerRequest) {
+        TracingLogger tracingLogger = TracingLogger.empty();
+        if (isTracingSupportEnabled(settings.type, containerRequest)) {
+            // requests explicitly asking for tracing are not sampled
+            final boolean accepted = settings.type == TracingConfig.ON_DEMAND
+                    || containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null;
+            if (accepted || isSampled(settings.samplingRate)) {
+                tracingLogger = createTracingLogger(settings, accepted, containerRequest);
+            }
         }
 
         containerRequest.setProperty(TracingLogger.PROPERTY_NAME, tracingLogger);
     }
 
+    private static TracingLogger createTracingLogger(Settings settings, boolean accepted, ContainerRequest containerRequest) {
+        final TracingLogger.Level threshold = getTracingThreshold(settings.threshold, containerRequest);
+        switch (settings.output) {
+            case STRUCTURED:
+                return TracingLogger.createStructured(threshold, settings.bufferSize, true, null);
+            case JFR:
+                return TracingLogger.createStructured(threshold, settings.bufferSize,
+                        accepted || settings.exporter == null, settings.exporter);
+            default:
+                return TracingLogger.create(threshold, getTracingLoggerNameSuffix(containerRequest));
+        }
+    }
+
     /**
      * Log tracing messages START events.
      *
@@ -117,6 +206,19 @@ public final class TracingUtils {
                 || ((type == TracingConfig.ON_DEMAND) && (containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null));
     }
 
+    private static boolean isSampled(double samplingRate) {
+        return samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    private static StructuredTracingLogger.Exporter createJfrExporter() {
+        try {
+            return new JfrTracingExporter();
+        } catch (LinkageError | SecurityException e) {
+            LOGGER.warning(LocalizationMessages.TRACING_JFR_NOT_AVAILABLE(e));
+            return null;
+        }
+    }
+
     /**
      * Return configuration type of tracing support according to application configuration.
      *
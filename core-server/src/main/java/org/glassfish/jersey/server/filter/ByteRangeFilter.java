@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import javax.annotation.Priority;
+
+import org.glassfish.jersey.message.FileSegment;
+import org.glassfish.jersey.message.internal.HttpHeaderReader;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+/**
+ * Container filter that serves byte ranges of file entities as defined by
+ * <a href="https://tools.ietf.org/html/rfc7233">RFC 7233</a>.
+ * <p>
+ * The filter applies to successful ({@code 200 OK}) responses with {@link File} or {@link FileSegment} entities
+ * that are not content-encoded, and advertises the range support using the {@code Accept-Ranges: bytes} header.
+ * If a {@code GET} request contains a {@code Range} header (and the {@code If-Range} validator, if any, matches
+ * the {@code ETag} or {@code Last-Modified} header of the response), the filter replaces the response with
+ * a {@code 206 Partial Content} response containing either a single {@link FileSegment} or
+ * a {@code multipart/byteranges} entity. If none of the requested ranges can be satisfied, the filter produces
+ * a {@code 416 Range Not Satisfiable} response. Syntactically invalid {@code Range} headers, as well as headers with
+ * more than {@value #MAX_RANGES} ranges, are ignored and the full entity is returned.
+ * </p>
+ * <p>
+ * The parts of the range response are written as file segments, so that containers supporting
+ * {@link org.glassfish.jersey.message.FileTransferOutput file transfers} send them without copying the file content
+ * through the Java heap.
+ * </p>
+ * <p>
+ * The filter runs after the {@link EncodingFilter}, so that content-encoded responses are never split into ranges
+ * of the unencoded entity.
+ * </p>
+ *
+ * @since 2.45
+ */
+@Priority(Priorities.HEADER_DECORATOR - 100) // must go after EncodingFilter (if present)
+public final class ByteRangeFilter implements ContainerResponseFilter {
+
+    /**
+     * Maximal number of ranges in a single request.
+     */
+    static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String IF_RANGE = "If-Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) throws IOException {
+        if (response.getStatus() != Response.Status.OK.getStatusCode()
+                || response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+
+        final FileSegment segment = toSegment(response.getEntity());
+        if (segment == null) {
+            return;
+        }
+
+        response.getHeaders().putSingle(ACCEPT_RANGES, BYTES_UNIT);
+
+        final String rangeHeader = request.getHeaderString("Range");
+        if (rangeHeader == null || !HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+
+        final String ifRange = request.getHeaderString(IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(ifRange.trim(), response)) {
+            return;
+        }
+
+        final long length = segment.getCount();
+        final List<long[]> ranges = parseRanges(rangeHeader, length);
+        if (ranges == null) {
+            return;
+        }
+
+        response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        if (ranges.isEmpty()) {
+            response.setStatus(RANGE_NOT_SATISFIABLE);
+            response.getHeaders().putSingle(CONTENT_RANGE, BYTES_UNIT + " */" + length);
+            response.setEntity(null);
+        } else if (ranges.size() == 1) {
+            final long[] range = ranges.get(0);
+            response.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+            response.getHeaders().putSingle(CONTENT_RANGE, contentRange(range, length));
+            response.setEntity(slice(segment, range));
+        } else {
+            final MediaType partType = response.getMediaType() == null
+                    ? MediaType.APPLICATION_OCTET_STREAM_TYPE : response.getMediaType();
+            final String boundary = "Boundary_" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+            response.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+            response.setEntity(new ByteRanges(segment, ranges, partType, boundary), response.getEntityAnnotations(),
+                    new MediaType("multipart", "byteranges", Collections.singletonMap("boundary", boundary)));
+        }
+    }
+
+    private static FileSegment toSegment(final Object entity) {
+        if (entity instanceof FileSegment) {
+            return (FileSegment) entity;
+        } else if (entity instanceof File) {
+            final File file = (File) entity;
+            return new FileSegment(file, 0, file.length());
+        }
+        return null;
+    }
+
+    private static FileSegment slice(final FileSegment segment, final long[] range) {
+        return new FileSegment(segment.getPath(), segment.getPosition() + range[0], range[1] - range[0] + 1);
+    }
+
+    private static String contentRange(final long[] range, final long length) {
+        return BYTES_UNIT + ' ' + range[0] + '-' + range[1] + '/' + length;
+    }
+
+    /**
+     * Check whether the {@code If-Range} validator matches the response. Entity tags are compared using the strong
+     * comparison function, dates have to exactly match the {@code Last-Modified} date of the response.
+     */
+    private static boolean ifRangeMatches(final String ifRange, final ContainerResponseContext response) {
+        if (ifRange.startsWith("W/")) {
+            return false;
+        } else if (ifRange.startsWith("\"")) {
+            final EntityTag entityTag = response.getEntityTag();
+            return entityTag != null && !entityTag.isWeak() && ifRange.length() > 1 && ifRange.endsWith("\"")
+                    && ifRange.substring(1, ifRange.length() - 1).equals(entityTag.getValue());
+        }
+
+        final Date lastModified = response.getLastModified();
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            // HTTP dates have the precision of seconds
+            return HttpHeaderReader.readDate(ifRange).getTime() == lastModified.getTime() / 1000 * 1000;
+        } catch (final ParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parse the {@code Range} header value and resolve the ranges against the entity length.
+     *
+     * @param header {@code Range} header value.
+     * @param length length of the entity.
+     * @return list of satisfiable ranges as {@code [first, last]} byte positions (empty if none of the ranges is
+     * satisfiable) or {@code null} if the header is not a valid byte range set or contains too many ranges.
+     */
+    static List<long[]> parseRanges(final String header, final long length) {
+        final int eq = header.indexOf('=');
+        if (eq < 0 || !BYTES_UNIT.equalsIgnoreCase(header.substring(0, eq).trim())) {
+            return null;
+        }
+
+        final String[] specs = header.substring(eq + 1).split(",", -1);
+        final List<long[]> ranges = new ArrayList<>();
+        int count = 0;
+        for (final String rawSpec : specs) {
+            final String spec = rawSpec.trim();
+            if (spec.isEmpty()) {
+                // empty list elements are allowed
+                continue;
+            }
+            if (++count > MAX_RANGES) {
+                return null;
+            }
+
+            final int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            final String first = spec.substring(0, dash).trim();
+            final String last = spec.substring(dash + 1).trim();
+            try {
+                if (first.isEmpty()) {
+                    // suffix range: the last N bytes
+                    final long suffix = parsePosition(last);
+                    if (suffix > 0 && length > 0) {
+                        ranges.add(new long[] {Math.max(0, length - suffix), length - 1});
+                    }
+                } else {
+                    final long start = parsePosition(first);
+                    final long end = last.isEmpty() ? Long.MAX_VALUE : parsePosition(last);
+                    if (end < start) {
+                        return null;
+                    }
+                    if (start < length) {
+                        ranges.add(new long[] {start, Math.min(end, length - 1)});
+                    }
+                }
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+        return count == 0 ? null : ranges;
+    }
+
+    private static long parsePosition(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                throw new NumberFormatException(value);
+            }
+        }
+        return Long.parseLong(value);
+    }
+
+    /**
+     * {@code multipart/byteranges} entity.
+     */
+    private static final class ByteRanges implements StreamingOutput {
+
+        private static final byte[] CRLF = {'\r', '\n'};
+
+        private final FileSegment segment;
+        private final List<long[]> ranges;
+        private final MediaType partType;
+        private final String boundary;
+
+        private ByteRanges(final FileSegment segment, final List<long[]> ranges, final MediaType partType,
+                           final String boundary) {
+            this.segment = segment;
+            this.ranges = ranges;
+            this.partType = partType;
+            this.boundary = boundary;
+        }
+
+        @Override
+        public void write(final OutputStream output) throws IOException {
+            for (final long[] range : ranges) {
+                final String partHeaders = "--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + partType + "\r\n"
+                        + CONTENT_RANGE + ": " + contentRange(range, segment.getCount()) + "\r\n\r\n";
+                output.write(partHeaders.getBytes(StandardCharsets.US_ASCII));
+
+                final FileSegment part = slice(segment, range);
+                ReaderWriter.writeTo(part.getPath(), part.getPosition(), part.getCount(), output);
+                output.write(CRLF);
+            }
+            output.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.ws.rs.core.HttpHeaders;
+
+/**
+ * Marks {@link javax.ws.rs.GET} resource methods whose responses are cached by the {@link CachingFeature}.
+ * <p>
+ * When placed on a resource class, the annotation applies to all the {@code GET} resource methods of the class
+ * that are not annotated themselves. The attributes of the annotation drive both the server-side cache and
+ * the {@code Cache-Control} and {@code Vary} headers sent to the clients.
+ * </p>
+ *
+ * @since 2.45
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Cached {
+
+    /**
+     * Number of seconds the response stays fresh, both in the server-side cache and in the {@code max-age}
+     * directive of the {@code Cache-Control} response header.
+     *
+     * @return freshness lifetime in seconds.
+     */
+    int maxAge() default 60;
+
+    /**
+     * If {@code true}, the response is marked {@code private} and is only cached by the clients; the server-side
+     * cache then only generates the entity tag used for the conditional requests.
+     *
+     * @return {@code true} if the response must not be stored in shared caches.
+     */
+    boolean privateCache() default false;
+
+    /**
+     * If {@code true}, the {@code no-transform} directive is added to the {@code Cache-Control} response header.
+     *
+     * @return {@code true} if intermediaries must not transform the response.
+     */
+    boolean noTransform() default true;
+
+    /**
+     * If {@code true}, the {@code must-revalidate} directive is added to the {@code Cache-Control} response header.
+     *
+     * @return {@code true} if stale responses must be revalidated.
+     */
+    boolean mustRevalidate() default false;
+
+    /**
+     * Names of the request headers the response varies on. The header values are part of the cache key and
+     * the names are sent in the {@code Vary} response header. The {@code Accept} header is always added if the resource
+     * method produces more than one media type, so that the representations of different media types are cached
+     * separately.
+     *
+     * @return names of the request headers selecting the cached representation.
+     */
+    String[] vary() default {HttpHeaders.ACCEPT};
+}
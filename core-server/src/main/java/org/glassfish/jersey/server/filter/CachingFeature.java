@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+
+/**
+ * Feature caching the serialized responses of the {@link Cached} resource methods.
+ * <p>
+ * The responses of the {@code GET} resource methods annotated with {@link Cached} (directly or through their resource
+ * class) get the {@code Cache-Control}, {@code Vary}, {@code Last-Modified} and strong {@code ETag} headers.
+ * Unless the response is {@link Cached#privateCache() private}, the serialized entity is stored in the
+ * {@link ResponseCache} together with the response headers, keyed by the resource method, the request URI and
+ * the values of the {@link Cached#vary() vary} request headers, including the {@code Accept} header whenever
+ * the resource method produces more than one media type. Subsequent requests are then answered from
+ * the cache without invoking the resource method, and conditional requests matching the cached entity tag
+ * ({@code If-None-Match}) or modification date ({@code If-Modified-Since}) are answered with
+ * {@code 304 Not Modified}.
+ * </p>
+ * <p>
+ * Requests with the {@code Authorization} header, requests with the {@code no-cache} directive and responses setting
+ * cookies are never answered from the cache. The cached responses expire after {@link Cached#maxAge()} seconds;
+ * the resources modifying the cached state invalidate the stale responses using the injectable {@link ResponseCache}.
+ * </p>
+ * <p>
+ * The size of the cache is configured by the {@link #CACHE_SIZE}, {@link #ENTRY_SIZE} and {@link #OFF_HEAP}
+ * properties.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class CachingFeature implements Feature {
+
+    /**
+     * Maximal total size of the cached response entities in bytes.
+     * <p>
+     * The default value is {@value #DEFAULT_CACHE_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String CACHE_SIZE = "jersey.config.server.caching.size";
+
+    /**
+     * Maximal size of a single cached response entity in bytes. Larger entities are written directly to the client
+     * and are not cached.
+     * <p>
+     * The default value is {@value #DEFAULT_ENTRY_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String ENTRY_SIZE = "jersey.config.server.caching.entrySize";
+
+    /**
+     * If {@code true}, the cached response entities are stored in direct byte buffers outside the Java heap.
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String OFF_HEAP = "jersey.config.server.caching.offHeap";
+
+    /**
+     * Default maximal total size of the cached response entities (32 MiB).
+     */
+    public static final long DEFAULT_CACHE_SIZE = 32L * 1024 * 1024;
+
+    /**
+     * Default maximal size of a single cached response entity (1 MiB).
+     */
+    public static final int DEFAULT_ENTRY_SIZE = 1024 * 1024;
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        final Map<String, Object> properties = context.getConfiguration().getProperties();
+        final ResponseCache cache = new ResponseCache(
+                PropertiesHelper.getValue(properties, CACHE_SIZE, DEFAULT_CACHE_SIZE, null),
+                PropertiesHelper.getValue(properties, ENTRY_SIZE, DEFAULT_ENTRY_SIZE, null),
+                PropertiesHelper.isProperty(properties, OFF_HEAP));
+
+        context.register(new CachingDynamicFeature(cache));
+        context.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(cache).to(ResponseCache.class);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Registers the {@link CachingFilter} for the {@link Cached} {@code GET} resource methods.
+     */
+    private static final class CachingDynamicFeature implements DynamicFeature {
+
+        private final ResponseCache cache;
+
+        private CachingDynamicFeature(final ResponseCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+            final Method method = resourceInfo.getResourceMethod();
+            if (method == null || !method.isAnnotationPresent(GET.class)) {
+                return;
+            }
+            Cached cached = method.getAnnotation(Cached.class);
+            if (cached == null) {
+                cached = resourceInfo.getResourceClass().getAnnotation(Cached.class);
+            }
+            if (cached != null) {
+                context.register(new CachingFilter(cache, cached, resourceInfo.getResourceClass(), method));
+            }
+        }
+    }
+}
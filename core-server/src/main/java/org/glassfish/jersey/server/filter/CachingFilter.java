@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.message.internal.MediaTypes;
+
+/**
+ * Filter and writer interceptor of a single {@link Cached} resource method, registered by the {@link CachingFeature}.
+ * <p>
+ * The request filter answers the requests from the {@link ResponseCache}, either with the cached response or, if the
+ * request preconditions match the cached entity tag, with {@code 304 Not Modified}, without invoking the resource
+ * method. The response filter adds the caching headers to the responses produced by the resource method and
+ * the writer interceptor captures the serialized entity, computes its strong entity tag and stores the response.
+ * </p>
+ */
+final class CachingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    private static final String KEY_PROPERTY = CachingFilter.class.getName() + ".key";
+    private static final String CAPTURE_PROPERTY = CachingFilter.class.getName() + ".capture";
+    private static final String HIT_PROPERTY = CachingFilter.class.getName() + ".hit";
+
+    private static final String NO_CACHE = "no-cache";
+    private static final String AGE = "Age";
+    private static final String PRAGMA = "Pragma";
+    private static final int ETAG_BYTES = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ResponseCache cache;
+    private final Cached cached;
+    private final Class<?> resourceClass;
+    private final Method resourceMethod;
+    private final CacheControl cacheControl;
+    private final String[] varyHeaders;
+    private final String vary;
+
+    /**
+     * Create new caching filter.
+     *
+     * @param cache          response store.
+     * @param cached         caching configuration of the resource method.
+     * @param resourceClass  resource class.
+     * @param resourceMethod resource method.
+     */
+    CachingFilter(final ResponseCache cache, final Cached cached, final Class<?> resourceClass, final Method resourceMethod) {
+        this.cache = cache;
+        this.cached = cached;
+        this.resourceClass = resourceClass;
+        this.resourceMethod = resourceMethod;
+
+        this.cacheControl = new CacheControl();
+        cacheControl.setMaxAge(cached.maxAge());
+        cacheControl.setPrivate(cached.privateCache());
+        cacheControl.setNoTransform(cached.noTransform());
+        cacheControl.setMustRevalidate(cached.mustRevalidate());
+        this.varyHeaders = varyHeaders(cached, resourceClass, resourceMethod);
+        this.vary = varyHeaders.length == 0 ? null : String.join(", ", varyHeaders);
+    }
+
+    /**
+     * Get the names of the request headers the response varies on. The {@code Accept} header is added to the
+     * {@link Cached#vary() configured headers} if the media type of the response is negotiated, i.e. if the resource
+     * method produces more than one media type.
+     */
+    private static String[] varyHeaders(final Cached cached, final Class<?> resourceClass, final Method resourceMethod) {
+        final List<String> headers = new ArrayList<>();
+        for (final String header : cached.vary()) {
+            if (header.equalsIgnoreCase(HttpHeaders.ACCEPT)) {
+                return cached.vary();
+            }
+            headers.add(header);
+        }
+
+        Produces produces = resourceMethod.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceClass.getAnnotation(Produces.class);
+        }
+        final List<MediaType> produced = MediaTypes.createFrom(produces);
+        if (produced.size() != 1 || produced.get(0).isWildcardType() || produced.get(0).isWildcardSubtype()) {
+            headers.add(HttpHeaders.ACCEPT);
+        }
+        return headers.toArray(new String[0]);
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext request) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod()) || cached.privateCache() || cached.maxAge() <= 0
+                || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return;
+        }
+
+        final String[] varyValues = new String[varyHeaders.length];
+        for (int i = 0; i < varyValues.length; i++) {
+            final String value = request.getHeaderString(varyHeaders[i]);
+            varyValues[i] = value == null ? "" : value;
+        }
+        final ResponseCache.Key key = new ResponseCache.Key(resourceClass, resourceMethod,
+                request.getUriInfo().getPath(), request.getUriInfo().getRequestUri().getRawQuery(), varyValues);
+        request.setProperty(KEY_PROPERTY, key);
+
+        if (isNoCache(request)) {
+            return;
+        }
+        final ResponseCache.Entry entry = cache.get(key);
+        if (entry == null) {
+            return;
+        }
+
+        request.setProperty(HIT_PROPERTY, Boolean.TRUE);
+        final Date lastModified = entry.getLastModified();
+        final Response.ResponseBuilder notModified = lastModified == null
+                ? request.getRequest().evaluatePreconditions(entry.getEntityTag())
+                : request.getRequest().evaluatePreconditions(lastModified, entry.getEntityTag());
+        if (notModified != null) {
+            notModified.cacheControl(cacheControl);
+            if (vary != null) {
+                notModified.header(HttpHeaders.VARY, vary);
+            }
+            request.abortWith(notModified.build());
+        } else {
+            request.abortWith(entry.toResponse(Response.Status.OK)
+                    .header(AGE, entry.getAge())
+                    .entity(entry.getEntity())
+                    .build());
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext request, final ContainerResponseContext response) throws IOException {
+        if (request.getProperty(HIT_PROPERTY) != null
+                || response.getStatus() != Response.Status.OK.getStatusCode() || !response.hasEntity()) {
+            return;
+        }
+
+        final MultivaluedMap<String, Object> headers = response.getHeaders();
+        if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+            headers.putSingle(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (vary != null) {
+            headers.add(HttpHeaders.VARY, vary);
+        }
+        if (!headers.containsKey(HttpHeaders.LAST_MODIFIED)) {
+            // HTTP dates have the precision of seconds
+            headers.putSingle(HttpHeaders.LAST_MODIFIED, new Date(System.currentTimeMillis() / 1000 * 1000));
+        }
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            request.removeProperty(KEY_PROPERTY);
+        }
+        request.setProperty(CAPTURE_PROPERTY, Boolean.TRUE);
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        if (context.getProperty(CAPTURE_PROPERTY) == null) {
+            context.proceed();
+            return;
+        }
+
+        final OutputStream original = context.getOutputStream();
+        final CapturingOutputStream capture = new CapturingOutputStream(original, cache.getMaximumEntrySize());
+        context.setOutputStream(capture);
+        try {
+            context.proceed();
+        } finally {
+            context.setOutputStream(original);
+        }
+        if (capture.isOverflown()) {
+            return;
+        }
+
+        final byte[] entity = capture.toByteArray();
+        final MultivaluedMap<String, Object> headers = context.getHeaders();
+        final Object etagHeader = headers.getFirst(HttpHeaders.ETAG);
+        final EntityTag etag;
+        if (etagHeader == null) {
+            etag = etag(entity);
+            headers.putSingle(HttpHeaders.ETAG, etag);
+        } else {
+            etag = etagHeader instanceof EntityTag ? (EntityTag) etagHeader : EntityTag.valueOf(etagHeader.toString());
+        }
+
+        final Object key = context.getProperty(KEY_PROPERTY);
+        if (key != null) {
+            cache.put((ResponseCache.Key) key, cachedHeaders(headers), entity, etag, cached.maxAge());
+        }
+        original.write(entity);
+    }
+
+    private static boolean isNoCache(final ContainerRequestContext request) {
+        final String cacheControl = request.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        return (cacheControl != null && cacheControl.contains(NO_CACHE))
+                || (cacheControl == null && NO_CACHE.equals(request.getHeaderString(PRAGMA)));
+    }
+
+    private static MultivaluedMap<String, Object> cachedHeaders(final MultivaluedMap<String, Object> headers) {
+        final MultivaluedMap<String, Object> copy = new MultivaluedHashMap<>();
+        for (final Map.Entry<String, List<Object>> header : headers.entrySet()) {
+            // the content coding is negotiated again for the cached responses
+            if (!HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(header.getKey())
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                copy.addAll(header.getKey(), header.getValue());
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Compute the strong entity tag of the serialized entity from its truncated SHA-256 digest.
+     *
+     * @param entity serialized entity.
+     * @return strong entity tag.
+     */
+    static EntityTag etag(final byte[] entity) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(entity);
+        } catch (final NoSuchAlgorithmException ex) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException(ex);
+        }
+        final char[] value = new char[ETAG_BYTES * 2];
+        for (int i = 0; i < ETAG_BYTES; i++) {
+            value[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            value[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new EntityTag(new String(value));
+    }
+
+    /**
+     * Output stream buffering the entity up to the maximal cached entity size. Larger entities are written through
+     * to the underlying stream and are not cached.
+     */
+    private static final class CapturingOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private final int limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(final OutputStream target, final int limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (buffer != null && buffer.size() + len > limit) {
+                buffer.writeTo(target);
+                buffer = null;
+            }
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer == null) {
+                target.close();
+            }
+        }
+
+        private boolean isOverflown() {
+            return buffer == null;
+        }
+
+        private byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Store of the responses cached by the {@link CachingFeature}.
+ * <p>
+ * The store keeps the serialized response entities together with their headers, keyed by the resource method,
+ * the request URI and the values of the request headers the response varies on. The store is bounded by the total
+ * size of the cached entities, and evicts the least recently used responses first. To avoid contention of concurrent
+ * requests, the store is split into segments by the key hash; every segment is locked separately, takes an equal share
+ * of the maximal size and evicts its own least recently used responses. The entities are kept either in the Java heap or,
+ * if {@link CachingFeature#OFF_HEAP} is enabled, in direct byte buffers.
+ * </p>
+ * <p>
+ * An instance of the store is available for injection in the application configured with the {@link CachingFeature},
+ * so that the resources modifying the cached state can invalidate the stale responses.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class ResponseCache {
+
+    /**
+     * Maximal number of the store segments.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    private final int maximumEntrySize;
+    private final boolean offHeap;
+    private final Segment[] segments;
+
+    /**
+     * Create new response store.
+     *
+     * @param maximumSize      maximal total size of the cached entities in bytes.
+     * @param maximumEntrySize maximal size of a single cached entity in bytes.
+     * @param offHeap          {@code true} if the entities should be stored outside the Java heap.
+     */
+    ResponseCache(final long maximumSize, final int maximumEntrySize, final boolean offHeap) {
+        this.maximumEntrySize = (int) Math.min(maximumEntrySize, maximumSize);
+        this.offHeap = offHeap;
+
+        // every segment must be able to hold an entity of the maximal size
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumSize / (count * 2L) >= this.maximumEntrySize) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count);
+        }
+    }
+
+    /**
+     * Invalidate the cached responses of all the requests with the given path, regardless of the query parameters
+     * and the request headers.
+     *
+     * @param path request path relative to the base URI of the application, as returned by
+     *             {@link javax.ws.rs.core.UriInfo#getPath()}. A leading slash is ignored.
+     * @return number of invalidated responses.
+     */
+    public int invalidate(final String path) {
+        final String normalized = normalize(path);
+        return remove(key -> key.path.equals(normalized));
+    }
+
+    /**
+     * Invalidate the cached responses produced by the resource methods of the given resource class.
+     *
+     * @param resourceClass resource class.
+     * @return number of invalidated responses.
+     */
+    public int invalidate(final Class<?> resourceClass) {
+        return remove(key -> key.resourceClass == resourceClass);
+    }
+
+    /**
+     * Invalidate all the cached responses.
+     */
+    public void invalidateAll() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Get the number of cached responses, including the expired responses not evicted yet.
+     *
+     * @return number of cached responses.
+     */
+    public int getEntryCount() {
+        int count = 0;
+        for (final Segment segment : segments) {
+            count += segment.getEntryCount();
+        }
+        return count;
+    }
+
+    /**
+     * Get the total size of the cached entities in bytes.
+     *
+     * @return size of the cached entities.
+     */
+    public long getSize() {
+        long size = 0;
+        for (final Segment segment : segments) {
+            size += segment.getSize();
+        }
+        return size;
+    }
+
+    /**
+     * Get the maximal size of a single cached entity in bytes. Larger entities are not cached.
+     *
+     * @return maximal entity size.
+     */
+    int getMaximumEntrySize() {
+        return maximumEntrySize;
+    }
+
+    /**
+     * Get the fresh response cached under the given key. An expired response is removed from the store.
+     *
+     * @param key cache key.
+     * @return cached response or {@code null} if there is no fresh response cached under the key.
+     */
+    Entry get(final Key key) {
+        return segment(key).get(key);
+    }
+
+    /**
+     * Cache the serialized response, evicting the least recently used responses if needed.
+     *
+     * @param key     cache key.
+     * @param headers response headers.
+     * @param entity  serialized response entity.
+     * @param etag    entity tag of the response.
+     * @param maxAge  number of seconds the response stays fresh.
+     */
+    void put(final Key key, final MultivaluedMap<String, Object> headers, final byte[] entity, final EntityTag etag,
+             final int maxAge) {
+        if (entity.length > maximumEntrySize) {
+            return;
+        }
+        final Entry entry = new Entry(headers, store(entity), entity.length, etag,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAge));
+        segment(key).put(key, entry);
+    }
+
+    private Object store(final byte[] entity) {
+        if (offHeap) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(entity.length);
+            ((Buffer) buffer.put(entity)).flip();
+            return buffer.asReadOnlyBuffer();
+        }
+        return entity;
+    }
+
+    private int remove(final Predicate<Key> predicate) {
+        int removed = 0;
+        for (final Segment segment : segments) {
+            removed += segment.remove(predicate);
+        }
+        return removed;
+    }
+
+    private Segment segment(final Key key) {
+        final int hash = key.hash ^ (key.hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static String normalize(final String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * Segment of the store, an access ordered map of the cached responses bounded by the size of the entities.
+     */
+    private static final class Segment {
+
+        private final long maximumSize;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long size;
+
+        private Segment(final long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        private synchronized Entry get(final Key key) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(key);
+                size -= entry.length;
+                return null;
+            }
+            return entry;
+        }
+
+        private synchronized void put(final Key key, final Entry entry) {
+            final Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                size -= previous.length;
+            }
+            size += entry.length;
+            final Iterator<Entry> eldest = entries.values().iterator();
+            while (size > maximumSize && eldest.hasNext()) {
+                size -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+
+        private synchronized int remove(final Predicate<Key> predicate) {
+            int removed = 0;
+            final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<Key, Entry> entry = iterator.next();
+                if (predicate.test(entry.getKey())) {
+                    size -= entry.getValue().length;
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+            size = 0;
+        }
+
+        private synchronized int getEntryCount() {
+            return entries.size();
+        }
+
+        private synchronized long getSize() {
+            return size;
+        }
+    }
+
+    /**
+     * Key of a cached response.
+     */
+    static final class Key {
+
+        private final Class<?> resourceClass;
+        private final Method resourceMethod;
+        private final String path;
+        private final String query;
+        private final List<String> vary;
+        private final int hash;
+
+        /**
+         * Create new cache key.
+         *
+         * @param resourceClass  resource class.
+         * @param resourceMethod resource method.
+         * @param path           decoded request path relative to the base URI of the application.
+         * @param query          raw query string, may be {@code null}.
+         * @param vary           values of the request headers the response varies on.
+         */
+        Key(final Class<?> resourceClass, final Method resourceMethod, final String path, final String query,
+            final String[] vary) {
+            this.resourceClass = resourceClass;
+            this.resourceMethod = resourceMethod;
+            this.path = normalize(path);
+            this.query = query;
+            this.vary = Arrays.asList(vary);
+            this.hash = Objects.hash(resourceMethod, this.path, query, this.vary);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash
+                    && resourceMethod.equals(other.resourceMethod)
+                    && path.equals(other.path)
+                    && Objects.equals(query, other.query)
+                    && vary.equals(other.vary)
+                    && resourceClass == other.resourceClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Cached response.
+     */
+    static final class Entry {
+
+        private final MultivaluedMap<String, Object> headers;
+        private final Object entity;
+        private final int length;
+        private final EntityTag etag;
+        private final long created;
+        private final long expires;
+
+        private Entry(final MultivaluedMap<String, Object> headers, final Object entity, final int length,
+                      final EntityTag etag, final long expires) {
+            this.headers = headers;
+            this.entity = entity;
+            this.length = length;
+            this.etag = etag;
+            this.created = System.nanoTime();
+            this.expires = expires;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expires >= 0;
+        }
+
+        /**
+         * Get the entity tag of the cached response.
+         *
+         * @return entity tag.
+         */
+        EntityTag getEntityTag() {
+            return etag;
+        }
+
+        /**
+         * Get the date the cached response was last modified on, if known.
+         *
+         * @return last modification date or {@code null}.
+         */
+        Date getLastModified() {
+            final Object value = headers.getFirst("Last-Modified");
+            return value instanceof Date ? (Date) value : null;
+        }
+
+        /**
+         * Get the number of seconds elapsed since the response was cached.
+         *
+         * @return age of the response in seconds.
+         */
+        long getAge() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - created);
+        }
+
+        /**
+         * Build a response builder with the cached headers, without an entity.
+         *
+         * @param status response status.
+         * @return response builder.
+         */
+        Response.ResponseBuilder toResponse(final Response.Status status) {
+            final Response.ResponseBuilder builder = Response.status(status);
+            for (final Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                for (final Object value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            return builder;
+        }
+
+        /**
+         * Get the cached entity in a form that can be written by the message body writers.
+         *
+         * @return cached entity.
+         */
+        Object getEntity() {
+            if (entity instanceof ByteBuffer) {
+                final ByteBuffer buffer = ((ByteBuffer) entity).duplicate();
+                return (StreamingOutput) output -> writeBuffer(buffer, output);
+            }
+            return entity;
+        }
+
+        private static void writeBuffer(final ByteBuffer buffer, final OutputStream output) throws IOException {
+            final WritableByteChannel channel = Channels.newChannel(output);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
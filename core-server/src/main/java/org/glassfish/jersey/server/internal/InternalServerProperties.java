@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,6 +39,16 @@ public final class InternalServerProperties {
      */
     public static final String FORM_DECODED_PROPERTY = "jersey.config.server.representation.decoded.form";
 
+    /**
+     * Used internally for storing the {@link java.util.concurrent.Executor} in which synchronous resource methods are
+     * invoked in {@link org.glassfish.jersey.server.ContainerRequest} properties. Set by containers that process
+     * the request on a thread which must not block (e.g. an event loop thread). Resource methods that are suspended
+     * or return a {@link java.util.concurrent.CompletionStage} are still invoked on the request processing thread.
+     *
+     * @since 2.45
+     */
+    public static final String BLOCKING_INVOCATION_EXECUTOR = "jersey.config.server.blockingInvocationExecutor";
+
     private InternalServerProperties() {
         // prevents instantiation
     }
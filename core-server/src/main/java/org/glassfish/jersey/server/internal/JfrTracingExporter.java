@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.jersey.message.internal.StructuredTracingLogger;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Exporter of the structured tracing events to Java Flight Recorder.
+ * <p>
+ * Each recorded tracing event of a request is committed as a {@code org.glassfish.jersey.Tracing} event. The events of
+ * a request share the same request sequence number. Nothing is formatted unless the event is enabled in a running
+ * recording.
+ * </p>
+ * <p>
+ * The Java Flight Recorder API is not available on all the supported JDKs, the constructor throws a {@link LinkageError}
+ * in such a case. With a security manager installed, the exporter requires the {@code registerEvent}
+ * {@code jdk.jfr.FlightRecorderPermission}.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class JfrTracingExporter implements StructuredTracingLogger.Exporter {
+
+    private static final AtomicLong REQUEST_SEQUENCE = new AtomicLong();
+
+    private final EventType eventType;
+
+    /**
+     * Create new Java Flight Recorder tracing exporter.
+     *
+     * @throws LinkageError     if the Java Flight Recorder API is not available.
+     * @throws SecurityException if the event cannot be registered to Java Flight Recorder.
+     */
+    public JfrTracingExporter() {
+        this.eventType = AccessController.doPrivileged(
+                (PrivilegedAction<EventType>) () -> EventType.getEventType(TracingEvent.class));
+    }
+
+    @Override
+    public void export(final StructuredTracingLogger trace) {
+        final int size = trace.size();
+        if (size == 0 || !eventType.isEnabled()) {
+            return;
+        }
+        // the instrumented event classes load the internal JFR classes
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            commit(trace, size);
+            return null;
+        });
+    }
+
+    private static void commit(final StructuredTracingLogger trace, final int size) {
+        final long request = REQUEST_SEQUENCE.incrementAndGet();
+        final long start = trace.getTimestamp(0) - trace.getDuration(0);
+        for (int i = 0; i < size; i++) {
+            final TracingEvent event = new TracingEvent();
+            if (event.shouldCommit()) {
+                event.request = request;
+                event.name = trace.getEvent(i).name();
+                event.category = trace.getEvent(i).category();
+                event.level = trace.getEvent(i).level().name();
+                event.message = trace.getMessage(i);
+                event.eventDuration = trace.getDuration(i);
+                event.sinceRequestStart = trace.getTimestamp(i) - start;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Java Flight Recorder event of a tracing event.
+     */
+    @Name("org.glassfish.jersey.Tracing")
+    @Label("Jersey Tracing")
+    @Category({"Jersey", "Tracing"})
+    @Description("Tracing event of a request processed by Jersey.")
+    @StackTrace(false)
+    static final class TracingEvent extends Event {
+
+        @Label("Request")
+        @Description("Sequence number of the traced request.")
+        long request;
+
+        @Label("Name")
+        String name;
+
+        @Label("Category")
+        String category;
+
+        @Label("Level")
+        String level;
+
+        @Label("Message")
+        String message;
+
+        @Label("Event Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long eventDuration;
+
+        @Label("Since Request Start")
+        @Timespan(Timespan.NANOSECONDS)
+        long sinceRequestStart;
+    }
+}
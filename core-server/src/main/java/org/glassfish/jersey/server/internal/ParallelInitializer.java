@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.internal.Errors;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.server.ServerProperties;
+
+/**
+ * Executes the independent steps of the application initialization, either sequentially or, if
+ * {@link ServerProperties#INITIALIZATION_PARALLEL enabled}, concurrently on a dedicated fork-join pool.
+ * <p>
+ * The results and the {@link Errors errors} reported by the steps are returned and registered in the iteration order of the
+ * processed items, regardless of the order in which the steps have actually been executed. The errors reported by a step
+ * executed on a pool thread are transferred to the errors of the thread that invoked the initializer.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class ParallelInitializer implements AutoCloseable {
+
+    private static final ParallelInitializer SEQUENTIAL = new ParallelInitializer(null);
+
+    private final ForkJoinPool pool;
+
+    private ParallelInitializer(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Create an initializer for the given configuration.
+     *
+     * @param configuration application configuration.
+     * @return parallel initializer if the parallel initialization is enabled, sequential initializer otherwise.
+     */
+    public static ParallelInitializer create(final Configuration configuration) {
+        if (!PropertiesHelper.isProperty(configuration.getProperty(ServerProperties.INITIALIZATION_PARALLEL))) {
+            return SEQUENTIAL;
+        }
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger counter = new AtomicInteger();
+        return new ParallelInitializer(new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jersey-server-init-" + counter.incrementAndGet());
+            // the application classes are usually loaded by the context class loader of the deploying thread
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false));
+    }
+
+    /**
+     * Get the sequential initializer.
+     *
+     * @return initializer executing all the steps on the invoking thread.
+     */
+    public static ParallelInitializer sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Check if the initializer executes the steps concurrently.
+     *
+     * @return {@code true} if the steps are executed on a fork-join pool, {@code false} otherwise.
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Apply the function to all the items.
+     * <p>
+     * If the function fails for some of the items, the errors reported by the preceding items are registered and the
+     * exception thrown for the first failing item is re-thrown. The remaining items might have been processed already.
+     * </p>
+     *
+     * @param items    items to be processed.
+     * @param function function to be applied to each of the items, must not depend on the other items being processed.
+     * @param <T>      item type.
+     * @param <R>      result type.
+     * @return results of the function in the iteration order of the items.
+     */
+    public <T, R> List<R> map(final Collection<? extends T> items, final Function<? super T, ? extends R> function) {
+        if (pool == null || items.size() < 2) {
+            final List<R> results = new ArrayList<>(items.size());
+            for (final T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        final List<Future<Outcome<R>>> futures = new ArrayList<>(items.size());
+        for (final T item : items) {
+            futures.add(pool.submit(() -> Errors.process(() -> execute(item, function))));
+        }
+
+        final List<R> results = new ArrayList<>(items.size());
+        for (final Future<Outcome<R>> future : futures) {
+            final Outcome<R> outcome = await(future);
+            for (final Errors.ErrorMessage message : outcome.messages) {
+                Errors.error(message.getSource(), message.getMessage(), message.getSeverity());
+            }
+            if (outcome.failure != null) {
+                throw outcome.failure;
+            }
+            results.add(outcome.result);
+        }
+        return results;
+    }
+
+    /**
+     * Execute the task for each of the items, see {@link #map(Collection, Function)}.
+     *
+     * @param items items to be processed.
+     * @param task  task to be executed for each of the items.
+     * @param <T>   item type.
+     */
+    public <T> void forEach(final Collection<? extends T> items, final Consumer<? super T> task) {
+        map(items, item -> {
+            task.accept(item);
+            return null;
+        });
+    }
+
+    private static <T, R> Outcome<R> execute(final T item, final Function<? super T, ? extends R> function) {
+        Errors.mark();
+        R result = null;
+        RuntimeException failure = null;
+        try {
+            result = function.apply(item);
+        } catch (final RuntimeException ex) {
+            failure = ex;
+        }
+        final List<Errors.ErrorMessage> messages = Errors.getErrorMessages(true);
+        // the messages are reported by the invoking thread
+        Errors.reset();
+        return new Outcome<>(result, messages, failure);
+    }
+
+    private static <R> Outcome<R> await(final Future<Outcome<R>> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException ex) {
+                    interrupted = true;
+                } catch (final ExecutionException ex) {
+                    // the outcome captures the failures of the function
+                    final Throwable cause = ex.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    return new Outcome<>(null, Collections.emptyList(),
+                            cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause));
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Shut the fork-join pool down, if any.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static final class Outcome<R> {
+
+        private final R result;
+        private final List<Errors.ErrorMessage> messages;
+        private final RuntimeException failure;
+
+        private Outcome(final R result, final List<Errors.ErrorMessage> messages, final RuntimeException failure) {
+            this.result = result;
+            this.messages = messages;
+            this.failure = failure;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,7 +17,6 @@
 package org.glassfish.jersey.server.internal.inject;
 
 import java.io.UnsupportedEncodingException;
-import java.lang.annotation.Annotation;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.List;
@@ -25,7 +24,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
-import javax.ws.rs.Encoded;
 import javax.ws.rs.FormParam;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Form;
@@ -82,7 +80,6 @@ final class FormParamValueParamProvider extends AbstractValueParamProvider {
 
     private static final class FormParamValueProvider implements Function<ContainerRequest, Object> {
 
-        private static final Annotation encodedAnnotation = getEncodedAnnotation();
         private final MultivaluedParameterExtractor<?> extractor;
         private final boolean decode;
 
@@ -109,16 +106,6 @@ final class FormParamValueParamProvider extends AbstractValueParamProvider {
             return request;
         }
 
-        private static Annotation getEncodedAnnotation() {
-            /**
-             * Encoded-annotated class.
-             */
-            @Encoded
-            final class EncodedAnnotationTemp {
-            }
-            return EncodedAnnotationTemp.class.getAnnotation(Encoded.class);
-        }
-
         @Override
         public Object apply(ContainerRequest request) {
             Form form = getCachedForm(request, decode);
@@ -128,14 +115,14 @@ final class FormParamValueParamProvider extends AbstractValueParamProvider {
                 if (otherForm != null) {
                     form = switchUrlEncoding(request, otherForm);
                     cacheForm(request, form);
-                } else {
-                    form = getForm(request);
-                    cacheForm(request, form);
                 }
             }
 
             try {
-                return extractor.extract(form.asMap());
+                // the form parameters are parsed lazily unless the form has been decoded already, e.g. by a servlet filter
+                return extractor.extract(form != null
+                        ? form.asMap()
+                        : IndexedParameters.form(ensureValidRequest(request)).asMap(decode));
             } catch (ExtractorException e) {
                 throw new ParamException.FormParamException(e.getCause(),
                         extractor.getName(), extractor.getDefaultValueString());
@@ -176,27 +163,5 @@ final class FormParamValueParamProvider extends AbstractValueParamProvider {
             request.setProperty(decode ? InternalServerProperties
                     .FORM_DECODED_PROPERTY : InternalServerProperties.FORM_PROPERTY, form);
         }
-
-        private Form getForm(final ContainerRequest request) {
-            return getFormParameters(ensureValidRequest(request));
-        }
-
-        private Form getFormParameters(ContainerRequest request) {
-            if (MediaTypes.typeEqual(MediaType.APPLICATION_FORM_URLENCODED_TYPE, request.getMediaType())) {
-                request.bufferEntity();
-                Form form;
-                if (decode) {
-                    form = request.readEntity(Form.class);
-                } else {
-                    Annotation[] annotations = new Annotation[1];
-                    annotations[0] = encodedAnnotation;
-                    form = request.readEntity(Form.class, annotations);
-                }
-
-                return (form == null ? new Form() : form);
-            } else {
-                return new Form();
-            }
-        }
     }
 }
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.inject;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.message.internal.ReaderWriter;
+import org.glassfish.jersey.server.ContainerRequest;
+
+/**
+ * Index of the parameters of an URL-encoded query string or form entity.
+ * <p>
+ * The encoded string is scanned once to record the offsets of the parameter names and values. Names and values are only
+ * decoded when a parameter is looked up through one of the {@link #asMap(boolean) map views}, so a resource method reading
+ * a few of many request parameters does not pay for decoding all of them. The index is shared by all the parameter value
+ * providers of the request, see {@link #query(ContainerRequest)} and {@link #form(ContainerRequest)}.
+ * </p>
+ * <p>
+ * The parsing rules are the same as the rules of {@link org.glassfish.jersey.uri.UriComponent#decodeQuery(String, boolean)}
+ * for queries and of the form message body reader for forms.
+ * </p>
+ *
+ * @since 2.45
+ */
+final class IndexedParameters {
+
+    private static final String QUERY_PROPERTY = IndexedParameters.class.getName() + ".query";
+    private static final String FORM_PROPERTY = IndexedParameters.class.getName() + ".form";
+
+    private static final int SLOTS = 3;
+
+    private final String encoded;
+    private final String charset;
+    private final boolean form;
+    /**
+     * Start of the name, index of the '=' separator or {@code -1}, end of the value, for each parameter.
+     */
+    private final int[] offsets;
+    private final int size;
+
+    private String[] decodedNames;
+    private View decodedView;
+    private View encodedView;
+
+    /**
+     * Create new index.
+     *
+     * @param encoded encoded query string or form entity.
+     * @param charset charset of the encoded characters.
+     * @param form    {@code true} for a form entity, {@code false} for a query string.
+     */
+    IndexedParameters(final String encoded, final Charset charset, final boolean form) {
+        this.encoded = encoded == null ? "" : encoded;
+        this.charset = charset.name();
+        this.form = form;
+
+        int[] index = new int[SLOTS * 8];
+        int count = 0;
+        final int length = this.encoded.length();
+        int start = 0;
+        while (start < length) {
+            int end = this.encoded.indexOf('&', start);
+            if (end == -1) {
+                end = length;
+            }
+            if (end > start) {
+                int separator = -1;
+                for (int i = start; i < end; i++) {
+                    if (this.encoded.charAt(i) == '=') {
+                        separator = i;
+                        break;
+                    }
+                }
+                // parameters without a name are ignored
+                if (separator != start) {
+                    if (index.length < (count + 1) * SLOTS) {
+                        index = Arrays.copyOf(index, index.length * 2);
+                    }
+                    index[count * SLOTS] = start;
+                    index[count * SLOTS + 1] = separator;
+                    index[count * SLOTS + 2] = end;
+                    count++;
+                }
+            }
+            start = end + 1;
+        }
+        this.offsets = index;
+        this.size = count;
+    }
+
+    /**
+     * Get the index of the query parameters of the request, shared by all the parameter value providers of the request.
+     *
+     * @param request container request.
+     * @return query parameters index.
+     */
+    static IndexedParameters query(final ContainerRequest request) {
+        final String query = request.getRequestUri().getRawQuery();
+        final Object cached = request.getProperty(QUERY_PROPERTY);
+        if (cached instanceof IndexedParameters && ((IndexedParameters) cached).encoded.equals(query == null ? "" : query)) {
+            return (IndexedParameters) cached;
+        }
+        final IndexedParameters parameters = new IndexedParameters(query, StandardCharsets.UTF_8, false);
+        request.setProperty(QUERY_PROPERTY, parameters);
+        return parameters;
+    }
+
+    /**
+     * Get the index of the URL-encoded form parameters of the request entity, shared by all the parameter value providers
+     * of the request. The request entity is buffered, so that it can still be read by the resource method.
+     *
+     * @param request container request with an {@code application/x-www-form-urlencoded} entity.
+     * @return form parameters index.
+     */
+    static IndexedParameters form(final ContainerRequest request) {
+        final Object cached = request.getProperty(FORM_PROPERTY);
+        if (cached instanceof IndexedParameters) {
+            return (IndexedParameters) cached;
+        }
+        request.bufferEntity();
+        final IndexedParameters parameters = new IndexedParameters(request.readEntity(String.class),
+                ReaderWriter.getCharset(request.getMediaType()), true);
+        request.setProperty(FORM_PROPERTY, parameters);
+        return parameters;
+    }
+
+    /**
+     * Get a read-only map view of the parameters. Query parameter names are always decoded.
+     *
+     * @param decode {@code true} if the parameter values, and the form parameter names, should be decoded.
+     * @return map view of the parameters.
+     */
+    MultivaluedMap<String, String> asMap(final boolean decode) {
+        if (decode) {
+            if (decodedView == null) {
+                decodedView = new View(true);
+            }
+            return decodedView;
+        }
+        if (encodedView == null) {
+            encodedView = new View(false);
+        }
+        return encodedView;
+    }
+
+    private boolean nameEquals(final int i, final String name, final boolean decodeNames) {
+        final int start = offsets[i * SLOTS];
+        final int end = nameEnd(i);
+        if (decodeNames && needsDecoding(start, end)) {
+            return decodedName(i).equals(name);
+        }
+        return end - start == name.length() && encoded.regionMatches(start, name, 0, name.length());
+    }
+
+    private String name(final int i, final boolean decodeNames) {
+        final int start = offsets[i * SLOTS];
+        final int end = nameEnd(i);
+        if (decodeNames && needsDecoding(start, end)) {
+            return decodedName(i);
+        }
+        return encoded.substring(start, end);
+    }
+
+    private String decodedName(final int i) {
+        if (decodedNames == null) {
+            decodedNames = new String[size];
+        }
+        String name = decodedNames[i];
+        if (name == null) {
+            name = decode(encoded.substring(offsets[i * SLOTS], nameEnd(i)));
+            decodedNames[i] = name;
+        }
+        return name;
+    }
+
+    private String value(final int i, final boolean decode) {
+        final int separator = offsets[i * SLOTS + 1];
+        if (separator == -1) {
+            return form ? null : "";
+        }
+        final int start = separator + 1;
+        final int end = offsets[i * SLOTS + 2];
+        return decode && needsDecoding(start, end) ? decode(encoded.substring(start, end)) : encoded.substring(start, end);
+    }
+
+    private int nameEnd(final int i) {
+        final int separator = offsets[i * SLOTS + 1];
+        return separator == -1 ? offsets[i * SLOTS + 2] : separator;
+    }
+
+    private boolean needsDecoding(final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = encoded.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, charset);
+        } catch (final UnsupportedEncodingException ex) {
+            // the charset has been resolved already
+            throw new IllegalArgumentException(ex);
+        } catch (final IllegalArgumentException ex) {
+            if (form) {
+                throw new BadRequestException(ex);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Read-only map view of the parameters, decoding and caching the looked up parameters only.
+     */
+    private final class View extends AbstractMap<String, List<String>> implements MultivaluedMap<String, String> {
+
+        private final boolean decode;
+        private final boolean decodeNames;
+        private final Map<String, List<String>> lookedUp = new HashMap<>();
+        private Map<String, List<String>> all;
+
+        private View(final boolean decode) {
+            this.decode = decode;
+            this.decodeNames = decode || !form;
+        }
+
+        @Override
+        public List<String> get(final Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            if (all != null) {
+                return all.get(key);
+            }
+            final String name = (String) key;
+            List<String> values = lookedUp.get(name);
+            if (values == null && !lookedUp.containsKey(name)) {
+                for (int i = 0; i < size; i++) {
+                    if (nameEquals(i, name, decodeNames)) {
+                        if (values == null) {
+                            values = new ArrayList<>(1);
+                        }
+                        values.add(value(i, decode));
+                    }
+                }
+                values = values == null ? null : Collections.unmodifiableList(values);
+                lookedUp.put(name, values);
+            }
+            return values;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public String getFirst(final String key) {
+            if (all != null || lookedUp.containsKey(key)) {
+                final List<String> values = get(key);
+                return values == null ? null : values.get(0);
+            }
+            // single value parameters do not need the list of all the values
+            for (int i = 0; i < size; i++) {
+                if (nameEquals(i, key, decodeNames)) {
+                    return value(i, decode);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Set<Entry<String, List<String>>> entrySet() {
+            if (all == null) {
+                final MultivaluedMap<String, String> map = new MultivaluedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.add(name(i, decodeNames), value(i, decode));
+                }
+                final Map<String, List<String>> unmodifiable = new HashMap<>();
+                for (final Entry<String, List<String>> entry : map.entrySet()) {
+                    unmodifiable.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+                }
+                all = Collections.unmodifiableMap(unmodifiable);
+            }
+            return all.entrySet();
+        }
+
+        @Override
+        public boolean equalsIgnoreValueOrder(final MultivaluedMap<String, String> otherMap) {
+            return new MultivaluedHashMap<>(this).equalsIgnoreValueOrder(otherMap);
+        }
+
+        @Override
+        public void putSingle(final String key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(final String key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(final String key, final String... newValues) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(final String key, final List<String> valueList) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addFirst(final String key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -21,9 +21,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.security.AccessController;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.function.Function;
 
 import javax.inject.Singleton;
 import javax.ws.rs.ProcessingException;
@@ -50,6 +53,22 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
 @Singleton
 final class MultivaluedParameterExtractorFactory implements MultivaluedParameterExtractorProvider {
 
+    /**
+     * Direct references to the {@code valueOf(String)} methods of the primitive type wrappers, used instead of
+     * the reflective invocation of the method for each extracted value.
+     */
+    private static final Map<Class<?>, Function<String, ?>> PRIMITIVE_VALUE_OF = new HashMap<>();
+
+    static {
+        PRIMITIVE_VALUE_OF.put(Boolean.class, Boolean::valueOf);
+        PRIMITIVE_VALUE_OF.put(Byte.class, Byte::valueOf);
+        PRIMITIVE_VALUE_OF.put(Short.class, Short::valueOf);
+        PRIMITIVE_VALUE_OF.put(Integer.class, Integer::valueOf);
+        PRIMITIVE_VALUE_OF.put(Long.class, Long::valueOf);
+        PRIMITIVE_VALUE_OF.put(Float.class, Float::valueOf);
+        PRIMITIVE_VALUE_OF.put(Double.class, Double::valueOf);
+    }
+
     private final LazyValue<ParamConverterFactory> paramConverterFactory;
 
     /**
@@ -164,6 +183,19 @@ final class MultivaluedParameterExtractorFactory implements MultivaluedParameter
                         PrimitiveMapper.primitiveToDefaultValueMap.get(wrappedRaw));
             }
 
+            final Function<String, ?> primitiveValueOf = PRIMITIVE_VALUE_OF.get(wrappedRaw);
+            if (primitiveValueOf != null) {
+                try {
+                    return new PrimitiveValueOfExtractor(primitiveValueOf,
+                            parameterName,
+                            defaultValue,
+                            PrimitiveMapper.primitiveToDefaultValueMap.get(wrappedRaw));
+                } catch (final Exception e) {
+                    throw new ProcessingException(LocalizationMessages.DEFAULT_COULD_NOT_PROCESS_METHOD(defaultValue,
+                            wrappedRaw.getName() + ".valueOf(String)"));
+                }
+            }
+
             // Check for static valueOf(String)
             final Method valueOf = AccessController.doPrivileged(ReflectionHelper.getValueOfStringMethodPA(wrappedRaw));
             if (valueOf != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.server.internal.inject;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.WebApplicationException;
@@ -35,7 +36,7 @@ import org.glassfish.jersey.internal.inject.ExtractorException;
  */
 final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<Object> {
 
-    private final Method valueOf;
+    private final Function<String, ?> valueOf;
     private final String parameter;
     private final String defaultStringValue;
     private final Object defaultValue;
@@ -51,6 +52,21 @@ final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<O
      */
     public PrimitiveValueOfExtractor(Method valueOf, String parameter,
                                      String defaultStringValue, Object defaultPrimitiveTypeValue) {
+        this(reflective(valueOf), parameter, defaultStringValue, defaultPrimitiveTypeValue);
+    }
+
+    /**
+     * Create new primitive parameter value extractor using a direct reference to the {@code valueOf(String)}
+     * method of the primitive type wrapper class, e.g. {@code Integer::valueOf}.
+     *
+     * @param valueOf                   {@code valueOf()} method reference.
+     * @param parameter                 string parameter value.
+     * @param defaultStringValue        default string value.
+     * @param defaultPrimitiveTypeValue default primitive type value.
+     * @since 2.45
+     */
+    PrimitiveValueOfExtractor(Function<String, ?> valueOf, String parameter,
+                              String defaultStringValue, Object defaultPrimitiveTypeValue) {
         this.valueOf = valueOf;
         this.parameter = parameter;
         this.defaultStringValue = defaultStringValue;
@@ -59,6 +75,23 @@ final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<O
         this.defaultPrimitiveTypeValue = defaultPrimitiveTypeValue;
     }
 
+    private static Function<String, ?> reflective(final Method valueOf) {
+        return value -> {
+            try {
+                return valueOf.invoke(null, value);
+            } catch (InvocationTargetException ex) {
+                Throwable target = ex.getTargetException();
+                if (target instanceof WebApplicationException) {
+                    throw (WebApplicationException) target;
+                } else {
+                    throw new ExtractorException(target);
+                }
+            } catch (Exception ex) {
+                throw new ProcessingException(ex);
+            }
+        };
+    }
+
     @Override
     public String getName() {
         return parameter;
@@ -71,16 +104,11 @@ final class PrimitiveValueOfExtractor implements MultivaluedParameterExtractor<O
 
     private Object getValue(String v) {
         try {
-            return valueOf.invoke(null, v);
-        } catch (InvocationTargetException ex) {
-            Throwable target = ex.getTargetException();
-            if (target instanceof WebApplicationException) {
-                throw (WebApplicationException) target;
-            } else {
-                throw new ExtractorException(target);
-            }
-        } catch (Exception ex) {
-            throw new ProcessingException(ex);
+            return valueOf.apply(v);
+        } catch (WebApplicationException | ProcessingException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new ExtractorException(ex);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -75,7 +75,7 @@ final class QueryParamValueParamProvider extends AbstractValueParamProvider {
         @Override
         public Object apply(ContainerRequest containerRequest) {
             try {
-                return extractor.extract(containerRequest.getUriInfo().getQueryParameters(decode));
+                return extractor.extract(IndexedParameters.query(containerRequest).asMap(decode));
             } catch (ExtractorException e) {
                 throw new ParamException.QueryParamException(e.getCause(),
                         extractor.getName(), extractor.getDefaultValueString());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.glassfish.jersey.server.ResourceConfig;
@@ -35,6 +38,7 @@ public class ApplicationEventImpl implements ApplicationEvent {
     private final Set<Class<?>> registeredClasses;
     private final Set<Object> registeredInstances;
     private final ResourceModel resourceModel;
+    private final Map<String, Duration> initializationPhases;
 
     /**
      * Create a new application event.
@@ -49,12 +53,32 @@ public class ApplicationEventImpl implements ApplicationEvent {
     public ApplicationEventImpl(Type type, ResourceConfig resourceConfig,
                                 Set<Class<?>> providers, Set<Class<?>> registeredClasses,
                                 Set<Object> registeredInstances, ResourceModel resourceModel) {
+        this(type, resourceConfig, providers, registeredClasses, registeredInstances, resourceModel, Collections.emptyMap());
+    }
+
+    /**
+     * Create a new application event.
+     * @param type Type of the event.
+     * @param resourceConfig Resource config of the application.
+     * @param registeredClasses Registered resource classes.
+     * @param registeredInstances Registered resource instances.
+     * @param resourceModel Resource model of the application (enhanced by
+     *                      {@link org.glassfish.jersey.server.model.ModelProcessor model processors}).
+     * @param providers Registered providers.
+     * @param initializationPhases Durations of the application initialization phases.
+     * @since 2.45
+     */
+    public ApplicationEventImpl(Type type, ResourceConfig resourceConfig,
+                                Set<Class<?>> providers, Set<Class<?>> registeredClasses,
+                                Set<Object> registeredInstances, ResourceModel resourceModel,
+                                Map<String, Duration> initializationPhases) {
         this.type = type;
         this.resourceConfig = resourceConfig;
         this.providers = providers;
         this.registeredClasses = registeredClasses;
         this.registeredInstances = registeredInstances;
         this.resourceModel = resourceModel;
+        this.initializationPhases = initializationPhases;
     }
 
     @Override
@@ -86,4 +110,9 @@ public class ApplicationEventImpl implements ApplicationEvent {
     public ResourceModel getResourceModel() {
         return resourceModel;
     }
+
+    @Override
+    public Map<String, Duration> getInitializationPhases() {
+        return initializationPhases;
+    }
 }
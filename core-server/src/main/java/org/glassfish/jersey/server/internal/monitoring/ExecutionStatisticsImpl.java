@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,14 +16,17 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.glassfish.jersey.server.internal.monitoring.core.HistogramTimeReservoir;
 import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeReservoir;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
@@ -52,36 +55,60 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
         private final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatistics;
         private final Collection<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics;
 
+        /**
+         * Create a new builder collecting the measurements in sliding windows.
+         */
+        public Builder() {
+            this(false);
+        }
+
         /**
          * Create a new builder.
+         *
+         * @param histogram {@code true} if the time window measurements should be aggregated into
+         *                  {@link HistogramTimeReservoir histograms}, {@code false} if they should be kept in sliding windows.
          */
         @SuppressWarnings("MagicNumber")
-        public Builder() {
+        Builder(final boolean histogram) {
             final long nowMillis = System.currentTimeMillis();
-            final AggregatingTrimmer trimmer = new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
-            final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(
-                            new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
             final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
                     new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
 
-            this.updatableIntervalStatistics =
-                    Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
-
             // create unmodifiable map to ensure that an iteration in the build() won't have multi-threading issues
             final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
             // Add approximate infinite time window builder
             tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
-            // Add precise 1 second time window builder
-            tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
-            // Add aggregated 15 seconds time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
-            // Add aggregated 1 minute time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 15 minutes time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 1 hour time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
+
+            if (histogram) {
+                final List<TimeWindowStatisticsImpl.Builder<Long>> updatable = new ArrayList<>(6);
+                updatable.add(infiniteIntervalWindowBuilder);
+                addHistogramInterval(tmpIntervalStatistics, updatable, nowMillis, 1, TimeUnit.SECONDS);
+                addHistogramInterval(tmpIntervalStatistics, updatable, nowMillis, 15, TimeUnit.SECONDS);
+                addHistogramInterval(tmpIntervalStatistics, updatable, nowMillis, 1, TimeUnit.MINUTES);
+                addHistogramInterval(tmpIntervalStatistics, updatable, nowMillis, 15, TimeUnit.MINUTES);
+                addHistogramInterval(tmpIntervalStatistics, updatable, nowMillis, 1, TimeUnit.HOURS);
+                this.updatableIntervalStatistics = updatable;
+            } else {
+                final AggregatingTrimmer trimmer =
+                        new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
+                final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
+                        new TimeWindowStatisticsImpl.Builder<>(
+                                new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
+
+                this.updatableIntervalStatistics =
+                        Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
+
+                // Add precise 1 second time window builder
+                tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
+                // Add aggregated 15 seconds time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
+                // Add aggregated 1 minute time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
+                // Add aggregated 15 minutes time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
+                // Add aggregated 1 hour time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
+            }
 
             this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
         }
@@ -98,6 +125,19 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
                             TimeUnit.MILLISECONDS, notifier)));
         }
 
+        private static void addHistogramInterval(
+                final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
+                final List<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics,
+                final long nowMillis,
+                final long interval,
+                final TimeUnit timeUnit) {
+            final long intervalInMillis = timeUnit.toMillis(interval);
+            final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
+                    new HistogramTimeReservoir(intervalInMillis, TimeUnit.MILLISECONDS, nowMillis, TimeUnit.MILLISECONDS));
+            intervalStatisticsMap.put(intervalInMillis, builder);
+            updatableIntervalStatistics.add(builder);
+        }
+
         /**
          * Add execution of a target.
          *
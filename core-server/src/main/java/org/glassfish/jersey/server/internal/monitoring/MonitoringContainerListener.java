@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -68,7 +68,7 @@ public final class MonitoringContainerListener implements ContainerLifecycleList
         return new ApplicationEventImpl(type,
                 initFinishedEvent.getResourceConfig(), initFinishedEvent.getProviders(),
                 initFinishedEvent.getRegisteredClasses(), initFinishedEvent.getRegisteredInstances(),
-                initFinishedEvent.getResourceModel());
+                initFinishedEvent.getResourceModel(), initFinishedEvent.getInitializationPhases());
     }
 
     @Override
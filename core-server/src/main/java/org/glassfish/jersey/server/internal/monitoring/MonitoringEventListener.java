@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,9 +18,13 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -30,6 +34,7 @@ import javax.inject.Inject;
 import javax.ws.rs.ProcessingException;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
@@ -48,6 +53,12 @@ import org.glassfish.jersey.uri.UriTemplate;
  * comes.
  * </p>
  * <p>
+ * Request events are passed to the processor through a bounded lock-free {@link MonitoringQueue ring buffer}, response
+ * status codes are pre-aggregated into striped counters. The size of the buffer and the policy applied when the buffer
+ * fills up are configured by {@link ServerProperties#MONITORING_STATISTICS_QUEUE_SIZE} and
+ * {@link ServerProperties#MONITORING_STATISTICS_OVERFLOW_POLICY}.
+ * </p>
+ * <p>
  * This event listener must be registered as a standard provider when monitoring statistics are required
  * in the runtime.
  * </p>
@@ -59,14 +70,23 @@ import org.glassfish.jersey.uri.UriTemplate;
 public final class MonitoringEventListener implements ApplicationEventListener {
 
     private static final Logger LOGGER = Logger.getLogger(MonitoringEventListener.class.getName());
-    private static final int EVENT_QUEUE_SIZE = 500_000;
+    private static final int DEFAULT_QUEUE_SIZE = 1 << 19;
+    /**
+     * Exception mapping events are only a fraction of the request events.
+     */
+    private static final int EXCEPTION_MAPPER_QUEUE_RATIO = 8;
 
     @Inject
     private InjectionManager injectionManager;
 
-    private final Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<Integer> responseStatuses = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private volatile MonitoringQueue<RequestStats> requestQueuedItems;
+    private volatile MonitoringQueue<RequestEvent> exceptionMapperEvents;
+    private volatile boolean sampling;
+    private final ConcurrentMap<Integer, LongAdder> responseStatuses = new ConcurrentHashMap<>();
+    private volatile int lastResponseStatus;
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder sampledOutEvents = new LongAdder();
+    private volatile long lastProcessed;
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
     // By default new events can arrive before MonitoringStatisticsProcessor is running.
     private final AtomicBoolean processorFailed = new AtomicBoolean(false);
@@ -183,9 +203,14 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         final ApplicationEvent.Type type = event.getType();
         switch (type) {
             case INITIALIZATION_START:
+                initQueues(event.getResourceConfig().getProperties());
                 break;
             case RELOAD_FINISHED:
             case INITIALIZATION_FINISHED:
+                if (requestQueuedItems == null) {
+                    initQueues(event.getResourceConfig().getProperties());
+                }
+                lastProcessed = System.currentTimeMillis();
                 this.monitoringStatisticsProcessor = new MonitoringStatisticsProcessor(injectionManager, this);
                 processorFailed.set(false);
                 this.monitoringStatisticsProcessor.startMonitoringWorker();
@@ -241,15 +266,11 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!offer(exceptionMapperEvents, event)) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
-                    }
+                    offer(exceptionMapperEvents, event, false);
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
-                            LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
-                        }
+                        addResponseStatus(event.getContainerResponse().getStatus());
                     }
                     final StringBuilder sb = new StringBuilder();
                     final List<UriTemplate> orderedTemplates =
@@ -267,21 +288,62 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                         }
                         sb.setLength(sb.length() - 1);
                     }
-                    if (!offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
-                    }
+                    offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
+                            methodStats, sb.toString()), sampling);
 
             }
         }
     }
 
-    private <T> boolean offer(Queue<T> queue, T event) {
-        if (!processorFailed.get()) {
-            return queue.offer(event);
+    private void initQueues(final Map<String, Object> properties) {
+        final int size = ServerProperties.getValue(properties, ServerProperties.MONITORING_STATISTICS_QUEUE_SIZE,
+                DEFAULT_QUEUE_SIZE, Integer.class);
+        final String policy = ServerProperties.getValue(properties, ServerProperties.MONITORING_STATISTICS_OVERFLOW_POLICY,
+                ServerProperties.MONITORING_STATISTICS_OVERFLOW_POLICY_DROP, String.class);
+
+        this.sampling = ServerProperties.MONITORING_STATISTICS_OVERFLOW_POLICY_SAMPLE.equalsIgnoreCase(policy);
+        this.exceptionMapperEvents = new MonitoringQueue<>(size / EXCEPTION_MAPPER_QUEUE_RATIO);
+        this.requestQueuedItems = new MonitoringQueue<>(size);
+    }
+
+    private <T> void offer(final MonitoringQueue<T> queue, final T event, final boolean sample) {
+        // Events are not queued after an Exception was thrown by MonitoringStatisticsProcessor
+        if (queue == null || processorFailed.get()) {
+            return;
+        }
+        if (sample && !sample(queue)) {
+            sampledOutEvents.increment();
+        } else if (!queue.offer(event)) {
+            droppedEvents.increment();
+        }
+    }
+
+    /**
+     * Decide whether an event should be queued. All the events are queued while the queue is at most half full,
+     * then the probability of queueing an event halves every time the free space of the queue halves.
+     *
+     * @param queue event queue.
+     * @return {@code true} if the event should be queued.
+     */
+    static boolean sample(final MonitoringQueue<?> queue) {
+        final int free = queue.capacity() - queue.size();
+        if (free <= 0) {
+            return true;
         }
-        // Don't need to warn that the event was not queued because an Exception was thrown by MonitoringStatisticsProcessor
-        return true;
+        final int level = Integer.numberOfLeadingZeros(free - 1) - Integer.numberOfLeadingZeros(queue.capacity()) - 1;
+        return level <= 0 || ThreadLocalRandom.current().nextInt(1 << Math.min(level, 30)) == 0;
+    }
+
+    private void addResponseStatus(final int status) {
+        if (processorFailed.get()) {
+            return;
+        }
+        LongAdder counter = responseStatuses.get(status);
+        if (counter == null) {
+            counter = responseStatuses.computeIfAbsent(status, key -> new LongAdder());
+        }
+        counter.increment();
+        lastResponseStatus = status;
     }
 
     /**
@@ -291,6 +353,13 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         processorFailed.set(true);
     }
 
+    /**
+     * Invoked by {@link MonitoringStatisticsProcessor} every time the queued events have been processed.
+     */
+    void eventsProcessed() {
+        lastProcessed = System.currentTimeMillis();
+    }
+
     /**
      * Get the exception mapper event queue.
      *
@@ -310,11 +379,60 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     }
 
     /**
-     * Get the queue with response status codes.
+     * Get the counters of the response status codes. The counters are reset by the processor.
      *
-     * @return response status queue.
+     * @return response status counters.
      */
-    Queue<Integer> getResponseStatuses() {
+    Map<Integer, LongAdder> getResponseStatuses() {
         return responseStatuses;
     }
+
+    /**
+     * Get the last counted response status code.
+     *
+     * @return last response status code.
+     */
+    int getLastResponseStatus() {
+        return lastResponseStatus;
+    }
+
+    /**
+     * Get the number of request and exception mapping events that have been dropped because the event queues were full.
+     *
+     * @return number of dropped events.
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Get the number of request events that have not been queued because of the
+     * {@link ServerProperties#MONITORING_STATISTICS_OVERFLOW_POLICY_SAMPLE sampling}.
+     *
+     * @return number of sampled out events.
+     */
+    public long getSampledOutEventCount() {
+        return sampledOutEvents.sum();
+    }
+
+    /**
+     * Get the number of request and exception mapping events waiting for the processing.
+     *
+     * @return number of queued events.
+     */
+    public long getPendingEventCount() {
+        final MonitoringQueue<RequestStats> requests = requestQueuedItems;
+        final MonitoringQueue<RequestEvent> mappings = exceptionMapperEvents;
+        return (requests == null ? 0 : requests.size()) + (mappings == null ? 0 : mappings.size());
+    }
+
+    /**
+     * Get the time elapsed since the queued events have been processed for the last time.
+     *
+     * @return processing lag in milliseconds, {@code 0} if the processing has not started yet.
+     */
+    public long getProcessingLag() {
+        final long processed = lastProcessed;
+        return processed == 0 ? 0 : Math.max(0, System.currentTimeMillis() - processed);
+    }
 }
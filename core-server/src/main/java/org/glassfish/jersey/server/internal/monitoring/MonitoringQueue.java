@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue of monitoring events backed by a ring buffer.
+ * <p>
+ * Every slot of the ring carries a sequence number telling whether the slot is free for the producer of the given
+ * position or filled for the consumer of the given position, so that concurrent request threads only contend on
+ * a single compare-and-set of the tail index and never block each other or the
+ * {@link MonitoringStatisticsProcessor}. The capacity is rounded up to a power of two.
+ * </p>
+ * <p>
+ * The {@link #iterator() iterator} and the {@link #size() size} are weakly consistent.
+ * </p>
+ *
+ * @param <E> type of the events.
+ * @since 2.45
+ */
+final class MonitoringQueue<E> extends AbstractQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Create new queue.
+     *
+     * @param capacity requested capacity, rounded up to the next power of two.
+     */
+    MonitoringQueue(final int capacity) {
+        final int size = capacity <= 2 ? 2 : capacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the capacity of the queue.
+     *
+     * @return maximal number of events held by the queue.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(final E event) {
+        Objects.requireNonNull(event);
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, event);
+                    // publishes the event to the consumer of the position
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot has not been consumed yet since the previous round, the queue is full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final E event = elements.get(index);
+                    elements.lazySet(index, null);
+                    // frees the slot for the producer of the next round
+                    sequences.set(index, position + mask + 1);
+                    return event;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // the slot has not been filled yet, the queue is empty
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        final long position = head.get();
+        final int index = (int) position & mask;
+        return sequences.get(index) == position + 1 ? elements.get(index) : null;
+    }
+
+    @Override
+    public int size() {
+        while (true) {
+            final long first = head.get();
+            final long last = tail.get();
+            if (head.get() == first) {
+                return (int) Math.max(0, Math.min(last - first, capacity()));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<>();
+        final long last = tail.get();
+        for (long position = head.get(); position < last; position++) {
+            final int index = (int) position & mask;
+            final E event = elements.get(index);
+            if (event != null && sequences.get(index) == position + 1) {
+                snapshot.add(event);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -70,7 +70,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final ResponseStatisticsImpl.Builder responseStatisticsBuilder;
         private final ExceptionMapperStatisticsImpl.Builder exceptionMapperStatisticsBuilder;
 
-        private final ResourceMethodStatisticsImpl.Factory methodFactory = new ResourceMethodStatisticsImpl.Factory();
+        private final ResourceMethodStatisticsImpl.Factory methodFactory;
         private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new TreeMap<>();
         private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
                 = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
@@ -81,6 +81,16 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * Create a new builder.
          */
         Builder() {
+            this(false);
+        }
+
+        /**
+         * Create a new builder.
+         *
+         * @param histogram {@code true} if the time window measurements should be aggregated into histograms.
+         */
+        Builder(final boolean histogram) {
+            this.methodFactory = new ResourceMethodStatisticsImpl.Factory(histogram);
             this.responseStatisticsBuilder = new ResponseStatisticsImpl.Builder();
             this.exceptionMapperStatisticsBuilder = new ExceptionMapperStatisticsImpl.Builder();
         }
@@ -91,7 +101,17 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param resourceModel resource model.
          */
         Builder(final ResourceModel resourceModel) {
-            this();
+            this(resourceModel, false);
+        }
+
+        /**
+         * Create a new builder and initialize it from resource model.
+         *
+         * @param resourceModel resource model.
+         * @param histogram     {@code true} if the time window measurements should be aggregated into histograms.
+         */
+        Builder(final ResourceModel resourceModel, final boolean histogram) {
+            this(histogram);
 
             for (final Resource resource : resourceModel.getRootResources()) {
                 processResource(resource, "");
@@ -144,7 +164,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          */
         void addRequestExecution(final long startTime, final long duration) {
             if (executionStatisticsBuilder == null) {
-                executionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+                executionStatisticsBuilder = methodFactory.createExecutionStatisticsBuilder();
             }
             executionStatisticsBuilder.addExecution(startTime, duration);
         }
@@ -189,6 +209,16 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             responseStatisticsBuilder.addResponseCode(responseCode);
         }
 
+        /**
+         * Add a number of responses with the same status code produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         * @param count        Number of responses.
+         */
+        void addResponseCode(final int responseCode, final long count) {
+            responseStatisticsBuilder.addResponseCode(responseCode, count);
+        }
+
         /**
          * Build a new instance of monitoring statistics.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,14 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,6 +48,11 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
  * The {@code MonitoringStatisticsProcessor} starts a new thread which process events in regular intervals
  * and for each new monitoring statistics it calls registered
  * {@link MonitoringStatisticsListener monitoring statistics event listeners}.
+ * <p>
+ * Every run processes at most the events queued when the run started, so that a flood of events cannot keep the
+ * processor from publishing the statistics. New statistics are only built and published when some events have been
+ * processed, or at least once per second so that the time window statistics keep moving.
+ * </p>
  *
  * @author Miroslav Fuksa
  */
@@ -56,6 +62,8 @@ final class MonitoringStatisticsProcessor {
 
     private static final int DEFAULT_INTERVAL = 500;
     private static final int SHUTDOWN_TIMEOUT = 10;
+    private static final long IDLE_PUBLICATION_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long DROPPED_WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(5);
 
     private final MonitoringEventListener monitoringEventListener;
     private final MonitoringStatisticsImpl.Builder statisticsBuilder;
@@ -64,6 +72,12 @@ final class MonitoringStatisticsProcessor {
 
     private final int interval;
 
+    // accessed only by the scheduled task
+    private boolean published;
+    private long lastPublished;
+    private long reportedDroppedEvents;
+    private long lastDroppedWarning = System.nanoTime() - DROPPED_WARNING_INTERVAL;
+
     /**
      * Creates a new instance of processor.
      * @param injectionManager injection manager.
@@ -73,11 +87,15 @@ final class MonitoringStatisticsProcessor {
             final InjectionManager injectionManager, final MonitoringEventListener monitoringEventListener) {
         this.monitoringEventListener = monitoringEventListener;
         final ResourceModel resourceModel = injectionManager.getInstance(ExtendedResourceContext.class).getResourceModel();
-        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel);
+        final Map<String, Object> properties = injectionManager.getInstance(Configuration.class).getProperties();
+        final String reservoir = ServerProperties.getValue(properties, ServerProperties.MONITORING_STATISTICS_RESERVOIR,
+                ServerProperties.MONITORING_STATISTICS_RESERVOIR_SLIDING_WINDOW, String.class);
+        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel,
+                ServerProperties.MONITORING_STATISTICS_RESERVOIR_HISTOGRAM.equalsIgnoreCase(reservoir));
         this.statisticsCallbackList = injectionManager.getAllInstances(MonitoringStatisticsListener.class);
         this.scheduler =
                 injectionManager.getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
-        this.interval = PropertiesHelper.getValue(injectionManager.getInstance(Configuration.class).getProperties(),
+        this.interval = PropertiesHelper.getValue(properties,
                                                   ServerProperties.MONITORING_STATISTICS_REFRESH_INTERVAL, DEFAULT_INTERVAL,
                                                   Collections.<String, String>emptyMap());
     }
@@ -90,16 +108,24 @@ final class MonitoringStatisticsProcessor {
         scheduler.scheduleWithFixedDelay(new Runnable() {
             @Override
             public void run() {
+                final long processed;
                 try {
-                    processRequestItems();
-                    processResponseCodeEvents();
-                    processExceptionMapperEvents();
+                    processed = processRequestItems() + processResponseCodeEvents() + processExceptionMapperEvents();
                 } catch (final Throwable t) {
                     monitoringEventListener.processorFailed();
                     LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_MONITORING_STATISTICS_GENERATION(), t);
                     // rethrowing exception stops further task execution
                     throw new ProcessingException(LocalizationMessages.ERROR_MONITORING_STATISTICS_GENERATION(), t);
                 }
+                monitoringEventListener.eventsProcessed();
+                logDroppedEvents();
+
+                final long now = System.nanoTime();
+                if (published && processed == 0 && now - lastPublished < IDLE_PUBLICATION_INTERVAL) {
+                    return;
+                }
+                published = true;
+                lastPublished = now;
 
                 final MonitoringStatisticsImpl immutableStats = statisticsBuilder.build();
 
@@ -119,12 +145,13 @@ final class MonitoringStatisticsProcessor {
         }, 0, interval, TimeUnit.MILLISECONDS);
     }
 
-    private void processExceptionMapperEvents() {
+    private int processExceptionMapperEvents() {
         final Queue<RequestEvent> eventQueue = monitoringEventListener.getExceptionMapperEvents();
-        final FloodingLogger floodingLogger = new FloodingLogger(eventQueue);
+        final int batch = eventQueue.size();
+        int processed = 0;
         RequestEvent event = null;
-        while ((event = eventQueue.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
+        while (processed < batch && (event = eventQueue.poll()) != null) {
+            processed++;
             final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
 
             if (event.getExceptionMapper() != null) {
@@ -133,14 +160,16 @@ final class MonitoringStatisticsProcessor {
 
             mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
         }
+        return processed;
     }
 
-    private void processRequestItems() {
+    private int processRequestItems() {
         final Queue<MonitoringEventListener.RequestStats> requestQueuedItems = monitoringEventListener.getRequestQueuedItems();
-        final FloodingLogger floodingLogger = new FloodingLogger(requestQueuedItems);
+        final int batch = requestQueuedItems.size();
+        int processed = 0;
         RequestStats event = null;
-        while ((event = requestQueuedItems.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
+        while (processed < batch && (event = requestQueuedItems.poll()) != null) {
+            processed++;
             final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
             statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
 
@@ -152,17 +181,40 @@ final class MonitoringStatisticsProcessor {
                         requestStats.getStartTime(), requestStats.getDuration());
             }
         }
+        return processed;
     }
 
-    private void processResponseCodeEvents() {
-        final Queue<Integer> responseEvents = monitoringEventListener.getResponseStatuses();
-        final FloodingLogger floodingLogger = new FloodingLogger(responseEvents);
-        Integer code = null;
-        while ((code = responseEvents.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            statisticsBuilder.addResponseCode(code);
+    private long processResponseCodeEvents() {
+        final int lastCode = monitoringEventListener.getLastResponseStatus();
+        long lastCodeCount = 0;
+        long processed = 0;
+        for (final Map.Entry<Integer, LongAdder> entry : monitoringEventListener.getResponseStatuses().entrySet()) {
+            final long count = entry.getValue().sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+            processed += count;
+            if (entry.getKey() == lastCode) {
+                lastCodeCount = count;
+            } else {
+                statisticsBuilder.addResponseCode(entry.getKey(), count);
+            }
+        }
+        // the last response code of the statistics is the last one added
+        if (lastCodeCount > 0) {
+            statisticsBuilder.addResponseCode(lastCode, lastCodeCount);
         }
+        return processed;
+    }
 
+    private void logDroppedEvents() {
+        final long dropped = monitoringEventListener.getDroppedEventCount();
+        final long now = System.nanoTime();
+        if (dropped > reportedDroppedEvents && now - lastDroppedWarning >= DROPPED_WARNING_INTERVAL) {
+            LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_DROPPED(dropped - reportedDroppedEvents));
+            reportedDroppedEvents = dropped;
+            lastDroppedWarning = now;
+        }
     }
 
     /**
@@ -181,54 +233,4 @@ final class MonitoringStatisticsProcessor {
             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_SCHEDULER_DESTROY_TIMEOUT());
         }
     }
-
-    /**
-     * Upon calling of {@link #conditionallyLogFlooding()}, flooding logger conditionally checks for the size of the associated
-     * collection and if its size increases a warning about flooding is logged.
-     * <p/>
-     * The purpose of this flooding logger facility is to warn about disability to decrease the size of given collection which
-     * leads to never ending looping while trying to empty that collection in a loop.
-     *
-     * @author Stepan Vavra
-     */
-    private static class FloodingLogger {
-
-        /** The frequency of logging a warning about the request queue being flooded. */
-        private static final int FLOODING_WARNING_LOG_INTERVAL_MILLIS = 5_000;
-
-        private final Collection<?> collection;
-        private final long startTime = System.nanoTime();
-
-        private int i = 0;
-        private int lastSize;
-
-        /**
-         * Constructs Flooding Logger and associate it with given collection.
-         *
-         * @param collection The collection to associate this flooding logger with.
-         */
-        public FloodingLogger(final Collection<?> collection) {
-            this.collection = collection;
-            this.lastSize = collection.size();
-        }
-
-        /**
-         * With a frequency of {@link #FLOODING_WARNING_LOG_INTERVAL_MILLIS}, a warning about flooding is logged if the size of
-         * the associated collection is increasing.
-         */
-        public void conditionallyLogFlooding() {
-            // this condition prevents the log warning from being logged more frequently than
-            // 'FLOODING_WARNING_LOG_INTERVAL_MILLIS' - counted from the initialization of this class
-            if ((System.nanoTime() - startTime) / TimeUnit.NANOSECONDS.convert(FLOODING_WARNING_LOG_INTERVAL_MILLIS,
-                    TimeUnit.MILLISECONDS) <= i) {
-                return;
-            }
-
-            if (collection.size() > lastSize) {
-                LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_FLOODED(collection.size()));
-            }
-            i++;
-            lastSize = collection.size();
-        }
-    }
 }
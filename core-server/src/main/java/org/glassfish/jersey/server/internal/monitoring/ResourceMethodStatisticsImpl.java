@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -40,15 +40,35 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
     static class Factory {
 
         private final ConcurrentMap<String, Builder> stringToMethodsBuilders = new ConcurrentHashMap<>();
+        private final boolean histogram;
+
+        /**
+         * Create a new factory.
+         *
+         * @param histogram {@code true} if the time window measurements should be aggregated into histograms.
+         */
+        Factory(final boolean histogram) {
+            this.histogram = histogram;
+        }
 
         ResourceMethodStatisticsImpl.Builder getOrCreate(final ResourceMethod resourceMethod) {
             final String methodUniqueId = MonitoringUtils.getMethodUniqueId(resourceMethod);
 
             if (!stringToMethodsBuilders.containsKey(methodUniqueId)) {
-                stringToMethodsBuilders.putIfAbsent(methodUniqueId, new ResourceMethodStatisticsImpl.Builder(resourceMethod));
+                stringToMethodsBuilders.putIfAbsent(methodUniqueId,
+                        new ResourceMethodStatisticsImpl.Builder(resourceMethod, this));
             }
             return stringToMethodsBuilders.get(methodUniqueId);
         }
+
+        /**
+         * Create a new builder of execution statistics using the reservoirs configured for this factory.
+         *
+         * @return new execution statistics builder.
+         */
+        ExecutionStatisticsImpl.Builder createExecutionStatisticsBuilder() {
+            return new ExecutionStatisticsImpl.Builder(histogram);
+        }
     }
 
     /**
@@ -59,6 +79,7 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
     static class Builder {
 
         private final ResourceMethod resourceMethod;
+        private final Factory factory;
 
         private final AtomicReference<ExecutionStatisticsImpl.Builder> resourceMethodExecutionStatisticsBuilder = new
                 AtomicReference<>();
@@ -71,9 +92,11 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
          * Create a new builder instance.
          *
          * @param resourceMethod Resource method for which statistics are evaluated.
+         * @param factory        Factory creating the builder.
          */
-        Builder(final ResourceMethod resourceMethod) {
+        Builder(final ResourceMethod resourceMethod, final Factory factory) {
             this.resourceMethod = resourceMethod;
+            this.factory = factory;
         }
 
         /**
@@ -117,12 +140,12 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             cached = null;
 
             if (resourceMethodExecutionStatisticsBuilder.get() == null) {
-                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, factory.createExecutionStatisticsBuilder());
             }
             resourceMethodExecutionStatisticsBuilder.get().addExecution(methodStartTime, methodDuration);
 
             if (requestExecutionStatisticsBuilder.get() == null) {
-                requestExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                requestExecutionStatisticsBuilder.compareAndSet(null, factory.createExecutionStatisticsBuilder());
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -122,12 +122,12 @@ final class ResourceStatisticsImpl implements ResourceStatistics {
             cached = null;
 
             if (resourceExecutionStatisticsBuilder.get() == null) {
-                resourceExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                resourceExecutionStatisticsBuilder.compareAndSet(null, methodFactory.createExecutionStatisticsBuilder());
             }
             resourceExecutionStatisticsBuilder.get().addExecution(methodStartTime, methodDuration);
 
             if (requestExecutionStatisticsBuilder.get() == null) {
-                requestExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                requestExecutionStatisticsBuilder.compareAndSet(null, methodFactory.createExecutionStatisticsBuilder());
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,13 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
             responseCodesMap.put(responseCode, currentValue + 1);
         }
 
+        void addResponseCode(final int responseCode, final long count) {
+            cached = null;
+
+            lastResponseCode = responseCode;
+            responseCodesMap.merge(responseCode, count, Long::sum);
+        }
+
         ResponseStatisticsImpl build() {
             if (cached == null) {
                 cached = new ResponseStatisticsImpl(lastResponseCode, new HashMap<>(this.responseCodesMap));
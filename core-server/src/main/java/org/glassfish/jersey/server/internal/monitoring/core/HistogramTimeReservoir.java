@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link TimeReservoir} implementation that aggregates the measurements into log-linear histograms instead of storing them.
+ * <p/>
+ * The time window is split into {@value #SLICES} time slices kept in a ring buffer, each holding a histogram of the values
+ * measured during the slice. The histogram buckets cover the values exactly up to {@code 2^}{@value #SUB_BUCKET_BITS} and
+ * with a relative precision of {@code 2^-}{@value #SUB_BUCKET_BITS} above, up to {@code 2^}{@value #MAX_EXPONENT}; larger
+ * values fall into the last bucket. The bucket counters are {@link LongAdder}s created on the first update of the bucket,
+ * so that concurrent updates do not contend and the memory used by the reservoir is bounded regardless of the number of
+ * measurements. The minimum, maximum and count of the measurements are exact, the percentiles are approximated by the
+ * middle of the bucket.
+ * <p/>
+ * The snapshot contains the measurements of the current slice and of the previous {@code SLICES - 1} slices, that is, the
+ * window of the snapshot moves by the steps of the slice length. Updates older than the oldest slice in the ring buffer
+ * are ignored.
+ *
+ * @since 2.45
+ */
+public final class HistogramTimeReservoir implements TimeReservoir<Long> {
+
+    /**
+     * Number of the time slices of the window.
+     */
+    static final int SLICES = 6;
+
+    /**
+     * Logarithm of the number of the linear sub-buckets of each power of two.
+     */
+    static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * Logarithm of the lowest value falling into the last bucket.
+     */
+    static final int MAX_EXPONENT = 40;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of the histogram buckets.
+     */
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + 1;
+
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+
+    private final long interval;
+    private final TimeUnit intervalUnit;
+    private final long sliceNanos;
+    private final AtomicLong startTime;
+    private final AtomicReferenceArray<Slice> ring = new AtomicReferenceArray<>(SLICES + 1);
+
+    /**
+     * Create a new histogram reservoir.
+     *
+     * @param window        The time window of the reservoir.
+     * @param windowUnit    The unit of {@code window}.
+     * @param startTime     The start time from which this reservoir calculates measurements.
+     * @param startTimeUnit The start time unit.
+     */
+    public HistogramTimeReservoir(final long window, final TimeUnit windowUnit, final long startTime,
+                                  final TimeUnit startTimeUnit) {
+        this.interval = window;
+        this.intervalUnit = windowUnit;
+        this.sliceNanos = Math.max(1, (windowUnit.toNanos(window) + SLICES - 1) / SLICES);
+        this.startTime = new AtomicLong(startTimeUnit.toNanos(startTime));
+    }
+
+    @Override
+    public int size(final long time, final TimeUnit timeUnit) {
+        return (int) getSnapshot(time, timeUnit).size();
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        final long nanos = timeUnit.toNanos(time);
+        final long epoch = Math.floorDiv(nanos, sliceNanos);
+        final int index = (int) Math.floorMod(epoch, (long) ring.length());
+
+        Slice slice = ring.get(index);
+        while (slice == null || slice.epoch < epoch) {
+            final Slice created = new Slice(epoch);
+            if (ring.compareAndSet(index, slice, created)) {
+                slice = created;
+            } else {
+                slice = ring.get(index);
+            }
+        }
+        if (slice.epoch != epoch) {
+            // the slice of the measurement has already been reused
+            return;
+        }
+        slice.record(value);
+
+        if (nanos < startTime.get()) {
+            startTime.accumulateAndGet(nanos, Math::min);
+        }
+    }
+
+    @Override
+    public HistogramTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long nanos = timeUnit.toNanos(time);
+        final long epoch = Math.floorDiv(nanos, sliceNanos);
+        final long firstEpoch = epoch - SLICES + 1;
+
+        final long[] counts = new long[BUCKETS];
+        long size = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ring.length(); i++) {
+            final Slice slice = ring.get(i);
+            if (slice == null || slice.epoch < firstEpoch || slice.epoch > epoch) {
+                continue;
+            }
+            final long count = slice.count.sum();
+            if (count == 0) {
+                continue;
+            }
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                final LongAdder adder = slice.buckets.get(bucket);
+                if (adder != null) {
+                    counts[bucket] += adder.sum();
+                }
+            }
+            size += count;
+            sum += slice.sum.sum();
+            min = Math.min(min, slice.min.get());
+            max = Math.max(max, slice.max.get());
+        }
+
+        final long measuredInterval = Math.max(1, Math.min(nanos - startTime.get(), nanos - firstEpoch * sliceNanos));
+        if (size == 0) {
+            return new HistogramTimeSnapshot(counts, 0, 0, 0, 0, measuredInterval, TimeUnit.NANOSECONDS);
+        }
+        return new HistogramTimeSnapshot(counts, size, min, max, (double) sum / size, measuredInterval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(interval, intervalUnit);
+    }
+
+    /**
+     * Get the index of the histogram bucket of the value.
+     *
+     * @param value measured value.
+     * @return bucket index.
+     */
+    static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+        if (value > MAX_VALUE) {
+            return BUCKETS - 1;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the lowest value of the histogram bucket.
+     *
+     * @param bucket bucket index.
+     * @return lowest value of the bucket.
+     */
+    static long lowerBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        if (bucket == BUCKETS - 1) {
+            return MAX_VALUE + 1;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Get the highest value of the histogram bucket.
+     *
+     * @param bucket bucket index.
+     * @return highest value of the bucket.
+     */
+    static long upperBound(final int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(bucket + 1) - 1;
+    }
+
+    /**
+     * Histogram of the values measured during a time slice.
+     */
+    private static final class Slice {
+
+        private final long epoch;
+        private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        private Slice(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void record(final long value) {
+            final int bucket = bucket(value);
+            LongAdder adder = buckets.get(bucket);
+            if (adder == null) {
+                buckets.compareAndSet(bucket, null, new LongAdder());
+                adder = buckets.get(bucket);
+            }
+            adder.increment();
+            sum.add(value);
+            if (value < min.get()) {
+                min.accumulateAndGet(value, Math::min);
+            }
+            if (value > max.get()) {
+                max.accumulateAndGet(value, Math::max);
+            }
+            // the count is the last so that a concurrent snapshot does not see the value counted without its minimum
+            count.increment();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A statistical snapshot of a {@link HistogramTimeReservoir}.
+ *
+ * @since 2.45
+ */
+public final class HistogramTimeSnapshot extends AbstractTimeSnapshot {
+
+    private final long[] counts;
+    private final long size;
+    private final long min;
+    private final long max;
+    private final double mean;
+
+    /**
+     * Create a new snapshot of the histogram.
+     *
+     * @param counts           the number of values in each histogram bucket
+     * @param size             the number of values
+     * @param min              the minimum value
+     * @param max              the maximum value
+     * @param mean             the mean of the values
+     * @param timeInterval     The time interval this snapshot relates to
+     * @param timeIntervalUnit The time unit of the time interval
+     */
+    HistogramTimeSnapshot(final long[] counts, final long size, final long min, final long max, final double mean,
+                          final long timeInterval, final TimeUnit timeIntervalUnit) {
+        super(timeInterval, timeIntervalUnit);
+        this.counts = counts;
+        this.size = size;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the approximate value at the given quantile, that is, the middle of the histogram bucket containing the value
+     * limited by the minimum and maximum of the snapshot.
+     *
+     * @param quantile a given quantile, in {@code [0..1]}
+     * @return the value in the distribution at {@code quantile}
+     */
+    public double getValue(final double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1] range");
+        }
+
+        if (size == 0) {
+            return 0.0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * size));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                final long lower = Math.max(min, HistogramTimeReservoir.lowerBound(bucket));
+                final long upper = Math.min(max, HistogramTimeReservoir.upperBound(bucket));
+                return lower + (upper - lower) / 2.0;
+            }
+        }
+        return max;
+    }
+}
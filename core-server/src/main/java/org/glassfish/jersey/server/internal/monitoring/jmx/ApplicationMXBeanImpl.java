@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import java.util.Set;
 
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener;
 import org.glassfish.jersey.server.monitoring.ApplicationInfo;
 import org.glassfish.jersey.server.monitoring.ApplicationMXBean;
 
@@ -41,6 +42,7 @@ public class ApplicationMXBeanImpl implements ApplicationMXBean {
     private final Set<String> providers;
     private final Set<String> registeredClasses;
     private final Set<String> registeredInstances;
+    private final MonitoringEventListener monitoringEventListener;
 
     /**
      * Create a new application MXBean and register it to the mbean server using {@code mBeanExposer}.
@@ -51,6 +53,23 @@ public class ApplicationMXBeanImpl implements ApplicationMXBean {
      */
     public ApplicationMXBeanImpl(final ApplicationInfo applicationInfo, final MBeanExposer mBeanExposer,
                                  final String parentName) {
+        this(applicationInfo, null, mBeanExposer, parentName);
+    }
+
+    /**
+     * Create a new application MXBean exposing also the counters of the monitoring event processing
+     * and register it to the mbean server using {@code mBeanExposer}.
+     *
+     * @param applicationInfo Application info which should be exposed.
+     * @param monitoringEventListener Monitoring event listener providing the counters of the monitoring event processing,
+     *                                might be {@code null}.
+     * @param mBeanExposer MBean exposer.
+     * @param parentName {@link javax.management.ObjectName Object name} prefix of parent mbeans.
+     * @since 2.45
+     */
+    public ApplicationMXBeanImpl(final ApplicationInfo applicationInfo, final MonitoringEventListener monitoringEventListener,
+                                 final MBeanExposer mBeanExposer, final String parentName) {
+        this.monitoringEventListener = monitoringEventListener;
         this.providers = new HashSet<>();
         this.registeredClasses = new HashSet<>();
         this.registeredInstances = new HashSet<>();
@@ -121,4 +140,24 @@ public class ApplicationMXBeanImpl implements ApplicationMXBean {
     public Set<String> getProviderClasses() {
         return providers;
     }
+
+    @Override
+    public long getMonitoringDroppedEvents() {
+        return monitoringEventListener == null ? 0 : monitoringEventListener.getDroppedEventCount();
+    }
+
+    @Override
+    public long getMonitoringSampledOutEvents() {
+        return monitoringEventListener == null ? 0 : monitoringEventListener.getSampledOutEventCount();
+    }
+
+    @Override
+    public long getMonitoringPendingEvents() {
+        return monitoringEventListener == null ? 0 : monitoringEventListener.getPendingEventCount();
+    }
+
+    @Override
+    public long getMonitoringLag() {
+        return monitoringEventListener == null ? 0 : monitoringEventListener.getProcessingLag();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +32,13 @@ import javax.management.JMException;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
+import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.inject.Providers;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.ApplicationInfo;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
@@ -72,6 +78,12 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
     @Inject
     private Provider<ApplicationInfo> applicationInfoProvider;
 
+    @Inject
+    private Provider<MessageBodyWorkers> messageBodyWorkersProvider;
+
+    @Inject
+    private InjectionManager injectionManager;
+
 
     private Map<String, ResourceStatistics> transformToStringKeys(Map<Class<?>, ResourceStatistics> stats) {
         Map<String, ResourceStatistics> newMap = new HashMap<>();
@@ -152,6 +164,16 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
         }
     }
 
+    private MonitoringEventListener getMonitoringEventListener() {
+        for (final ApplicationEventListener listener
+                : Providers.getAllProviders(injectionManager, ApplicationEventListener.class)) {
+            if (listener instanceof MonitoringEventListener) {
+                return (MonitoringEventListener) listener;
+            }
+        }
+        return null;
+    }
+
     @Override
     public void onStatistics(MonitoringStatistics statistics) {
         if (domain == null) {
@@ -179,7 +201,12 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
             exceptionMapperMXBean = new ExceptionMapperMXBeanImpl(statistics.getExceptionMapperStatistics(), this,
                     globalSubType);
 
-            new ApplicationMXBeanImpl(appStats, this, globalSubType);
+            new ApplicationMXBeanImpl(appStats, getMonitoringEventListener(), this, globalSubType);
+
+            final MessageBodyWorkers messageBodyWorkers = messageBodyWorkersProvider.get();
+            if (messageBodyWorkers instanceof MessageBodyFactory) {
+                new MessageBodyWorkersMXBeanImpl((MessageBodyFactory) messageBodyWorkers, this, globalSubType);
+            }
         }
 
         requestMBean.updateExecutionStatistics(statistics.getRequestStatistics());
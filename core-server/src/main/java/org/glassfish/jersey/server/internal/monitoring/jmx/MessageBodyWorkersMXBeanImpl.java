@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
+import org.glassfish.jersey.server.monitoring.MessageBodyWorkersMXBean;
+
+/**
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.MessageBodyWorkersMXBean} MXBean interface. The
+ * statistics are read from the message body factory whenever an attribute is read.
+ *
+ * @since 2.45
+ */
+public class MessageBodyWorkersMXBeanImpl implements MessageBodyWorkersMXBean {
+
+    private final MessageBodyFactory messageBodyFactory;
+
+    /**
+     * Create a new MXBean and register it into mbean server using {@code mBeanExposer}.
+     *
+     * @param messageBodyFactory Message body factory of the application.
+     * @param mBeanExposer Mbean exposer.
+     * @param parentName Object name prefix of the parent mbeans.
+     */
+    public MessageBodyWorkersMXBeanImpl(MessageBodyFactory messageBodyFactory, MBeanExposer mBeanExposer, String parentName) {
+        this.messageBodyFactory = messageBodyFactory;
+        mBeanExposer.registerMBean(this, parentName + ",global=MessageBodyWorkers");
+    }
+
+    @Override
+    public int getReaderLookupCacheSize() {
+        return messageBodyFactory.getReaderLookupCacheStatistics().getSize();
+    }
+
+    @Override
+    public int getReaderLookupCacheMaximumSize() {
+        return messageBodyFactory.getReaderLookupCacheStatistics().getMaximumSize();
+    }
+
+    @Override
+    public long getReaderLookupCacheHitCount() {
+        return messageBodyFactory.getReaderLookupCacheStatistics().getHitCount();
+    }
+
+    @Override
+    public long getReaderLookupCacheMissCount() {
+        return messageBodyFactory.getReaderLookupCacheStatistics().getMissCount();
+    }
+
+    @Override
+    public long getReaderLookupCacheEvictionCount() {
+        return messageBodyFactory.getReaderLookupCacheStatistics().getEvictionCount();
+    }
+
+    @Override
+    public int getWriterLookupCacheSize() {
+        return messageBodyFactory.getWriterLookupCacheStatistics().getSize();
+    }
+
+    @Override
+    public int getWriterLookupCacheMaximumSize() {
+        return messageBodyFactory.getWriterLookupCacheStatistics().getMaximumSize();
+    }
+
+    @Override
+    public long getWriterLookupCacheHitCount() {
+        return messageBodyFactory.getWriterLookupCacheStatistics().getHitCount();
+    }
+
+    @Override
+    public long getWriterLookupCacheMissCount() {
+        return messageBodyFactory.getWriterLookupCacheStatistics().getMissCount();
+    }
+
+    @Override
+    public long getWriterLookupCacheEvictionCount() {
+        return messageBodyFactory.getWriterLookupCacheStatistics().getEvictionCount();
+    }
+}
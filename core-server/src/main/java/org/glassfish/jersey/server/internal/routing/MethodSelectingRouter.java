@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.server.internal.routing;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -38,10 +39,13 @@ import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.internal.guava.Primitives;
 import org.glassfish.jersey.internal.routing.ContentTypeDeterminer;
 import org.glassfish.jersey.internal.routing.CombinedMediaType;
@@ -114,6 +118,7 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
+    private final Cache<MethodSelectionKey, MethodSelection> methodSelectionCache;
 
     /**
      * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
@@ -125,8 +130,28 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
      */
     MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
+        this(workers, methodRoutings, 0);
+    }
+
+    /**
+     * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
+     *
+     * The router selects the method that best matches the request based on
+     * produce/consume information from the resource method models. If {@code selectionCacheSize}
+     * is positive, the outcome of the method selection is cached per HTTP method, request
+     * {@code Content-Type} and {@code Accept} header.
+     *
+     * @param workers            message body workers.
+     * @param methodRoutings     [method model, method methodAcceptorPair] pairs.
+     * @param selectionCacheSize maximum number of cached method selections, {@code 0} disables the cache.
+     */
+    MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings, int selectionCacheSize) {
         super(workers);
 
+        this.methodSelectionCache = selectionCacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(selectionCacheSize).<MethodSelectionKey, MethodSelection>build()
+                : null;
+
         this.consumesProducesAcceptors = new HashMap<>();
 
         final Set<String> httpMethods = new HashSet<>();
@@ -136,7 +161,7 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
 
             List<ConsumesProducesAcceptor> httpMethodBoundAcceptors = consumesProducesAcceptors.get(httpMethod);
             if (httpMethodBoundAcceptors == null) {
-                httpMethodBoundAcceptors = new LinkedList<>();
+                httpMethodBoundAcceptors = new ArrayList<>();
                 consumesProducesAcceptors.put(httpMethod, httpMethodBoundAcceptors);
             }
 
@@ -400,6 +425,84 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         return null;
     }
 
+    /**
+     * Key of the {@link MethodSelection method selection} cache. The outcome of the method selection depends only
+     * on the request HTTP method, request content type and acceptable media types (i.e. the {@code Accept} header).
+     */
+    private static final class MethodSelectionKey {
+
+        private final String httpMethod;
+        private final MediaType contentType;
+        private final String accept;
+        private final int hashCode;
+
+        private MethodSelectionKey(final String httpMethod, final MediaType contentType, final String accept) {
+            this.httpMethod = httpMethod;
+            this.contentType = contentType;
+            this.accept = accept;
+
+            int result = httpMethod.hashCode();
+            result = 31 * result + (contentType != null ? contentType.hashCode() : 0);
+            result = 31 * result + (accept != null ? accept.hashCode() : 0);
+            this.hashCode = result;
+        }
+
+        /**
+         * Create a cache key for the request or return {@code null} if the method selection for the request should
+         * not be cached. Content types with parameters other than {@code charset} (e.g. a multipart {@code boundary})
+         * are request specific and are not cached.
+         */
+        private static MethodSelectionKey of(final ContainerRequest request, final MediaType contentType) {
+            if (contentType != null && !contentType.getParameters().isEmpty()
+                    && (contentType.getParameters().size() > 1
+                                || !contentType.getParameters().containsKey(MediaType.CHARSET_PARAMETER))) {
+                return null;
+            }
+            return new MethodSelectionKey(request.getMethod(), contentType, request.getHeaderString(HttpHeaders.ACCEPT));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodSelectionKey)) {
+                return false;
+            }
+
+            final MethodSelectionKey that = (MethodSelectionKey) o;
+            return hashCode == that.hashCode
+                    && httpMethod.equals(that.httpMethod)
+                    && (contentType != null ? contentType.equals(that.contentType) : that.contentType == null)
+                    && (accept != null ? accept.equals(that.accept) : that.accept == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Outcome of the method selection for a request.
+     */
+    private static final class MethodSelection {
+
+        private static final MethodSelection NOT_SUPPORTED = new MethodSelection(null, null, false);
+
+        private final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected;
+        private final List<AcceptableMediaType> acceptableMediaTypes;
+        private final boolean supported;
+
+        private MethodSelection(final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected,
+                                final List<AcceptableMediaType> acceptableMediaTypes,
+                                final boolean supported) {
+            this.selected = selected;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+            this.supported = supported;
+        }
+    }
+
     private List<Router> getMethodRouter(final RequestProcessingContext context) {
         final ContainerRequest request = context.request();
         final List<ConsumesProducesAcceptor> acceptors = consumesProducesAcceptors.get(request.getMethod());
@@ -408,33 +511,25 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
                     Response.status(Status.METHOD_NOT_ALLOWED).allow(consumesProducesAcceptors.keySet()).build());
         }
 
-        final List<ConsumesProducesAcceptor> satisfyingAcceptors = new LinkedList<>();
-        final Set<ResourceMethod> differentInvokableMethods = Collections.newSetFromMap(new IdentityHashMap<>());
         final MediaType requestContentType = request.getMediaType();
-        for (ConsumesProducesAcceptor cpi : acceptors) {
-            if (cpi.isConsumable(request, requestContentType)) {
-                satisfyingAcceptors.add(cpi);
-                differentInvokableMethods.add(cpi.methodRouting.method);
+
+        final MethodSelectionKey key = methodSelectionCache != null
+                ? MethodSelectionKey.of(request, requestContentType) : null;
+        MethodSelection selection = key != null ? methodSelectionCache.getIfPresent(key) : null;
+        if (selection == null) {
+            selection = selectMethod(request, acceptors, requestContentType);
+            if (key != null) {
+                methodSelectionCache.put(key, selection);
             }
         }
-        if (satisfyingAcceptors.isEmpty()) {
+
+        if (!selection.supported) {
             throw new NotSupportedException();
         }
 
-        final List<AcceptableMediaType> acceptableMediaTypes = request.getQualifiedAcceptableMediaTypes();
-
-        final MediaType effectiveContentType = requestContentType == null ? MediaType.WILDCARD_TYPE : requestContentType;
-
-        final MethodSelector methodSelector = selectMethod(acceptableMediaTypes, satisfyingAcceptors, effectiveContentType,
-                differentInvokableMethods.size() == 1);
-
-        if (methodSelector.selected != null) {
-            final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected = methodSelector.selected;
-
-            if (methodSelector.sameFitnessAcceptors != null) {
-                reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
-                        methodSelector.sameFitnessAcceptors);
-            }
+        if (selection.selected != null) {
+            final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected = selection.selected;
+            final List<AcceptableMediaType> acceptableMediaTypes = selection.acceptableMediaTypes;
 
             context.push(new Function<ContainerResponse, ContainerResponse>() {
                 @Override
@@ -448,7 +543,7 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
                         MediaType effectiveResponseType = determineResponseMediaType(
                                 responseContext.getEntityClass(),
                                 responseContext.getEntityType(),
-                                methodSelector.selected,
+                                selected,
                                 acceptableMediaTypes);
 
                         if (MediaTypes.isWildcard(effectiveResponseType)) {
@@ -471,6 +566,36 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         throw new NotAcceptableException();
     }
 
+    private MethodSelection selectMethod(final ContainerRequest request,
+                                         final List<ConsumesProducesAcceptor> acceptors,
+                                         final MediaType requestContentType) {
+        final List<ConsumesProducesAcceptor> satisfyingAcceptors = new ArrayList<>(acceptors.size());
+        final Set<ResourceMethod> differentInvokableMethods = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ConsumesProducesAcceptor cpi : acceptors) {
+            if (cpi.isConsumable(request, requestContentType)) {
+                satisfyingAcceptors.add(cpi);
+                differentInvokableMethods.add(cpi.methodRouting.method);
+            }
+        }
+        if (satisfyingAcceptors.isEmpty()) {
+            return MethodSelection.NOT_SUPPORTED;
+        }
+
+        final List<AcceptableMediaType> acceptableMediaTypes = request.getQualifiedAcceptableMediaTypes();
+
+        final MediaType effectiveContentType = requestContentType == null ? MediaType.WILDCARD_TYPE : requestContentType;
+
+        final MethodSelector methodSelector = selectMethod(acceptableMediaTypes, satisfyingAcceptors, effectiveContentType,
+                differentInvokableMethods.size() == 1);
+
+        if (methodSelector.selected != null && methodSelector.sameFitnessAcceptors != null) {
+            reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
+                    methodSelector.sameFitnessAcceptors);
+        }
+
+        return new MethodSelection(methodSelector.selected, acceptableMediaTypes, true);
+    }
+
     /**
      * Determine the {@link MediaType} of the {@link Response} based on writers suitable for the given entity class,
      * pre-selected method and acceptable media types.
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Radix tree index of the {@link Route routes} accepted by a single {@link PathMatchingRouter}.
+ * <p>
+ * Every route is indexed by the literal prefix of its routing pattern, i.e. by the part of the pattern that precedes
+ * the first template variable or explicit regular expression. For a given request path the index returns the routes
+ * whose literal prefix is a prefix of the path in the original route order, so the JAX-RS matching rules implemented
+ * by the router are not affected. Routes whose pattern is a plain literal (no template variables) are matched by
+ * simple string comparison, without evaluating the regular expression of the pattern.
+ * </p>
+ */
+final class PathMatchingIndex {
+
+    private static final int[] NO_ROUTES = new int[0];
+    private static final String REGEX_META_CHARACTERS = ".^$*+?()[]{}|";
+    private static final String REGEX_QUANTIFIERS = "*+?{";
+    private static final String OPEN_RIGHT_HAND_PATH = "(/.*)?";
+    private static final String CLOSED_RIGHT_HAND_PATH = "(/)?";
+
+    private final Route[] routes;
+    private final CompiledPattern[] patterns;
+    private final Node root = new Node("");
+
+    /**
+     * Create new path matching index for the given routes.
+     *
+     * @param routes routes in the order in which they are to be matched.
+     */
+    PathMatchingIndex(final List<Route> routes) {
+        this.routes = routes.toArray(new Route[0]);
+        this.patterns = new CompiledPattern[this.routes.length];
+
+        for (int i = 0; i < this.routes.length; i++) {
+            patterns[i] = CompiledPattern.of(this.routes[i].routingPattern());
+            root.insert(patterns[i].prefix, 0, i);
+        }
+        root.collectCandidates(NO_ROUTES);
+    }
+
+    /**
+     * Get the indexed route.
+     *
+     * @param index route index.
+     * @return route stored under the index.
+     */
+    Route route(final int index) {
+        return routes[index];
+    }
+
+    /**
+     * Get indexes of all the routes that may match the path. The indexes are returned in ascending order, i.e. in
+     * the order in which the routes were registered.
+     * <p>
+     * The returned array is shared by all the paths ending in the same tree node and must not be modified.
+     * </p>
+     *
+     * @param path request path to be matched.
+     * @return candidate route indexes.
+     */
+    int[] candidates(final String path) {
+        Node node = root;
+        int position = 0;
+        while (position < path.length()) {
+            final Node child = node.child(path.charAt(position));
+            if (child == null || !path.startsWith(child.label, position)) {
+                break;
+            }
+            position += child.label.length();
+            node = child;
+        }
+        return node.candidates;
+    }
+
+    /**
+     * Match a path against the routing pattern of a candidate route.
+     * <p>
+     * The route must have been returned by {@link #candidates(String)} for the same path.
+     * </p>
+     *
+     * @param index route index.
+     * @param path  request path to be matched.
+     * @return the match result or {@code null} if the path does not match the routing pattern of the route.
+     */
+    MatchResult match(final int index, final String path) {
+        return patterns[index].match(path);
+    }
+
+    /**
+     * Routing pattern compiled into a literal prefix and (if necessary) the regular expression remainder.
+     */
+    private static final class CompiledPattern {
+
+        private final PathPattern pattern;
+        private final String prefix;
+        private final boolean literal;
+        private final boolean open;
+
+        private CompiledPattern(final PathPattern pattern, final String prefix, final boolean literal, final boolean open) {
+            this.pattern = pattern;
+            this.prefix = prefix;
+            this.literal = literal;
+            this.open = open;
+        }
+
+        private static CompiledPattern of(final PathPattern pattern) {
+            final String regex = pattern.getRegex();
+            final boolean open = regex.endsWith(OPEN_RIGHT_HAND_PATH);
+            final boolean closed = !open && regex.endsWith(CLOSED_RIGHT_HAND_PATH);
+            if (!open && !closed) {
+                return new CompiledPattern(pattern, "", false, false);
+            }
+
+            final String templateRegex = regex.substring(0,
+                    regex.length() - (open ? OPEN_RIGHT_HAND_PATH : CLOSED_RIGHT_HAND_PATH).length());
+
+            final StringBuilder prefix = new StringBuilder(templateRegex.length());
+            int i = 0;
+            while (i < templateRegex.length()) {
+                final char c = templateRegex.charAt(i);
+                if (c == '\\') {
+                    if (i + 1 >= templateRegex.length() || Character.isLetterOrDigit(templateRegex.charAt(i + 1))) {
+                        break;
+                    }
+                    prefix.append(templateRegex.charAt(i + 1));
+                    i += 2;
+                } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                    if (REGEX_QUANTIFIERS.indexOf(c) >= 0 && prefix.length() > 0) {
+                        // the preceding character is not mandatory
+                        prefix.setLength(prefix.length() - 1);
+                    }
+                    break;
+                } else {
+                    prefix.append(c);
+                    i++;
+                }
+            }
+
+            final String literalPrefix = prefix.toString();
+            final boolean literal = i == templateRegex.length()
+                    && pattern.getTemplate().getNumberOfTemplateVariables() == 0
+                    && (literalPrefix.isEmpty() || pattern.match(literalPrefix) != null);
+
+            return new CompiledPattern(pattern, literalPrefix, literal, open);
+        }
+
+        private MatchResult match(final String path) {
+            if (!literal || path.isEmpty()) {
+                return pattern.match(path);
+            }
+
+            final int length = prefix.length();
+            if (path.length() == length) {
+                return new LiteralMatchResult(path, length, false);
+            }
+            if (path.charAt(length) != '/') {
+                return null;
+            }
+            if (!open) {
+                return path.length() == length + 1 ? new LiteralMatchResult(path, length, true) : null;
+            }
+            for (int i = length + 1; i < path.length(); i++) {
+                if (isLineTerminator(path.charAt(i))) {
+                    // '.' in the right-hand path regular expression does not match line terminators
+                    return null;
+                }
+            }
+            return new LiteralMatchResult(path, length, true);
+        }
+
+        private static boolean isLineTerminator(final char c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+    }
+
+    /**
+     * Match result of a literal routing pattern. Mimics the regular expression match result with a single capturing
+     * group containing the right-hand path.
+     */
+    private static final class LiteralMatchResult implements MatchResult {
+
+        private final String path;
+        private final int rightHandPathStart;
+        private final String rightHandPath;
+
+        private LiteralMatchResult(final String path, final int literalLength, final boolean hasRightHandPath) {
+            this.path = path;
+            this.rightHandPathStart = hasRightHandPath ? literalLength : -1;
+            this.rightHandPath = hasRightHandPath ? path.substring(literalLength) : null;
+        }
+
+        @Override
+        public int start() {
+            return 0;
+        }
+
+        @Override
+        public int start(final int group) {
+            checkGroup(group);
+            return group == 0 ? start() : rightHandPathStart;
+        }
+
+        @Override
+        public int end() {
+            return path.length();
+        }
+
+        @Override
+        public int end(final int group) {
+            checkGroup(group);
+            if (group == 0) {
+                return end();
+            }
+            return rightHandPath == null ? -1 : path.length();
+        }
+
+        @Override
+        public String group() {
+            return path;
+        }
+
+        @Override
+        public String group(final int group) {
+            checkGroup(group);
+            return group == 0 ? group() : rightHandPath;
+        }
+
+        @Override
+        public int groupCount() {
+            return 1;
+        }
+
+        private static void checkGroup(final int group) {
+            if (group < 0 || group > 1) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+    }
+
+    /**
+     * Radix tree node. Edge labels of the children of a single node start with distinct characters.
+     */
+    private static final class Node {
+
+        private String label;
+        private Node[] children = new Node[0];
+        private int[] routes = NO_ROUTES;
+        private int[] candidates = NO_ROUTES;
+
+        private Node(final String label) {
+            this.label = label;
+        }
+
+        private Node child(final char c) {
+            for (final Node child : children) {
+                if (child.label.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private void collectCandidates(final int[] inherited) {
+            if (routes.length == 0) {
+                candidates = inherited;
+            } else {
+                candidates = Arrays.copyOf(inherited, inherited.length + routes.length);
+                System.arraycopy(routes, 0, candidates, inherited.length, routes.length);
+                Arrays.sort(candidates);
+            }
+            for (final Node child : children) {
+                child.collectCandidates(candidates);
+            }
+        }
+
+        private void insert(final String key, final int position, final int route) {
+            if (position == key.length()) {
+                routes = Arrays.copyOf(routes, routes.length + 1);
+                routes[routes.length - 1] = route;
+                return;
+            }
+
+            final Node child = child(key.charAt(position));
+            if (child == null) {
+                final Node leaf = new Node(key.substring(position));
+                addChild(leaf);
+                leaf.insert(key, key.length(), route);
+                return;
+            }
+
+            final String childLabel = child.label;
+            int common = 1;
+            while (common < childLabel.length()
+                    && position + common < key.length()
+                    && childLabel.charAt(common) == key.charAt(position + common)) {
+                common++;
+            }
+
+            if (common < childLabel.length()) {
+                // split the edge
+                final Node split = new Node(childLabel.substring(0, common));
+                child.label = childLabel.substring(common);
+                split.addChild(child);
+                children[indexOf(child)] = split;
+                split.insert(key, position + common, route);
+            } else {
+                child.insert(key, position + common, route);
+            }
+        }
+
+        private void addChild(final Node child) {
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+
+        private int indexOf(final Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
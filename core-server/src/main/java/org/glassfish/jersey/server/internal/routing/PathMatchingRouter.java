@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,6 +34,7 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouter implements Router {
 
     private final List<Route> acceptedRoutes;
+    private final PathMatchingIndex index;
 
     /**
      * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
@@ -43,7 +44,21 @@ final class PathMatchingRouter implements Router {
      *                 the built router is successful.
      */
     PathMatchingRouter(final List<Route> routes) {
+        this(routes, false);
+    }
+
+    /**
+     * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
+     * patch matching.
+     *
+     * @param routes   next-level request routers to be returned in case the router matching
+     *                 the built router is successful.
+     * @param indexed  if {@code true}, the routes are looked up using a {@link PathMatchingIndex path matching index}
+     *                 instead of matching the request path against every route pattern.
+     */
+    PathMatchingRouter(final List<Route> routes, final boolean indexed) {
         this.acceptedRoutes = routes;
+        this.index = indexed ? new PathMatchingIndex(routes) : null;
     }
 
     @Override
@@ -55,6 +70,12 @@ final class PathMatchingRouter implements Router {
         final TracingLogger tracingLogger = TracingLogger.getInstance(context.request());
         tracingLogger.log(ServerTraceEvent.MATCH_PATH_FIND, path);
 
+        if (index != null && path != null
+                && !tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)
+                && !tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_SKIPPED)) {
+            return applyIndexed(context, path, tracingLogger);
+        }
+
         Router.Continuation result = null;
         MatchResult matchResultCandidate = null;
         Route acceptedRouteCandidate = null;
@@ -105,6 +126,44 @@ final class PathMatchingRouter implements Router {
         return result;
     }
 
+    /**
+     * Select the route using the path matching index. Follows the same rules as the linear matching in
+     * {@link #apply(RequestProcessingContext)}, but evaluates only the routes whose literal prefix matches the path.
+     */
+    private Router.Continuation applyIndexed(final RequestProcessingContext context, final String path,
+                                             final TracingLogger tracingLogger) {
+        final int[] candidates = index.candidates(path);
+
+        MatchResult matchResultCandidate = null;
+        Route acceptedRouteCandidate = null;
+
+        for (final int candidate : candidates) {
+            final MatchResult matchResult = index.match(candidate, path);
+            if (matchResult == null) {
+                continue;
+            }
+
+            final Route acceptedRoute = index.route(candidate);
+            if (isLocator(acceptedRoute) && matchResultCandidate != null) {
+                // see apply(...), sub-resource locator shall not be found if sub-resource was found first
+                return matchPathSelected(context, acceptedRouteCandidate, matchResultCandidate, tracingLogger);
+            } else if (isLocator(acceptedRoute) || designatorMatch(acceptedRoute, context)) {
+                return matchPathSelected(context, acceptedRoute, matchResult, tracingLogger);
+            } else if (matchResultCandidate == null) {
+                matchResultCandidate = matchResult;
+                acceptedRouteCandidate = acceptedRoute;
+            }
+        }
+
+        if (acceptedRouteCandidate != null) {
+            //method designator mismatched, but still go the route to get the proper status code
+            return matchPathSelected(context, acceptedRouteCandidate, matchResultCandidate, tracingLogger);
+        }
+
+        // No match
+        return Router.Continuation.of(context);
+    }
+
     private Router.Continuation matchPathSelected(final RequestProcessingContext context, final Route acceptedRoute,
                                                   final MatchResult matchResult, final TracingLogger tracingLogger) {
         // Push match result information and rest of path to match
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -30,6 +30,7 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouterBuilder implements PathToRouterBuilder {
 
     private final List<Route> acceptedRoutes = new LinkedList<>();
+    private final boolean indexed;
     private List<Router> currentRouters;
 
 
@@ -40,13 +41,26 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
      * @return new request path pattern matching router builder.
      */
     static PathToRouterBuilder newRoute(final PathPattern pattern) {
-        final PathMatchingRouterBuilder builder = new PathMatchingRouterBuilder();
+        return newRoute(pattern, false);
+    }
+
+    /**
+     * Create new request path pattern matching router builder.
+     *
+     * @param pattern request path matching pattern.
+     * @param indexed if {@code true}, the built router looks up the routes using a
+     *                {@link PathMatchingIndex path matching index}.
+     * @return new request path pattern matching router builder.
+     */
+    static PathToRouterBuilder newRoute(final PathPattern pattern, final boolean indexed) {
+        final PathMatchingRouterBuilder builder = new PathMatchingRouterBuilder(indexed);
         builder.startNewRoute(pattern);
         return builder;
     }
 
-    private PathMatchingRouterBuilder() {
+    private PathMatchingRouterBuilder(final boolean indexed) {
         // preventing direct instantiation
+        this.indexed = indexed;
     }
 
     private void startNewRoute(final PathPattern pattern) {
@@ -91,7 +105,7 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
      * @return hierarchical request path matching processor (i.e. router).
      */
     public PathMatchingRouter build() {
-        return new PathMatchingRouter(acceptedRoutes());
+        return new PathMatchingRouter(acceptedRoutes(), indexed);
     }
 
 }
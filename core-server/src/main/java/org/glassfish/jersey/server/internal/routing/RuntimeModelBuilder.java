@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import javax.ws.rs.core.Configuration;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.Endpoint;
@@ -52,6 +53,8 @@ final class RuntimeModelBuilder {
     private final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private final MessageBodyWorkers messageBodyWorkers;
     private final ProcessingProviders processingProviders;
+    private final boolean pathIndexEnabled;
+    private final int methodSelectionCacheSize;
 
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
@@ -80,6 +83,10 @@ final class RuntimeModelBuilder {
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.messageBodyWorkers = messageBodyWorkers;
         this.processingProviders = processingProviders;
+        this.pathIndexEnabled = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_PATH_INDEX_ENABLED, Boolean.FALSE, Boolean.class);
+        this.methodSelectionCacheSize = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.METHOD_SELECTION_CACHE_SIZE, 0, Integer.class);
         this.locatorBuilder = Values.lazy((Value<RuntimeLocatorModelBuilder>)
                 () -> new RuntimeLocatorModelBuilder(config, messageBodyWorkers, valueSuppliers, resourceContext,
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
@@ -149,7 +156,8 @@ final class RuntimeModelBuilder {
             // resource methods
             if (!resource.getResourceMethods().isEmpty()) {
                 final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode);
-                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings);
+                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        methodSelectionCacheSize);
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.END_OF_PATH_PATTERN)
                             .to(resourcePushingRouter)
@@ -178,7 +186,8 @@ final class RuntimeModelBuilder {
                         srRoutedBuilder = startNextRoute(srRoutedBuilder, childClosedPattern)
                                 .to(uriPushingRouter)
                                 .to(childResourcePushingRouter)
-                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings));
+                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings,
+                                        methodSelectionCacheSize));
                     }
 
                     // sub resource locator
@@ -292,6 +301,7 @@ final class RuntimeModelBuilder {
 
     private PathToRouterBuilder startNextRoute(final PathMatchingRouterBuilder currentRouterBuilder, PathPattern routingPattern) {
         return currentRouterBuilder == null
-                ? PathMatchingRouterBuilder.newRoute(routingPattern) : currentRouterBuilder.route(routingPattern);
+                ? PathMatchingRouterBuilder.newRoute(routingPattern, pathIndexEnabled)
+                : currentRouterBuilder.route(routingPattern);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,7 +21,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.security.PrivilegedAction;
 import java.util.Collection;
-import java.util.List;
 import java.util.function.Function;
 
 import javax.ws.rs.NotFoundException;
@@ -37,8 +36,8 @@ import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
-import org.glassfish.jersey.server.spi.internal.ParamValueFactoryWithSource;
 import org.glassfish.jersey.server.spi.internal.ParameterValueHelper;
+import org.glassfish.jersey.server.spi.internal.ParameterValuePlan;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
 /**
@@ -55,7 +54,7 @@ import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 final class SubResourceLocatorRouter implements Router {
 
     private final ResourceMethod locatorModel;
-    private final List<ParamValueFactoryWithSource<?>> valueProviders;
+    private final ParameterValuePlan parameterValuePlan;
     private final RuntimeLocatorModelBuilder runtimeLocatorBuilder;
     private final JerseyResourceContext resourceContext;
     private final Function<Class<?>, ?> createFunction;
@@ -78,7 +77,7 @@ final class SubResourceLocatorRouter implements Router {
         this.locatorModel = locatorModel;
         this.resourceContext = resourceContext;
         this.createFunction = createServiceFunction;
-        this.valueProviders = ParameterValueHelper.createValueProviders(valueSuppliers, locatorModel.getInvocable());
+        this.parameterValuePlan = ParameterValueHelper.createParameterValuePlan(valueSuppliers, locatorModel.getInvocable());
     }
 
     @Override
@@ -123,7 +122,7 @@ final class SubResourceLocatorRouter implements Router {
     private Object getResource(final RequestProcessingContext context) {
         final Object resource = context.routingContext().peekMatchedResource();
         final Method handlingMethod = locatorModel.getInvocable().getHandlingMethod();
-        final Object[] parameterValues = ParameterValueHelper.getParameterValues(valueProviders, context.request());
+        final Object[] parameterValues = parameterValuePlan.resolve(context.request());
 
         context.triggerEvent(RequestEvent.Type.LOCATOR_MATCHED);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -206,7 +206,7 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
             if (isScoped && isAnnotated) {
                 // Correctly scoped and annotated
                 // add to the set of matching classes.
-                classes.add(getClassForName(className.replaceAll("/", ".")));
+                classes.add(getClassForName(className.replaceAll("/", "."), classloader));
             }
         }
 
@@ -281,30 +281,36 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
             //do nothing
             return null;
         }
+    }
 
-        private Class getClassForName(final String className) {
-            try {
-                final OsgiRegistry osgiRegistry = ReflectionHelper.getOsgiRegistryInstance();
-
-                if (osgiRegistry != null) {
-                    return osgiRegistry.classForNameWithException(className);
-                } else {
-                    return AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classloader));
-                }
-            } catch (final ClassNotFoundException ex) {
-                throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), ex);
-            } catch (final PrivilegedActionException pae) {
-                final Throwable cause = pae.getCause();
-                if (cause instanceof ClassNotFoundException) {
-                    throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), cause);
-                } else if (cause instanceof RuntimeException) {
-                    throw (RuntimeException) cause;
-                } else {
-                    throw new RuntimeException(cause);
-                }
+    /**
+     * Load a class found by the scanning.
+     *
+     * @param className   fully qualified binary name of the class.
+     * @param classloader class loader to load the class with.
+     * @return loaded class.
+     */
+    static Class<?> getClassForName(final String className, final ClassLoader classloader) {
+        try {
+            final OsgiRegistry osgiRegistry = ReflectionHelper.getOsgiRegistryInstance();
+
+            if (osgiRegistry != null) {
+                return osgiRegistry.classForNameWithException(className);
+            } else {
+                return AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classloader));
+            }
+        } catch (final ClassNotFoundException ex) {
+            throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), ex);
+        } catch (final PrivilegedActionException pae) {
+            final Throwable cause = pae.getCause();
+            if (cause instanceof ClassNotFoundException) {
+                throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
             }
         }
-
     }
 
     private static class ClassReaderWrapper {
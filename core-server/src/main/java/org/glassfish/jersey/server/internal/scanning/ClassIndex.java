@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Build-time index of the JAX-RS root resource and provider classes, used instead of the
+ * {@link PackageNamesScanner package scanning} when present.
+ * <p>
+ * The index is a {@value #RESOURCE} class-path resource generated by the {@link ClassIndexProcessor} annotation
+ * processor. It lists the fully qualified binary names of the public classes annotated with {@link javax.ws.rs.Path}
+ * or {@link javax.ws.rs.ext.Provider}, the same classes that are accepted by the
+ * {@link AnnotationAcceptingListener#newJaxrsResourceAndProviderListener() scanning listener}, one class name per line.
+ * Empty lines and lines starting with {@code #} are ignored. The indexes of all the class-path elements are merged.
+ * </p>
+ * <p>
+ * An index only describes the class-path element (directory or jar) it is shipped in. The package scanning therefore
+ * keeps scanning the class-path elements without an index, see {@link #covers(URL)}.
+ * </p>
+ *
+ * @see ServerProperties#PROVIDER_SCANNING_INDEX
+ * @since 2.45
+ */
+public final class ClassIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ClassIndex.class.getName());
+
+    /**
+     * Name of the class-path resource with the class index.
+     */
+    public static final String RESOURCE = "META-INF/jersey/class-index";
+
+    /**
+     * Usage of the class index by the package scanning.
+     *
+     * @see ServerProperties#PROVIDER_SCANNING_INDEX
+     */
+    public enum Mode {
+        /**
+         * The index is used instead of the package scanning when present.
+         */
+        ENABLED,
+        /**
+         * The index is ignored.
+         */
+        DISABLED,
+        /**
+         * The packages are scanned and compared with the index.
+         */
+        VALIDATE;
+
+        /**
+         * Get the mode for the value of the {@value ServerProperties#PROVIDER_SCANNING_INDEX} property.
+         *
+         * @param value property value, may be {@code null}.
+         * @return class index mode, {@link #ENABLED} for a {@code null} or invalid value.
+         */
+        public static Mode of(final Object value) {
+            if (value == null) {
+                return ENABLED;
+            }
+            try {
+                return valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException e) {
+                LOGGER.warning(LocalizationMessages.CLASS_INDEX_INVALID_MODE(value, ServerProperties.PROVIDER_SCANNING_INDEX));
+                return ENABLED;
+            }
+        }
+    }
+
+    private final Set<String> classNames;
+    /**
+     * URLs of the class-path elements shipping an index.
+     */
+    private final Set<String> roots;
+
+    private ClassIndex(final Set<String> classNames, final Set<String> roots) {
+        this.classNames = Collections.unmodifiableSet(classNames);
+        this.roots = Collections.unmodifiableSet(roots);
+    }
+
+    /**
+     * Load the class index from all the {@value #RESOURCE} resources available to the class loader.
+     *
+     * @param classLoader class loader.
+     * @return merged class index, or {@code null} if there is no index or an index cannot be read.
+     */
+    public static ClassIndex load(final ClassLoader classLoader) {
+        final Set<String> classNames = new TreeSet<>();
+        final Set<String> roots = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(RESOURCE);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                try (InputStream in = url.openStream()) {
+                    read(in, classNames);
+                } catch (final IOException e) {
+                    LOGGER.log(Level.WARNING, LocalizationMessages.CLASS_INDEX_READ_FAILED(url), e);
+                    return null;
+                }
+                final String location = url.toExternalForm();
+                roots.add(location.substring(0, location.length() - RESOURCE.length()));
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, LocalizationMessages.CLASS_INDEX_READ_FAILED(RESOURCE), e);
+            return null;
+        }
+        return roots.isEmpty() ? null : new ClassIndex(classNames, roots);
+    }
+
+    /**
+     * Read the class names of an index.
+     *
+     * @param in         index input stream.
+     * @param classNames set to add the read class names to.
+     * @throws IOException in case the index cannot be read.
+     */
+    static void read(final InputStream in, final Set<String> classNames) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && line.charAt(0) != '#') {
+                classNames.add(line);
+            }
+        }
+    }
+
+    /**
+     * Write the class names of an index.
+     *
+     * @param writer     index writer.
+     * @param classNames class names to be written.
+     * @throws IOException in case the index cannot be written.
+     */
+    static void write(final Writer writer, final Collection<String> classNames) throws IOException {
+        writer.write("# JAX-RS root resource and provider classes, generated by ");
+        writer.write(ClassIndexProcessor.class.getName());
+        writer.write('\n');
+        for (final String className : classNames) {
+            writer.write(className);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Get all the indexed class names.
+     *
+     * @return indexed class names.
+     */
+    public Set<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * Get the indexed names of the classes from the given packages.
+     *
+     * @param packages  package names.
+     * @param recursive if {@code true}, the classes of the nested packages are returned as well.
+     * @return indexed class names from the packages.
+     */
+    public Set<String> getClassNames(final String[] packages, final boolean recursive) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (final String className : classNames) {
+            final int dot = className.lastIndexOf('.');
+            final String classPackage = dot == -1 ? "" : className.substring(0, dot);
+            for (final String p : packages) {
+                if (classPackage.equals(p) || recursive && (p.isEmpty() || classPackage.startsWith(p + '.'))) {
+                    result.add(className);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check whether a resource, e.g. a package directory or a class file, belongs to a class-path element shipping
+     * an index, i.e. whether its classes are described by the index and do not need to be scanned.
+     *
+     * @param resource resource URL, may be {@code null}.
+     * @return {@code true} if the resource belongs to an indexed class-path element.
+     */
+    public boolean covers(final URL resource) {
+        if (resource == null) {
+            return false;
+        }
+        final String location = resource.toExternalForm();
+        for (final String root : roots) {
+            if (location.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a class has been loaded from a class-path element shipping an index.
+     *
+     * @param clazz       class.
+     * @param classLoader class loader the class has been loaded with.
+     * @return {@code true} if the class belongs to an indexed class-path element.
+     */
+    public boolean covers(final Class<?> clazz, final ClassLoader classLoader) {
+        return covers(classLoader.getResource(clazz.getName().replace('.', '/') + ".class"));
+    }
+
+    /**
+     * Load the indexed classes.
+     *
+     * @param classNames  names of the classes to be loaded.
+     * @param classLoader class loader to load the classes with.
+     * @return loaded classes.
+     */
+    public static Set<Class<?>> loadClasses(final Set<String> classNames, final ClassLoader classLoader) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (final String className : classNames) {
+            classes.add(AnnotationAcceptingListener.getClassForName(className, classLoader));
+        }
+        return classes;
+    }
+
+    /**
+     * Compare the indexed classes of the scanned packages with the classes found by the package scanning and log
+     * any difference.
+     *
+     * @param indexed names of the indexed classes from the scanned packages.
+     * @param scanned classes found by the package scanning.
+     * @return {@code true} if the index matches the package scanning.
+     */
+    public static boolean validate(final Set<String> indexed, final Set<Class<?>> scanned) {
+        boolean valid = true;
+        final Set<String> stale = new TreeSet<>(indexed);
+        for (final Class<?> scannedClass : scanned) {
+            if (!stale.remove(scannedClass.getName())) {
+                LOGGER.warning(LocalizationMessages.CLASS_INDEX_DRIFT_MISSING(scannedClass.getName()));
+                valid = false;
+            }
+        }
+        for (final String className : stale) {
+            LOGGER.warning(LocalizationMessages.CLASS_INDEX_DRIFT_STALE(className));
+            valid = false;
+        }
+        return valid;
+    }
+}
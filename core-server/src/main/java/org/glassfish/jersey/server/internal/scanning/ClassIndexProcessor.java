@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the {@link ClassIndex class index} of the compiled JAX-RS root resource and provider
+ * classes.
+ * <p>
+ * The processor is not registered as a service, it has to be enabled explicitly for the compilation of the application
+ * classes, e.g. using the {@code -processor org.glassfish.jersey.server.internal.scanning.ClassIndexProcessor} option of
+ * {@code javac} or the {@code annotationProcessors} configuration of the Maven compiler plugin. The classes indexed by
+ * a previous incremental compilation are kept in the index as long as they still exist and are still annotated.
+ * </p>
+ *
+ * @since 2.45
+ */
+@SupportedAnnotationTypes({ClassIndexProcessor.PATH, ClassIndexProcessor.PROVIDER})
+public final class ClassIndexProcessor extends AbstractProcessor {
+
+    static final String PATH = "javax.ws.rs.Path";
+    static final String PROVIDER = "javax.ws.rs.ext.Provider";
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isIndexed(element)) {
+                    classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the element is a class accepted by the
+     * {@link AnnotationAcceptingListener#newJaxrsResourceAndProviderListener() scanning listener}, i.e. a public top-level
+     * or public static nested class declaring the {@code @Path} or {@code @Provider} annotation.
+     */
+    private static boolean isIndexed(final Element element) {
+        if (!(element.getKind().isClass() || element.getKind().isInterface())
+                || !element.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        final Element enclosing = element.getEnclosingElement();
+        if ((enclosing.getKind().isClass() || enclosing.getKind().isInterface())
+                && !element.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (PATH.equals(name) || PROVIDER.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        final Set<String> index = new TreeSet<>(classNames);
+        // keep the classes indexed by a previous compilation which were not recompiled
+        try {
+            final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    ClassIndex.RESOURCE);
+            final Set<String> previous = new TreeSet<>();
+            try (InputStream in = existing.openInputStream()) {
+                ClassIndex.read(in, previous);
+            }
+            for (final String className : previous) {
+                final TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+                if (type != null && isIndexed(type)) {
+                    index.add(className);
+                }
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            // no previous index
+        }
+
+        try {
+            final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    ClassIndex.RESOURCE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                ClassIndex.write(writer, index);
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the class index " + ClassIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.glassfish.jersey.internal.OsgiRegistry;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
@@ -68,6 +69,7 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
     private final boolean recursive;
     private final String[] packages;
     private final ClassLoader classloader;
+    private final Predicate<URL> excluded;
     private final Map<String, UriSchemeResourceFinderFactory> finderFactories;
 
     private CompositeResourceFinder compositeResourceFinder;
@@ -103,9 +105,29 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
      *                    will be scanned.
      */
     public PackageNamesScanner(final ClassLoader classLoader, final String[] packages, final boolean recursive) {
+        this(classLoader, packages, recursive, url -> false);
+    }
+
+    /**
+     * Scan a set of packages using the provided {@link ClassLoader}, skipping the package locations matching
+     * the {@code excluded} predicate (e.g. the class-path elements described by a {@link ClassIndex}).
+     *
+     * @param classLoader the {@link ClassLoader} to load classes from.
+     * @param packages    an array of package names.
+     * @param recursive   if ({@code true} the packages will be scanned recursively together with
+     *                    any nested packages, if {@code false} only the explicitly listed packages
+     *                    will be scanned.
+     * @param excluded    predicate matching the package location URLs that shall not be scanned.
+     * @since 2.45
+     */
+    public PackageNamesScanner(final ClassLoader classLoader,
+                               final String[] packages,
+                               final boolean recursive,
+                               final Predicate<URL> excluded) {
         this.recursive = recursive;
         this.packages = packages.clone();
         this.classloader = classLoader;
+        this.excluded = excluded;
 
         this.finderFactories = new HashMap<>();
         add(new JarZipSchemeResourceFinderFactory());
@@ -168,6 +190,26 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         return classloader;
     }
 
+    /**
+     * Get the scanned package names.
+     *
+     * @return scanned package names.
+     * @since 2.45
+     */
+    public String[] getPackages() {
+        return packages.clone();
+    }
+
+    /**
+     * Check whether the nested packages of the {@link #getPackages() scanned packages} are scanned as well.
+     *
+     * @return {@code true} if the packages are scanned recursively.
+     * @since 2.45
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
     private void init() {
         compositeResourceFinder = new CompositeResourceFinder();
 
@@ -176,8 +218,12 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
                 final Enumeration<URL> urls =
                         ResourcesProvider.getInstance().getResources(p.replace('.', '/'), classloader);
                 while (urls.hasMoreElements()) {
+                    final URL url = urls.nextElement();
+                    if (excluded.test(url)) {
+                        continue;
+                    }
                     try {
-                        addResourceFinder(toURI(urls.nextElement()));
+                        addResourceFinder(toURI(url));
                     } catch (final URISyntaxException e) {
                         throw new ResourceFinderException("Error when converting a URL to a URI", e);
                     }
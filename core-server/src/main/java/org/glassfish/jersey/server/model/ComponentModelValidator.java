@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import java.util.List;
 import org.glassfish.jersey.Severity;
 import org.glassfish.jersey.internal.Errors;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.internal.ParallelInitializer;
 import org.glassfish.jersey.server.model.internal.ModelErrors;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
@@ -61,6 +62,7 @@ public final class ComponentModelValidator {
         validators.add(new ResourceValidator());
         validators.add(new RuntimeResourceModelValidator(msgBodyWorkers));
         validators.add(new ResourceMethodValidator(valueParamProviders));
+        // stateful, must be the last one
         validators.add(new InvocableValidator());
     }
 
@@ -113,7 +115,7 @@ public final class ComponentModelValidator {
             public void run() {
                 Errors.mark();
 
-                validateWithErrors(component);
+                validateWithErrors(component, validators);
                 issueList.addAll(ModelErrors.getErrorsAsResourceModelIssues(true));
 
                 Errors.unmark();
@@ -121,7 +123,45 @@ public final class ComponentModelValidator {
         });
     }
 
-    private void validateWithErrors(final ResourceModelComponent component) {
+    /**
+     * Validate a component the same way as {@link #validate(ResourceModelComponent)}, validating the child components
+     * of the component using the given initializer.
+     * <p>
+     * If the initializer is parallel, the child components are validated concurrently and the issues found by the
+     * {@link InvocableValidator stateful validator} are reported after the issues found by the other validators. The
+     * order of the issues is deterministic.
+     * </p>
+     *
+     * @param component   resource model component.
+     * @param initializer initializer used to validate the child components.
+     * @since 2.45
+     */
+    public void validate(final ResourceModelComponent component, final ParallelInitializer initializer) {
+        if (!initializer.isParallel()) {
+            validate(component);
+            return;
+        }
+        Errors.process(() -> {
+            Errors.mark();
+
+            // the stateful invocable validator cannot be shared by the concurrently validated components
+            final List<ResourceModelVisitor> statelessValidators = validators.subList(0, validators.size() - 1);
+            for (ResourceModelVisitor validator : statelessValidators) {
+                component.accept(validator);
+            }
+            final List<? extends ResourceModelComponent> componentList = component.getComponents();
+            if (null != componentList) {
+                initializer.forEach(componentList, subComponent -> validateWithErrors(subComponent, statelessValidators));
+            }
+            validateWithErrors(component, validators.subList(validators.size() - 1, validators.size()));
+            issueList.addAll(ModelErrors.getErrorsAsResourceModelIssues(true));
+
+            Errors.unmark();
+        });
+    }
+
+    private static void validateWithErrors(final ResourceModelComponent component,
+                                           final List<ResourceModelVisitor> validators) {
         for (ResourceModelVisitor validator : validators) {
             component.accept(validator);
         }
@@ -129,7 +169,7 @@ public final class ComponentModelValidator {
         final List<? extends ResourceModelComponent> componentList = component.getComponents();
         if (null != componentList) {
             for (ResourceModelComponent subComponent : componentList) {
-                validateWithErrors(subComponent);
+                validateWithErrors(subComponent, validators);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -60,6 +61,7 @@ import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.InternalServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
@@ -68,6 +70,7 @@ import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.model.internal.ResourceMethodDispatcherFactory;
 import org.glassfish.jersey.server.model.internal.ResourceMethodInvocationHandlerFactory;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.spi.internal.ParameterValuePlan;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodDispatcher;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
 
@@ -373,19 +376,37 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         return resourceClass;
     }
 
+    /**
+     * Get the compiled argument resolution plan of the invoked resource method.
+     *
+     * @return argument resolution plan, or {@code null} if the resource method dispatcher does not use a plan.
+     * @since 2.45
+     */
+    public ParameterValuePlan getParameterValuePlan() {
+        return dispatcher.getParameterValuePlan();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public ContainerResponse apply(final RequestProcessingContext processingContext) {
         final ContainerRequest request = processingContext.request();
         final Object resource = processingContext.routingContext().peekMatchedResource();
 
-        if (method.isSuspendDeclared() || method.isManagedAsyncDeclared() || method.isSse()) {
+        // synchronous methods of requests processed on a non-blocking thread are invoked in the blocking executor
+        final Executor blockingExecutor = method.isSuspendDeclared() || method.isManagedAsyncDeclared() || method.isSse()
+                || isCompletionStageResponseType
+                ? null : (Executor) request.getProperty(InternalServerProperties.BLOCKING_INVOCATION_EXECUTOR);
+
+        if (method.isSuspendDeclared() || method.isManagedAsyncDeclared() || method.isSse() || blockingExecutor != null) {
             if (!processingContext.asyncContext().suspend()) {
                 throw new ProcessingException(LocalizationMessages.ERROR_SUSPENDING_ASYNC_REQUEST());
             }
         }
 
-        if (method.isManagedAsyncDeclared()) {
+        if (blockingExecutor != null) {
+            processingContext.asyncContext().invokeManaged(blockingExecutor, () -> invoke(processingContext, resource));
+            return null; // return null on current thread
+        } else if (method.isManagedAsyncDeclared()) {
             processingContext.asyncContext().invokeManaged(() -> {
                 final Response response = invoke(processingContext, resource);
                 if (method.isSuspendDeclared()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,7 +21,6 @@ import java.io.IOException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.List;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.GenericEntity;
@@ -32,8 +31,8 @@ import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.model.Parameter;
-import org.glassfish.jersey.server.spi.internal.ParamValueFactoryWithSource;
 import org.glassfish.jersey.server.spi.internal.ParameterValueHelper;
+import org.glassfish.jersey.server.spi.internal.ParameterValuePlan;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodDispatcher;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
@@ -56,21 +55,21 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
     public ResourceMethodDispatcher create(final Invocable resourceMethod,
             final InvocationHandler invocationHandler,
             final ConfiguredValidator validator) {
-        final List<ParamValueFactoryWithSource<?>> valueProviders =
-                ParameterValueHelper.createValueProviders(allValueProviders, resourceMethod);
+        final ParameterValuePlan parameterValuePlan =
+                ParameterValueHelper.createParameterValuePlan(allValueProviders, resourceMethod);
         final Class<?> returnType = resourceMethod.getHandlingMethod().getReturnType();
 
         ResourceMethodDispatcher resourceMethodDispatcher = null;
         if (Response.class.isAssignableFrom(returnType)) {
             resourceMethodDispatcher =
-                    new ResponseOutInvoker(resourceMethod, invocationHandler, valueProviders, validator);
+                    new ResponseOutInvoker(resourceMethod, invocationHandler, parameterValuePlan, validator);
         } else if (returnType != void.class) {
             if (returnType == Object.class || GenericEntity.class.isAssignableFrom(returnType)) {
                 resourceMethodDispatcher =
-                        new ObjectOutInvoker(resourceMethod, invocationHandler, valueProviders, validator);
+                        new ObjectOutInvoker(resourceMethod, invocationHandler, parameterValuePlan, validator);
             } else {
                 resourceMethodDispatcher =
-                        new TypeOutInvoker(resourceMethod, invocationHandler, valueProviders, validator);
+                        new TypeOutInvoker(resourceMethod, invocationHandler, parameterValuePlan, validator);
             }
         } else {
             // return type is void
@@ -78,14 +77,14 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
             for (final Parameter parameter : resourceMethod.getParameters()) {
                 if (SseTypeResolver.isSseSinkParam(parameter.getRawType())) {
                     resourceMethodDispatcher =
-                            new SseEventSinkInvoker(resourceMethod, invocationHandler, valueProviders, validator, i);
+                            new SseEventSinkInvoker(resourceMethod, invocationHandler, parameterValuePlan, validator, i);
                     break;
                 }
                 i++;
             }
 
             if (resourceMethodDispatcher == null) {
-                resourceMethodDispatcher = new VoidOutInvoker(resourceMethod, invocationHandler, valueProviders, validator);
+                resourceMethodDispatcher = new VoidOutInvoker(resourceMethod, invocationHandler, parameterValuePlan, validator);
             }
         }
 
@@ -94,19 +93,24 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
 
     private abstract static class AbstractMethodParamInvoker extends AbstractJavaResourceMethodDispatcher {
 
-        private final List<ParamValueFactoryWithSource<?>> valueProviders;
+        private final ParameterValuePlan parameterValuePlan;
 
         AbstractMethodParamInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator) {
             super(resourceMethod, handler, validator);
-            this.valueProviders = valueProviders;
+            this.parameterValuePlan = parameterValuePlan;
         }
 
         final Object[] getParamValues(ContainerRequest request) {
-            return ParameterValueHelper.getParameterValues(valueProviders, request);
+            return parameterValuePlan.resolve(request);
+        }
+
+        @Override
+        public ParameterValuePlan getParameterValuePlan() {
+            return parameterValuePlan;
         }
     }
 
@@ -117,10 +121,10 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
         SseEventSinkInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator,
                 final int parameterIndex) {
-            super(resourceMethod, handler, valueProviders, validator);
+            super(resourceMethod, handler, parameterValuePlan, validator);
             this.parameterIndex = parameterIndex;
         }
 
@@ -149,9 +153,9 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
         VoidOutInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator) {
-            super(resourceMethod, handler, valueProviders, validator);
+            super(resourceMethod, handler, parameterValuePlan, validator);
         }
 
         @Override
@@ -166,9 +170,9 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
         ResponseOutInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator) {
-            super(resourceMethod, handler, valueProviders, validator);
+            super(resourceMethod, handler, parameterValuePlan, validator);
         }
 
         @Override
@@ -182,9 +186,9 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
         ObjectOutInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator) {
-            super(resourceMethod, handler, valueProviders, validator);
+            super(resourceMethod, handler, parameterValuePlan, validator);
         }
 
         @Override
@@ -208,9 +212,9 @@ class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.P
         TypeOutInvoker(
                 final Invocable resourceMethod,
                 final InvocationHandler handler,
-                final List<ParamValueFactoryWithSource<?>> valueProviders,
+                final ParameterValuePlan parameterValuePlan,
                 final ConfiguredValidator validator) {
-            super(resourceMethod, handler, valueProviders, validator);
+            super(resourceMethod, handler, parameterValuePlan, validator);
             this.t = resourceMethod.getHandlingMethod().getGenericReturnType();
         }
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
+
+/**
+ * Resource method invocation handler provider that invokes the resource methods using {@link MethodHandle method handles}
+ * created once per {@link Invocable invocable} instead of {@link Method#invoke(Object, Object...) reflective calls}.
+ * <p>
+ * Returns {@code null} (i.e. lets the caller fall back to the reflective invocation) for methods that are not
+ * accessible via a method handle lookup.
+ * </p>
+ *
+ * @see org.glassfish.jersey.server.ServerProperties#RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED
+ */
+final class MethodHandleInvocationHandlerProvider implements ResourceMethodInvocationHandlerProvider {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInvocationHandlerProvider.class.getName());
+
+    @Override
+    public InvocationHandler create(final Invocable invocable) {
+        final Method method = AbstractJavaResourceMethodDispatcher.getPublic(
+                invocable.getHandlingMethod(), invocable.getDefinitionMethod());
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        try {
+            final MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.genericMethodType(1 + method.getParameterCount()))
+                    .asSpreader(Object[].class, method.getParameterCount());
+
+            return new MethodHandleInvocationHandler(method, handle);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINE, e, () -> "Method handle cannot be created for " + method + ", using reflection.");
+            return null;
+        }
+    }
+
+    /**
+     * Invocation handler bound to a single resource method.
+     */
+    private static final class MethodHandleInvocationHandler implements InvocationHandler {
+
+        private static final Object[] NO_ARGS = new Object[0];
+
+        private final Method method;
+        private final MethodHandle handle;
+        /**
+         * Parameter types of the method, primitive types are replaced by their wrappers.
+         */
+        private final Class<?>[] parameterTypes;
+        private final boolean[] primitive;
+
+        private MethodHandleInvocationHandler(final Method method, final MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+
+            final Class<?>[] types = method.getParameterTypes();
+            this.parameterTypes = new Class<?>[types.length];
+            this.primitive = new boolean[types.length];
+            for (int i = 0; i < types.length; i++) {
+                primitive[i] = types[i].isPrimitive();
+                parameterTypes[i] = primitive[i] ? MethodType.methodType(types[i]).wrap().returnType() : types[i];
+            }
+        }
+
+        @Override
+        public Object invoke(final Object target, final Method invoked, final Object[] args) throws Throwable {
+            if (invoked != method) {
+                return invoked.invoke(target, args);
+            }
+
+            final Object[] arguments = args == null ? NO_ARGS : args;
+            if (target == null || !method.getDeclaringClass().isInstance(target) || !isAdaptable(arguments)) {
+                // keep the reflection semantics (IllegalArgumentException, widening conversions) for such invocations
+                return invoked.invoke(target, args);
+            }
+
+            try {
+                return (Object) handle.invokeExact(target, arguments);
+            } catch (final Throwable t) {
+                // the arguments have been checked, the exception has been thrown by the resource method
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * Check that the arguments can be passed to the method handle without a conversion failure, i.e. that no
+         * {@code null} is passed to a primitive parameter and that each argument is an instance of the parameter type.
+         */
+        private boolean isAdaptable(final Object[] arguments) {
+            if (arguments.length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                final Object argument = arguments[i];
+                if (argument == null ? primitive[i] : !parameterTypes[i].isInstance(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,7 @@ import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
@@ -43,6 +44,11 @@ import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerP
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
  * in such case a default invocation handler provided by the factory is returned.
+ * <p />
+ * If the {@link ServerProperties#RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED method handle invocation}
+ * is enabled, the default invocation handler invokes the resource method via a {@link java.lang.invoke.MethodHandle
+ * method handle} created once per resource method, falling back to reflection for methods that cannot be
+ * accessed by a method handle.
  *
  * @author Marek Potociar
  */
@@ -52,10 +58,16 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     private static final InvocationHandler DEFAULT_HANDLER = (target, method, args) -> method.invoke(target, args);
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final LazyValue<Set<ResourceMethodInvocationHandlerProvider>> providers;
+    private final ResourceMethodInvocationHandlerProvider methodHandleProvider;
 
     ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager) {
+        this(injectionManager, false);
+    }
+
+    ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, boolean methodHandleInvocation) {
         this.providers = Values.lazy((Value<Set<ResourceMethodInvocationHandlerProvider>>)
                 () -> Providers.getProviders(injectionManager, ResourceMethodInvocationHandlerProvider.class));
+        this.methodHandleProvider = methodHandleInvocation ? new MethodHandleInvocationHandlerProvider() : null;
     }
 
     // ResourceMethodInvocationHandlerProvider
@@ -74,6 +86,13 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (methodHandleProvider != null) {
+            final InvocationHandler handler = methodHandleProvider.create(resourceMethod);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
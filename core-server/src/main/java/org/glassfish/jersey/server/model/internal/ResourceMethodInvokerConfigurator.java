@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.server.ServerBootstrapBag;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodDispatcher;
@@ -49,7 +50,9 @@ public class ResourceMethodInvokerConfigurator implements BootstrapConfigurator
         ResourceMethodInvoker.Builder builder = new ResourceMethodInvoker.Builder()
                 .injectionManager(injectionManager)
                 .resourceMethodDispatcherFactory(new ResourceMethodDispatcherFactory(providers))
-                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager))
+                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager,
+                        ServerProperties.getValue(bootstrapBag.getConfiguration().getProperties(),
+                                ServerProperties.RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED, Boolean.FALSE, Boolean.class)))
                 .configuration(bootstrapBag.getConfiguration())
                 .configurationValidator(() -> injectionManager.getInstance(ConfiguredValidator.class));
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.server.monitoring;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.glassfish.jersey.server.ResourceConfig;
@@ -134,4 +137,22 @@ public interface ApplicationEvent {
      */
     public ResourceModel getResourceModel();
 
+    /**
+     * Get the durations of the phases of the application initialization, in the order in which the phases have been
+     * executed. The phases are {@code configuration} (features and binders), {@code introspection} (resource classes),
+     * {@code model} (model processors and the resource model), {@code registration} (injection bindings),
+     * {@code providers} (instantiation of singleton providers, only if the
+     * {@link org.glassfish.jersey.server.ServerProperties#INITIALIZATION_PARALLEL parallel initialization} is enabled),
+     * {@code validation} (resource model validation), {@code runtime} (request processing chain) and {@code warmup}
+     * (message body worker lookups, only if {@link org.glassfish.jersey.server.ServerProperties#PROVIDER_WARMUP enabled}).
+     * <p/>
+     * The method returns an empty map for the {@link Type#INITIALIZATION_START} event type as the initialization is not
+     * finished yet.
+     *
+     * @return Initialization phase durations keyed by the phase name.
+     * @since 2.45
+     */
+    public default Map<String, Duration> getInitializationPhases() {
+        return Collections.emptyMap();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -80,4 +80,39 @@ public interface ApplicationMXBean {
      *      of returned classes.
      */
     public Set<String> getProviderClasses();
+
+    /**
+     * Get the number of request events that have been dropped instead of being processed into monitoring statistics
+     * because the monitoring event queue was full.
+     *
+     * @return Number of dropped monitoring events.
+     * @since 2.45
+     */
+    public long getMonitoringDroppedEvents();
+
+    /**
+     * Get the number of request events that have not been processed into monitoring statistics because of the
+     * {@link org.glassfish.jersey.server.ServerProperties#MONITORING_STATISTICS_OVERFLOW_POLICY sampling} of a filling
+     * monitoring event queue.
+     *
+     * @return Number of sampled out monitoring events.
+     * @since 2.45
+     */
+    public long getMonitoringSampledOutEvents();
+
+    /**
+     * Get the number of request events waiting to be processed into monitoring statistics.
+     *
+     * @return Number of pending monitoring events.
+     * @since 2.45
+     */
+    public long getMonitoringPendingEvents();
+
+    /**
+     * Get the time elapsed since the monitoring events have been processed for the last time.
+     *
+     * @return Monitoring processing lag in milliseconds.
+     * @since 2.45
+     */
+    public long getMonitoringLag();
 }
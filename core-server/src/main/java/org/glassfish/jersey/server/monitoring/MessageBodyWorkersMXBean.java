@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * MXBean interface of the message body workers MXBean. The MXBean exposes the statistics of the caches of the
+ * {@link javax.ws.rs.ext.MessageBodyReader message body reader} and {@link javax.ws.rs.ext.MessageBodyWriter message body
+ * writer} lookups, see {@link org.glassfish.jersey.message.MessageProperties#WORKERS_LOOKUP_CACHE_SIZE}.
+ *
+ * @since 2.45
+ */
+public interface MessageBodyWorkersMXBean {
+
+    /**
+     * Get the number of the cached message body reader lookups.
+     *
+     * @return Reader lookup cache size.
+     */
+    public int getReaderLookupCacheSize();
+
+    /**
+     * Get the maximum number of the cached message body reader lookups.
+     *
+     * @return Maximum reader lookup cache size.
+     */
+    public int getReaderLookupCacheMaximumSize();
+
+    /**
+     * Get the number of the message body reader lookups served from the cache since the start of the application.
+     *
+     * @return Reader lookup cache hit count.
+     */
+    public long getReaderLookupCacheHitCount();
+
+    /**
+     * Get the number of the message body reader lookups not found in the cache since the start of the application.
+     *
+     * @return Reader lookup cache miss count.
+     */
+    public long getReaderLookupCacheMissCount();
+
+    /**
+     * Get the number of the message body reader lookups evicted from the cache since the start of the application.
+     *
+     * @return Reader lookup cache eviction count.
+     */
+    public long getReaderLookupCacheEvictionCount();
+
+    /**
+     * Get the number of the cached message body writer lookups.
+     *
+     * @return Writer lookup cache size.
+     */
+    public int getWriterLookupCacheSize();
+
+    /**
+     * Get the maximum number of the cached message body writer lookups.
+     *
+     * @return Maximum writer lookup cache size.
+     */
+    public int getWriterLookupCacheMaximumSize();
+
+    /**
+     * Get the number of the message body writer lookups served from the cache since the start of the application.
+     *
+     * @return Writer lookup cache hit count.
+     */
+    public long getWriterLookupCacheHitCount();
+
+    /**
+     * Get the number of the message body writer lookups not found in the cache since the start of the application.
+     *
+     * @return Writer lookup cache miss count.
+     */
+    public long getWriterLookupCacheMissCount();
+
+    /**
+     * Get the number of the message body writer lookups evicted from the cache since the start of the application.
+     *
+     * @return Writer lookup cache eviction count.
+     */
+    public long getWriterLookupCacheEvictionCount();
+}
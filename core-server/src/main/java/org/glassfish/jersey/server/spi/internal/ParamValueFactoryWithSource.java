@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,6 +50,15 @@ public final class ParamValueFactoryWithSource<T> implements Function<ContainerR
         return parameterFunction.apply(request);
     }
 
+    /**
+     * Get the wrapped param supplier.
+     *
+     * @return wrapped param supplier.
+     */
+    Function<ContainerRequest, T> getFunction() {
+        return parameterFunction;
+    }
+
     /**
      * Returns {@link org.glassfish.jersey.server.model.Parameter.Source}
      * which closely determines a function of the current supplier.
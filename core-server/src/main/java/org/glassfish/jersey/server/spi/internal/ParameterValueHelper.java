@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -69,19 +69,29 @@ public final class ParameterValueHelper {
             }
 
             return params;
-        } catch (WebApplicationException e) {
-            throw e;
-        } catch (MessageBodyProviderNotFoundException e) {
-            throw new NotSupportedException(e);
-        } catch (ProcessingException e) {
-            throw e;
         } catch (RuntimeException e) {
-            if (e.getCause() instanceof WebApplicationException) {
-                throw (WebApplicationException) e.getCause();
-            }
+            throw translate(e);
+        }
+    }
 
-            throw new MappableException("Exception obtaining parameters", e);
+    /**
+     * Translate an exception thrown while obtaining the parameter values.
+     *
+     * @param e exception thrown by a value provider.
+     * @return exception to be thrown instead.
+     */
+    static RuntimeException translate(final RuntimeException e) {
+        if (e instanceof WebApplicationException) {
+            return e;
+        } else if (e instanceof MessageBodyProviderNotFoundException) {
+            return new NotSupportedException(e);
+        } else if (e instanceof ProcessingException) {
+            return e;
+        } else if (e.getCause() instanceof WebApplicationException) {
+            return (WebApplicationException) e.getCause();
         }
+
+        return new MappableException("Exception obtaining parameters", e);
     }
 
     /**
@@ -135,6 +145,20 @@ public final class ParameterValueHelper {
         return providers;
     }
 
+    /**
+     * Create the compiled argument resolution plan for the given {@link Parameterized parameterized} resource model
+     * component.
+     *
+     * @param valueSuppliers all registered value suppliers.
+     * @param parameterized  parameterized resource model component.
+     * @return argument resolution plan for the parameterized component.
+     * @since 2.45
+     */
+    public static ParameterValuePlan createParameterValuePlan(Collection<ValueParamProvider> valueSuppliers,
+            Parameterized parameterized) {
+        return ParameterValuePlan.create(createValueProviders(valueSuppliers, parameterized));
+    }
+
     private static <T> ParamValueFactoryWithSource<T> wrapParamValueProvider(
             Function<ContainerRequest, T> factory, Parameter.Source paramSource) {
         return new ParamValueFactoryWithSource<>(factory, paramSource);
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.spi.internal;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.model.Parameter;
+
+/**
+ * Argument resolution plan of an {@link org.glassfish.jersey.server.model.Invocable invocable} resource model component.
+ * <p>
+ * The plan is compiled once, when the resource method dispatcher is created, from the
+ * {@link ParameterValueHelper#createValueProviders(java.util.Collection, org.glassfish.jersey.server.model.Parameterized)
+ * value providers} of the parameters. The value providers, with the bound parameter extractors, parameter converters and
+ * converted default values, are unwrapped into a flat array ordered the way the arguments have to be resolved (the entity
+ * parameter is always resolved last, see JERSEY-2642), so {@link #resolve(ContainerRequest) resolving} the arguments of a
+ * request is a single loop over the array, without iterating the provider list and checking the parameter sources.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @since 2.45
+ */
+public final class ParameterValuePlan {
+
+    private static final Function<ContainerRequest, ?>[] NO_RESOLVERS = newResolvers(0);
+
+    /**
+     * Plan of a component without parameters.
+     */
+    public static final ParameterValuePlan EMPTY = new ParameterValuePlan(NO_RESOLVERS, new int[0], new Parameter.Source[0]);
+
+    /**
+     * Value resolvers in the resolution order.
+     */
+    private final Function<ContainerRequest, ?>[] resolvers;
+    /**
+     * Argument position of the value provided by the resolver at the same index.
+     */
+    private final int[] positions;
+    /**
+     * Parameter sources by argument position.
+     */
+    private final Parameter.Source[] sources;
+
+    private ParameterValuePlan(final Function<ContainerRequest, ?>[] resolvers,
+                               final int[] positions,
+                               final Parameter.Source[] sources) {
+        this.resolvers = resolvers;
+        this.positions = positions;
+        this.sources = sources;
+    }
+
+    /**
+     * Compile the argument resolution plan for the given parameter value providers.
+     *
+     * @param valueProviders parameter value providers, in the order of the parameters.
+     * @return compiled argument resolution plan.
+     */
+    public static ParameterValuePlan create(final List<ParamValueFactoryWithSource<?>> valueProviders) {
+        final int size = valueProviders.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        final Function<ContainerRequest, ?>[] resolvers = newResolvers(size);
+        final int[] positions = new int[size];
+        final Parameter.Source[] sources = new Parameter.Source[size];
+
+        int entityPosition = -1;
+        int index = 0;
+        for (int position = 0; position < size; position++) {
+            final ParamValueFactoryWithSource<?> valueProvider = valueProviders.get(position);
+            sources[position] = valueProvider == null ? null : valueProvider.getSource();
+            if (sources[position] == Parameter.Source.ENTITY) {
+                // entity provider has to be called last; see JERSEY-2642
+                entityPosition = position;
+                continue;
+            }
+            resolvers[index] = unwrap(valueProvider);
+            positions[index++] = position;
+        }
+        if (entityPosition != -1) {
+            resolvers[index] = unwrap(valueProviders.get(entityPosition));
+            positions[index] = entityPosition;
+        }
+
+        return new ParameterValuePlan(resolvers, positions, sources);
+    }
+
+    /**
+     * Resolve the argument values for the request.
+     * <p>
+     * Exceptions thrown by the value providers are translated the same way as by
+     * {@link ParameterValueHelper#getParameterValues(List, ContainerRequest)}.
+     * </p>
+     *
+     * @param request container request.
+     * @return argument values.
+     */
+    public Object[] resolve(final ContainerRequest request) {
+        final Object[] arguments = new Object[sources.length];
+        try {
+            for (int i = 0; i < resolvers.length; i++) {
+                arguments[positions[i]] = resolvers[i].apply(request);
+            }
+            return arguments;
+        } catch (RuntimeException e) {
+            throw ParameterValueHelper.translate(e);
+        }
+    }
+
+    /**
+     * Get the number of the resolved arguments.
+     *
+     * @return number of arguments.
+     */
+    public int size() {
+        return sources.length;
+    }
+
+    /**
+     * Get the source of the argument at the given position.
+     *
+     * @param position argument position.
+     * @return source of the argument, or {@code null} if there is no value provider for the argument.
+     */
+    public Parameter.Source getSource(final int position) {
+        return sources[position];
+    }
+
+    private static Function<ContainerRequest, ?> unwrap(final ParamValueFactoryWithSource<?> valueProvider) {
+        return valueProvider == null ? null : valueProvider.getFunction();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<ContainerRequest, ?>[] newResolvers(final int size) {
+        return new Function[size];
+    }
+}
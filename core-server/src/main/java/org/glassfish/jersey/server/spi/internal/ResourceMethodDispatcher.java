@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -115,4 +115,15 @@ public interface ResourceMethodDispatcher {
      *                             container exception that will be handled by the Jersey server container.
      */
     public Response dispatch(final Object resource, final ContainerRequest request) throws ProcessingException;
+
+    /**
+     * Get the compiled argument resolution plan used by the dispatcher to compute the input parameter values
+     * of the Java resource method.
+     *
+     * @return argument resolution plan, or {@code null} if the dispatcher does not resolve the arguments using a plan.
+     * @since 2.45
+     */
+    public default ParameterValuePlan getParameterValuePlan() {
+        return null;
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EntityProvidersWarmUp} and {@link ServerProperties#PROVIDER_WARMUP}.
+ */
+public class EntityProvidersWarmUpTest {
+
+    private static final AtomicInteger READABLE = new AtomicInteger();
+    private static final AtomicInteger WRITEABLE = new AtomicInteger();
+
+    public static class Note {
+
+        private final String text;
+
+        public Note(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Path("notes")
+    public static class NoteResource {
+
+        @GET
+        @Produces("text/note")
+        public Note get() {
+            return new Note("get");
+        }
+
+        @POST
+        @Consumes("text/note")
+        @Produces("text/note")
+        public Note post(final Note note) {
+            return new Note("posted " + note.text);
+        }
+
+        @Path("response")
+        @GET
+        public Response response() {
+            return Response.ok("response").build();
+        }
+    }
+
+    @Consumes("text/note")
+    @Produces("text/note")
+    public static class NoteProvider implements MessageBodyReader<Note>, MessageBodyWriter<Note> {
+
+        @Override
+        public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                  final MediaType mediaType) {
+            READABLE.incrementAndGet();
+            return type == Note.class;
+        }
+
+        @Override
+        public Note readFrom(final Class<Note> type, final Type genericType, final Annotation[] annotations,
+                             final MediaType mediaType, final MultivaluedMap<String, String> httpHeaders,
+                             final InputStream entityStream) throws IOException {
+            final byte[] bytes = new byte[64];
+            final int read = entityStream.read(bytes);
+            return new Note(new String(bytes, 0, Math.max(read, 0), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            WRITEABLE.incrementAndGet();
+            return type == Note.class;
+        }
+
+        @Override
+        public void writeTo(final Note note, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            entityStream.write(note.text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Writer which cannot be used outside of a request.
+     */
+    @Produces("text/note")
+    public static class FailingProvider implements MessageBodyWriter<Note> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            throw new IllegalStateException("Not within a request scope.");
+        }
+
+        @Override
+        public void writeTo(final Note note, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) {
+        }
+    }
+
+    public static class InitListener implements ApplicationEventListener {
+
+        private ApplicationEvent initFinished;
+
+        @Override
+        public void onEvent(final ApplicationEvent event) {
+            if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
+                initFinished = event;
+            }
+        }
+
+        @Override
+        public RequestEventListener onRequest(final RequestEvent requestEvent) {
+            return null;
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        READABLE.set(0);
+        WRITEABLE.set(0);
+    }
+
+    @Test
+    public void testLookupsPerformedAtStartup() throws Exception {
+        final InitListener listener = new InitListener();
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(NoteResource.class, NoteProvider.class)
+                .property(ServerProperties.PROVIDER_WARMUP, true)
+                .register(listener));
+
+        assertTrue(READABLE.get() > 0);
+        assertTrue(WRITEABLE.get() > 0);
+        assertTrue(listener.initFinished.getInitializationPhases().containsKey("warmup"));
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/notes", "POST")
+                .type("text/note").entity(new ByteArrayInputStream("note".getBytes(StandardCharsets.UTF_8))).build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals("posted note", ((Note) response.getEntity()).text);
+    }
+
+    @Test
+    public void testWarmUpDisabledByDefault() {
+        final InitListener listener = new InitListener();
+        new ApplicationHandler(new ResourceConfig(NoteResource.class, NoteProvider.class).register(listener));
+
+        assertEquals(0, READABLE.get());
+        assertFalse(listener.initFinished.getInitializationPhases().containsKey("warmup"));
+    }
+
+    @Test
+    public void testFailingProviderIgnored() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(NoteResource.class, FailingProvider.class)
+                .property(ServerProperties.PROVIDER_WARMUP, true));
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/notes/response", "GET").build()).get();
+        assertEquals("response", response.getEntity());
+    }
+}
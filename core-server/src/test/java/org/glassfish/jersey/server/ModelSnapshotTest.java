@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Properties;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.model.ModelValidationException;
+import org.glassfish.jersey.server.model.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ModelSnapshot} and {@link ServerProperties#RESOURCE_MODEL_SNAPSHOT}.
+ */
+public class ModelSnapshotTest {
+
+    private static final String MARKER = "# marker";
+
+    @TempDir
+    Path tempDir;
+
+    @javax.ws.rs.Path("snapshot")
+    public static class SnapshotResource {
+
+        @GET
+        public String get() {
+            return "snapshot";
+        }
+
+        @javax.ws.rs.Path("child")
+        @GET
+        public String child() {
+            return "child";
+        }
+    }
+
+    @javax.ws.rs.Path("other")
+    public static class OtherResource {
+
+        @GET
+        public String get() {
+            return "other";
+        }
+    }
+
+    @javax.ws.rs.Path("ambiguous")
+    public static class AmbiguousResource {
+
+        @GET
+        public String first() {
+            return "first";
+        }
+
+        @GET
+        public String second() {
+            return "second";
+        }
+    }
+
+    public static class FirstConverterProvider implements ParamConverterProvider {
+
+        @Override
+        public <T> ParamConverter<T> getConverter(final Class<T> rawType,
+                                                  final Type genericType,
+                                                  final Annotation[] annotations) {
+            return null;
+        }
+    }
+
+    public static class SecondConverterProvider extends FirstConverterProvider {
+    }
+
+    /**
+     * Binds a provider the way the auto-discovered and service-loaded providers are bound, without the provider class being
+     * registered in the application.
+     */
+    public static class ConverterBinder extends AbstractBinder {
+
+        private final Class<? extends ParamConverterProvider> provider;
+
+        public ConverterBinder(final Class<? extends ParamConverterProvider> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        protected void configure() {
+            bind(provider).to(ParamConverterProvider.class).in(Singleton.class);
+        }
+    }
+
+    private ResourceConfig converterConfig(final Path snapshot, final Class<? extends ParamConverterProvider> provider) {
+        return config(snapshot, SnapshotResource.class).register(new ConverterBinder(provider));
+    }
+
+    private ResourceConfig config(final Path snapshot, final Class<?>... classes) {
+        return new ResourceConfig(classes).property(ServerProperties.RESOURCE_MODEL_SNAPSHOT, snapshot.toString());
+    }
+
+    private static Properties load(final Path snapshot) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(snapshot)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    /**
+     * Mark the snapshot file, a current snapshot is not rewritten by the next start of the application.
+     */
+    private static void mark(final Path snapshot) throws IOException {
+        Files.write(snapshot, Collections.singletonList(MARKER), StandardOpenOption.APPEND);
+    }
+
+    private static boolean isMarked(final Path snapshot) throws IOException {
+        return Files.readAllLines(snapshot).contains(MARKER);
+    }
+
+    @Test
+    public void testSnapshotStoredAndReused() throws Exception {
+        final Path snapshot = tempDir.resolve("model").resolve("snapshot.properties");
+
+        new ApplicationHandler(config(snapshot, SnapshotResource.class));
+        assertTrue(Files.isRegularFile(snapshot));
+        final Properties properties = load(snapshot);
+        assertEquals("/snapshot GET", properties.getProperty("resource.0"));
+        assertEquals("/snapshot/child GET", properties.getProperty("resource.1"));
+        mark(snapshot);
+
+        final ApplicationHandler handler = new ApplicationHandler(config(snapshot, SnapshotResource.class));
+        assertTrue(isMarked(snapshot));
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/snapshot/child", "GET").build()).get();
+        assertEquals("child", response.getEntity());
+    }
+
+    @Test
+    public void testSnapshotInvalidatedByChanges() throws Exception {
+        final Path snapshot = tempDir.resolve("snapshot.properties");
+        new ApplicationHandler(config(snapshot, SnapshotResource.class));
+        final String checksum = load(snapshot).getProperty("checksum");
+
+        mark(snapshot);
+        new ApplicationHandler(config(snapshot, SnapshotResource.class, OtherResource.class));
+        assertFalse(isMarked(snapshot));
+        assertEquals("/other GET", load(snapshot).getProperty("resource.0"));
+
+        mark(snapshot);
+        new ApplicationHandler(config(snapshot, SnapshotResource.class).property("custom", "value"));
+        assertFalse(isMarked(snapshot));
+
+        final Resource.Builder programmatic = Resource.builder("programmatic");
+        programmatic.addMethod("GET").handledBy(context -> Response.ok().build());
+        new ApplicationHandler(config(snapshot, SnapshotResource.class).registerResources(programmatic.build()));
+        assertEquals("/programmatic GET", load(snapshot).getProperty("resource.0"));
+
+        new ApplicationHandler(config(snapshot, SnapshotResource.class));
+        assertEquals(checksum, load(snapshot).getProperty("checksum"));
+    }
+
+    @Test
+    public void testSnapshotInvalidatedByResolvedProviders() throws Exception {
+        final Path snapshot = tempDir.resolve("snapshot.properties");
+        new ApplicationHandler(converterConfig(snapshot, FirstConverterProvider.class));
+        final Properties properties = load(snapshot);
+
+        mark(snapshot);
+        new ApplicationHandler(converterConfig(snapshot, FirstConverterProvider.class));
+        assertTrue(isMarked(snapshot));
+
+        new ApplicationHandler(converterConfig(snapshot, SecondConverterProvider.class));
+        assertFalse(isMarked(snapshot));
+        assertEquals(properties.getProperty("checksum"), load(snapshot).getProperty("checksum"));
+        assertNotEquals(properties.getProperty("providers.checksum"), load(snapshot).getProperty("providers.checksum"));
+    }
+
+    @Test
+    public void testInvalidModelNotStored() {
+        final Path snapshot = tempDir.resolve("snapshot.properties");
+
+        assertThrows(ModelValidationException.class, () -> new ApplicationHandler(config(snapshot, AmbiguousResource.class)));
+        assertFalse(Files.exists(snapshot));
+
+        new ApplicationHandler(config(snapshot, AmbiguousResource.class)
+                .property(ServerProperties.RESOURCE_VALIDATION_IGNORE_ERRORS, true));
+        assertFalse(Files.exists(snapshot));
+
+        new ApplicationHandler(config(snapshot, SnapshotResource.class)
+                .property(ServerProperties.RESOURCE_VALIDATION_DISABLE, true));
+        assertFalse(Files.exists(snapshot));
+    }
+}
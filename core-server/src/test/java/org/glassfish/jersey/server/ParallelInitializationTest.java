@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.internal.Errors;
+import org.glassfish.jersey.server.internal.ParallelInitializer;
+import org.glassfish.jersey.server.model.ModelValidationException;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModelIssue;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ServerProperties#INITIALIZATION_PARALLEL} and {@link ParallelInitializer}.
+ */
+public class ParallelInitializationTest {
+
+    @Path("a")
+    public static class ResourceA {
+
+        @GET
+        public String get() {
+            return "a";
+        }
+    }
+
+    @Path("b")
+    public static class ResourceB {
+
+        @GET
+        public String get() {
+            return "b";
+        }
+
+        @Path("child")
+        @GET
+        public String child() {
+            return "child";
+        }
+    }
+
+    @Path("c")
+    public static class ResourceC {
+
+        @GET
+        @Produces("text/greeting")
+        public Greeting get() {
+            return new Greeting("c");
+        }
+    }
+
+    @Path("d")
+    public static class ResourceD {
+
+        @GET
+        public String get() {
+            return "d";
+        }
+    }
+
+    @Path("ambiguous")
+    public static class AmbiguousResource {
+
+        @GET
+        public String first() {
+            return "first";
+        }
+
+        @GET
+        public String second() {
+            return "second";
+        }
+    }
+
+    @Path("also-ambiguous")
+    public static class OtherAmbiguousResource {
+
+        @GET
+        public String first() {
+            return "first";
+        }
+
+        @GET
+        public String second() {
+            return "second";
+        }
+    }
+
+    public static class Greeting {
+
+        private final String name;
+
+        public Greeting(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Produces("text/greeting")
+    public static class GreetingWriter implements MessageBodyWriter<Greeting> {
+
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public GreetingWriter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Greeting.class;
+        }
+
+        @Override
+        public void writeTo(final Greeting greeting, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            entityStream.write(("hello " + greeting.name).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public static class InitListener implements ApplicationEventListener {
+
+        private ApplicationEvent initFinished;
+
+        @Override
+        public void onEvent(final ApplicationEvent event) {
+            if (event.getType() == ApplicationEvent.Type.INITIALIZATION_START) {
+                assertTrue(event.getInitializationPhases().isEmpty());
+            } else if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
+                initFinished = event;
+            }
+        }
+
+        @Override
+        public RequestEventListener onRequest(final RequestEvent requestEvent) {
+            return null;
+        }
+    }
+
+    private static ResourceConfig config(final boolean parallel, final Class<?>... classes) {
+        return new ResourceConfig(classes).property(ServerProperties.INITIALIZATION_PARALLEL, parallel);
+    }
+
+    private static List<String> paths(final ApplicationEvent event) {
+        return event.getResourceModel().getResources().stream().map(Resource::getPath).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testDeterministicModelAndPhases() throws Exception {
+        final Class<?>[] classes = {ResourceD.class, ResourceB.class, ResourceA.class, ResourceC.class, GreetingWriter.class};
+
+        final InitListener sequential = new InitListener();
+        new ApplicationHandler(config(false, classes).register(sequential));
+        final InitListener parallel = new InitListener();
+        final ApplicationHandler handler = new ApplicationHandler(config(true, classes).register(parallel));
+
+        assertEquals(paths(sequential.initFinished), paths(parallel.initFinished));
+        assertEquals(Arrays.asList("configuration", "introspection", "model", "registration", "validation", "runtime"),
+                new ArrayList<>(sequential.initFinished.getInitializationPhases().keySet()));
+        final Map<String, Duration> phases = parallel.initFinished.getInitializationPhases();
+        assertEquals(Arrays.asList("configuration", "introspection", "model", "registration", "providers", "validation",
+                "runtime"), new ArrayList<>(phases.keySet()));
+        assertFalse(phases.values().stream().anyMatch(Duration::isNegative));
+
+        assertEquals("child", handler.apply(RequestContextBuilder.from("/b/child", "GET").build()).get().getEntity());
+        assertEquals("d", handler.apply(RequestContextBuilder.from("/d", "GET").build()).get().getEntity());
+    }
+
+    @Test
+    public void testSingletonProvidersInitializedOnce() throws Exception {
+        GreetingWriter.INSTANCES.set(0);
+        final ApplicationHandler handler = new ApplicationHandler(config(true, ResourceC.class, GreetingWriter.class));
+        assertEquals(1, GreetingWriter.INSTANCES.get());
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/c", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals(1, GreetingWriter.INSTANCES.get());
+    }
+
+    @Test
+    public void testValidationIssuesPreserved() {
+        final Class<?>[] classes = {ResourceA.class, AmbiguousResource.class, ResourceB.class, OtherAmbiguousResource.class};
+
+        final ModelValidationException sequential = assertThrows(ModelValidationException.class,
+                () -> new ApplicationHandler(config(false, classes)));
+        final ModelValidationException parallel = assertThrows(ModelValidationException.class,
+                () -> new ApplicationHandler(config(true, classes)));
+
+        final List<String> messages = sequential.getIssues().stream()
+                .map(ResourceModelIssue::getMessage).collect(Collectors.toList());
+        assertFalse(messages.isEmpty());
+        assertEquals(messages, parallel.getIssues().stream().map(ResourceModelIssue::getMessage).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testErrorsTransferredInOrder() {
+        final List<Integer> items = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7);
+        try (ParallelInitializer initializer = ParallelInitializer.create(config(true))) {
+            assertTrue(initializer.isParallel());
+
+            final List<Errors.ErrorMessage> messages = Errors.process(() -> {
+                Errors.mark();
+                final List<Integer> results = initializer.map(items, item -> {
+                    Errors.warning(item, "warning " + item);
+                    return item * 2;
+                });
+                assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14), results);
+                final List<Errors.ErrorMessage> reported = Errors.getErrorMessages(true);
+                // do not log the test warnings
+                Errors.reset();
+                return reported;
+            });
+            assertEquals(items.stream().map(item -> "warning " + item).collect(Collectors.toList()),
+                    messages.stream().map(Errors.ErrorMessage::getMessage).collect(Collectors.toList()));
+
+            final IllegalStateException failure = new IllegalStateException("failure");
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> initializer.map(items, item -> {
+                if (item == 3) {
+                    throw failure;
+                }
+                return item;
+            })));
+        }
+    }
+}
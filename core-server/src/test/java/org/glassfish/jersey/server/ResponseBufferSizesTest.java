@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ResponseBufferSizes}.
+ */
+public class ResponseBufferSizesTest {
+
+    @Path("resource")
+    public static class TestResource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    @Test
+    public void testInitialSizeFollowsResponseSizes() {
+        final ResourceMethod method = Resource.from(TestResource.class).getResourceMethods().get(0);
+        final ResponseBufferSizes sizes = new ResponseBufferSizes();
+
+        assertEquals(0, sizes.getInitialSize(method));
+        assertEquals(0, sizes.getInitialSize(null));
+
+        sizes.record(method, 10, 8192);
+        assertEquals(512, sizes.getInitialSize(method));
+
+        sizes.record(method, 3000, 8192);
+        assertEquals(4096, sizes.getInitialSize(method));
+
+        // decays by halving
+        sizes.record(method, 10, 8192);
+        assertEquals(2048, sizes.getInitialSize(method));
+
+        // the response did not fit into the buffer
+        sizes.record(method, -1, 8192);
+        assertEquals(8192, sizes.getInitialSize(method));
+
+        sizes.record(method, 5000, 6000);
+        assertEquals(6000, sizes.getInitialSize(method));
+    }
+}
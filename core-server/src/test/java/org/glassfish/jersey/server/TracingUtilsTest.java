@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TracingUtils}.
+ */
+public class TracingUtilsTest {
+
+    @Path("resource")
+    public static class TestResource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    private static ApplicationHandler createApplication(final String output, final double samplingRate) {
+        return new ApplicationHandler(new ResourceConfig(TestResource.class)
+                .property(ServerProperties.TRACING, TracingConfig.ALL.name())
+                .property(ServerProperties.TRACING_OUTPUT, output)
+                .property(ServerProperties.TRACING_SAMPLING_RATE, samplingRate));
+    }
+
+    private static ContainerResponse get(final ApplicationHandler application, final boolean accept) throws Exception {
+        final RequestContextBuilder request = RequestContextBuilder.from("/resource", "GET");
+        if (accept) {
+            request.header(TracingLogger.HEADER_ACCEPT, "true");
+        }
+        final ContainerResponse response = application.apply(request.build()).get();
+        assertEquals(200, response.getStatus());
+        return response;
+    }
+
+    private static boolean isTraced(final ContainerResponse response) {
+        return response.getHeaders().containsKey("X-Jersey-Tracing-000");
+    }
+
+    @Test
+    public void testStructuredOutput() throws Exception {
+        final ContainerResponse response = get(createApplication("STRUCTURED", 1.0), false);
+
+        final Object start = response.getHeaders().getFirst("X-Jersey-Tracing-000");
+        assertNotNull(start);
+        assertTrue(start.toString().startsWith("START"), start.toString());
+        final String finished = response.getHeaderString(
+                String.format("X-Jersey-Tracing-%03d", response.getHeaders().keySet().stream()
+                        .filter(name -> name.startsWith("X-Jersey-Tracing-")).count() - 1));
+        assertTrue(finished.startsWith("FINISHED"), finished);
+    }
+
+    @Test
+    public void testSamplingRate() throws Exception {
+        final ApplicationHandler application = createApplication("HEADERS", 0.0);
+
+        assertFalse(isTraced(get(application, false)));
+        assertTrue(isTraced(get(application, true)));
+    }
+
+    @Test
+    public void testJfrOutput() throws Exception {
+        final ApplicationHandler application = createApplication("JFR", 1.0);
+
+        // the events are committed to the flight recorder, the headers are only written when requested
+        assertFalse(isTraced(get(application, false)));
+        assertTrue(isTraced(get(application, true)));
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.message.FileSegment;
+import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ByteRangeFilter}.
+ */
+public class ByteRangeFilterTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static File file;
+    private static File largeFile;
+
+    @BeforeAll
+    public static void createFile() throws Exception {
+        file = File.createTempFile("jersey-range", ".txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+        // larger than the response buffer
+        largeFile = File.createTempFile("jersey-range-large", ".txt");
+        final byte[] large = new byte[20000];
+        Arrays.fill(large, (byte) 'x');
+        Files.write(largeFile.toPath(), large);
+    }
+
+    @AfterAll
+    public static void deleteFile() {
+        file.delete();
+        largeFile.delete();
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("file")
+        @Produces("text/plain")
+        public Response file() {
+            return Response.ok(file).tag("v1").build();
+        }
+
+        @GET
+        @Path("large")
+        @Produces("text/plain")
+        public File large() {
+            return largeFile;
+        }
+
+        @GET
+        @Path("segment")
+        @Produces("text/plain")
+        public FileSegment segment() {
+            return new FileSegment(file, 10, 26);
+        }
+
+        @GET
+        @Path("string")
+        @Produces("text/plain")
+        public String string() {
+            return CONTENT;
+        }
+    }
+
+    /**
+     * Writer interceptor changing the entity bytes without setting {@code Content-Encoding}.
+     */
+    public static class DoublingInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+            context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+                @Override
+                public void write(final int b) throws IOException {
+                    out.write(b);
+                    out.write(b);
+                }
+            });
+            context.proceed();
+        }
+    }
+
+    private static class Result {
+        private final ContainerResponse response;
+        private final byte[] bytes;
+        private final String body;
+
+        private Result(final ContainerResponse response, final byte[] bytes) {
+            this.response = response;
+            this.bytes = bytes;
+            this.body = new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static Result get(final String path, final String... headers) throws Exception {
+        return get(new ResourceConfig(Resource.class, ByteRangeFilter.class), path, headers);
+    }
+
+    private static Result get(final ResourceConfig config, final String path, final String... headers) throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(config);
+        final RequestContextBuilder request = RequestContextBuilder.from(path, "GET");
+        for (int i = 0; i < headers.length; i += 2) {
+            request.header(headers[i], headers[i + 1]);
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ContainerResponse response = handler.apply(request.build(), output).get();
+        return new Result(response, output.toByteArray());
+    }
+
+    @Test
+    public void testParseRanges() {
+        assertRanges(ByteRangeFilter.parseRanges("bytes=0-9", 36), 0, 9);
+        assertRanges(ByteRangeFilter.parseRanges("bytes = 0-9, 30-", 36), 0, 9, 30, 35);
+        assertRanges(ByteRangeFilter.parseRanges("bytes=-5", 36), 31, 35);
+        assertRanges(ByteRangeFilter.parseRanges("bytes=-100", 36), 0, 35);
+        assertRanges(ByteRangeFilter.parseRanges("bytes=20-100", 36), 20, 35);
+        assertRanges(ByteRangeFilter.parseRanges("bytes=,5-5,", 36), 5, 5);
+        assertRanges(ByteRangeFilter.parseRanges("bytes=36-,-0", 36));
+        assertRanges(ByteRangeFilter.parseRanges("bytes=0-", 0));
+
+        assertNull(ByteRangeFilter.parseRanges("items=0-9", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=9-0", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=a-b", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=-+5", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=1", 36));
+        assertNull(ByteRangeFilter.parseRanges("bytes=0-99999999999999999999", 36));
+
+        final StringBuilder tooMany = new StringBuilder("bytes=0-0");
+        for (int i = 1; i <= ByteRangeFilter.MAX_RANGES; i++) {
+            tooMany.append(',').append(i).append('-').append(i);
+        }
+        assertNull(ByteRangeFilter.parseRanges(tooMany.toString(), 36));
+    }
+
+    private static void assertRanges(final List<long[]> ranges, final long... expected) {
+        final long[] actual = ranges.stream().flatMapToLong(Arrays::stream).toArray();
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testNoRange() throws Exception {
+        final Result result = get("/file");
+        assertEquals(200, result.response.getStatus());
+        assertEquals("bytes", result.response.getHeaderString("Accept-Ranges"));
+        assertEquals(String.valueOf(CONTENT.length()), result.response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(CONTENT, result.body);
+    }
+
+    @Test
+    public void testTransformingInterceptor() throws Exception {
+        final Result result = get(new ResourceConfig(Resource.class, DoublingInterceptor.class), "/large");
+        assertEquals(200, result.response.getStatus());
+        assertEquals(2 * largeFile.length(), result.body.length());
+        final String contentLength = result.response.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+        assertTrue(contentLength == null || contentLength.equals(String.valueOf(result.body.length())), contentLength);
+    }
+
+    @Test
+    public void testContentEncodedResponse() throws Exception {
+        final Result result = get(new ResourceConfig(Resource.class, ByteRangeFilter.class, EncodingFilter.class,
+                GZipEncoder.class), "/file", "Range", "bytes=10-19", HttpHeaders.ACCEPT_ENCODING, "gzip");
+        assertEquals(200, result.response.getStatus());
+        assertEquals("gzip", result.response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertNull(result.response.getHeaderString("Accept-Ranges"));
+        assertNull(result.response.getHeaderString("Content-Range"));
+        assertEquals(CONTENT, gunzip(result.bytes));
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return ReaderWriter.readFromAsString(input, MediaType.TEXT_PLAIN_TYPE);
+        }
+    }
+
+    @Test
+    public void testNoFileEntity() throws Exception {
+        final Result result = get("/string", "Range", "bytes=0-9");
+        assertEquals(200, result.response.getStatus());
+        assertNull(result.response.getHeaderString("Accept-Ranges"));
+        assertEquals(CONTENT, result.body);
+    }
+
+    @Test
+    public void testSingleRange() throws Exception {
+        final Result result = get("/file", "Range", "bytes=10-19");
+        assertEquals(206, result.response.getStatus());
+        assertEquals("bytes 10-19/36", result.response.getHeaderString("Content-Range"));
+        assertEquals("10", result.response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, result.response.getMediaType());
+        assertEquals("abcdefghij", result.body);
+    }
+
+    @Test
+    public void testSegmentRange() throws Exception {
+        final Result result = get("/segment", "Range", "bytes=-6");
+        assertEquals(206, result.response.getStatus());
+        assertEquals("bytes 20-25/26", result.response.getHeaderString("Content-Range"));
+        assertEquals("uvwxyz", result.body);
+    }
+
+    @Test
+    public void testMultipleRanges() throws Exception {
+        final Result result = get("/file", "Range", "bytes=0-1,-2");
+        assertEquals(206, result.response.getStatus());
+
+        final MediaType mediaType = result.response.getMediaType();
+        assertTrue(mediaType.isCompatible(new MediaType("multipart", "byteranges")));
+        final String boundary = mediaType.getParameters().get("boundary");
+        assertEquals("--" + boundary + "\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 0-1/36\r\n\r\n"
+                + "01\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 34-35/36\r\n\r\n"
+                + "yz\r\n"
+                + "--" + boundary + "--\r\n", result.body);
+    }
+
+    @Test
+    public void testRangeNotSatisfiable() throws Exception {
+        final Result result = get("/file", "Range", "bytes=100-");
+        assertEquals(416, result.response.getStatus());
+        assertEquals("bytes */36", result.response.getHeaderString("Content-Range"));
+        assertEquals("", result.body);
+    }
+
+    @Test
+    public void testInvalidRangeIgnored() throws Exception {
+        final Result result = get("/file", "Range", "bytes=5-1");
+        assertEquals(200, result.response.getStatus());
+        assertEquals(CONTENT, result.body);
+    }
+
+    @Test
+    public void testIfRange() throws Exception {
+        final Result matching = get("/file", "Range", "bytes=0-0", "If-Range", new EntityTag("v1").toString());
+        assertEquals(206, matching.response.getStatus());
+        assertEquals("0", matching.body);
+
+        final Result changed = get("/file", "Range", "bytes=0-0", "If-Range", new EntityTag("v2").toString());
+        assertEquals(200, changed.response.getStatus());
+        assertEquals(CONTENT, changed.body);
+
+        final Result weak = get("/file", "Range", "bytes=0-0", "If-Range", "W/\"v1\"");
+        assertEquals(200, weak.response.getStatus());
+
+        final Result date = get("/file", "Range", "bytes=0-0", "If-Range", "Sun, 06 Nov 1994 08:49:37 GMT");
+        assertEquals(200, date.response.getStatus());
+    }
+}
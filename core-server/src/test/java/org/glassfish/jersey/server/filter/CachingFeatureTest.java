@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link CachingFeature}.
+ */
+public class CachingFeatureTest {
+
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Path("/")
+    public static class Resource {
+
+        @Inject
+        private ResponseCache cache;
+
+        @GET
+        @Path("items/{id}")
+        @Produces({"text/plain", "application/json"})
+        @Cached(maxAge = 120)
+        public String item(@PathParam("id") final String id) {
+            return "item-" + id + "-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @POST
+        @Path("items/{id}")
+        public void update(@PathParam("id") final String id) {
+            cache.invalidate("items/" + id);
+        }
+
+        @GET
+        @Path("languages/{id}")
+        @Produces({"text/plain", "application/json"})
+        @Cached(maxAge = 120, vary = HttpHeaders.ACCEPT_LANGUAGE)
+        public String language(@PathParam("id") final String id) {
+            return "language-" + id + "-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("private")
+        @Produces("text/plain")
+        @Cached(privateCache = true)
+        public String privateItem() {
+            return "private-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("large")
+        @Produces("text/plain")
+        @Cached
+        public String large() {
+            INVOCATIONS.incrementAndGet();
+            return new String(new char[64]).replace('\0', 'x');
+        }
+
+        @GET
+        @Path("cookie")
+        @Produces("text/plain")
+        @Cached
+        public Response cookie() {
+            return Response.ok("cookie-" + INVOCATIONS.incrementAndGet()).header(HttpHeaders.SET_COOKIE, "a=b").build();
+        }
+
+        @GET
+        @Path("plain")
+        @Produces("text/plain")
+        public String plain() {
+            return "plain-" + INVOCATIONS.incrementAndGet();
+        }
+    }
+
+    private static class Result {
+        private final ContainerResponse response;
+        private final String body;
+
+        private Result(final ContainerResponse response, final String body) {
+            this.response = response;
+            this.body = body;
+        }
+    }
+
+    private ApplicationHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        INVOCATIONS.set(0);
+        handler = handler(false);
+    }
+
+    private static ApplicationHandler handler(final boolean offHeap) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .register(CachingFeature.class)
+                .property(CachingFeature.ENTRY_SIZE, 32)
+                .property(CachingFeature.OFF_HEAP, offHeap));
+    }
+
+    private static Result request(final ApplicationHandler handler, final String method, final String path,
+                                  final String... headers) throws Exception {
+        final RequestContextBuilder request = RequestContextBuilder.from(path, method);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.header(headers[i], headers[i + 1]);
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ContainerResponse response = handler.apply(request.build(), output).get();
+        return new Result(response, new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private Result get(final String path, final String... headers) throws Exception {
+        return request(handler, "GET", path, headers);
+    }
+
+    @Test
+    public void testCachedResponse() throws Exception {
+        final Result first = get("/items/1");
+        assertEquals(200, first.response.getStatus());
+        assertEquals("item-1-1", first.body);
+        final String etag = first.response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(first.response.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("max-age=120"));
+        assertEquals(HttpHeaders.ACCEPT, first.response.getHeaderString(HttpHeaders.VARY));
+        assertNotNull(first.response.getHeaderString(HttpHeaders.LAST_MODIFIED));
+
+        final Result second = get("/items/1");
+        assertEquals(200, second.response.getStatus());
+        assertEquals("item-1-1", second.body);
+        assertEquals(etag, second.response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals("text/plain", second.response.getMediaType().toString());
+        assertNotNull(second.response.getHeaderString("Age"));
+        assertEquals(1, INVOCATIONS.get());
+
+        assertEquals("item-2-2", get("/items/2").body);
+        assertEquals("item-1-1", get("/items/1").body);
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testNotModified() throws Exception {
+        final String etag = get("/items/1").response.getHeaderString(HttpHeaders.ETAG);
+
+        final Result notModified = get("/items/1", HttpHeaders.IF_NONE_MATCH, etag);
+        assertEquals(304, notModified.response.getStatus());
+        assertEquals("", notModified.body);
+        assertEquals(etag, notModified.response.getHeaderString(HttpHeaders.ETAG));
+        assertNotNull(notModified.response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+
+        assertEquals(200, get("/items/1", HttpHeaders.IF_NONE_MATCH, "\"other\"").response.getStatus());
+        assertEquals(1, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testVary() throws Exception {
+        assertEquals("item-1-1", get("/items/1", HttpHeaders.ACCEPT, "text/plain").body);
+        final Result json = get("/items/1", HttpHeaders.ACCEPT, "application/json");
+        assertEquals("item-1-2", json.body);
+        assertEquals("application/json", json.response.getMediaType().toString());
+        assertEquals("item-1-1", get("/items/1", HttpHeaders.ACCEPT, "text/plain").body);
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testNegotiatedMediaTypeVaries() throws Exception {
+        final Result plain = get("/languages/1", HttpHeaders.ACCEPT, "text/plain");
+        assertEquals("language-1-1", plain.body);
+        assertEquals(HttpHeaders.ACCEPT_LANGUAGE + ", " + HttpHeaders.ACCEPT, plain.response.getHeaderString(HttpHeaders.VARY));
+
+        final Result json = get("/languages/1", HttpHeaders.ACCEPT, "application/json");
+        assertEquals("language-1-2", json.body);
+        assertEquals("application/json", json.response.getMediaType().toString());
+
+        final Result cached = get("/languages/1", HttpHeaders.ACCEPT, "text/plain");
+        assertEquals("language-1-1", cached.body);
+        assertEquals("text/plain", cached.response.getMediaType().toString());
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        get("/items/1");
+        get("/items/2");
+        assertEquals(204, request(handler, "POST", "/items/1").response.getStatus());
+
+        assertEquals("item-1-3", get("/items/1").body);
+        assertEquals("item-2-2", get("/items/2").body);
+
+        final ResponseCache cache = handler.getInjectionManager().getInstance(ResponseCache.class);
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(2, cache.invalidate(Resource.class));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testNotCached() throws Exception {
+        final Result privateResult = get("/private");
+        assertNotNull(privateResult.response.getHeaderString(HttpHeaders.ETAG));
+        assertTrue(privateResult.response.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("private"));
+        assertEquals("private-2", get("/private").body);
+
+        get("/large");
+        assertNull(get("/large").response.getHeaderString(HttpHeaders.ETAG));
+
+        get("/cookie");
+        get("/items/1", HttpHeaders.AUTHORIZATION, "Basic dXNlcjpwYXNz");
+        get("/items/1", HttpHeaders.CACHE_CONTROL, "no-cache");
+        assertEquals("plain-8", get("/plain").body);
+        assertNull(get("/plain").response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        assertEquals("cookie-10", get("/cookie").body);
+        assertEquals("item-1-7", get("/items/1").body);
+    }
+
+    @Test
+    public void testOffHeap() throws Exception {
+        handler = handler(true);
+        final Result first = get("/items/1");
+        final Result second = get("/items/1");
+        assertEquals(first.body, second.body);
+        assertEquals(first.response.getHeaderString(HttpHeaders.ETAG), second.response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals(1, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testStoreBoundedBySize() throws Exception {
+        final ResponseCache cache = new ResponseCache(1000, 100, false);
+        final Method method = Resource.class.getMethod("toString");
+        for (int i = 0; i < 100; i++) {
+            cache.put(new ResponseCache.Key(Resource.class, method, "items/" + i, null, new String[0]),
+                    new MultivaluedHashMap<>(), new byte[100], new EntityTag("v" + i), 60);
+        }
+
+        assertTrue(cache.getSize() <= 1000, "Size: " + cache.getSize());
+        assertEquals(cache.getSize(), 100L * cache.getEntryCount());
+        assertTrue(cache.getEntryCount() > 0);
+        assertNotNull(cache.get(new ResponseCache.Key(Resource.class, method, "/items/99", null, new String[0])));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSize());
+    }
+}
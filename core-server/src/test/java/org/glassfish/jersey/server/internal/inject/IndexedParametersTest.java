@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.inject;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.uri.UriComponent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IndexedParameters}.
+ */
+public class IndexedParametersTest {
+
+    private static final String[] QUERIES = {
+            "",
+            "a=1",
+            "a=1&b=2&a=3",
+            "a=&b&=c&&d=x%20y+z",
+            "n%61me=v%C3%A9&name=w&x=1=2",
+            "&&a=1&",
+    };
+
+    @Test
+    public void testQueryMatchesUriComponent() {
+        for (final String query : QUERIES) {
+            final IndexedParameters parameters = new IndexedParameters(query, StandardCharsets.UTF_8, false);
+            for (final boolean decode : new boolean[] {true, false}) {
+                final MultivaluedMap<String, String> expected = UriComponent.decodeQuery(query, decode);
+                final MultivaluedMap<String, String> view = parameters.asMap(decode);
+
+                for (final String name : expected.keySet()) {
+                    assertEquals(expected.get(name), view.get(name), query + ": " + name);
+                    assertEquals(expected.getFirst(name), view.getFirst(name), query + ": " + name);
+                }
+                assertNull(view.get("missing"));
+                assertEquals(expected, view, query);
+            }
+        }
+    }
+
+    @Test
+    public void testGetFirstBeforeGet() {
+        for (final String query : QUERIES) {
+            for (final boolean decode : new boolean[] {true, false}) {
+                final MultivaluedMap<String, String> expected = UriComponent.decodeQuery(query, decode);
+                final MultivaluedMap<String, String> view = new IndexedParameters(query, StandardCharsets.UTF_8, false)
+                        .asMap(decode);
+
+                for (final String name : expected.keySet()) {
+                    assertEquals(expected.getFirst(name), view.getFirst(name), query + ": " + name);
+                }
+                assertNull(view.getFirst("missing"));
+            }
+        }
+    }
+
+    @Test
+    public void testFormValues() {
+        final IndexedParameters parameters = new IndexedParameters("a=x+y&n%61me=%41&flag", StandardCharsets.UTF_8, true);
+
+        final MultivaluedMap<String, String> decoded = parameters.asMap(true);
+        assertEquals("x y", decoded.getFirst("a"));
+        assertEquals("A", decoded.getFirst("name"));
+        assertTrue(decoded.containsKey("flag"));
+        assertEquals(Collections.singletonList(null), decoded.get("flag"));
+
+        // form parameter names are not decoded for @Encoded parameters
+        final MultivaluedMap<String, String> encoded = parameters.asMap(false);
+        assertEquals("x+y", encoded.getFirst("a"));
+        assertNull(encoded.get("name"));
+        assertEquals("%41", encoded.getFirst("n%61me"));
+    }
+
+    @Test
+    public void testOnlyRequestedParametersDecoded() {
+        final IndexedParameters query = new IndexedParameters("bad=%zz&good=1", StandardCharsets.UTF_8, false);
+        assertEquals("1", query.asMap(true).getFirst("good"));
+        assertThrows(IllegalArgumentException.class, () -> query.asMap(true).getFirst("bad"));
+
+        final IndexedParameters form = new IndexedParameters("bad=%zz&good=1", StandardCharsets.UTF_8, true);
+        assertEquals("1", form.asMap(true).getFirst("good"));
+        assertThrows(BadRequestException.class, () -> form.asMap(true).getFirst("bad"));
+    }
+
+    @Test
+    public void testReadOnly() {
+        final MultivaluedMap<String, String> view = new IndexedParameters("a=1", StandardCharsets.UTF_8, false).asMap(true);
+        assertThrows(UnsupportedOperationException.class, () -> view.add("a", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> view.put("a", Arrays.asList("2")));
+        assertThrows(UnsupportedOperationException.class, () -> view.get("a").add("2"));
+        assertFalse(view.isEmpty());
+    }
+
+    @Test
+    public void testQuerySharedPerRequest() {
+        final ContainerRequest request = new ContainerRequest(URI.create("http://localhost/"),
+                URI.create("http://localhost/r?a=1&b=2"), "GET", null, new MapPropertiesDelegate(), null);
+
+        final IndexedParameters parameters = IndexedParameters.query(request);
+        assertSame(parameters, IndexedParameters.query(request));
+        assertEquals("2", parameters.asMap(true).getFirst("b"));
+
+        request.setRequestUri(URI.create("http://localhost/r?b=3"));
+        final IndexedParameters changed = IndexedParameters.query(request);
+        assertNotSame(parameters, changed);
+        assertEquals("3", changed.asMap(true).getFirst("b"));
+    }
+}
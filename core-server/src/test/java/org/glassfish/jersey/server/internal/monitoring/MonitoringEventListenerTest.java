@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
+import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests of the processing of the {@link MonitoringEventListener} events into monitoring statistics.
+ */
+public class MonitoringEventListenerTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+
+        @GET
+        @Path("missing")
+        public String missing() {
+            throw new NotFoundException();
+        }
+    }
+
+    public static class StatisticsQueue implements MonitoringStatisticsListener {
+
+        private static final BlockingQueue<MonitoringStatistics> STATISTICS = new ArrayBlockingQueue<>(1000);
+
+        @Override
+        public void onStatistics(final MonitoringStatistics statistics) {
+            STATISTICS.offer(statistics);
+        }
+    }
+
+    @Test
+    public void testAggregatedResponseCodes() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class, StatisticsQueue.class)
+                .property(ServerProperties.MONITORING_STATISTICS_ENABLED, true)
+                .property(ServerProperties.MONITORING_STATISTICS_REFRESH_INTERVAL, 10)
+                .property(ServerProperties.MONITORING_STATISTICS_QUEUE_SIZE, 16)
+                .property(ServerProperties.MONITORING_STATISTICS_OVERFLOW_POLICY,
+                        ServerProperties.MONITORING_STATISTICS_OVERFLOW_POLICY_SAMPLE));
+        handler.onStartup(null);
+        try {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(200, handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get().getStatus());
+            }
+            assertEquals(404, handler.apply(RequestContextBuilder.from("/resource/missing", "GET").build()).get().getStatus());
+
+            MonitoringStatistics statistics;
+            do {
+                statistics = StatisticsQueue.STATISTICS.poll(10, TimeUnit.SECONDS);
+                assertNotNull(statistics);
+            } while (statistics.getRequestStatistics().getTimeWindowStatistics().get(0L).getRequestCount() < 6);
+
+            assertEquals(Long.valueOf(5), statistics.getResponseStatistics().getResponseCodes().get(200));
+            assertEquals(Long.valueOf(1), statistics.getResponseStatistics().getResponseCodes().get(404));
+        } finally {
+            handler.onShutdown(null);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MonitoringQueue}.
+ */
+public class MonitoringQueueTest {
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, new MonitoringQueue<>(0).capacity());
+        assertEquals(8, new MonitoringQueue<>(8).capacity());
+        assertEquals(16, new MonitoringQueue<>(9).capacity());
+    }
+
+    @Test
+    public void testFifoAndOverflow() {
+        final MonitoringQueue<Integer> queue = new MonitoringQueue<>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer(i));
+            }
+            assertFalse(queue.offer(4));
+            assertEquals(4, queue.size());
+            assertEquals(Integer.valueOf(0), queue.peek());
+            final List<Integer> snapshot = new ArrayList<>();
+            queue.iterator().forEachRemaining(snapshot::add);
+            assertEquals(4, snapshot.size());
+
+            for (int i = 0; i < 4; i++) {
+                assertEquals(Integer.valueOf(i), queue.poll());
+            }
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int events = 10_000;
+        final MonitoringQueue<Integer> queue = new MonitoringQueue<>(1024);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Integer>> dropped = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                dropped.add(executor.submit(() -> {
+                    start.await();
+                    int failed = 0;
+                    for (int i = 0; i < events; i++) {
+                        if (!queue.offer(producer * events + i)) {
+                            failed++;
+                        }
+                    }
+                    return failed;
+                }));
+            }
+
+            final Set<Integer> consumed = Collections.synchronizedSet(new HashSet<>());
+            start.countDown();
+            int droppedCount = 0;
+            for (final Future<Integer> future : dropped) {
+                while (!future.isDone()) {
+                    final Integer event = queue.poll();
+                    if (event != null) {
+                        assertTrue(consumed.add(event));
+                    }
+                }
+                droppedCount += future.get(10, TimeUnit.SECONDS);
+            }
+            Integer event;
+            while ((event = queue.poll()) != null) {
+                assertTrue(consumed.add(event));
+            }
+            assertEquals(producers * events, consumed.size() + droppedCount);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSampling() {
+        final MonitoringQueue<Integer> queue = new MonitoringQueue<>(1024);
+        for (int i = 0; i < 512; i++) {
+            assertTrue(MonitoringEventListener.sample(queue));
+            queue.offer(i);
+        }
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (MonitoringEventListener.sample(queue)) {
+                sampled++;
+            }
+        }
+        // half full queue samples every second event
+        assertTrue(sampled > 4_000 && sampled < 6_000, String.valueOf(sampled));
+
+        while (queue.offer(0)) {
+            // fill the queue up
+        }
+        // the event is queued only to be counted as dropped
+        assertTrue(MonitoringEventListener.sample(queue));
+    }
+}
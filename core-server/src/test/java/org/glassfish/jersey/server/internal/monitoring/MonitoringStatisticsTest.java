@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
 import org.glassfish.jersey.server.monitoring.ResourceStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -220,6 +222,31 @@ public class MonitoringStatisticsTest {
         }
     }
 
+    @Test
+    public void testHistogramReservoirs() {
+        final Resource.Builder resourceBuilder = Resource.builder("histogram");
+        resourceBuilder.addMethod("GET").handledBy(MyInflector.class);
+        final Resource res = resourceBuilder.build();
+        final ResourceMethod getMethod = res.getResourceMethods().get(0);
+
+        final MonitoringStatisticsImpl.Builder statBuilder =
+                new MonitoringStatisticsImpl.Builder(new ResourceModel.Builder(Collections.singletonList(res), false).build(),
+                        true);
+        final long now = System.currentTimeMillis();
+        statBuilder.addExecution("/histogram", getMethod, now, 5, now, 8);
+        statBuilder.addExecution("/histogram", getMethod, now, 15, now, 18);
+
+        final ExecutionStatistics st = statBuilder.build().getUriStatistics().get("/histogram")
+                .getResourceMethodStatistics().get(getMethod).getMethodStatistics();
+        Assertions.assertEquals(6, st.getTimeWindowStatistics().size());
+        for (final TimeWindowStatistics window : st.getTimeWindowStatistics().values()) {
+            Assertions.assertEquals(2, window.getRequestCount());
+            Assertions.assertEquals(5, window.getMinimumDuration());
+            Assertions.assertEquals(15, window.getMaximumDuration());
+            Assertions.assertEquals(10, window.getAverageDuration());
+        }
+    }
+
 
     private void check(Iterator<Map.Entry<String, ResourceStatistics>> it,
                        String expectedUri, int expectedMethods) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -65,6 +65,19 @@ public class ResponseStatisticsImplTest {
         Assertions.assertEquals(1, (long) builder.build().getResponseCodes().get(200));
     }
 
+    @Test
+    public void testAggregatedCodes() {
+        ResponseStatisticsImpl.Builder builder = new ResponseStatisticsImpl.Builder();
+
+        builder.addResponseCode(200, 5);
+        builder.addResponseCode(404, 2);
+        builder.addResponseCode(200);
+
+        Assertions.assertEquals(200, (int) builder.build().getLastResponseCode());
+        Assertions.assertEquals(6, (long) builder.build().getResponseCodes().get(200));
+        Assertions.assertEquals(2, (long) builder.build().getResponseCodes().get(404));
+    }
+
     @Test
     public void testImmutability() {
         Assertions.assertThrows(UnsupportedOperationException.class, () -> {
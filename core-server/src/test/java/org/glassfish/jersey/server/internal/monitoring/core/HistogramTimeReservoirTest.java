@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.internal.monitoring.AbstractNanosReservoirTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link HistogramTimeReservoir}.
+ */
+public class HistogramTimeReservoirTest extends AbstractNanosReservoirTest {
+
+    private static HistogramTimeReservoir reservoir(final long now) {
+        // one nanosecond per slice
+        return new HistogramTimeReservoir(HistogramTimeReservoir.SLICES, TimeUnit.NANOSECONDS, now, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final long now = System.nanoTime();
+        final HistogramTimeReservoir reservoir = reservoir(now);
+
+        reservoirUpdateInNanos(reservoir, 10, now);
+        reservoirUpdateInNanos(reservoir, 20, now);
+        reservoirUpdateInNanos(reservoir, 30, now + 1);
+        reservoirUpdateInNanos(reservoir, 40, now + 5);
+        checkInNanos(reservoir, now + 5, 4, 10, 40, 25, 5);
+
+        // the slice of 'now' leaves the window
+        checkInNanos(reservoir, now + 6, 2, 30, 40, 35, 5);
+        reservoirUpdateInNanos(reservoir, 50, now + 6);
+        checkInNanos(reservoir, now + 6, 3, 30, 50, 40, 5);
+
+        // the update older than the window is ignored
+        reservoirUpdateInNanos(reservoir, 1, now);
+        checkInNanos(reservoir, now + 6, 3, 30, 50, 40, 5);
+
+        // all the slices leave the window
+        checkInNanos(reservoir, now + 20, 0, 0, 0, 0, 5);
+    }
+
+    @Test
+    public void testUpdateOlderThanStartTime() {
+        final long now = System.nanoTime();
+        final HistogramTimeReservoir reservoir = reservoir(now);
+
+        reservoirUpdateInNanos(reservoir, 10, now - 2);
+        checkInNanos(reservoir, now, 1, 10, 10, 10, 2);
+    }
+
+    @Test
+    public void testPercentiles() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.MINUTES, 0, TimeUnit.MILLISECONDS);
+        for (long value = 1; value <= 1000; value++) {
+            reservoir.update(value, 1000, TimeUnit.MILLISECONDS);
+        }
+        final HistogramTimeSnapshot snapshot = reservoir.getSnapshot(1000, TimeUnit.MILLISECONDS);
+        assertEquals(1000, snapshot.size());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), DELTA);
+        assertEquals(1, snapshot.getValue(0), DELTA);
+        assertEquals(1000, snapshot.getValue(1), 1000 / 16.0);
+        assertEquals(500, snapshot.getValue(0.5), 500 / 16.0);
+        assertEquals(990, snapshot.getValue(0.99), 990 / 16.0);
+        assertEquals(1000, reservoir.size(1000, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testBuckets() {
+        long expectedLowerBound = 0;
+        for (int bucket = 0; bucket < HistogramTimeReservoir.BUCKETS; bucket++) {
+            assertEquals(expectedLowerBound, HistogramTimeReservoir.lowerBound(bucket));
+            assertEquals(bucket, HistogramTimeReservoir.bucket(HistogramTimeReservoir.lowerBound(bucket)));
+            assertEquals(bucket, HistogramTimeReservoir.bucket(HistogramTimeReservoir.upperBound(bucket)));
+            expectedLowerBound = HistogramTimeReservoir.upperBound(bucket) + 1;
+        }
+        assertEquals(Long.MAX_VALUE, HistogramTimeReservoir.upperBound(HistogramTimeReservoir.BUCKETS - 1));
+        assertEquals(0, HistogramTimeReservoir.bucket(-5));
+        assertEquals(HistogramTimeReservoir.BUCKETS - 1, HistogramTimeReservoir.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.HOURS, 0, TimeUnit.MILLISECONDS);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        reservoir.update((long) i % 100, 1000 + i % 10, TimeUnit.MILLISECONDS);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final HistogramTimeSnapshot snapshot = reservoir.getSnapshot(2000, TimeUnit.MILLISECONDS);
+        assertEquals(40000, snapshot.size());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(99, snapshot.getMax());
+        assertEquals(49.5, snapshot.getMean(), DELTA);
+    }
+}
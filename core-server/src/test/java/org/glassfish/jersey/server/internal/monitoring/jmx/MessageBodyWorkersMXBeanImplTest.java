@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MessageBodyWorkersMXBeanImpl}.
+ */
+public class MessageBodyWorkersMXBeanImplTest {
+
+    @Path("text")
+    public static class TextResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return "text";
+        }
+    }
+
+    private static class RecordingExposer extends MBeanExposer {
+
+        private String name;
+
+        @Override
+        void registerMBean(final Object mbean, final String namePostfix) {
+            this.name = namePostfix;
+        }
+    }
+
+    @Test
+    public void testLookupCacheStatistics() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(TextResource.class)
+                .property(MessageProperties.WORKERS_LOOKUP_CACHE_SIZE, 64));
+        final MessageBodyFactory factory =
+                (MessageBodyFactory) handler.getInjectionManager().getInstance(MessageBodyWorkers.class);
+
+        final RecordingExposer exposer = new RecordingExposer();
+        final MessageBodyWorkersMXBeanImpl mxBean = new MessageBodyWorkersMXBeanImpl(factory, exposer, ",subType=Global");
+        assertEquals(",subType=Global,global=MessageBodyWorkers", exposer.name);
+        assertEquals(64, mxBean.getWriterLookupCacheMaximumSize());
+        assertEquals(64, mxBean.getReaderLookupCacheMaximumSize());
+
+        final long misses = mxBean.getWriterLookupCacheMissCount();
+        final long hits = mxBean.getWriterLookupCacheHitCount();
+        for (int i = 0; i < 3; i++) {
+            final ContainerResponse response = handler.apply(RequestContextBuilder.from("/text", "GET").build()).get();
+            assertEquals("text", response.getEntity());
+        }
+
+        assertEquals(misses + 1, mxBean.getWriterLookupCacheMissCount());
+        assertTrue(mxBean.getWriterLookupCacheHitCount() >= hits + 2);
+        assertTrue(mxBean.getWriterLookupCacheSize() > 0);
+        assertEquals(0, mxBean.getWriterLookupCacheEvictionCount());
+    }
+}
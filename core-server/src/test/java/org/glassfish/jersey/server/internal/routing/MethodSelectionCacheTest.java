@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the cached resource method selection produces the same results as the non-cached one.
+ */
+public class MethodSelectionCacheTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        @Produces("text/plain")
+        public String getText() {
+            return "text";
+        }
+
+        @GET
+        @Produces({"application/xml", "text/html;qs=0.5"})
+        public String getXml() {
+            return "<xml/>";
+        }
+
+        @POST
+        @Consumes("text/plain")
+        public String postText(final String entity) {
+            return "text:" + entity;
+        }
+
+        @POST
+        @Consumes("application/*")
+        @Produces("application/json")
+        public String postApplication(final String entity) {
+            return "application:" + entity;
+        }
+    }
+
+    private static ApplicationHandler createApplication(final int cacheSize) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.METHOD_SELECTION_CACHE_SIZE, cacheSize));
+    }
+
+    @Test
+    public void testCachedSelectionMatchesNonCachedSelection() throws Exception {
+        final ApplicationHandler nonCached = createApplication(0);
+        final ApplicationHandler cached = createApplication(2);
+
+        final List<String> accepts = Arrays.asList(null, "*/*", "text/plain", "application/xml", "text/html",
+                "text/*;q=0.5, application/xml", "image/png", "application/json");
+        final List<String> contentTypes = Arrays.asList("text/plain", "text/plain;charset=UTF-8", "application/xml",
+                "application/octet-stream;boundary=abc", "image/png");
+
+        // repeat to hit the cache (and evict the entries)
+        for (int i = 0; i < 2; i++) {
+            for (final String accept : accepts) {
+                assertSameResponse(nonCached, cached, "GET", accept, null);
+                assertSameResponse(nonCached, cached, "HEAD", accept, null);
+
+                for (final String contentType : contentTypes) {
+                    assertSameResponse(nonCached, cached, "POST", accept, contentType);
+                }
+            }
+        }
+    }
+
+    private static void assertSameResponse(final ApplicationHandler expectedHandler, final ApplicationHandler actualHandler,
+                                           final String method, final String accept, final String contentType)
+            throws Exception {
+        final ContainerResponse expected = expectedHandler.apply(request(method, accept, contentType)).get();
+        final ContainerResponse actual = actualHandler.apply(request(method, accept, contentType)).get();
+
+        final String message = method + " Accept: " + accept + " Content-Type: " + contentType;
+        assertEquals(expected.getStatus(), actual.getStatus(), message);
+        assertEquals(expected.getEntity(), actual.getEntity(), message);
+        assertEquals(expected.getMediaType(), actual.getMediaType(), message);
+    }
+
+    private static ContainerRequest request(final String method, final String accept, final String contentType) {
+        final RequestContextBuilder builder = RequestContextBuilder.from("/resource", method);
+        if (accept != null) {
+            builder.accept(accept);
+        }
+        if (contentType != null) {
+            builder.entity("entity").type(contentType);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the {@link PathMatchingIndex path matching index} routes requests the same way as the linear path matching.
+ */
+public class PathMatchingIndexTest {
+
+    @Path("users")
+    public static class UsersResource {
+
+        @GET
+        public String list() {
+            return "list";
+        }
+
+        @GET
+        @Path("active")
+        public String active() {
+            return "active";
+        }
+
+        @GET
+        @Path("{id}")
+        public String user(@PathParam("id") final String id, @Context final UriInfo uriInfo) {
+            return "user:" + id + ":" + uriInfo.getMatchedURIs();
+        }
+
+        @GET
+        @Path("{id: [0-9]+}/orders")
+        public String orders(@PathParam("id") final String id) {
+            return "orders:" + id;
+        }
+
+        @POST
+        @Path("import")
+        public String importUsers() {
+            return "import";
+        }
+
+        @Path("import/{x}")
+        public SubResource locator(@PathParam("x") final String x) {
+            return new SubResource(x);
+        }
+    }
+
+    @Path("users/{id}/profile")
+    public static class ProfileResource {
+
+        @GET
+        public String profile(@PathParam("id") final String id) {
+            return "profile:" + id;
+        }
+    }
+
+    @Path("/")
+    public static class RootResource {
+
+        @GET
+        public String root() {
+            return "root";
+        }
+
+        @GET
+        @Path("a.b")
+        public String dotted() {
+            return "dotted";
+        }
+    }
+
+    public static class SubResource {
+
+        private final String x;
+
+        public SubResource(final String x) {
+            this.x = x;
+        }
+
+        @GET
+        public String get() {
+            return "sub:" + x;
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean indexed) {
+        return new ApplicationHandler(new ResourceConfig(UsersResource.class, ProfileResource.class, RootResource.class)
+                .property(ServerProperties.ROUTING_PATH_INDEX_ENABLED, indexed));
+    }
+
+    @Test
+    public void testIndexedRoutingMatchesLinearRouting() throws Exception {
+        final ApplicationHandler linear = createApplication(false);
+        final ApplicationHandler indexed = createApplication(true);
+
+        final List<String> paths = Arrays.asList("/", "/users", "/users/", "/users/active", "/users/active/",
+                "/users/42", "/users/42/", "/users/42/orders", "/users/abc/orders", "/users/42/profile", "/users/import",
+                "/users/import/x", "/users/import/x/y", "/a.b", "/axb", "/a.b/c", "/unknown", "/users;m=1/42",
+                "/usersx", "/users/a%20b");
+
+        for (final String path : paths) {
+            for (final String method : Arrays.asList("GET", "POST", "HEAD")) {
+                final ContainerResponse expected = linear.apply(RequestContextBuilder.from(path, method).build()).get();
+                final ContainerResponse actual = indexed.apply(RequestContextBuilder.from(path, method).build()).get();
+
+                assertEquals(expected.getStatus(), actual.getStatus(), method + " " + path);
+                assertEquals(expected.getEntity(), actual.getEntity(), method + " " + path);
+            }
+        }
+    }
+
+    @Test
+    public void testCandidatesAreOrdered() {
+        final PathMatchingIndex index = new PathMatchingIndex(Arrays.asList(
+                route("users/{id}"),
+                route("users/active"),
+                route("{any}"),
+                route("user"),
+                route("orders")));
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, index.candidates("/users/active"));
+        assertArrayEquals(new int[] {2}, index.candidates("/items"));
+    }
+
+    @Test
+    public void testLiteralMatchResult() {
+        final PathMatchingIndex index = new PathMatchingIndex(Arrays.asList(
+                route("users/active"),
+                Route.of(PathPattern.asClosed(new PathPattern("users/active")), Collections.emptyList())));
+
+        final MatchResult open = index.match(0, "/users/active/x/y");
+        assertEquals("/users/active/x/y", open.group());
+        assertEquals("/x/y", open.group(open.groupCount()));
+        assertEquals(13, open.start(1));
+
+        final MatchResult exact = index.match(0, "/users/active");
+        assertNull(exact.group(exact.groupCount()));
+
+        assertEquals("/", index.match(1, "/users/active/").group(1));
+        assertNull(index.match(1, "/users/active/x"));
+        assertNull(index.match(0, "/users/activex"));
+    }
+
+    private static Route route(final String template) {
+        return Route.of(new PathPattern(template), Collections.emptyList());
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.config.toplevel.PublicRootResourceClass;
+import org.glassfish.jersey.server.config.toplevelinnerstatic.PublicRootResourceInnerStaticClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link ClassIndex} and {@link ClassIndexProcessor}.
+ */
+public class ClassIndexTest {
+
+    private static final String PACKAGE = PublicRootResourceClass.class.getPackage().getName();
+    private static final String PACKAGE_PRIVATE_RESOURCE = PACKAGE + ".PackageRootResourceClass";
+    private static final String UNINDEXED_PACKAGE = PublicRootResourceInnerStaticClass.class.getPackage().getName();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testProcessor() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "Java compiler not available");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                Arrays.asList("-d", tempDir.toString(), "-proc:only", "-classpath", System.getProperty("java.class.path")),
+                null,
+                Collections.singletonList(source("test.Resources",
+                        "package test;\n"
+                        + "@javax.ws.rs.Path(\"a\") public class Resources {\n"
+                        + "  @javax.ws.rs.ext.Provider public static class Nested {}\n"
+                        + "  @javax.ws.rs.Path(\"b\") public class Inner {}\n"
+                        + "  @javax.ws.rs.Path(\"c\") static class Hidden {}\n"
+                        + "  @javax.ws.rs.Path(\"d\") public void method() {}\n"
+                        + "}\n"
+                        + "@javax.ws.rs.Path(\"e\") class PackagePrivate {}\n")));
+        task.setProcessors(Collections.singletonList(new ClassIndexProcessor()));
+        assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+        final Set<String> index = new TreeSet<>();
+        try (InputStream in = Files.newInputStream(tempDir.resolve(ClassIndex.RESOURCE))) {
+            ClassIndex.read(in, index);
+        }
+        assertEquals(new TreeSet<>(Arrays.asList("test.Resources", "test.Resources$Nested")), index);
+    }
+
+    @Test
+    public void testPackages() throws Exception {
+        final ClassIndex index = ClassIndex.load(indexClassLoader("a.A", "a.b.B", "a.b.B$C", "ab.D", "E"));
+
+        assertEquals(set("a.A"), index.getClassNames(new String[] {"a"}, false));
+        assertEquals(set("a.A", "a.b.B", "a.b.B$C"), index.getClassNames(new String[] {"a"}, true));
+        assertEquals(set("a.b.B", "a.b.B$C", "ab.D"), index.getClassNames(new String[] {"a.b", "ab"}, true));
+        assertEquals(5, index.getClassNames(new String[] {""}, true).size());
+        assertNull(ClassIndex.load(new URLClassLoader(new URL[0], null)));
+    }
+
+    @Test
+    public void testResourceConfigModes() throws Exception {
+        // the package private class is not accepted by the scanning, so it can only be found through the index,
+        // the package is still scanned in the test classes directory which does not ship an index
+        final ClassLoader classLoader = indexClassLoader(PACKAGE_PRIVATE_RESOURCE);
+        final Set<String> indexedAndScanned = set(PACKAGE_PRIVATE_RESOURCE, PublicRootResourceClass.class.getName());
+
+        assertEquals(indexedAndScanned, classNames(configure(classLoader, null)));
+        assertEquals(indexedAndScanned, classNames(configure(classLoader, "enabled")));
+        assertEquals(set(PublicRootResourceClass.class.getName()), classNames(configure(classLoader, "DISABLED")));
+        assertEquals(set(PublicRootResourceClass.class.getName()), classNames(configure(classLoader, "VALIDATE")));
+        assertEquals(set(PublicRootResourceClass.class.getName()),
+                classNames(configure(getClass().getClassLoader(), null)));
+    }
+
+    @Test
+    public void testIndexedJarAndUnindexedPackage() throws Exception {
+        final String classFile = PACKAGE_PRIVATE_RESOURCE.replace('.', '/') + ".class";
+        final Path jar = tempDir.resolve("indexed.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             InputStream in = getClass().getClassLoader().getResourceAsStream(classFile)) {
+            out.putNextEntry(new JarEntry(ClassIndex.RESOURCE));
+            final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            ClassIndex.write(writer, Collections.singletonList(PACKAGE_PRIVATE_RESOURCE));
+            writer.flush();
+            final String[] directories = classFile.split("/");
+            String directory = "";
+            for (int i = 0; i < directories.length - 1; i++) {
+                directory += directories[i] + "/";
+                out.putNextEntry(new JarEntry(directory));
+            }
+            out.putNextEntry(new JarEntry(classFile));
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        final ClassLoader classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, getClass().getClassLoader());
+
+        final ClassIndex index = ClassIndex.load(classLoader);
+        final List<URL> locations = Collections.list(classLoader.getResources(PACKAGE.replace('.', '/')));
+        assertEquals(2, locations.size());
+        assertEquals(1, locations.stream().filter(index::covers).count());
+        assertFalse(index.covers(classLoader.getResource(UNINDEXED_PACKAGE.replace('.', '/'))));
+
+        // the classes of the indexed jar come from the index, the other class-path elements are scanned
+        final Set<String> scanned = classNames(configure(classLoader, "DISABLED", PACKAGE, UNINDEXED_PACKAGE));
+        assertTrue(scanned.contains(PublicRootResourceClass.class.getName()));
+        assertTrue(scanned.contains(PublicRootResourceInnerStaticClass.class.getName()));
+        assertFalse(scanned.contains(PACKAGE_PRIVATE_RESOURCE));
+
+        final Set<String> expected = new HashSet<>(scanned);
+        expected.add(PACKAGE_PRIVATE_RESOURCE);
+        assertEquals(expected, classNames(configure(classLoader, null, PACKAGE, UNINDEXED_PACKAGE)));
+        assertEquals(scanned, classNames(configure(classLoader, "VALIDATE", PACKAGE, UNINDEXED_PACKAGE)));
+    }
+
+    @Test
+    public void testValidate() {
+        assertTrue(ClassIndex.validate(set(PublicRootResourceClass.class.getName()),
+                Collections.singleton(PublicRootResourceClass.class)));
+        assertFalse(ClassIndex.validate(Collections.emptySet(), Collections.singleton(PublicRootResourceClass.class)));
+        assertFalse(ClassIndex.validate(set(PACKAGE_PRIVATE_RESOURCE), Collections.emptySet()));
+    }
+
+    private static ResourceConfig configure(final ClassLoader classLoader, final String mode) {
+        return configure(classLoader, mode, PACKAGE);
+    }
+
+    private static ResourceConfig configure(final ClassLoader classLoader, final String mode, final String... packages) {
+        final ResourceConfig config = new ResourceConfig().packages(false, classLoader, packages);
+        if (mode != null) {
+            config.property(ServerProperties.PROVIDER_SCANNING_INDEX, mode);
+        }
+        return config;
+    }
+
+    private static Set<String> classNames(final ResourceConfig config) {
+        final Set<String> names = new HashSet<>();
+        for (final Class<?> c : config.getClasses()) {
+            names.add(c.getName());
+        }
+        return names;
+    }
+
+    private ClassLoader indexClassLoader(final String... classNames) throws IOException {
+        final File index = tempDir.resolve(ClassIndex.RESOURCE).toFile();
+        assertTrue(index.getParentFile().mkdirs());
+        try (Writer writer = Files.newBufferedWriter(index.toPath(), StandardCharsets.UTF_8)) {
+            ClassIndex.write(writer, Arrays.asList(classNames));
+        }
+        return new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static Set<String> set(final String... values) {
+        return new LinkedHashSet<>(Arrays.asList(values));
+    }
+
+    private static JavaFileObject source(final String className, final String code) {
+        return new SimpleJavaFileObject(new File(className.replace('.', '/') + ".java").toURI(), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.MethodHandler;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link MethodHandleInvocationHandlerProvider}.
+ */
+public class MethodHandleInvocationHandlerProviderTest {
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        @Path("sum")
+        public int sum(@QueryParam("a") final int a, @QueryParam("b") final Integer b) {
+            return a + (b == null ? 0 : b);
+        }
+
+        @GET
+        @Path("not-found")
+        public String notFound() {
+            throw new NotFoundException();
+        }
+
+        @GET
+        @Path("illegal")
+        public String illegal() {
+            throw new IllegalArgumentException("illegal");
+        }
+    }
+
+    public static class IllegalArgumentExceptionMapper implements ExceptionMapper<IllegalArgumentException> {
+
+        @Override
+        public Response toResponse(final IllegalArgumentException exception) {
+            return Response.status(409).entity(exception.getMessage()).build();
+        }
+    }
+
+    @Test
+    public void testResourceMethodsInvokedViaMethodHandles() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(
+                new ResourceConfig(Resource.class, IllegalArgumentExceptionMapper.class)
+                        .property(ServerProperties.RESOURCE_METHOD_HANDLE_INVOCATION_ENABLED, true));
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/resource/sum?a=1&b=2", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals(3, response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/sum", "GET").build()).get();
+        assertEquals(0, response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/not-found", "GET").build()).get();
+        assertEquals(404, response.getStatus());
+
+        response = handler.apply(RequestContextBuilder.from("/resource/illegal", "GET").build()).get();
+        assertEquals(409, response.getStatus());
+        assertEquals("illegal", response.getEntity());
+    }
+
+    @Test
+    public void testTargetExceptionIsWrapped() throws Exception {
+        final Method method = Resource.class.getMethod("illegal");
+        final InvocationHandler handler = new MethodHandleInvocationHandlerProvider()
+                .create(Invocable.create(MethodHandler.create(Resource.class), method));
+
+        assertNotNull(handler);
+        final InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> handler.invoke(new Resource(), method, new Object[0]));
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void testInvalidArgumentsAreNotWrapped() throws Throwable {
+        final Method method = Resource.class.getMethod("sum", int.class, Integer.class);
+        final InvocationHandler handler = new MethodHandleInvocationHandlerProvider()
+                .create(Invocable.create(MethodHandler.create(Resource.class), method));
+
+        assertNotNull(handler);
+        // null passed to a primitive parameter
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Resource(), method, new Object[] {null, 1}));
+        // wrong argument type
+        assertThrows(IllegalArgumentException.class, () -> handler.invoke(new Resource(), method, new Object[] {1, "2"}));
+        // widening conversion is applied as by the reflection
+        assertEquals(3, handler.invoke(new Resource(), method, new Object[] {(short) 1, 2}));
+    }
+
+    @Test
+    public void testInaccessibleMethodFallsBackToReflection() throws Exception {
+        // public method of a non-public JDK class
+        final Class<?> nonPublicClass = Collections.emptyList().getClass();
+        final Method method = nonPublicClass.getMethod("size");
+
+        assertNull(new MethodHandleInvocationHandlerProvider()
+                .create(Invocable.create(MethodHandler.create(nonPublicClass), method)));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.spi.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.NotSupportedException;
+
+import org.glassfish.jersey.message.internal.MessageBodyProviderNotFoundException;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.model.Parameter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ParameterValuePlan}.
+ */
+public class ParameterValuePlanTest {
+
+    @Test
+    public void testEmpty() {
+        assertSame(ParameterValuePlan.EMPTY, ParameterValuePlan.create(Collections.emptyList()));
+        assertEquals(0, ParameterValuePlan.EMPTY.resolve(null).length);
+    }
+
+    @Test
+    public void testEntityResolvedLast() {
+        final List<String> calls = new ArrayList<>();
+        final ParameterValuePlan plan = ParameterValuePlan.create(Arrays.asList(
+                provider(calls, "query", Parameter.Source.QUERY),
+                provider(calls, "entity", Parameter.Source.ENTITY),
+                provider(calls, "header", Parameter.Source.HEADER)));
+
+        assertEquals(3, plan.size());
+        assertEquals(Parameter.Source.ENTITY, plan.getSource(1));
+        assertArrayEquals(new Object[] {"query", "entity", "header"}, plan.resolve(null));
+        assertEquals(Arrays.asList("query", "header", "entity"), calls);
+    }
+
+    @Test
+    public void testExceptionTranslation() {
+        assertThrows(NotFoundException.class, () -> failing(new NotFoundException()).resolve(null));
+        assertThrows(NotSupportedException.class,
+                () -> failing(new MessageBodyProviderNotFoundException("none")).resolve(null));
+        assertThrows(NotFoundException.class,
+                () -> failing(new IllegalStateException(new NotFoundException())).resolve(null));
+        assertThrows(MappableException.class, () -> failing(new IllegalStateException()).resolve(null));
+    }
+
+    private static ParamValueFactoryWithSource<String> provider(final List<String> calls, final String value,
+                                                                final Parameter.Source source) {
+        return new ParamValueFactoryWithSource<>(request -> {
+            calls.add(value);
+            return value;
+        }, source);
+    }
+
+    private static ParameterValuePlan failing(final RuntimeException exception) {
+        return ParameterValuePlan.create(Collections.singletonList(
+                new ParamValueFactoryWithSource<>((ContainerRequest request) -> {
+                    throw exception;
+                }, Parameter.Source.QUERY)));
+    }
+}
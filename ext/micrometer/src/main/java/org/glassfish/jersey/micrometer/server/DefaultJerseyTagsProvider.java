@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,13 +15,22 @@
  */
 package org.glassfish.jersey.micrometer.server;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 
 /**
  * Default implementation for {@link JerseyTagsProvider}.
+ * <p>
+ * The request tags of the requests matched to a resource method without sub-resource locators only depend on the
+ * resource method, the request method, the response status and the exception, so they are built once and cached.
  *
  * @author Michael Weirauch
  * @author Johnny Lim
@@ -29,8 +38,35 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
  */
 public final class DefaultJerseyTagsProvider implements JerseyTagsProvider {
 
+    /**
+     * Maximal number of cached request tags.
+     */
+    static final int MAX_CACHED_TAGS = 1024;
+
+    private final ConcurrentMap<TagsKey, Tags> requestTags = new ConcurrentHashMap<>();
+
     @Override
     public Iterable<Tag> httpRequestTags(RequestEvent event) {
+        ContainerResponse response = event.getContainerResponse();
+        ExtendedUriInfo uriInfo = event.getUriInfo();
+        ResourceMethod resourceMethod = uriInfo.getMatchedResourceMethod();
+        if (response == null || resourceMethod == null || !uriInfo.getMatchedResourceLocators().isEmpty()) {
+            return buildRequestTags(event);
+        }
+
+        TagsKey key = new TagsKey(resourceMethod, event.getContainerRequest().getMethod(), response.getStatus(),
+                JerseyTags.exception(event), uriInfo.getBaseUri().getPath());
+        Tags tags = requestTags.get(key);
+        if (tags == null) {
+            tags = buildRequestTags(event);
+            if (requestTags.size() < MAX_CACHED_TAGS) {
+                requestTags.putIfAbsent(key, tags);
+            }
+        }
+        return tags;
+    }
+
+    private static Tags buildRequestTags(RequestEvent event) {
         ContainerResponse response = event.getContainerResponse();
         return Tags.of(JerseyTags.method(event.getContainerRequest()), JerseyTags.uri(event),
                 JerseyTags.exception(event), JerseyTags.status(response), JerseyTags.outcome(response));
@@ -41,4 +77,55 @@ public final class DefaultJerseyTagsProvider implements JerseyTagsProvider {
         return Tags.of(JerseyTags.method(event.getContainerRequest()), JerseyTags.uri(event));
     }
 
+    /**
+     * Key of the cached request tags.
+     */
+    private static final class TagsKey {
+
+        private final ResourceMethod resourceMethod;
+
+        private final String method;
+
+        private final int status;
+
+        private final Tag exception;
+
+        private final String basePath;
+
+        private final int hash;
+
+        private TagsKey(ResourceMethod resourceMethod, String method, int status, Tag exception, String basePath) {
+            this.resourceMethod = resourceMethod;
+            this.method = method;
+            this.status = status;
+            this.exception = exception;
+            this.basePath = basePath;
+            int h = System.identityHashCode(resourceMethod);
+            h = 31 * h + Objects.hashCode(method);
+            h = 31 * h + status;
+            h = 31 * h + exception.hashCode();
+            this.hash = 31 * h + Objects.hashCode(basePath);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TagsKey)) {
+                return false;
+            }
+            TagsKey other = (TagsKey) o;
+            return hash == other.hash && resourceMethod == other.resourceMethod && status == other.status
+                    && Objects.equals(method, other.method) && exception.equals(other.exception)
+                    && Objects.equals(basePath, other.basePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
 }
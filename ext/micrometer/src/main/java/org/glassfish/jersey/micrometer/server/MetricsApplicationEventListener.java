@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,7 +15,11 @@
  */
 package org.glassfish.jersey.micrometer.server;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
@@ -38,7 +42,9 @@ public class MetricsApplicationEventListener implements ApplicationEventListener
 
     private final String metricName;
 
-    private final AnnotationFinder annotationFinder;
+    private final TimedFinder timedFinder;
+
+    private final ConcurrentMap<MetricsRequestEventListener.TimerKey, Timer> timers = new ConcurrentHashMap<>();
 
     private final boolean autoTimeRequests;
 
@@ -52,18 +58,21 @@ public class MetricsApplicationEventListener implements ApplicationEventListener
         this.meterRegistry = requireNonNull(registry);
         this.tagsProvider = requireNonNull(tagsProvider);
         this.metricName = requireNonNull(metricName);
-        this.annotationFinder = requireNonNull(annotationFinder);
+        this.timedFinder = new TimedFinder(requireNonNull(annotationFinder));
         this.autoTimeRequests = autoTimeRequests;
     }
 
     @Override
     public void onEvent(ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_FINISHED) {
+            timedFinder.precompute(event.getResourceModel());
+        }
     }
 
     @Override
     public RequestEventListener onRequest(RequestEvent requestEvent) {
         return new MetricsRequestEventListener(meterRegistry, tagsProvider, metricName, autoTimeRequests,
-                annotationFinder);
+                timedFinder, timers);
     }
 
 }
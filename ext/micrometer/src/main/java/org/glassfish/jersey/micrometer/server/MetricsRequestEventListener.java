@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,20 +15,20 @@
  */
 package org.glassfish.jersey.micrometer.server;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
@@ -37,6 +37,10 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * {@link RequestEventListener} recording timings for Jersey server requests.
+ * <p>
+ * A listener instance is created for each request, so the timing state of the request is kept in the listener itself.
+ * The {@link Timed} annotations of the resource methods and the timers are resolved once and shared by the listeners
+ * created by the same {@link MetricsApplicationEventListener}.
  *
  * @author Michael Weirauch
  * @author Jon Schneider
@@ -44,14 +48,10 @@ import static java.util.Objects.requireNonNull;
  */
 public class MetricsRequestEventListener implements RequestEventListener {
 
-    private final Map<ContainerRequest, Timer.Sample> shortTaskSample = Collections
-        .synchronizedMap(new IdentityHashMap<>());
-
-    private final Map<ContainerRequest, Collection<LongTaskTimer.Sample>> longTaskSamples = Collections
-        .synchronizedMap(new IdentityHashMap<>());
-
-    private final Map<ContainerRequest, Set<Timed>> timedAnnotationsOnRequest = Collections
-        .synchronizedMap(new IdentityHashMap<>());
+    /**
+     * Maximal number of cached timers, protecting the cache against tags of unbounded cardinality.
+     */
+    static final int MAX_CACHED_TIMERS = 1024;
 
     private final MeterRegistry registry;
 
@@ -63,41 +63,52 @@ public class MetricsRequestEventListener implements RequestEventListener {
 
     private final String metricName;
 
+    private final ConcurrentMap<TimerKey, Timer> timers;
+
+    private Timer.Sample shortTaskSample;
+
+    private List<LongTaskTimer.Sample> longTaskSamples;
+
+    private Set<Timed> timedAnnotations;
+
     public MetricsRequestEventListener(MeterRegistry registry, JerseyTagsProvider tagsProvider, String metricName,
             boolean autoTimeRequests, AnnotationFinder annotationFinder) {
+        this(registry, tagsProvider, metricName, autoTimeRequests, new TimedFinder(annotationFinder),
+                new ConcurrentHashMap<>());
+    }
+
+    MetricsRequestEventListener(MeterRegistry registry, JerseyTagsProvider tagsProvider, String metricName,
+            boolean autoTimeRequests, TimedFinder timedFinder, ConcurrentMap<TimerKey, Timer> timers) {
         this.registry = requireNonNull(registry);
         this.tagsProvider = requireNonNull(tagsProvider);
         this.metricName = requireNonNull(metricName);
         this.autoTimeRequests = autoTimeRequests;
-        this.timedFinder = new TimedFinder(annotationFinder);
+        this.timedFinder = requireNonNull(timedFinder);
+        this.timers = requireNonNull(timers);
     }
 
     @Override
     public void onEvent(RequestEvent event) {
-        ContainerRequest containerRequest = event.getContainerRequest();
-        Set<Timed> timedAnnotations;
-
         switch (event.getType()) {
             case ON_EXCEPTION:
                 if (!isClientError(event)) {
                     break;
                 }
-                time(event, containerRequest);
+                time(event);
                 break;
             case REQUEST_MATCHED:
-                time(event, containerRequest);
+                time(event);
                 break;
             case FINISHED:
-                timedAnnotations = timedAnnotationsOnRequest.remove(containerRequest);
-                Timer.Sample shortSample = shortTaskSample.remove(containerRequest);
-
+                Timer.Sample shortSample = shortTaskSample;
+                shortTaskSample = null;
                 if (shortSample != null) {
-                    for (Timer timer : shortTimers(timedAnnotations, event)) {
-                        shortSample.stop(timer);
-                    }
+                    stopShortTimers(shortSample, timedAnnotations, event);
                 }
+                timedAnnotations = null;
 
-                Collection<LongTaskTimer.Sample> longSamples = this.longTaskSamples.remove(containerRequest);
+                List<LongTaskTimer.Sample> longSamples = longTaskSamples;
+                longTaskSamples = null;
                 if (longSamples != null) {
                     for (LongTaskTimer.Sample longSample : longSamples) {
                         longSample.stop();
@@ -107,18 +118,22 @@ public class MetricsRequestEventListener implements RequestEventListener {
         }
     }
 
-    private void time(RequestEvent event, ContainerRequest containerRequest) {
-        Set<Timed> timedAnnotations;
+    private void time(RequestEvent event) {
         timedAnnotations = annotations(event);
+        shortTaskSample = Timer.start(registry);
 
-        timedAnnotationsOnRequest.put(containerRequest, timedAnnotations);
-        shortTaskSample.put(containerRequest, Timer.start(registry));
-
-        List<LongTaskTimer.Sample> longTaskSamples = longTaskTimers(timedAnnotations, event).stream()
-            .map(LongTaskTimer::start)
-            .collect(Collectors.toList());
-        if (!longTaskSamples.isEmpty()) {
-            this.longTaskSamples.put(containerRequest, longTaskSamples);
+        List<LongTaskTimer.Sample> samples = null;
+        for (Timed timed : timedAnnotations) {
+            if (timed.longTask()) {
+                if (samples == null) {
+                    samples = new ArrayList<>(1);
+                }
+                samples.add(LongTaskTimer.builder(timed).tags(tagsProvider.httpLongRequestTags(event))
+                        .register(registry).start());
+            }
+        }
+        if (samples != null) {
+            longTaskSamples = samples;
         }
     }
 
@@ -132,48 +147,114 @@ public class MetricsRequestEventListener implements RequestEventListener {
                || className.equals("javax.ws.rs.ClientErrorException");
     }
 
-    private Set<Timer> shortTimers(Set<Timed> timed, RequestEvent event) {
+    private void stopShortTimers(Timer.Sample sample, Set<Timed> timed, RequestEvent event) {
         /*
          * Given we didn't find any matching resource method, 404s will be only recorded
          * when auto-time-requests is enabled. On par with WebMVC instrumentation.
          */
         if ((timed == null || timed.isEmpty()) && autoTimeRequests) {
-            return Collections.singleton(registry.timer(metricName, tagsProvider.httpRequestTags(event)));
+            sample.stop(timer(null, event));
+            return;
         }
 
         if (timed == null) {
-            return Collections.emptySet();
+            return;
+        }
+
+        Timer single = null;
+        Set<Timer> stopped = null;
+        for (Timed annotation : timed) {
+            if (annotation.longTask()) {
+                continue;
+            }
+            Timer timer = timer(annotation, event);
+            if (single == null) {
+                single = timer;
+            } else if (timer != single) {
+                if (stopped == null) {
+                    stopped = new HashSet<>();
+                    stopped.add(single);
+                }
+                stopped.add(timer);
+            }
+        }
+        if (stopped != null) {
+            for (Timer timer : stopped) {
+                sample.stop(timer);
+            }
+        } else if (single != null) {
+            sample.stop(single);
+        }
+    }
+
+    private Timer timer(Timed annotation, RequestEvent event) {
+        Iterable<Tag> tags = tagsProvider.httpRequestTags(event);
+        if (!(tags instanceof Tags || tags instanceof List)) {
+            // the tags cannot be compared, so the timer cannot be cached
+            return register(annotation, tags);
         }
 
-        return timed.stream()
-            .filter(annotation -> !annotation.longTask())
-            .map(t -> Timer.builder(t, metricName).tags(tagsProvider.httpRequestTags(event)).register(registry))
-            .collect(Collectors.toSet());
+        TimerKey key = new TimerKey(annotation, tags);
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = register(annotation, tags);
+            if (timers.size() < MAX_CACHED_TIMERS) {
+                timers.putIfAbsent(key, timer);
+            }
+        }
+        return timer;
     }
 
-    private Set<LongTaskTimer> longTaskTimers(Set<Timed> timed, RequestEvent event) {
-        return timed.stream()
-            .filter(Timed::longTask)
-            .map(LongTaskTimer::builder)
-            .map(b -> b.tags(tagsProvider.httpLongRequestTags(event)).register(registry))
-            .collect(Collectors.toSet());
+    private Timer register(Timed annotation, Iterable<Tag> tags) {
+        if (annotation == null) {
+            return registry.timer(metricName, tags);
+        }
+        return Timer.builder(annotation, metricName).tags(tags).register(registry);
     }
 
     private Set<Timed> annotations(RequestEvent event) {
-        final Set<Timed> timed = new HashSet<>();
-
         final ResourceMethod matchingResourceMethod = event.getUriInfo().getMatchedResourceMethod();
-        if (matchingResourceMethod != null) {
-            // collect on method level
-            timed.addAll(timedFinder.findTimedAnnotations(matchingResourceMethod.getInvocable().getHandlingMethod()));
-
-            // fallback on class level
-            if (timed.isEmpty()) {
-                timed.addAll(timedFinder.findTimedAnnotations(
-                        matchingResourceMethod.getInvocable().getHandlingMethod().getDeclaringClass()));
+        if (matchingResourceMethod == null) {
+            return Collections.emptySet();
+        }
+        return timedFinder.findTimedAnnotations(matchingResourceMethod);
+    }
+
+    /**
+     * Key of a cached timer, the {@link Timed} annotation of the timer, if any, and the tags of the request.
+     */
+    static final class TimerKey {
+
+        private final Timed annotation;
+
+        private final Iterable<Tag> tags;
+
+        private final int hash;
+
+        private TimerKey(Timed annotation, Iterable<Tag> tags) {
+            this.annotation = annotation;
+            this.tags = tags;
+            this.hash = 31 * System.identityHashCode(annotation) + tags.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimerKey)) {
+                return false;
             }
+            TimerKey other = (TimerKey) o;
+            // the annotations are resolved once per resource method, so they are compared by identity
+            return hash == other.hash && annotation == other.annotation && tags.equals(other.tags);
         }
-        return timed;
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
     }
 
 }
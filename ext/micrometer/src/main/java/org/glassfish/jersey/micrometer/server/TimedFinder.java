@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,22 +16,75 @@
 package org.glassfish.jersey.micrometer.server;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.annotation.TimedSet;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
 
 class TimedFinder {
 
     private final AnnotationFinder annotationFinder;
 
+    private final ConcurrentMap<Method, Set<Timed>> handlingMethodAnnotations = new ConcurrentHashMap<>();
+
     TimedFinder(AnnotationFinder annotationFinder) {
         this.annotationFinder = annotationFinder;
     }
 
+    /**
+     * Resolve the {@link Timed} annotations of all the resource methods of the model up front, so that the requests
+     * do not scan the annotations.
+     * @param resourceModel the resource model of the application
+     */
+    void precompute(ResourceModel resourceModel) {
+        for (Resource resource : resourceModel.getRootResources()) {
+            precompute(resource);
+        }
+    }
+
+    private void precompute(Resource resource) {
+        for (ResourceMethod resourceMethod : resource.getAllMethods()) {
+            findTimedAnnotations(resourceMethod);
+        }
+        for (Resource child : resource.getChildResources()) {
+            precompute(child);
+        }
+    }
+
+    /**
+     * Find the {@link Timed} annotations of the handling method of the resource method, falling back to the annotations
+     * of its declaring class. The result is cached per handling method.
+     * @param resourceMethod the resource method
+     * @return the timed annotations, possibly empty
+     */
+    Set<Timed> findTimedAnnotations(ResourceMethod resourceMethod) {
+        Method handlingMethod = resourceMethod.getInvocable().getHandlingMethod();
+        Set<Timed> timed = handlingMethodAnnotations.get(handlingMethod);
+        if (timed == null) {
+            timed = handlingMethodAnnotations.computeIfAbsent(handlingMethod, this::resolveTimedAnnotations);
+        }
+        return timed;
+    }
+
+    private Set<Timed> resolveTimedAnnotations(Method handlingMethod) {
+        // collect on method level
+        Set<Timed> timed = findTimedAnnotations((AnnotatedElement) handlingMethod);
+        if (timed.isEmpty()) {
+            // fallback on class level
+            timed = findTimedAnnotations(handlingMethod.getDeclaringClass());
+        }
+        return timed;
+    }
+
     Set<Timed> findTimedAnnotations(AnnotatedElement element) {
         Timed t = annotationFinder.findAnnotation(element, Timed.class);
         if (t != null) {
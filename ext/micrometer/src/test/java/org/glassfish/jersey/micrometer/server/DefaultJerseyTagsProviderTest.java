@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,13 +22,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.container.ContainerRequestContext;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.ExtendedUriInfo;
 import org.glassfish.jersey.server.internal.monitoring.RequestEventImpl.Builder;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEvent.Type;
 import org.glassfish.jersey.uri.UriTemplate;
@@ -104,8 +108,29 @@ class DefaultJerseyTagsProviderTest {
             .containsExactlyInAnyOrder(Tag.of("method", "GET"), Tag.of("uri", "/app"));
     }
 
+    @Test
+    void requestTagsOfResourceMethodsAreCached() {
+        Resource.Builder resourceBuilder = Resource.builder("hello");
+        resourceBuilder.addMethod("GET")
+            .handledBy((Inflector<ContainerRequestContext, String>) request -> "hello");
+        ResourceMethod resourceMethod = resourceBuilder.build().getResourceMethods().get(0);
+
+        Iterable<Tag> tags = tagsProvider.httpRequestTags(event(200, null, "/app", resourceMethod, "/", "/hello"));
+        assertThat(tags).containsExactlyInAnyOrder(tagsFrom("/app/hello", 200, null, "SUCCESS"));
+        assertThat(tagsProvider.httpRequestTags(event(200, null, "/app", resourceMethod, "/", "/hello"))).isSameAs(tags);
+        assertThat(tagsProvider.httpRequestTags(event(500, null, "/app", resourceMethod, "/", "/hello")))
+            .containsExactlyInAnyOrder(tagsFrom("/app/hello", 500, null, "SERVER_ERROR"));
+        assertThat(tagsProvider.httpRequestTags(event(200, null, "/other", resourceMethod, "/", "/hello")))
+            .containsExactlyInAnyOrder(tagsFrom("/other/hello", 200, null, "SUCCESS"));
+    }
+
     private static RequestEvent event(Integer status, Exception exception, String baseUri,
             String... uriTemplateStrings) {
+        return event(status, exception, baseUri, null, uriTemplateStrings);
+    }
+
+    private static RequestEvent event(Integer status, Exception exception, String baseUri,
+            ResourceMethod resourceMethod, String... uriTemplateStrings) {
         Builder builder = new Builder();
 
         ContainerRequest containerRequest = mock(ContainerRequest.class);
@@ -126,6 +151,7 @@ class DefaultJerseyTagsProviderTest {
         // UriTemplate are returned in reverse order
         Collections.reverse(uriTemplates);
         when(extendedUriInfo.getMatchedTemplates()).thenReturn(uriTemplates);
+        when(extendedUriInfo.getMatchedResourceMethod()).thenReturn(resourceMethod);
         builder.setExtendedUriInfo(extendedUriInfo);
 
         return builder.build(Type.FINISHED);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,4 +50,28 @@ public class SseBroadcaster extends Broadcaster<OutboundEvent> {
     protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass) {
         super(subclass);
     }
+
+    /**
+     * Creates a new instance with a custom configuration, e.g. with the broadcast events
+     * {@link Broadcaster.Builder#serializeOnce(boolean) serialized only once} for all the registered event outputs.
+     *
+     * @param builder builder holding the broadcaster configuration.
+     * @since 2.45
+     */
+    public SseBroadcaster(final Broadcaster.Builder<OutboundEvent> builder) {
+        this(SseBroadcaster.class, builder);
+    }
+
+    /**
+     * Can be used by subclasses to create a broadcaster with a custom configuration.
+     *
+     * @param subclass subclass of SseBroadcaster that should not be registered as a listener - if creating a direct instance
+     *                 of this subclass, this constructor will not register the new instance as a listener.
+     * @param builder  builder holding the broadcaster configuration.
+     * @see #SseBroadcaster(Class)
+     * @since 2.45
+     */
+    protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass, final Broadcaster.Builder<OutboundEvent> builder) {
+        super(subclass, builder);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -91,6 +91,26 @@ public class SseFeature implements Feature {
     @Property
     public static final String DISABLE_SSE_SERVER = "jersey.config.server.media.sse.disable";
 
+    /**
+     * If {@code true}, events broadcast by the JAX-RS {@link javax.ws.rs.sse.SseBroadcaster} are serialized only once
+     * for all the registered {@link javax.ws.rs.sse.SseEventSink event sinks} instead of being serialized by every
+     * event sink.
+     * <p>
+     * The serialized events are shared by the event sinks, so the message body writers used to serialize the event data
+     * must not produce output that depends on the particular request.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.45
+     */
+    @Property
+    public static final String BROADCAST_SERIALIZE_ONCE = "jersey.config.server.media.sse.broadcast.serializeOnce";
+
     /**
      * A "reconnection not set" value for the SSE reconnect delay set via {@code retry} field.
      *
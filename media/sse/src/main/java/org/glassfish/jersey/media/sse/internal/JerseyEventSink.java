@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -36,6 +36,7 @@ import org.glassfish.jersey.media.sse.LocalizationMessages;
 import org.glassfish.jersey.media.sse.OutboundEvent;
 import org.glassfish.jersey.server.AsyncContext;
 import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.SharedChunk;
 
 /**
  * Server-side SSE subscriber.
@@ -146,6 +147,24 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
         }
     }
 
+    /**
+     * Send an event shared with other event sinks, the event is serialized only once for all the event sinks.
+     *
+     * @param event shared event to be sent.
+     * @return completion stage completed when the event is sent.
+     */
+    CompletionStage<?> sendShared(final SharedChunk<OutboundSseEvent> event) {
+        checkClosed();
+        try {
+            this.writeShared(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
     /**
      * Flush the headers.
      *
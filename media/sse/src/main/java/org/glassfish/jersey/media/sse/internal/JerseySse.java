@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,12 +19,15 @@ package org.glassfish.jersey.media.sse.internal;
 import java.util.concurrent.ExecutorService;
 
 
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
 
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -36,6 +39,9 @@ class JerseySse implements Sse {
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -43,6 +49,8 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        final boolean serializeOnce = configuration != null
+                && PropertiesHelper.isProperty(configuration.getProperty(SseFeature.BROADCAST_SERIALIZE_ONCE));
+        return new JerseySseBroadcaster(executorService, serializeOnce);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import javax.ws.rs.sse.SseEventSink;
 import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.JerseyPublisher;
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.server.SharedChunk;
 
 /**
  * Used for broadcasting SSE to multiple {@link javax.ws.rs.sse.SseEventSink} instances.
@@ -39,7 +40,7 @@ import org.glassfish.jersey.media.sse.LocalizationMessages;
  *
  * @author Adam Lindenthal
  */
-class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements SseBroadcaster {
+class JerseySseBroadcaster extends JerseyPublisher<Object> implements SseBroadcaster {
 
     /**
      * Callbacks notified when {@code SseBroadcaster} is being closed.
@@ -51,6 +52,11 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * If {@code true}, the broadcast events are published as {@link SharedChunk shared chunks}.
+     */
+    private final boolean serializeOnce;
+
     /**
      * Package-private constructor.
      * <p>
@@ -59,6 +65,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     JerseySseBroadcaster() {
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        serializeOnce = false;
     }
 
     /**
@@ -70,9 +77,24 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      *                        supporting creation of at least one independent thread
      */
     JerseySseBroadcaster(final ExecutorService executorService) {
+        this(executorService, false);
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executorService {@code ExecutorService} the executor to use for async delivery,
+     *                        supporting creation of at least one independent thread
+     * @param serializeOnce   if {@code true}, the broadcast events are serialized only once for all the registered
+     *                        Jersey event sinks.
+     */
+    JerseySseBroadcaster(final ExecutorService executorService, final boolean serializeOnce) {
         super(executorService);
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        this.serializeOnce = serializeOnce;
     }
 
     @Override
@@ -104,23 +126,23 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
 
-        return CompletableFuture.completedFuture(publish(event));
+        return CompletableFuture.completedFuture(publish(serializeOnce ? new SharedChunk<>(event) : event));
     }
 
-    private void notifyOnCompleteHandlers(Flow.Subscriber<? super OutboundSseEvent> subscriber) {
+    private void notifyOnCompleteHandlers(Flow.Subscriber<? super Object> subscriber) {
         if (subscriber instanceof SseEventSinkWrapper) {
             onCloseListeners.forEach((listener) -> listener.accept(((SseEventSinkWrapper) subscriber).sseEventSink));
         }
     }
 
-    private void notifyOnErrorCallbacks(final Flow.Subscriber<? super OutboundSseEvent> subscriber, final Throwable throwable) {
+    private void notifyOnErrorCallbacks(final Flow.Subscriber<? super Object> subscriber, final Throwable throwable) {
         if (subscriber instanceof SseEventSinkWrapper) {
             onExceptionListeners.forEach(
                     (listener) -> listener.accept(((SseEventSinkWrapper) subscriber).sseEventSink, throwable));
         }
     }
 
-    private class SseEventSinkWrapper implements Flow.Subscriber<OutboundSseEvent> {
+    private class SseEventSinkWrapper implements Flow.Subscriber<Object> {
 
         private final SseEventSink sseEventSink;
 
@@ -135,8 +157,18 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         }
 
         @Override
-        public void onNext(final OutboundSseEvent item) {
-            sseEventSink.send(item);
+        @SuppressWarnings("unchecked")
+        public void onNext(final Object item) {
+            if (item instanceof SharedChunk) {
+                final SharedChunk<OutboundSseEvent> sharedChunk = (SharedChunk<OutboundSseEvent>) item;
+                if (sseEventSink instanceof JerseyEventSink) {
+                    ((JerseyEventSink) sseEventSink).sendShared(sharedChunk);
+                } else {
+                    sseEventSink.send(sharedChunk.getChunk());
+                }
+            } else {
+                sseEventSink.send((OutboundSseEvent) item);
+            }
         }
 
         @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.media.sse.internal;
 
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.sse.OutboundSseEvent;
@@ -90,6 +91,38 @@ public class JerseySseBroadcasterTest {
         }
     }
 
+    @Test
+    public void testSerializeOnceSendsEventToCustomSink() throws InterruptedException {
+        try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster(ForkJoinPool.commonPool(), true)) {
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            final OutboundSseEvent event = new JerseySse().newEvent("ping");
+
+            broadcaster.register(new SseEventSink() {
+                @Override
+                public boolean isClosed() {
+                    return false;
+                }
+
+                @Override
+                public CompletionStage<?> send(OutboundSseEvent sent) {
+                    if (sent == event) {
+                        latch.countDown();
+                    }
+                    return null;
+                }
+
+                @Override
+                public void close() {
+
+                }
+            });
+
+            broadcaster.broadcast(event);
+            Assertions.assertTrue(latch.await(2000, TimeUnit.MILLISECONDS));
+        }
+    }
+
     @Test
     public void testOnClose() throws InterruptedException {
         try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -113,10 +113,13 @@ class InMemoryConnector implements Connector {
 
         @Override
         public OutputStream writeResponseStatusAndHeaders(long contentLength, ContainerResponse responseContext) {
-            List<Object> length = new ArrayList<>();
-            length.add(String.valueOf(contentLength));
+            // keep the length set by the application (e.g. for file entities) if the measured length is unknown
+            if (contentLength != -1 || !responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)) {
+                List<Object> length = new ArrayList<>();
+                length.add(String.valueOf(contentLength));
 
-            responseContext.getHeaders().put(HttpHeaders.CONTENT_LENGTH, length);
+                responseContext.getHeaders().put(HttpHeaders.CONTENT_LENGTH, length);
+            }
             headers = responseContext.getStringHeaders();
             statusInfo = responseContext.getStatusInfo();
             return baos;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,7 +19,9 @@ package org.glassfish.jersey.tests.e2e.common.message.internal;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.RuntimeType;
@@ -27,6 +29,7 @@ import javax.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.internal.BufferPool;
 import org.glassfish.jersey.message.internal.CommittingOutputStream;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.model.internal.CommonConfig;
@@ -203,6 +206,63 @@ public class CommittingOutputStreamTest {
         cos.close();
     }
 
+    @Test
+    public void testGrowingBuffer() throws IOException {
+        final Passed passed = new Passed();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(1000);
+        CommittingOutputStream cos = new CommittingOutputStream();
+        setupBufferedStreamProvider(passed, baos, cos, 6);
+        cos.enableBuffering(6, 1);
+
+        cos.write((byte) 1);
+        cos.write(new byte[]{2, 3});
+        cos.write(new byte[]{0, 4, 5, 6, 0}, 1, 3);
+        checkNotYetCommitted(passed, baos, cos);
+
+        cos.commit();
+        check(baos, new byte[]{1, 2, 3, 4, 5, 6});
+        cos.close();
+    }
+
+    @Test
+    public void testPooledBuffer() throws IOException {
+        final List<byte[]> acquired = new ArrayList<>();
+        final List<byte[]> released = new ArrayList<>();
+        final BufferPool pool = new BufferPool() {
+            @Override
+            public byte[] acquire(int size) {
+                final byte[] buffer = new byte[size];
+                acquired.add(buffer);
+                return buffer;
+            }
+
+            @Override
+            public void release(byte[] buffer) {
+                released.add(buffer);
+            }
+        };
+
+        final Passed passed = new Passed();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(1000);
+        CommittingOutputStream cos = new CommittingOutputStream();
+        setupBufferedStreamProvider(passed, baos, cos, -1);
+        cos.setBufferPool(pool);
+        cos.enableBuffering(4, 2);
+
+        cos.write(new byte[]{1, 2});
+        cos.write((byte) 3);
+        checkNotYetCommitted(passed, baos, cos);
+        assertEquals(2, acquired.size());
+        assertEquals(1, released.size());
+
+        cos.write(new byte[]{4, 5});
+        check(baos, new byte[]{1, 2, 3, 4, 5});
+        assertEquals(acquired, released);
+
+        cos.close();
+        assertEquals(2, released.size());
+    }
+
     private void check(ByteArrayOutputStream baos, byte... bytes) {
         assertEquals(bytes == null ? 0 : bytes.length, baos.size());
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.server.Broadcaster;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link Broadcaster} that serializes the broadcast chunks only once and writes them in parallel.
+ */
+public class SerializeOnceBroadcasterTest extends JerseyTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+    private static final AtomicInteger SERIALIZATIONS = new AtomicInteger();
+
+    private static final Broadcaster<Message> BROADCASTER = Broadcaster.<Message>builder()
+            .serializeOnce(true)
+            .executorService(EXECUTOR)
+            .build();
+
+    public static class Message {
+
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class MessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Message.class;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            SERIALIZATIONS.incrementAndGet();
+            entityStream.write(message.text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Path("/test")
+    public static class MyResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public ChunkedOutput<Message> get() throws IOException {
+            final ChunkedOutput<Message> result = new ChunkedOutput<Message>() {};
+
+            // write something to ensure the client does not get blocked on waiting for the first byte
+            result.write(new Message("first"));
+
+            BROADCASTER.add(result);
+            return result;
+        }
+
+        @POST
+        public String post(final String text) {
+            BROADCASTER.broadcast(new Message(text));
+            return text;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(MyResource.class, MessageWriter.class);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testBroadcastChunkSerializedOnce() throws IOException {
+        final InputStream[] streams = new InputStream[3];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = target("test").request().get(InputStream.class);
+        }
+        checkStream("first", streams);
+        assertEquals(streams.length, SERIALIZATIONS.getAndSet(0));
+
+        target("test").request().post(Entity.text("text1"));
+        checkStream("text1", streams);
+        assertEquals(1, SERIALIZATIONS.getAndSet(0));
+
+        target("test").request().post(Entity.text("text2"));
+        checkStream("text2", streams);
+        assertEquals(1, SERIALIZATIONS.get());
+
+        BROADCASTER.closeAll();
+    }
+
+    private static void checkStream(final String golden, final InputStream... inputStreams) throws IOException {
+        final byte[] bytes = golden.getBytes(StandardCharsets.UTF_8);
+        for (final InputStream is : inputStreams) {
+            final byte[] entity = new byte[bytes.length];
+            int read = 0;
+            while (read < entity.length) {
+                final int count = is.read(entity, read, entity.length - read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            assertEquals(golden, new String(entity, 0, read, StandardCharsets.UTF_8));
+        }
+    }
+}
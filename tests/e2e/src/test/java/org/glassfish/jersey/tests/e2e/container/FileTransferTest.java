@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.container;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.FileSegment;
+import org.glassfish.jersey.netty.httpserver.NettyServerProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.filter.ByteRangeFilter;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.glassfish.jersey.test.spi.TestHelper;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests file and byte range responses, which are written using file transfers where the container supports it.
+ */
+public class FileTransferTest {
+
+    private static final int FILE_SIZE = 300 * 1024 + 17;
+
+    private static byte[] content;
+    private static File file;
+
+    @BeforeAll
+    public static void createFile() throws Exception {
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = File.createTempFile("jersey-file-transfer", ".bin");
+        Files.write(file.toPath(), content);
+    }
+
+    @AfterAll
+    public static void deleteFile() {
+        file.delete();
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("file")
+        public File file() {
+            return file;
+        }
+
+        @GET
+        @Path("segment")
+        public FileSegment segment() {
+            return new FileSegment(file, 1000, 200 * 1024);
+        }
+    }
+
+    @TestFactory
+    public Collection<DynamicContainer> generateTests() {
+        Collection<DynamicContainer> tests = new ArrayList<>();
+        JerseyContainerTest.parameters().forEach(testContainerFactory -> {
+            FileTransferTemplateTest test = new FileTransferTemplateTest(testContainerFactory) {};
+            tests.add(TestHelper.toTestContainer(test, testContainerFactory.getClass().getSimpleName()));
+        });
+        return tests;
+    }
+
+    public abstract static class FileTransferTemplateTest extends JerseyContainerTest {
+
+        public FileTransferTemplateTest(TestContainerFactory testContainerFactory) {
+            super(testContainerFactory);
+        }
+
+        @Override
+        protected Application configure() {
+            return new ResourceConfig(Resource.class, ByteRangeFilter.class)
+                    // Netty writes file regions directly to the channel only with event loop processing enabled
+                    .property(NettyServerProperties.EVENT_LOOP_PROCESSING_ENABLED, true);
+        }
+
+        @Test
+        public void testFile() {
+            final Response response = target("file").request().get();
+            assertEquals(200, response.getStatus());
+            assertEquals("bytes", response.getHeaderString("Accept-Ranges"));
+            assertArrayEquals(content, response.readEntity(byte[].class));
+        }
+
+        @Test
+        public void testSegment() {
+            final Response response = target("segment").request().get();
+            assertEquals(200, response.getStatus());
+            assertEquals(String.valueOf(200 * 1024), response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+            assertArrayEquals(Arrays.copyOfRange(content, 1000, 1000 + 200 * 1024), response.readEntity(byte[].class));
+        }
+
+        @Test
+        public void testRange() {
+            final Response response = target("file").request().header("Range", "bytes=100000-").get();
+            assertEquals(206, response.getStatus());
+            assertEquals("bytes 100000-" + (FILE_SIZE - 1) + "/" + FILE_SIZE, response.getHeaderString("Content-Range"));
+            assertArrayEquals(Arrays.copyOfRange(content, 100000, FILE_SIZE), response.readEntity(byte[].class));
+        }
+
+        @Test
+        public void testMultipleRanges() {
+            final Response response = target("file").request().header("Range", "bytes=0-9,-10").get();
+            assertEquals(206, response.getStatus());
+            assertTrue(response.getMediaType().toString().startsWith("multipart/byteranges"));
+            final byte[] body = response.readEntity(byte[].class);
+            assertTrue(body.length > 20);
+        }
+
+        @Test
+        public void testRangeNotSatisfiable() {
+            final Response response = target("file").request().header("Range", "bytes=" + FILE_SIZE + "-").get();
+            assertEquals(416, response.getStatus());
+            assertEquals("bytes */" + FILE_SIZE, response.getHeaderString("Content-Range"));
+        }
+    }
+}
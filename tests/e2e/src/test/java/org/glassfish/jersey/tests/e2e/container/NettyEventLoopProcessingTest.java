@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.container;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.netty.httpserver.NettyServerProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.netty.NettyTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerException;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+
+import io.netty.util.concurrent.FastThreadLocalThread;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests processing of requests on the Netty event loop.
+ */
+public class NettyEventLoopProcessingTest extends JerseyTest {
+
+    private static final int MAX_ENTITY_SIZE = 16;
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class)
+                .property(NettyServerProperties.EVENT_LOOP_PROCESSING_ENABLED, true)
+                .property(NettyServerProperties.EVENT_LOOP_MAX_ENTITY_SIZE, MAX_ENTITY_SIZE);
+    }
+
+    @Override
+    protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+        return new NettyTestContainerFactory();
+    }
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "get:" + isEventLoop();
+        }
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            final boolean eventLoop = isEventLoop();
+            return CompletableFuture.supplyAsync(() -> "async:" + eventLoop);
+        }
+
+        @GET
+        @Path("suspended")
+        public void suspended(@Suspended final AsyncResponse response) {
+            response.resume("suspended:" + isEventLoop());
+        }
+
+        @GET
+        @Path("empty")
+        public Response empty() {
+            return Response.noContent().build();
+        }
+
+        @GET
+        @Path("stream")
+        public StreamingOutput stream() {
+            return output -> {
+                final byte[] bytes = new byte[100 * 1024];
+                Arrays.fill(bytes, (byte) 'a');
+                for (int i = 0; i < 5; i++) {
+                    output.write(bytes);
+                    output.flush();
+                }
+            };
+        }
+
+        @GET
+        @Path("stream-with-length")
+        public Response streamWithLength() {
+            // larger than the response buffer, so that the length is not known to the container
+            final byte[] bytes = new byte[100 * 1024];
+            Arrays.fill(bytes, (byte) 'a');
+            return Response.ok((StreamingOutput) output -> output.write(bytes))
+                    .header(HttpHeaders.CONTENT_LENGTH, bytes.length).build();
+        }
+
+        @POST
+        public String post(final String entity) {
+            return entity + ":" + isEventLoop();
+        }
+
+        private static boolean isEventLoop() {
+            return Thread.currentThread() instanceof FastThreadLocalThread;
+        }
+    }
+
+    @Test
+    public void testSynchronousResourceInvokedOnExecutor() {
+        assertEquals("get:false", target("resource").request().get(String.class));
+    }
+
+    @Test
+    public void testAsyncResource() {
+        assertEquals("async:true", target("resource/async").request().get(String.class));
+    }
+
+    @Test
+    public void testSuspendedResource() {
+        assertEquals("suspended:true", target("resource/suspended").request().get(String.class));
+    }
+
+    @Test
+    public void testEmptyResponse() {
+        assertEquals(204, target("resource/empty").request().get().getStatus());
+    }
+
+    @Test
+    public void testStreamedResponse() {
+        final byte[] expected = new byte[5 * 100 * 1024];
+        Arrays.fill(expected, (byte) 'a');
+
+        assertArrayEquals(expected, target("resource/stream").request().get(byte[].class));
+    }
+
+    @Test
+    public void testStreamedResponseWithApplicationLengthChunked() {
+        final Response response = target("resource/stream-with-length").request().get();
+        assertEquals("chunked", response.getHeaderString("Transfer-Encoding"));
+        assertEquals(100 * 1024, response.readEntity(byte[].class).length);
+    }
+
+    @Test
+    public void testSmallEntity() {
+        assertEquals("small:false", target("resource").request().post(Entity.text("small"), String.class));
+    }
+
+    @Test
+    public void testLargeEntityProcessedOnExecutor() {
+        final String entity = "larger-than-max-entity-size";
+        assertEquals(entity + ":false", target("resource").request().post(Entity.text(entity), String.class));
+    }
+
+    @Test
+    public void testKeepAliveRequests() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("get:false", target("resource").request().get(String.class));
+            assertEquals("async:true", target("resource/async").request().get(String.class));
+            assertEquals("small:false", target("resource").request().post(Entity.text("small"), String.class));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Asynchronous response benchmark. Compares synchronous resource methods with suspended {@link AsyncResponse}
+ * and {@link CompletionStage} responses, completed either on the request thread or on another thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncBenchmark {
+
+    private static volatile ExecutorService executor;
+
+    @Param({"sync", "asyncResponse", "asyncResponseExecutor", "completionStage", "completionStageExecutor"})
+    String mode;
+
+    private volatile ApplicationHandler handler;
+    private volatile String path;
+
+    @Path("async")
+    @Produces("text/plain")
+    public static class AsyncResource {
+
+        @GET
+        @Path("sync")
+        public String sync() {
+            return "sync";
+        }
+
+        @GET
+        @Path("asyncResponse")
+        public void asyncResponse(@Suspended final AsyncResponse response) {
+            response.resume("asyncResponse");
+        }
+
+        @GET
+        @Path("asyncResponseExecutor")
+        public void asyncResponseExecutor(@Suspended final AsyncResponse response) {
+            executor.execute(() -> response.resume("asyncResponseExecutor"));
+        }
+
+        @GET
+        @Path("completionStage")
+        public CompletionStage<String> completionStage() {
+            return CompletableFuture.completedFuture("completionStage");
+        }
+
+        @GET
+        @Path("completionStageExecutor")
+        public CompletionStage<String> completionStageExecutor() {
+            return CompletableFuture.supplyAsync(() -> "completionStageExecutor", executor);
+        }
+    }
+
+    @Setup
+    public void start() {
+        executor = Executors.newFixedThreadPool(2);
+        handler = new ApplicationHandler(new ResourceConfig(AsyncResource.class));
+        path = "async/" + mode;
+    }
+
+    @TearDown
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public ContainerResponse respond() throws Exception {
+        return Requests.invoke(handler, Requests.request(handler, path, "GET").build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(AsyncBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
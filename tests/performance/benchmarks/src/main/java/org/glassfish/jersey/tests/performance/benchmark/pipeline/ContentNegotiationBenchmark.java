@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Content negotiation benchmark. Measures selection of the resource method and message body writer for requests
+ * with {@code Accept} headers of a growing complexity against a resource offering several representations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentNegotiationBenchmark {
+
+    @Param({"none", "wildcard", "exact", "weighted", "browser"})
+    String accept;
+
+    private volatile ApplicationHandler handler;
+    private volatile String acceptHeader;
+
+    @Path("representations")
+    public static class RepresentationResource {
+
+        @GET
+        @Produces("text/plain")
+        public String plain() {
+            return "plain";
+        }
+
+        @GET
+        @Produces("text/html")
+        public String html() {
+            return "<p>html</p>";
+        }
+
+        @GET
+        @Produces({"application/xml;qs=0.9", "text/xml;qs=0.8"})
+        public String xml() {
+            return "<xml/>";
+        }
+
+        @GET
+        @Produces("application/json;qs=0.5")
+        public String json() {
+            return "{}";
+        }
+    }
+
+    @Setup
+    public void start() {
+        handler = new ApplicationHandler(new ResourceConfig(RepresentationResource.class));
+        switch (accept) {
+            case "none":
+                acceptHeader = null;
+                break;
+            case "wildcard":
+                acceptHeader = "*/*";
+                break;
+            case "exact":
+                acceptHeader = "application/json";
+                break;
+            case "weighted":
+                acceptHeader = "application/json;q=0.5, application/xml;q=0.9, text/*;q=0.1";
+                break;
+            case "browser":
+                acceptHeader = "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8";
+                break;
+            default:
+                throw new IllegalArgumentException(accept);
+        }
+    }
+
+    @Benchmark
+    public ContainerResponse negotiate() throws Exception {
+        final ContainerRequestBuilder builder = Requests.request(handler, "representations", "GET");
+        if (acceptHeader != null) {
+            builder.header(HttpHeaders.ACCEPT, acceptHeader);
+        }
+        return Requests.invoke(handler, builder.build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ContentNegotiationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entity size benchmark. Measures writing ({@code GET}) and reading plus writing ({@code POST}) of binary entities
+ * of various sizes, including the response buffering and the entity streams.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntitySizeBenchmark {
+
+    private static byte[] entity;
+
+    @Param({"0", "1024", "65536", "1048576"})
+    int size;
+
+    @Param({"GET", "POST"})
+    String method;
+
+    private volatile ApplicationHandler handler;
+
+    @Path("entity")
+    @Produces("application/octet-stream")
+    public static class EntityResource {
+
+        @GET
+        public byte[] get() {
+            return entity;
+        }
+
+        @POST
+        public byte[] post(final byte[] bytes) {
+            return bytes;
+        }
+    }
+
+    @Setup
+    public void start() {
+        entity = new byte[size];
+        Arrays.fill(entity, (byte) 'a');
+        handler = new ApplicationHandler(new ResourceConfig(EntityResource.class));
+    }
+
+    @Benchmark
+    public ContainerResponse transfer() throws Exception {
+        final ContainerRequestBuilder builder = Requests.request(handler, "entity", method);
+        if ("POST".equals(method)) {
+            builder.type(MediaType.APPLICATION_OCTET_STREAM_TYPE).entity(new ByteArrayInputStream(entity));
+        }
+        return Requests.invoke(handler, builder.build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(EntitySizeBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Filter and interceptor chain benchmark. Measures the overhead of global request/response filters and
+ * reader/writer interceptors on a request that reads and writes an entity.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    private static final byte[] ENTITY = "Hello World!".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Filters are registered by class, the distinct classes make sure each of them becomes a separate provider.
+     */
+    private static final List<Class<?>> FILTERS = Arrays.asList(
+            Filter1.class, Filter2.class, Filter3.class, Filter4.class, Filter5.class, Filter6.class, Filter7.class,
+            Filter8.class, Filter9.class, Filter10.class, Filter11.class, Filter12.class, Filter13.class,
+            Filter14.class, Filter15.class, Filter16.class);
+
+    private static final List<Class<?>> INTERCEPTORS = Arrays.asList(
+            Interceptor1.class, Interceptor2.class, Interceptor3.class, Interceptor4.class);
+
+    @Param({"0", "4", "16"})
+    int filters;
+
+    @Param({"0", "4"})
+    int interceptors;
+
+    private volatile ApplicationHandler handler;
+
+    @Path("echo")
+    public static class EchoResource {
+
+        @POST
+        @Produces("text/plain")
+        public String echo(final String entity) {
+            return entity;
+        }
+    }
+
+    /**
+     * Pass-through request and response filter.
+     */
+    public abstract static class PassThroughFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) {
+            requestContext.getHeaders();
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+            responseContext.getHeaders();
+        }
+    }
+
+    /**
+     * Pass-through reader and writer interceptor.
+     */
+    public abstract static class PassThroughInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+        @Override
+        public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+            return context.proceed();
+        }
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+            context.proceed();
+        }
+    }
+
+    public static class Filter1 extends PassThroughFilter { }
+    public static class Filter2 extends PassThroughFilter { }
+    public static class Filter3 extends PassThroughFilter { }
+    public static class Filter4 extends PassThroughFilter { }
+    public static class Filter5 extends PassThroughFilter { }
+    public static class Filter6 extends PassThroughFilter { }
+    public static class Filter7 extends PassThroughFilter { }
+    public static class Filter8 extends PassThroughFilter { }
+    public static class Filter9 extends PassThroughFilter { }
+    public static class Filter10 extends PassThroughFilter { }
+    public static class Filter11 extends PassThroughFilter { }
+    public static class Filter12 extends PassThroughFilter { }
+    public static class Filter13 extends PassThroughFilter { }
+    public static class Filter14 extends PassThroughFilter { }
+    public static class Filter15 extends PassThroughFilter { }
+    public static class Filter16 extends PassThroughFilter { }
+
+    public static class Interceptor1 extends PassThroughInterceptor { }
+    public static class Interceptor2 extends PassThroughInterceptor { }
+    public static class Interceptor3 extends PassThroughInterceptor { }
+    public static class Interceptor4 extends PassThroughInterceptor { }
+
+    @Setup
+    public void start() {
+        final ResourceConfig config = new ResourceConfig(EchoResource.class);
+        FILTERS.subList(0, filters).forEach(config::register);
+        INTERCEPTORS.subList(0, interceptors).forEach(config::register);
+
+        handler = new ApplicationHandler(config);
+    }
+
+    @Benchmark
+    public ContainerResponse filter() throws Exception {
+        return Requests.invoke(handler, Requests.request(handler, "echo", "POST")
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(new ByteArrayInputStream(ENTITY))
+                .build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(FilterChainBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.BeanParam;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.MatrixParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Resource method parameter injection benchmark. Each of the {@link #kind kinds} invokes a resource method with
+ * parameters of the given source.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParamInjectionBenchmark {
+
+    private static final byte[] FORM = "a=value&b=42".getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"none", "path", "query", "header", "cookie", "matrix", "form", "bean"})
+    String kind;
+
+    private volatile ApplicationHandler handler;
+
+    @Path("params")
+    @Produces("text/plain")
+    public static class ParamResource {
+
+        @GET
+        @Path("none")
+        public String none() {
+            return "none";
+        }
+
+        @GET
+        @Path("path/{a}/{b}")
+        public String path(@PathParam("a") final String a, @PathParam("b") final int b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("query")
+        public String query(@QueryParam("a") final String a, @QueryParam("b") final int b,
+                            @QueryParam("c") final List<String> c) {
+            return a + b + c;
+        }
+
+        @GET
+        @Path("header")
+        public String header(@HeaderParam("X-A") final String a, @HeaderParam("X-B") final int b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("cookie")
+        public String cookie(@CookieParam("a") final String a, @CookieParam("b") final int b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("matrix")
+        public String matrix(@MatrixParam("a") final String a, @MatrixParam("b") final int b) {
+            return a + b;
+        }
+
+        @POST
+        @Path("form")
+        @Consumes("application/x-www-form-urlencoded")
+        public String form(@FormParam("a") final String a, @FormParam("b") final int b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("bean/{a}")
+        public String bean(@BeanParam final Bean bean) {
+            return bean.a + bean.b + bean.c;
+        }
+    }
+
+    /**
+     * Parameter aggregator injected into the {@code bean} resource method.
+     */
+    public static class Bean {
+
+        @PathParam("a")
+        String a;
+
+        @QueryParam("b")
+        int b;
+
+        @HeaderParam("X-C")
+        String c;
+    }
+
+    @Setup
+    public void start() {
+        handler = new ApplicationHandler(new ResourceConfig(ParamResource.class));
+    }
+
+    private ContainerRequest request() {
+        switch (kind) {
+            case "none":
+                return Requests.request(handler, "params/none", "GET").build();
+            case "path":
+                return Requests.request(handler, "params/path/value/42", "GET").build();
+            case "query":
+                return Requests.request(handler, "params/query?a=value&b=42&c=x&c=y", "GET").build();
+            case "header":
+                return Requests.request(handler, "params/header", "GET").header("X-A", "value").header("X-B", "42").build();
+            case "cookie":
+                return Requests.request(handler, "params/cookie", "GET")
+                        .cookies(new Cookie("a", "value"), new Cookie("b", "42"))
+                        .build();
+            case "matrix":
+                return Requests.request(handler, "params/matrix;a=value;b=42", "GET").build();
+            case "form":
+                return Requests.request(handler, "params/form", "POST")
+                        .type(MediaType.APPLICATION_FORM_URLENCODED_TYPE)
+                        .entity(new ByteArrayInputStream(FORM))
+                        .build();
+            case "bean":
+                return Requests.request(handler, "params/bean/value?b=42", "GET").header("X-C", "header").build();
+            default:
+                throw new IllegalArgumentException(kind);
+        }
+    }
+
+    @Benchmark
+    public ContainerResponse inject() throws Exception {
+        return Requests.invoke(handler, request());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ParamInjectionBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the server pipeline benchmarks (all benchmarks in this package) with the allocation profiler
+ * ({@code -prof gc}) and compares the normalized allocation rate of each benchmark with the checked-in baseline.
+ * <p>
+ * Allocated bytes per operation, unlike the throughput, do not depend on the hardware the benchmarks run on,
+ * hence they are compared against the baseline and any benchmark allocating more than the baseline
+ * (plus the tolerance) is reported as a regression and makes the runner exit with status {@code 1}. Throughput
+ * is recorded in the baseline for information only.
+ * </p>
+ * Standard JMH command line options (e.g. {@code -wi}, {@code -i}, {@code -f} or {@code -p}) are accepted.
+ * The baseline comparison is configured using system properties:
+ * <ul>
+ * <li>{@value #BASELINE} - path of the baseline file, {@value #DEFAULT_BASELINE} by default,</li>
+ * <li>{@value #TOLERANCE} - relative allocation increase tolerated before reporting a regression,
+ * {@value #DEFAULT_TOLERANCE} by default,</li>
+ * <li>{@value #UPDATE} - if {@code true}, the baseline file is rewritten with the results of the run instead of
+ * being compared.</li>
+ * </ul>
+ */
+public final class PipelineBenchmarks {
+
+    /**
+     * Baseline file path property.
+     */
+    public static final String BASELINE = "jersey.benchmark.baseline";
+    /**
+     * Allocation tolerance property.
+     */
+    public static final String TOLERANCE = "jersey.benchmark.baseline.tolerance";
+    /**
+     * Baseline update property.
+     */
+    public static final String UPDATE = "jersey.benchmark.baseline.update";
+
+    private static final String DEFAULT_BASELINE = "baselines/pipeline.csv";
+    private static final String DEFAULT_TOLERANCE = "0.1";
+    /**
+     * Absolute allocation difference (in bytes per operation) always tolerated, to avoid reporting noise of
+     * the allocation profiler on benchmarks allocating very little.
+     */
+    private static final double ALLOCATION_SLACK = 64;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String HEADER = "# benchmark,parameters,allocated bytes/op,score,score unit";
+
+    private PipelineBenchmarks() {
+        throw new AssertionError("No instances allowed.");
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                // Register our benchmarks.
+                .include(PipelineBenchmarks.class.getPackage().getName() + ".*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        final Map<String, Measurement> results = toMeasurements(new Runner(opt).run());
+        final Path baseline = Paths.get(System.getProperty(BASELINE, DEFAULT_BASELINE));
+
+        if (Boolean.getBoolean(UPDATE)) {
+            write(baseline, results);
+            System.out.println("Baseline " + baseline.toAbsolutePath() + " updated.");
+        } else if (Files.exists(baseline)) {
+            final double tolerance = Double.parseDouble(System.getProperty(TOLERANCE, DEFAULT_TOLERANCE));
+            final List<String> regressions = compare(read(baseline), results, tolerance);
+            if (!regressions.isEmpty()) {
+                System.out.println("Allocation regressions against " + baseline.toAbsolutePath() + ":");
+                regressions.forEach(System.out::println);
+                System.exit(1);
+            }
+        } else {
+            System.out.println("Baseline " + baseline.toAbsolutePath() + " not found, results not compared.");
+        }
+    }
+
+    /**
+     * Measured values of a single benchmark.
+     */
+    static final class Measurement {
+
+        private final double allocated;
+        private final double score;
+        private final String unit;
+
+        Measurement(final double allocated, final double score, final String unit) {
+            this.allocated = allocated;
+            this.score = score;
+            this.unit = unit;
+        }
+    }
+
+    private static Map<String, Measurement> toMeasurements(final Collection<RunResult> runResults) {
+        final Map<String, Measurement> measurements = new TreeMap<>();
+        for (final RunResult runResult : runResults) {
+            final BenchmarkParams params = runResult.getParams();
+            final StringBuilder key = new StringBuilder(params.getBenchmark().substring(
+                    PipelineBenchmarks.class.getPackage().getName().length() + 1)).append(',');
+            String separator = "";
+            for (final String name : params.getParamsKeys()) {
+                key.append(separator).append(name).append('=').append(params.getParam(name));
+                separator = ";";
+            }
+
+            double allocated = -1;
+            for (final Map.Entry<String, Result> secondary : runResult.getSecondaryResults().entrySet()) {
+                if (secondary.getKey().endsWith(ALLOCATION_METRIC)) {
+                    allocated = secondary.getValue().getScore();
+                }
+            }
+            final Result primary = runResult.getPrimaryResult();
+            measurements.put(key.toString(), new Measurement(allocated, primary.getScore(), primary.getScoreUnit()));
+        }
+        return measurements;
+    }
+
+    /**
+     * Compare measured allocations with the baseline.
+     *
+     * @param baseline  baseline measurements.
+     * @param results   measurements of the current run.
+     * @param tolerance tolerated relative allocation increase.
+     * @return descriptions of the regressions, empty if there are none.
+     */
+    static List<String> compare(final Map<String, Measurement> baseline,
+                                final Map<String, Measurement> results,
+                                final double tolerance) {
+        final List<String> regressions = new ArrayList<>();
+        for (final Map.Entry<String, Measurement> result : results.entrySet()) {
+            final Measurement expected = baseline.get(result.getKey());
+            if (expected == null || expected.allocated < 0 || result.getValue().allocated < 0) {
+                continue;
+            }
+            final double allocated = result.getValue().allocated;
+            if (allocated > expected.allocated * (1 + tolerance) && allocated - expected.allocated > ALLOCATION_SLACK) {
+                regressions.add(String.format(Locale.ROOT, "  %s: %.0f B/op (baseline %.0f B/op, %+.1f%%)",
+                        result.getKey(), allocated, expected.allocated,
+                        (allocated - expected.allocated) * 100 / expected.allocated));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Read a baseline file.
+     *
+     * @param file baseline file.
+     * @return baseline measurements keyed by the benchmark name and parameters.
+     * @throws IOException in case the file cannot be read.
+     */
+    static Map<String, Measurement> read(final Path file) throws IOException {
+        final Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final String[] columns = line.split(",");
+            if (columns.length != 5) {
+                throw new IOException("Invalid baseline line: " + line);
+            }
+            measurements.put(columns[0] + ',' + columns[1], new Measurement(
+                    Double.parseDouble(columns[2]), Double.parseDouble(columns[3]), columns[4]));
+        }
+        return measurements;
+    }
+
+    private static void write(final Path file, final Map<String, Measurement> measurements) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (final Map.Entry<String, Measurement> entry : measurements.entrySet()) {
+                final Measurement measurement = entry.getValue();
+                writer.write(String.format(Locale.ROOT, "%s,%.0f,%.1f,%s",
+                        entry.getKey(), measurement.allocated, measurement.score, measurement.unit));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.concurrent.ExecutionException;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+/**
+ * Utility methods shared by the server pipeline benchmarks.
+ */
+final class Requests {
+
+    private Requests() {
+        throw new AssertionError("No instances allowed.");
+    }
+
+    /**
+     * Create a request builder for the application handled by the given handler.
+     *
+     * @param handler application handler.
+     * @param path    request path relative to the application base URI.
+     * @param method  request method.
+     * @return request builder.
+     */
+    static ContainerRequestBuilder request(final ApplicationHandler handler, final String path, final String method) {
+        return ContainerRequestBuilder.from(path, method, handler.getConfiguration());
+    }
+
+    /**
+     * Process the request (including writing the response entity) and wait for the response.
+     *
+     * @param handler application handler.
+     * @param request request to be processed.
+     * @return processed response.
+     * @throws IllegalStateException in case the response is not successful, so that broken benchmarks do not
+     *                               measure error handling.
+     */
+    static ContainerResponse invoke(final ApplicationHandler handler, final ContainerRequest request)
+            throws ExecutionException, InterruptedException {
+        final ContainerResponse response = handler.apply(request).get();
+        if (response.getStatus() >= 300) {
+            throw new IllegalStateException("Unexpected response status " + response.getStatus() + " for "
+                    + request.getMethod() + " " + request.getRequestUri());
+        }
+        return response;
+    }
+}
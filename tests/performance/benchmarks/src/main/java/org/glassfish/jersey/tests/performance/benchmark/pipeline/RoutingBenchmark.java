@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.model.Resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Request routing benchmark. Measures matching of a request against applications with a growing number of resources
+ * and resource paths of a growing depth. The request always targets the last registered resource.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    @Param({"1", "16", "128"})
+    int resources;
+
+    @Param({"1", "4", "8"})
+    int depth;
+
+    private volatile ApplicationHandler handler;
+    private volatile String requestPath;
+
+    @Setup
+    public void start() {
+        final ResourceConfig config = new ResourceConfig();
+        final Inflector<ContainerRequestContext, String> inflector = context -> "routed";
+
+        for (int i = 0; i < resources; i++) {
+            final Resource.Builder resource = Resource.builder(path(i, "{id}"));
+            resource.addMethod("GET").produces(MediaType.TEXT_PLAIN_TYPE).handledBy(inflector);
+            config.registerResources(resource.build());
+        }
+
+        handler = new ApplicationHandler(config);
+        requestPath = path(resources - 1, "last");
+    }
+
+    /**
+     * Path of the {@code index}-th resource consisting of {@link #depth} segments, the last one being {@code last}.
+     */
+    private String path(final int index, final String last) {
+        final StringBuilder path = new StringBuilder("resource").append(index);
+        for (int segment = 1; segment < depth; segment++) {
+            path.append('/').append(segment == depth - 1 ? last : "segment" + segment);
+        }
+        return path.toString();
+    }
+
+    @Benchmark
+    public ContainerResponse route() throws Exception {
+        return Requests.invoke(handler, Requests.request(handler, requestPath, "GET").build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(RoutingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
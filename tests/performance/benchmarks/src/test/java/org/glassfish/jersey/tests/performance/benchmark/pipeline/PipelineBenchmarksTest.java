@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.jersey.server.ContainerResponse;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Invokes each of the server pipeline benchmarks once for every parameter value, to make sure the benchmarks
+ * measure successfully processed requests.
+ */
+public class PipelineBenchmarksTest {
+
+    @Test
+    public void testRouting() throws Exception {
+        for (final int resources : new int[] {1, 16, 128}) {
+            for (final int depth : new int[] {1, 4, 8}) {
+                final RoutingBenchmark benchmark = new RoutingBenchmark();
+                benchmark.resources = resources;
+                benchmark.depth = depth;
+                benchmark.start();
+                assertThat(benchmark.route().getEntity(), is((Object) "routed"));
+            }
+        }
+    }
+
+    @Test
+    public void testFilterChain() throws Exception {
+        for (final int filters : new int[] {0, 4, 16}) {
+            for (final int interceptors : new int[] {0, 4}) {
+                final FilterChainBenchmark benchmark = new FilterChainBenchmark();
+                benchmark.filters = filters;
+                benchmark.interceptors = interceptors;
+                benchmark.start();
+                assertThat(benchmark.filter().getEntity(), is((Object) "Hello World!"));
+            }
+        }
+    }
+
+    @Test
+    public void testParamInjection() throws Exception {
+        for (final String kind : new String[] {"none", "path", "query", "header", "cookie", "matrix", "form", "bean"}) {
+            final ParamInjectionBenchmark benchmark = new ParamInjectionBenchmark();
+            benchmark.kind = kind;
+            benchmark.start();
+            final Object entity = benchmark.inject().getEntity();
+            assertThat(kind, entity, is((Object) expectedParams(kind)));
+        }
+    }
+
+    private static String expectedParams(final String kind) {
+        switch (kind) {
+            case "none":
+                return "none";
+            case "query":
+                return "value42[x, y]";
+            case "bean":
+                return "value42header";
+            default:
+                return "value42";
+        }
+    }
+
+    @Test
+    public void testContentNegotiation() throws Exception {
+        for (final String accept : new String[] {"none", "wildcard", "exact", "weighted", "browser"}) {
+            final ContentNegotiationBenchmark benchmark = new ContentNegotiationBenchmark();
+            benchmark.accept = accept;
+            benchmark.start();
+            assertThat(accept, benchmark.negotiate().getStatus(), is(200));
+        }
+    }
+
+    @Test
+    public void testEntitySize() throws Exception {
+        for (final int size : new int[] {0, 1024, 65536, 1048576}) {
+            for (final String method : new String[] {"GET", "POST"}) {
+                final EntitySizeBenchmark benchmark = new EntitySizeBenchmark();
+                benchmark.size = size;
+                benchmark.method = method;
+                benchmark.start();
+                final ContainerResponse response = benchmark.transfer();
+                assertThat(((byte[]) response.getEntity()).length, is(size));
+            }
+        }
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        for (final String mode : new String[] {"sync", "asyncResponse", "asyncResponseExecutor", "completionStage",
+                "completionStageExecutor"}) {
+            final AsyncBenchmark benchmark = new AsyncBenchmark();
+            benchmark.mode = mode;
+            benchmark.start();
+            try {
+                assertThat(benchmark.respond().getEntity(), is((Object) mode));
+            } finally {
+                benchmark.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testCompareWithBaseline() {
+        final Map<String, PipelineBenchmarks.Measurement> baseline = Collections.singletonMap(
+                "RoutingBenchmark.route,depth=1;resources=1", new PipelineBenchmarks.Measurement(1000, 1, "ops/s"));
+
+        assertThat(compare(baseline, 1090).isEmpty(), is(true));
+        assertThat(compare(baseline, 1060 + 100).size(), is(1));
+        assertThat(compare(Collections.singletonMap("RoutingBenchmark.route,depth=1;resources=1",
+                new PipelineBenchmarks.Measurement(100, 1, "ops/s")), 160).isEmpty(), is(true));
+    }
+
+    private static List<String> compare(final Map<String, PipelineBenchmarks.Measurement> baseline, final double allocated) {
+        return PipelineBenchmarks.compare(baseline, Collections.singletonMap("RoutingBenchmark.route,depth=1;resources=1",
+                new PipelineBenchmarks.Measurement(allocated, 1, "ops/s")), 0.1);
+    }
+}